@@ -0,0 +1,212 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.auth;
+
+import alpine.model.ApiKey;
+import alpine.model.LdapUser;
+import alpine.model.ManagedUser;
+import alpine.model.OidcUser;
+
+import java.security.Principal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
+import static org.dependencytrack.util.PrincipalUtil.getPrincipalTeamIds;
+
+/**
+ * An immutable snapshot of the information required to enforce portfolio access control for a {@link Principal}.
+ * <p>
+ * Snapshots are computed at most once per principal and API request, and shared by all
+ * queries issued while handling the request. Outside of API requests, snapshots are not cached.
+ *
+ * @param aclEnabled  Whether portfolio access control is enabled
+ * @param permissions Names of the effective permissions of the principal
+ * @param teamIds     IDs of the teams the principal is a member of
+ * @since 5.6.0
+ */
+public record AclSnapshot(boolean aclEnabled, Set<String> permissions, Set<Long> teamIds) {
+
+    private static final ThreadLocal<RequestScope> REQUEST_SCOPE = new ThreadLocal<>();
+
+    public AclSnapshot {
+        permissions = Set.copyOf(permissions);
+        teamIds = Set.copyOf(teamIds);
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+
+        AclSnapshot load(Principal principal) throws SQLException;
+
+    }
+
+    /**
+     * @return Whether access to projects must be restricted to those accessible by {@link #teamIds()}
+     */
+    public boolean isProjectAccessRestricted() {
+        return aclEnabled && !permissions.contains(Permissions.Constants.ACCESS_MANAGEMENT);
+    }
+
+    /**
+     * Get the {@link AclSnapshot} of a {@link Principal}.
+     * <p>
+     * If the current thread is handling an API request on behalf of {@code principal},
+     * the snapshot is only loaded once, and re-used for the remainder of the request.
+     *
+     * @param principal The {@link Principal} to get the snapshot for
+     * @param loader    The {@link Loader} to use when the snapshot is not cached yet
+     * @return The {@link AclSnapshot}
+     * @throws SQLException When loading the snapshot failed
+     */
+    public static AclSnapshot of(final Principal principal, final Loader loader) throws SQLException {
+        final RequestScope requestScope = REQUEST_SCOPE.get();
+        if (requestScope == null || requestScope.principal != principal) {
+            return loader.load(principal);
+        }
+
+        if (requestScope.aclSnapshot == null) {
+            requestScope.aclSnapshot = loader.load(principal);
+        }
+
+        return requestScope.aclSnapshot;
+    }
+
+    /**
+     * Load the {@link AclSnapshot} of a {@link Principal} from the database.
+     *
+     * @param principal  The {@link Principal} to load the snapshot for
+     * @param connection The {@link Connection} to use
+     * @return The loaded {@link AclSnapshot}
+     * @throws SQLException When executing the query failed
+     */
+    public static AclSnapshot load(final Principal principal, final Connection connection) throws SQLException {
+        final String permissionsQuery = switch (principal) {
+            case ApiKey ignored -> """
+                    SELECT "PERMISSION"."NAME"
+                      FROM "APIKEYS_TEAMS"
+                     INNER JOIN "TEAMS_PERMISSIONS"
+                        ON "TEAMS_PERMISSIONS"."TEAM_ID" = "APIKEYS_TEAMS"."TEAM_ID"
+                     INNER JOIN "PERMISSION"
+                        ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
+                     WHERE "APIKEYS_TEAMS"."APIKEY_ID" = ?
+                    """;
+            case LdapUser ignored -> userPermissionsQuery("LDAPUSERS_TEAMS", "LDAPUSER_ID", "LDAPUSERS_PERMISSIONS", "LDAPUSER_ID");
+            case ManagedUser ignored -> userPermissionsQuery("MANAGEDUSERS_TEAMS", "MANAGEDUSER_ID", "MANAGEDUSERS_PERMISSIONS", "MANAGEDUSER_ID");
+            case OidcUser ignored -> userPermissionsQuery("OIDCUSERS_TEAMS", "OIDCUSERS_ID", "OIDCUSERS_PERMISSIONS", "OIDCUSER_ID");
+            case null, default -> null;
+        };
+
+        try (final PreparedStatement ps = connection.prepareStatement("""
+                SELECT EXISTS(
+                         SELECT 1
+                           FROM "CONFIGPROPERTY"
+                          WHERE "GROUPNAME" = ?
+                            AND "PROPERTYNAME" = ?
+                            AND "PROPERTYVALUE" = 'true'
+                       )
+                     , ARRAY(%s)
+                """.formatted(permissionsQuery != null ? permissionsQuery : "SELECT NULL::TEXT WHERE FALSE"))) {
+            ps.setString(1, ACCESS_MANAGEMENT_ACL_ENABLED.getGroupName());
+            ps.setString(2, ACCESS_MANAGEMENT_ACL_ENABLED.getPropertyName());
+            switch (principal) {
+                case ApiKey apiKey -> ps.setLong(3, apiKey.getId());
+                case LdapUser user -> setUserId(ps, user.getId());
+                case ManagedUser user -> setUserId(ps, user.getId());
+                case OidcUser user -> setUserId(ps, user.getId());
+                case null, default -> {
+                }
+            }
+
+            try (final ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("Query did not return any rows");
+                }
+
+                final Array permissionsArray = rs.getArray(2);
+                final Set<String> permissions = permissionsArray != null
+                        ? Set.copyOf(Arrays.asList((String[]) permissionsArray.getArray()))
+                        : Collections.emptySet();
+
+                return new AclSnapshot(rs.getBoolean(1), permissions, getPrincipalTeamIds(principal));
+            }
+        }
+    }
+
+    /**
+     * Start caching the {@link AclSnapshot} of a given {@link Principal} for the current thread.
+     *
+     * @param principal The {@link Principal} on behalf of which the current request is handled
+     */
+    public static void enterRequestScope(final Principal principal) {
+        REQUEST_SCOPE.set(new RequestScope(principal));
+    }
+
+    /**
+     * Stop caching the {@link AclSnapshot} for the current thread.
+     */
+    public static void exitRequestScope() {
+        REQUEST_SCOPE.remove();
+    }
+
+    private static String userPermissionsQuery(
+            final String teamsTable,
+            final String teamsUserColumn,
+            final String permissionsTable,
+            final String permissionsUserColumn) {
+        return """
+                SELECT "PERMISSION"."NAME"
+                  FROM "%1$s"
+                 INNER JOIN "TEAMS_PERMISSIONS"
+                    ON "TEAMS_PERMISSIONS"."TEAM_ID" = "%1$s"."TEAM_ID"
+                 INNER JOIN "PERMISSION"
+                    ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
+                 WHERE "%1$s"."%2$s" = ?
+                 UNION
+                SELECT "PERMISSION"."NAME"
+                  FROM "%3$s"
+                 INNER JOIN "PERMISSION"
+                    ON "PERMISSION"."ID" = "%3$s"."PERMISSION_ID"
+                 WHERE "%3$s"."%4$s" = ?
+                """.formatted(teamsTable, teamsUserColumn, permissionsTable, permissionsUserColumn);
+    }
+
+    private static void setUserId(final PreparedStatement ps, final long userId) throws SQLException {
+        ps.setLong(3, userId);
+        ps.setLong(4, userId);
+    }
+
+    private static final class RequestScope {
+
+        private final Principal principal;
+        private AclSnapshot aclSnapshot;
+
+        private RequestScope(final Principal principal) {
+            this.principal = principal;
+        }
+
+    }
+
+}
@@ -29,6 +29,9 @@ public enum ConfigKey implements Config.Key {
     KAFKA_KEY_STORE_PASSWORD("kafka.keystore.password", ""),
     KAFKA_KEY_STORE_PATH("kafka.keystore.path", ""),
     KAFKA_MTLS_ENABLED("kafka.mtls.enabled", false),
+    KAFKA_OUTBOX_ENABLED("kafka.outbox.enabled", false),
+    KAFKA_OUTBOX_RELAY_BATCH_SIZE("kafka.outbox.relay.batch.size", 1000),
+    KAFKA_OUTBOX_RELAY_POLL_INTERVAL_DURATION("kafka.outbox.relay.poll.interval.duration", "PT1S"),
     KAFKA_PRODUCER_DRAIN_TIMEOUT_DURATION("kafka.producer.drain.timeout.duration", "PT30S"),
     KAFKA_TLS_ENABLED("kafka.tls.enabled", false),
     KAFKA_TLS_PROTOCOL("kafka.security.protocol", ""),
@@ -57,6 +60,19 @@ public enum ConfigKey implements Config.Key {
     DATABASE_MIGRATION_PASSWORD("database.migration.password", null),
     DATABASE_RUN_MIGRATIONS("database.run.migrations", true),
     DATABASE_RUN_MIGRATIONS_ONLY("database.run.migrations.only", false),
+    DATABASE_REPLICA_URL("database.replica.url", null),
+    DATABASE_REPLICA_USERNAME("database.replica.username", null),
+    DATABASE_REPLICA_PASSWORD("database.replica.password", null),
+    DATABASE_REPLICA_POOL_MAX_SIZE("database.replica.pool.max.size", 10),
+    DATABASE_REPLICA_MAX_LAG_DURATION("database.replica.max.lag.duration", "PT10S"),
+    DATABASE_REPLICA_CONNECTION_TIMEOUT_DURATION("database.replica.connection.timeout.duration", "PT2S"),
+    COMPONENT_LOOKUP_CACHE_MAX_SIZE("component.lookup.cache.max.size", 10000),
+    COMPONENT_LOOKUP_CACHE_EXPIRE_AFTER_WRITE_DURATION("component.lookup.cache.expire.after.write.duration", "PT1M"),
+    LICENSE_INDEX_MAX_AGE_DURATION("license.index.max.age.duration", "PT5M"),
+    NOTIFICATION_PAYLOAD_CLAIM_CHECK_THRESHOLD_BYTES("notification.payload.claim.check.threshold.bytes", 65536),
+    NOTIFICATION_PAYLOAD_RETENTION_DURATION("notification.payload.retention.duration", "P1D"),
+    VULN_SCAN_COMPLETION_PARALLELISM("vuln.scan.completion.parallelism", 4),
+    VULN_SCAN_COMPLETION_QUEUE_CAPACITY("vuln.scan.completion.queue.capacity", 100),
     INIT_TASKS_ENABLED("init.tasks.enabled", true),
     INIT_AND_EXIT("init.and.exit", false),
 
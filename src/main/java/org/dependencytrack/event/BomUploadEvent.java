@@ -33,10 +33,22 @@ public class BomUploadEvent extends AbstractChainableEvent {
 
     private final Project project;
     private final File file;
+    private final boolean force;
 
     public BomUploadEvent(final Project project, final File file) {
+        this(project, file, false);
+    }
+
+    /**
+     * @param project The {@link Project} the BOM was uploaded for
+     * @param file    The uploaded BOM file
+     * @param force   Whether to process the BOM even if its content is unchanged since the last import
+     * @since 5.6.0
+     */
+    public BomUploadEvent(final Project project, final File file, final boolean force) {
         this.project = project;
         this.file = file;
+        this.force = force;
     }
 
     public Project getProject() {
@@ -46,4 +58,8 @@ public class BomUploadEvent extends AbstractChainableEvent {
     public File getFile() {
         return file;
     }
+
+    public boolean isForce() {
+        return force;
+    }
 }
@@ -108,7 +108,7 @@ public class KafkaEventDispatcher {
         return futures;
     }
 
-    private static <K, V> ProducerRecord<byte[], byte[]> convert(final KafkaEvent<K, V> event) {
+    static <K, V> ProducerRecord<byte[], byte[]> convert(final KafkaEvent<K, V> event) {
         final byte[] keyBytes;
         try (final Serde<K> keySerde = event.topic().keySerde()) {
             keyBytes = keySerde.serializer().serialize(event.topic().name(), event.key());
@@ -0,0 +1,134 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka;
+
+import alpine.Config;
+import alpine.event.framework.Event;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.persistence.jdbi.KafkaOutboxDao;
+import org.jdbi.v3.core.Handle;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A transactional outbox for {@link KafkaEvent}s.
+ * <p>
+ * Events are written to the database using the {@link Handle} of the transaction that emitted them,
+ * and thus only become visible to the {@link KafkaEventOutboxRelay} if, and when, that transaction commits.
+ * Writers never wait for Kafka.
+ *
+ * @since 5.6.0
+ */
+public final class KafkaEventOutbox {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private KafkaEventOutbox() {
+    }
+
+    /**
+     * @return {@code true} when the outbox is enabled, otherwise {@code false}
+     * @see ConfigKey#KAFKA_OUTBOX_ENABLED
+     */
+    public static boolean isEnabled() {
+        return Config.getInstance().getPropertyAsBoolean(ConfigKey.KAFKA_OUTBOX_ENABLED);
+    }
+
+    /**
+     * Write {@link KafkaEvent}s to the outbox.
+     *
+     * @param handle The {@link Handle} to write with, usually participating in a transaction
+     * @param events The {@link KafkaEvent}s to write
+     */
+    public static void enqueueAll(final Handle handle, final Collection<KafkaEvent<?, ?>> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        final var topics = new ArrayList<String>(events.size());
+        final var keys = new ArrayList<byte[]>(events.size());
+        final var values = new ArrayList<byte[]>(events.size());
+        final var headers = new ArrayList<String>(events.size());
+        for (final KafkaEvent<?, ?> event : events) {
+            final ProducerRecord<byte[], byte[]> record = KafkaEventDispatcher.convert(event);
+            topics.add(record.topic());
+            keys.add(record.key());
+            values.add(record.value());
+            headers.add(serializeHeaders(record));
+        }
+
+        handle.attach(KafkaOutboxDao.class).createAll(topics, keys, values, headers);
+    }
+
+    /**
+     * Convert {@link Event}s to {@link KafkaEvent}s, and write them to the outbox.
+     *
+     * @param handle The {@link Handle} to write with, usually participating in a transaction
+     * @param events The {@link Event}s to write
+     * @see #enqueueAll(Handle, Collection)
+     */
+    public static void enqueueAllEvents(final Handle handle, final Collection<? extends Event> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        enqueueAll(handle, events.stream()
+                .<KafkaEvent<?, ?>>map(KafkaEventConverter::convert)
+                .toList());
+    }
+
+    static Map<String, String> deserializeHeaders(final String headersJson) {
+        if (headersJson == null) {
+            return Map.of();
+        }
+
+        try {
+            return OBJECT_MAPPER.readerForMapOf(String.class).readValue(headersJson);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize record headers", e);
+        }
+    }
+
+    private static String serializeHeaders(final ProducerRecord<byte[], byte[]> record) {
+        final Header[] recordHeaders = record.headers().toArray();
+        if (recordHeaders.length == 0) {
+            return null;
+        }
+
+        final var headers = new LinkedHashMap<String, String>(recordHeaders.length);
+        for (final Header header : recordHeaders) {
+            headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+        }
+
+        try {
+            return OBJECT_MAPPER.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize record headers", e);
+        }
+    }
+
+}
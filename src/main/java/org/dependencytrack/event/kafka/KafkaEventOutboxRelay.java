@@ -0,0 +1,220 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.persistence.jdbi.KafkaOutboxDao;
+import org.dependencytrack.persistence.jdbi.KafkaOutboxDao.OutboxRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * Relays records from the {@link KafkaEventOutbox} to Kafka.
+ * <p>
+ * Records are fetched in batches, in ascending order of their IDs, and sent all at once,
+ * such that the producer can batch and compress them. Records are only deleted from the outbox
+ * once Kafka acknowledged all of them. Relaying is thus at-least-once.
+ * <p>
+ * IDs are assigned when records are written, not when the writing transaction commits.
+ * Records of concurrent transactions may thus be relayed in a different order than they
+ * were committed in. Consumers must not rely on a strict ordering.
+ * <p>
+ * No database transaction is held while waiting for Kafka to acknowledge records.
+ *
+ * @since 5.6.0
+ */
+public class KafkaEventOutboxRelay implements ServletContextListener {
+
+    private static final Logger LOGGER = Logger.getLogger(KafkaEventOutboxRelay.class);
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private ScheduledExecutorService executor;
+    private Producer<byte[], byte[]> producer;
+    private int batchSize;
+    private Counter relayedRecordsCounter;
+    private Timer relayBatchTimer;
+
+    @SuppressWarnings("unused") // Used by servlet container.
+    public KafkaEventOutboxRelay() {
+    }
+
+    KafkaEventOutboxRelay(final Producer<byte[], byte[]> producer, final int batchSize) {
+        this.producer = producer;
+        this.batchSize = batchSize;
+        registerMeters();
+    }
+
+    @Override
+    public void contextInitialized(final ServletContextEvent event) {
+        if (!KafkaEventOutbox.isEnabled()) {
+            LOGGER.debug("Kafka outbox is disabled; Not starting relay");
+            return;
+        }
+
+        producer = KafkaProducerInitializer.getProducer();
+        batchSize = Config.getInstance().getPropertyAsInt(ConfigKey.KAFKA_OUTBOX_RELAY_BATCH_SIZE);
+        registerMeters();
+
+        final Duration pollInterval = Duration.parse(
+                Config.getInstance().getProperty(ConfigKey.KAFKA_OUTBOX_RELAY_POLL_INTERVAL_DURATION));
+
+        LOGGER.info("Starting Kafka outbox relay with batch size %d and poll interval %s".formatted(batchSize, pollInterval));
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("KafkaOutboxRelay").factory());
+        executor.scheduleWithFixedDelay(this::relayAll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void contextDestroyed(final ServletContextEvent event) {
+        if (executor == null) {
+            return;
+        }
+
+        LOGGER.info("Stopping Kafka outbox relay");
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOGGER.warn("Relay did not stop within 30s; Remaining records will be relayed after restart");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private void registerMeters() {
+        relayedRecordsCounter = Counter.builder("kafka_outbox_relayed_records")
+                .description("Number of records relayed from the Kafka outbox")
+                .register(Metrics.getRegistry());
+        relayBatchTimer = Timer.builder("kafka_outbox_relay_batch")
+                .description("Time spent relaying a single batch of records from the Kafka outbox")
+                .register(Metrics.getRegistry());
+        Gauge.builder("kafka_outbox_lag_seconds", lagMillis, value -> value.get() / 1000.0)
+                .description("Age of the oldest record in the Kafka outbox that has not been relayed yet")
+                .register(Metrics.getRegistry());
+    }
+
+    private void relayAll() {
+        try {
+            int relayedRecords;
+            do {
+                relayedRecords = relayBatch();
+            } while (relayedRecords == batchSize && !Thread.currentThread().isInterrupted());
+
+            lagMillis.set(withJdbiHandle(handle -> handle.attach(KafkaOutboxDao.class).getLagMillis()));
+        } catch (RuntimeException e) {
+            // Must not propagate, as it would cancel all subsequent executions.
+            LOGGER.error("Failed to relay records from Kafka outbox; Will retry with next poll", e);
+        }
+    }
+
+    /**
+     * Relay a single batch of records.
+     *
+     * @return Number of relayed records
+     */
+    int relayBatch() {
+        final Timer.Sample timerSample = Timer.start();
+        final int relayedRecords = withJdbiHandle(handle -> {
+            final var dao = handle.attach(KafkaOutboxDao.class);
+            if (!dao.tryAcquireRelayLock()) {
+                LOGGER.debug("Relay is locked by another instance; Skipping");
+                return 0;
+            }
+
+            try {
+                final List<OutboxRecord> records = dao.getNext(batchSize);
+                if (records.isEmpty()) {
+                    return 0;
+                }
+
+                send(records);
+
+                // Records are only deleted once all of them have been acknowledged.
+                // Should sending fail, the records are retained, and the entire
+                // batch is retried with the next poll.
+                dao.deleteAll(records.stream().map(OutboxRecord::id).toList());
+                return records.size();
+            } finally {
+                dao.releaseRelayLock();
+            }
+        });
+
+        if (relayedRecords > 0) {
+            timerSample.stop(relayBatchTimer);
+            relayedRecordsCounter.increment(relayedRecords);
+            LOGGER.debug("Relayed %d records".formatted(relayedRecords));
+        }
+
+        return relayedRecords;
+    }
+
+    private void send(final List<OutboxRecord> records) {
+        final var futures = new ArrayList<CompletableFuture<?>>(records.size());
+        for (final OutboxRecord record : records) {
+            final var producerRecord = new ProducerRecord<>(record.topic(), record.key(), record.value());
+            for (final Map.Entry<String, String> header : KafkaEventOutbox.deserializeHeaders(record.headers()).entrySet()) {
+                producerRecord.headers().add(header.getKey(), header.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+
+            final var future = new CompletableFuture<>();
+            producer.send(producerRecord, (metadata, exception) -> {
+                if (exception != null) {
+                    future.completeExceptionally(exception);
+                } else {
+                    future.complete(metadata);
+                }
+            });
+            futures.add(future);
+        }
+
+        try {
+            // Completion is bounded by the producer's delivery.timeout.ms.
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for records to be acknowledged", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to relay records to Kafka", e.getCause());
+        }
+    }
+
+}
@@ -20,18 +20,13 @@ package org.dependencytrack.event.kafka.processor;
 
 import alpine.Config;
 import alpine.common.logging.Logger;
-import alpine.event.framework.ChainableEvent;
-import alpine.event.framework.Event;
 import com.google.protobuf.Any;
 import com.google.protobuf.util.Timestamps;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.dependencytrack.event.ComponentMetricsUpdateEvent;
-import org.dependencytrack.event.ComponentPolicyEvaluationEvent;
-import org.dependencytrack.event.ProjectMetricsUpdateEvent;
-import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
 import org.dependencytrack.event.kafka.KafkaEvent;
 import org.dependencytrack.event.kafka.KafkaEventConverter;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.event.kafka.KafkaEventOutbox;
 import org.dependencytrack.event.kafka.processor.api.BatchProcessor;
 import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
 import org.dependencytrack.model.VulnerabilityScan;
@@ -54,7 +49,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -79,13 +73,16 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
     private static final Logger LOGGER = Logger.getLogger(ProcessedVulnerabilityScanResultProcessor.class);
 
     private final KafkaEventDispatcher eventDispatcher = new KafkaEventDispatcher();
+    private final VulnerabilityScanCompletionExecutor completionExecutor;
     private final boolean shouldDispatchBomProcessedNotification;
 
-    public ProcessedVulnerabilityScanResultProcessor() {
-        this(Config.getInstance().getPropertyAsBoolean(TMP_DELAY_BOM_PROCESSED_NOTIFICATION));
+    ProcessedVulnerabilityScanResultProcessor(final VulnerabilityScanCompletionExecutor completionExecutor) {
+        this(completionExecutor, Config.getInstance().getPropertyAsBoolean(TMP_DELAY_BOM_PROCESSED_NOTIFICATION));
     }
 
-    ProcessedVulnerabilityScanResultProcessor(final boolean shouldDispatchBomProcessedNotification) {
+    ProcessedVulnerabilityScanResultProcessor(final VulnerabilityScanCompletionExecutor completionExecutor,
+                                              final boolean shouldDispatchBomProcessedNotification) {
+        this.completionExecutor = completionExecutor;
         this.shouldDispatchBomProcessedNotification = shouldDispatchBomProcessedNotification;
     }
 
@@ -102,41 +99,22 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
             if (shouldDispatchBomProcessedNotification) {
                 notifications.addAll(createBomProcessedNotifications(handle, completedVulnScans));
             }
-        });
-
-        eventDispatcher.dispatchAll(notifications);
-        LOGGER.debug("Dispatched %d notifications".formatted(notifications.size()));
-
-        for (final VulnerabilityScan completedVulnScan : completedVulnScans) {
-            if (completedVulnScan.getStatus() != VulnerabilityScan.Status.COMPLETED) {
-                continue;
-            }
 
-            final ChainableEvent metricsUpdateEvent;
-            final ChainableEvent policyEvalEvent;
-
-            switch (completedVulnScan.getTargetType()) {
-                case COMPONENT -> {
-                    LOGGER.debug("Triggering policy evaluation for component %s".formatted(completedVulnScan.getTargetIdentifier()));
-                    metricsUpdateEvent = new ComponentMetricsUpdateEvent(completedVulnScan.getTargetIdentifier());
-                    policyEvalEvent = new ComponentPolicyEvaluationEvent(completedVulnScan.getTargetIdentifier());
-                }
-                case PROJECT -> {
-                    LOGGER.debug("Triggering policy evaluation for project %s".formatted(completedVulnScan.getTargetIdentifier()));
-                    metricsUpdateEvent = new ProjectMetricsUpdateEvent(completedVulnScan.getTargetIdentifier());
-                    policyEvalEvent = new ProjectPolicyEvaluationEvent(completedVulnScan.getTargetIdentifier());
-                }
-                default -> throw new IllegalStateException("""
-                        Unexpected vulnerability scan status %s""".formatted(completedVulnScan.getStatus()));
+            if (KafkaEventOutbox.isEnabled()) {
+                // Notifications only become visible to the relay if the transaction commits.
+                KafkaEventOutbox.enqueueAll(handle, notifications);
             }
+        });
 
-            final UUID workflowToken = completedVulnScan.getToken();
-            metricsUpdateEvent.setChainIdentifier(workflowToken);
-            policyEvalEvent.setChainIdentifier(workflowToken);
-            policyEvalEvent.onFailure(metricsUpdateEvent);
-            policyEvalEvent.onSuccess(metricsUpdateEvent);
-            Event.dispatch(policyEvalEvent);
+        if (KafkaEventOutbox.isEnabled()) {
+            LOGGER.debug("Enqueued %d notifications".formatted(notifications.size()));
+        } else {
+            eventDispatcher.dispatchAll(notifications);
+            LOGGER.debug("Dispatched %d notifications".formatted(notifications.size()));
         }
+
+        final int numUnits = completionExecutor.executeAll(completedVulnScans);
+        LOGGER.debug("Enqueued policy evaluation and metrics update for %d scan targets".formatted(numUnits));
     }
 
     private static List<VulnerabilityScan> processScanResults(final Handle jdbiHandle, final List<ConsumerRecord<String, ScanResult>> records) {
@@ -150,36 +128,36 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
     }
 
     private static List<VulnerabilityScan> recordScanResults(final Handle jdbiHandle, final List<ConsumerRecord<String, ScanResult>> records) {
-        final Map<String, Aggregate> aggregatesByToken = aggregateScanResults(records);
+        final Map<UUID, Aggregate> aggregatesByToken = aggregateScanResults(records);
         LOGGER.debug("Aggregated %d records down to %d unique scans".formatted(records.size(), aggregatesByToken.size()));
 
-        final int numAggregates = aggregatesByToken.size();
-        final var tokens = new ArrayList<UUID>(numAggregates);
-        final var resultsTotal = new ArrayList<Integer>(numAggregates);
-        final var scannerResultsTotal = new ArrayList<Integer>(numAggregates);
-        final var scannerResultsFailed = new ArrayList<Integer>(numAggregates);
-
-        for (final Map.Entry<String, Aggregate> entry : aggregatesByToken.entrySet()) {
-            tokens.add(UUID.fromString(entry.getKey()));
-            resultsTotal.add(entry.getValue().resultsTotal);
-            scannerResultsTotal.add(entry.getValue().scannerResultsTotal);
-            scannerResultsFailed.add(entry.getValue().scannerResultsFailed);
+        final var vulnScanDao = jdbiHandle.attach(VulnerabilityScanDao.class);
+
+        // Lock the scans to ensure that, for every scan, at least one transaction
+        // observes all counters once the last expected result was recorded.
+        // Results of the same scan are typically processed by a single consumer,
+        // since records are keyed by scan token. Overlaps may still occur during rebalances.
+        final List<UUID> inProgressTokens = vulnScanDao.lockAllInProgress(List.copyOf(aggregatesByToken.keySet()));
+        if (inProgressTokens.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        final var vulnScanDao = jdbiHandle.attach(VulnerabilityScanDao.class);
-        final List<VulnerabilityScan> updatedVulnScans =
-                vulnScanDao.updateAll(tokens, resultsTotal, scannerResultsTotal, scannerResultsFailed);
-
-        return updatedVulnScans.stream()
-                // Unfortunately we can't perform this filtering in SQL, as RETURNING
-                // does not allow a WHERE clause. Tried using a CTE as workaround:
-                //   WITH "CTE" AS (UPDATE ... RETURNING ...) SELECT * FROM "CTE"
-                // but that didn't return any results at all.
-                // The good news is that the query typically modifies only a handful
-                // of scans, so we're wasting not too many resources here.
-                .filter(vulnScan -> vulnScan.getStatus() == VulnerabilityScan.Status.COMPLETED
-                        || vulnScan.getStatus() == VulnerabilityScan.Status.FAILED)
-                .toList();
+        final int numTokens = inProgressTokens.size();
+        final var resultsTotal = new ArrayList<Integer>(numTokens);
+        final var scannerResultsTotal = new ArrayList<Integer>(numTokens);
+        final var scannerResultsFailed = new ArrayList<Integer>(numTokens);
+        for (final UUID token : inProgressTokens) {
+            final Aggregate aggregate = aggregatesByToken.get(token);
+            resultsTotal.add(aggregate.resultsTotal);
+            scannerResultsTotal.add(aggregate.scannerResultsTotal);
+            scannerResultsFailed.add(aggregate.scannerResultsFailed);
+        }
+
+        // Counters are appended rather than updated in place, such that frequently
+        // reported scans do not accumulate dead row versions in VULNERABILITYSCAN.
+        vulnScanDao.createCounters(inProgressTokens, resultsTotal, scannerResultsTotal, scannerResultsFailed);
+
+        return vulnScanDao.completeAll(inProgressTokens);
     }
 
     private static List<WorkflowState> updateWorkflowStates(final Handle jdbiHandle, final List<VulnerabilityScan> completedVulnScans) {
@@ -218,22 +196,19 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
     private static List<KafkaEvent<?, ?>> createVulnAnalysisCompleteNotifications(final Handle jdbiHandle, final List<VulnerabilityScan> completedVulnScans) {
         final var notificationSubjectDao = jdbiHandle.attach(NotificationSubjectDao.class);
 
-        final var notifications = new ArrayList<KafkaEvent<?, ?>>(completedVulnScans.size());
-        for (final VulnerabilityScan completedVulnScan : completedVulnScans) {
-            final Optional<ProjectVulnAnalysisCompleteSubject> optionalSubject =
-                    notificationSubjectDao.getForProjectVulnAnalysisComplete(completedVulnScan);
-            if (optionalSubject.isEmpty()) {
-                // Project (no longer) exists.
-                continue;
-            }
+        // Scans of projects that (no longer) exist are omitted.
+        final List<ProjectVulnAnalysisCompleteSubject> subjects =
+                notificationSubjectDao.getForProjectVulnAnalysisComplete(completedVulnScans);
 
+        final var notifications = new ArrayList<KafkaEvent<?, ?>>(subjects.size());
+        for (final ProjectVulnAnalysisCompleteSubject subject : subjects) {
             final var notification = Notification.newBuilder()
                     .setScope(SCOPE_PORTFOLIO)
                     .setGroup(GROUP_PROJECT_VULN_ANALYSIS_COMPLETE)
                     .setLevel(LEVEL_INFORMATIONAL)
                     .setTimestamp(Timestamps.now())
                     .setTitle(NotificationConstants.Title.PROJECT_VULN_ANALYSIS_COMPLETE)
-                    .setSubject(Any.pack(optionalSubject.get()))
+                    .setSubject(Any.pack(subject))
                     .build();
 
             notifications.add(KafkaEventConverter.convert(notification));
@@ -294,11 +269,11 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
         private int scannerResultsFailed;
     }
 
-    private static Map<String, Aggregate> aggregateScanResults(final List<ConsumerRecord<String, ScanResult>> records) {
-        final var aggregatesByToken = new HashMap<String, Aggregate>();
+    private static Map<UUID, Aggregate> aggregateScanResults(final List<ConsumerRecord<String, ScanResult>> records) {
+        final var aggregatesByToken = new HashMap<UUID, Aggregate>();
 
         for (final ConsumerRecord<String, ScanResult> record : records) {
-            aggregatesByToken.compute(record.key(), (token, existingAggregate) -> {
+            aggregatesByToken.compute(UUID.fromString(record.key()), (token, existingAggregate) -> {
                 final Aggregate aggregate = existingAggregate != null ? existingAggregate : new Aggregate();
                 aggregate.resultsTotal++;
                 aggregate.scannerResultsTotal += record.value().getScannerResultsCount();
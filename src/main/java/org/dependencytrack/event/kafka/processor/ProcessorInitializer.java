@@ -18,7 +18,9 @@
  */
 package org.dependencytrack.event.kafka.processor;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.event.kafka.processor.api.ProcessorManager;
 
@@ -31,10 +33,16 @@ public class ProcessorInitializer implements ServletContextListener {
 
     static final ProcessorManager PROCESSOR_MANAGER = new ProcessorManager();
 
+    private VulnerabilityScanCompletionExecutor vulnScanCompletionExecutor;
+
     @Override
     public void contextInitialized(final ServletContextEvent event) {
         LOGGER.info("Initializing processors");
 
+        vulnScanCompletionExecutor = new VulnerabilityScanCompletionExecutor(
+                Config.getInstance().getPropertyAsInt(ConfigKey.VULN_SCAN_COMPLETION_PARALLELISM),
+                Config.getInstance().getPropertyAsInt(ConfigKey.VULN_SCAN_COMPLETION_QUEUE_CAPACITY));
+
         PROCESSOR_MANAGER.registerProcessor(VulnerabilityMirrorProcessor.PROCESSOR_NAME,
                 KafkaTopics.NEW_VULNERABILITY, new VulnerabilityMirrorProcessor());
         PROCESSOR_MANAGER.registerProcessor(RepositoryMetaResultProcessor.PROCESSOR_NAME,
@@ -44,7 +52,7 @@ public class ProcessorInitializer implements ServletContextListener {
         PROCESSOR_MANAGER.registerProcessor(VulnerabilityScanResultProcessor.PROCESSOR_NAME,
                 KafkaTopics.VULN_ANALYSIS_RESULT, new VulnerabilityScanResultProcessor());
         PROCESSOR_MANAGER.registerBatchProcessor(ProcessedVulnerabilityScanResultProcessor.PROCESSOR_NAME,
-                KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED, new ProcessedVulnerabilityScanResultProcessor());
+                KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED, new ProcessedVulnerabilityScanResultProcessor(vulnScanCompletionExecutor));
 
         PROCESSOR_MANAGER.startAll();
     }
@@ -53,6 +61,10 @@ public class ProcessorInitializer implements ServletContextListener {
     public void contextDestroyed(final ServletContextEvent event) {
         LOGGER.info("Stopping processors");
         PROCESSOR_MANAGER.close();
+
+        if (vulnScanCompletionExecutor != null) {
+            vulnScanCompletionExecutor.close();
+        }
     }
 
 }
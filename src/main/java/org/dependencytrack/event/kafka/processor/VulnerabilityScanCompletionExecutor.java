@@ -0,0 +1,228 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.event.framework.ChainableEvent;
+import alpine.event.framework.Event;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.dependencytrack.event.ComponentMetricsUpdateEvent;
+import org.dependencytrack.event.ComponentPolicyEvaluationEvent;
+import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
+import org.dependencytrack.model.VulnerabilityScan;
+import org.dependencytrack.tasks.PolicyEvaluationTask;
+import org.dependencytrack.tasks.metrics.ComponentMetricsUpdateTask;
+import org.dependencytrack.tasks.metrics.ProjectMetricsUpdateTask;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Executes policy evaluations and metrics updates for completed {@link VulnerabilityScan}s.
+ * <p>
+ * Completed scans are grouped by their target, such that each target is handled by a single unit of work.
+ * Units are distributed across a bounded number of lanes, each of which executes its units sequentially.
+ * All units of a given target are assigned to the same lane, so work for the same project or component
+ * is never executed concurrently, and always in the order in which the respective scans completed.
+ * <p>
+ * Each lane queues a bounded number of units. When the queue of a lane is full, enqueueing blocks
+ * until capacity becomes available, thus applying back-pressure to the calling processor.
+ *
+ * @since 5.6.0
+ */
+final class VulnerabilityScanCompletionExecutor implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(VulnerabilityScanCompletionExecutor.class);
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Consumer<Event> eventExecutor;
+
+    VulnerabilityScanCompletionExecutor(final int parallelism, final int queueCapacity) {
+        this(parallelism, queueCapacity, VulnerabilityScanCompletionExecutor::executeEvent);
+    }
+
+    /**
+     * @param parallelism   Maximum number of targets to execute work for concurrently
+     * @param queueCapacity Maximum number of units queued per lane
+     * @param eventExecutor Synchronously executes a single policy evaluation or metrics update event
+     */
+    VulnerabilityScanCompletionExecutor(final int parallelism, final int queueCapacity, final Consumer<Event> eventExecutor) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than zero, but was " + parallelism);
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be greater than zero, but was " + queueCapacity);
+        }
+
+        this.lanes = new ThreadPoolExecutor[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            final var lane = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    Thread.ofPlatform().name("VulnScanCompletion-" + i).daemon(true).factory(),
+                    VulnerabilityScanCompletionExecutor::awaitQueueCapacity);
+            lane.prestartCoreThread();
+            new ExecutorServiceMetrics(lane, "VulnScanCompletion", Tags.of("lane", String.valueOf(i)))
+                    .bindTo(Metrics.getRegistry());
+            lanes[i] = lane;
+        }
+        this.eventExecutor = eventExecutor;
+    }
+
+    /**
+     * Enqueue policy evaluations and metrics updates for completed {@link VulnerabilityScan}s.
+     * <p>
+     * Scans with a status other than {@link VulnerabilityScan.Status#COMPLETED} are ignored.
+     * Blocks while the queue of a lane that units are assigned to is full.
+     *
+     * @param completedVulnScans The completed {@link VulnerabilityScan}s
+     * @return Number of enqueued units of work
+     * @throws RejectedExecutionException When the executor was closed, or the calling thread
+     *                                    was interrupted while waiting for queue capacity
+     */
+    int executeAll(final List<VulnerabilityScan> completedVulnScans) {
+        final var vulnScansByTarget = new LinkedHashMap<UUID, List<VulnerabilityScan>>();
+        for (final VulnerabilityScan vulnScan : completedVulnScans) {
+            if (vulnScan.getStatus() == VulnerabilityScan.Status.COMPLETED) {
+                vulnScansByTarget.computeIfAbsent(vulnScan.getTargetIdentifier(), ignored -> new ArrayList<>()).add(vulnScan);
+            }
+        }
+
+        for (final Map.Entry<UUID, List<VulnerabilityScan>> entry : vulnScansByTarget.entrySet()) {
+            final List<VulnerabilityScan> vulnScans = entry.getValue();
+            lanes[Math.floorMod(entry.getKey().hashCode(), lanes.length)].execute(() -> executeUnit(vulnScans));
+        }
+
+        return vulnScansByTarget.size();
+    }
+
+    private void executeUnit(final List<VulnerabilityScan> vulnScans) {
+        for (final VulnerabilityScan vulnScan : vulnScans) {
+            final ChainableEvent policyEvalEvent;
+            final ChainableEvent metricsUpdateEvent;
+
+            switch (vulnScan.getTargetType()) {
+                case COMPONENT -> {
+                    LOGGER.debug("Triggering policy evaluation for component %s".formatted(vulnScan.getTargetIdentifier()));
+                    policyEvalEvent = new ComponentPolicyEvaluationEvent(vulnScan.getTargetIdentifier());
+                    metricsUpdateEvent = new ComponentMetricsUpdateEvent(vulnScan.getTargetIdentifier());
+                }
+                case PROJECT -> {
+                    LOGGER.debug("Triggering policy evaluation for project %s".formatted(vulnScan.getTargetIdentifier()));
+                    policyEvalEvent = new ProjectPolicyEvaluationEvent(vulnScan.getTargetIdentifier());
+                    metricsUpdateEvent = new ProjectMetricsUpdateEvent(vulnScan.getTargetIdentifier());
+                }
+                default -> {
+                    LOGGER.warn("Unexpected target type %s of vulnerability scan %s; Skipping"
+                            .formatted(vulnScan.getTargetType(), vulnScan.getToken()));
+                    continue;
+                }
+            }
+
+            policyEvalEvent.setChainIdentifier(vulnScan.getToken());
+            metricsUpdateEvent.setChainIdentifier(vulnScan.getToken());
+
+            // Metrics are updated regardless of whether policy evaluation succeeded.
+            try {
+                eventExecutor.accept(policyEvalEvent);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to evaluate policies for %s".formatted(vulnScan.getTargetIdentifier()), e);
+            }
+            try {
+                eventExecutor.accept(metricsUpdateEvent);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to update metrics for %s".formatted(vulnScan.getTargetIdentifier()), e);
+            }
+        }
+    }
+
+    /**
+     * Block until the given {@link Runnable} could be added to the full queue of {@code lane}.
+     * <p>
+     * Unlike {@link ThreadPoolExecutor.CallerRunsPolicy}, this retains the order in which
+     * units of the same target are executed.
+     */
+    private static void awaitQueueCapacity(final Runnable runnable, final ThreadPoolExecutor lane) {
+        if (lane.isShutdown()) {
+            throw new RejectedExecutionException("Executor has been closed");
+        }
+
+        try {
+            lane.getQueue().put(runnable);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for queue capacity", e);
+        }
+    }
+
+    private static void executeEvent(final Event event) {
+        switch (event) {
+            case ComponentPolicyEvaluationEvent e -> new PolicyEvaluationTask().inform(e);
+            case ProjectPolicyEvaluationEvent e -> new PolicyEvaluationTask().inform(e);
+            case ComponentMetricsUpdateEvent e -> new ComponentMetricsUpdateTask().inform(e);
+            case ProjectMetricsUpdateEvent e -> new ProjectMetricsUpdateTask().inform(e);
+            default -> throw new IllegalArgumentException("Unexpected event: " + event);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (final ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+
+        // All lanes share a single deadline, such that closing does not take
+        // longer with increasing parallelism.
+        final long deadlineNanos = System.nanoTime() + CLOSE_TIMEOUT.toNanos();
+        try {
+            for (final ThreadPoolExecutor lane : lanes) {
+                final long remainingNanos = deadlineNanos - System.nanoTime();
+                if (!lane.awaitTermination(remainingNanos, TimeUnit.NANOSECONDS)) {
+                    LOGGER.warn("Pending policy evaluations and metrics updates did not complete within %s"
+                            .formatted(CLOSE_TIMEOUT));
+                    shutdownNow();
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shutdownNow();
+        }
+    }
+
+    private void shutdownNow() {
+        for (final ThreadPoolExecutor lane : lanes) {
+            lane.shutdownNow();
+        }
+    }
+
+}
@@ -30,6 +30,7 @@ import org.dependencytrack.event.PortfolioVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.kafka.KafkaEvent;
 import org.dependencytrack.event.kafka.KafkaEventConverter;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.event.kafka.KafkaEventOutbox;
 import org.dependencytrack.event.kafka.KafkaEventHeaders;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.event.kafka.KafkaUtil;
@@ -150,9 +151,15 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
 
             processInternal(scanKey, scanResult, analysisLevel, isNewComponent);
 
-            // NB: Dispatching asynchronously here as blocking comes with a latency penalty
-            // that is too high, given the frequency at which records are processed.
-            eventDispatcher.dispatchAll(eventsToDispatch.get());
+            if (KafkaEventOutbox.isEnabled()) {
+                // Enqueued before the record is acknowledged, such that events
+                // are not lost should the application crash after processing.
+                useJdbiHandle(handle -> KafkaEventOutbox.enqueueAll(handle, eventsToDispatch.get()));
+            } else {
+                // NB: Dispatching asynchronously here as blocking comes with a latency penalty
+                // that is too high, given the frequency at which records are processed.
+                eventDispatcher.dispatchAll(eventsToDispatch.get());
+            }
         } finally {
             eventsToDispatch.get().clear();
         }
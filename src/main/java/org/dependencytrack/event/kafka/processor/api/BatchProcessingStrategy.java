@@ -20,10 +20,12 @@ package org.dependencytrack.event.kafka.processor.api;
 
 import alpine.common.logging.Logger;
 import io.confluent.parallelconsumer.PCRetriableException;
+import io.micrometer.core.instrument.Timer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.serialization.Serde;
 import org.dependencytrack.common.MdcKeys;
+import org.dependencytrack.event.kafka.processor.api.ProcessorMetrics.Outcome;
 import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
 import org.slf4j.MDC;
 
@@ -41,11 +43,14 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
     private static final Logger LOGGER = Logger.getLogger(BatchProcessingStrategy.class);
 
     private final BatchProcessor<K, V> batchProcessor;
+    private final ProcessorMetrics metrics;
 
     BatchProcessingStrategy(final BatchProcessor<K, V> batchProcessor,
-                            final Serde<K> keySerde, final Serde<V> valueSerde) {
+                            final Serde<K> keySerde, final Serde<V> valueSerde,
+                            final ProcessorMetrics metrics) {
         super(keySerde, valueSerde);
         this.batchProcessor = batchProcessor;
+        this.metrics = metrics;
     }
 
     /**
@@ -62,6 +67,7 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
             } catch (SerializationException e) {
                 // TODO: Consider supporting error handlers, e.g. to send record to DLT.
                 LOGGER.error("Failed to deserialize record; Skipping", e);
+                metrics.recordSkipped(1);
             }
         }
 
@@ -70,8 +76,11 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
             return;
         }
 
+        final Timer.Sample timerSample = metrics.startProcessing(deserializedRecords);
+        Outcome outcome = Outcome.RETRIED;
         try {
             batchProcessor.process(deserializedRecords);
+            outcome = Outcome.PROCESSED;
         } catch (ProcessingException | RuntimeException e) {
             if (isRetryableException(e)) {
                 LOGGER.warn("Encountered retryable exception while processing %d records".formatted(deserializedRecords.size()), e);
@@ -79,8 +88,11 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
             }
 
             LOGGER.error("Encountered non-retryable exception while processing %d records; Skipping".formatted(deserializedRecords.size()), e);
+            outcome = Outcome.SKIPPED;
             // TODO: Consider supporting error handlers, e.g. to send records to DLT.
             // Skip records to avoid poison-pill scenario.
+        } finally {
+            metrics.stopProcessing(timerSample, deserializedRecords, outcome);
         }
     }
 
@@ -26,7 +26,9 @@ import io.confluent.parallelconsumer.ParallelConsumerOptions.ProcessingOrder;
 import io.confluent.parallelconsumer.ParallelEoSStreamProcessor;
 import io.confluent.parallelconsumer.ParallelStreamProcessor;
 import io.github.resilience4j.core.IntervalFunction;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.DescribeTopicsOptions;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
@@ -91,11 +93,19 @@ public class ProcessorManager implements AutoCloseable {
     private final Map<String, ManagedProcessor> managedProcessors = new LinkedHashMap<>();
     private final UUID instanceId;
     private final Config config;
+    private final MeterRegistry meterRegistry;
     private AdminClient adminClient;
 
     public ProcessorManager() {
+        this(Config.getInstance().getPropertyAsBoolean(Config.AlpineKey.METRICS_ENABLED)
+                ? Metrics.getRegistry()
+                : new CompositeMeterRegistry() /* No-op registry */);
+    }
+
+    ProcessorManager(final MeterRegistry meterRegistry) {
         this.instanceId = UUID.randomUUID();
         this.config = Config.getInstance();
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -109,9 +119,12 @@ public class ProcessorManager implements AutoCloseable {
      */
     public <K, V> void registerProcessor(final String name, final Topic<K, V> topic, final Processor<K, V> processor) {
         requireValidProcessorName(name);
-        final var processingStrategy = new SingleRecordProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde());
-        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, false);
-        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, topic.name()));
+        closeMetricsOfPreviousRegistration(name);
+        final Consumer<byte[], byte[]> consumer = createConsumer(name);
+        final var metrics = new ProcessorMetrics(meterRegistry, name, topic.name(), consumer::metrics);
+        final var processingStrategy = new SingleRecordProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde(), metrics);
+        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, consumer, false);
+        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, metrics, topic.name()));
     }
 
     /**
@@ -125,9 +138,12 @@ public class ProcessorManager implements AutoCloseable {
      */
     public <K, V> void registerBatchProcessor(final String name, final Topic<K, V> topic, final BatchProcessor<K, V> processor) {
         requireValidProcessorName(name);
-        final var processingStrategy = new BatchProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde());
-        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, true);
-        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, topic.name()));
+        closeMetricsOfPreviousRegistration(name);
+        final Consumer<byte[], byte[]> consumer = createConsumer(name);
+        final var metrics = new ProcessorMetrics(meterRegistry, name, topic.name(), consumer::metrics);
+        final var processingStrategy = new BatchProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde(), metrics);
+        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, consumer, true);
+        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, metrics, topic.name()));
     }
 
     @SuppressWarnings("resource")
@@ -187,6 +203,17 @@ public class ProcessorManager implements AutoCloseable {
 
             LOGGER.info("Stopping processor %s".formatted(processorName));
             managedProcessor.parallelConsumer().closeDontDrainFirst();
+            managedProcessor.metrics().close();
+        }
+    }
+
+    private void closeMetricsOfPreviousRegistration(final String processorName) {
+        final ManagedProcessor previousProcessor = managedProcessors.get(processorName);
+        if (previousProcessor != null) {
+            // Meters with identical names and tags would otherwise be shared with
+            // the previous registration, and keep reporting its (stale) values.
+            LOGGER.warn("Processor %s is already registered; Replacing it".formatted(processorName));
+            previousProcessor.metrics().close();
         }
     }
 
@@ -237,9 +264,10 @@ public class ProcessorManager implements AutoCloseable {
         }
     }
 
-    private ParallelStreamProcessor<byte[], byte[]> createParallelConsumer(final String processorName, final Topic<?, ?> topic, final boolean isBatch) {
+    private ParallelStreamProcessor<byte[], byte[]> createParallelConsumer(final String processorName, final Topic<?, ?> topic,
+                                                                          final Consumer<byte[], byte[]> consumer, final boolean isBatch) {
         final var optionsBuilder = ParallelConsumerOptions.<byte[], byte[]>builder()
-                .consumer(createConsumer(processorName));
+                .consumer(consumer);
 
         final Map<String, String> properties = getPassThroughProperties(processorName.toLowerCase());
 
@@ -427,7 +455,9 @@ public class ProcessorManager implements AutoCloseable {
     }
 
     private record ManagedProcessor(ParallelStreamProcessor<byte[], byte[]> parallelConsumer,
-                                    ProcessingStrategy processingStrategy, String topic) {
+                                    ProcessingStrategy processingStrategy,
+                                    ProcessorMetrics metrics,
+                                    String topic) {
     }
 
 }
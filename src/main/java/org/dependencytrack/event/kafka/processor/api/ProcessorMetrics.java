@@ -0,0 +1,238 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Meters of a single {@link Processor} or {@link BatchProcessor}.
+ * <p>
+ * All meters are tagged with the name of the processor, and the topic it consumes from.
+ * They are removed from the {@link MeterRegistry} when the processor is closed, such that
+ * no stale values are reported, and no references to closed consumers are retained.
+ *
+ * @since 5.6.0
+ */
+final class ProcessorMetrics implements AutoCloseable {
+
+    static final String METER_RECORDS = "kafka_processor_records";
+    static final String METER_RECORDS_IN_FLIGHT = "kafka_processor_records_in_flight";
+    static final String METER_RETRIES = "kafka_processor_retries";
+    static final String METER_BATCH_SIZE = "kafka_processor_batch_size";
+    static final String METER_PROCESSING = "kafka_processor_processing";
+    static final String METER_END_TO_END_LATENCY = "kafka_processor_end_to_end_latency";
+    static final String METER_CONSUMER_LAG = "kafka_processor_consumer_lag";
+
+    private static final String CONSUMER_LAG_METRIC_NAME = "records-lag";
+    private static final String CONSUMER_LAG_METRIC_GROUP = "consumer-fetch-manager-metrics";
+
+    enum Outcome {
+        PROCESSED,
+        SKIPPED,
+        RETRIED
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final String topic;
+    private final Tags tags;
+    private final Supplier<Map<MetricName, ? extends Metric>> consumerMetricsSupplier;
+    private final Clock clock;
+    private final AtomicInteger recordsInFlight = new AtomicInteger(0);
+    private final Map<Integer, Gauge> lagGaugesByPartition = new ConcurrentHashMap<>();
+    private final List<Meter> meters = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+    private final Counter recordsProcessedCounter;
+    private final Counter recordsSkippedCounter;
+    private final Counter retriesCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer processingTimer;
+    private final Timer endToEndLatencyTimer;
+
+    ProcessorMetrics(final MeterRegistry meterRegistry, final String processorName, final String topic,
+                     final Supplier<Map<MetricName, ? extends Metric>> consumerMetricsSupplier) {
+        this(meterRegistry, processorName, topic, consumerMetricsSupplier, Clock.systemUTC());
+    }
+
+    ProcessorMetrics(final MeterRegistry meterRegistry, final String processorName, final String topic,
+                     final Supplier<Map<MetricName, ? extends Metric>> consumerMetricsSupplier, final Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.topic = topic;
+        this.tags = Tags.of("processor", processorName, "topic", topic);
+        this.consumerMetricsSupplier = consumerMetricsSupplier;
+        this.clock = clock;
+
+        meters.add(Gauge.builder(METER_RECORDS_IN_FLIGHT, recordsInFlight, AtomicInteger::get)
+                .description("Number of records currently being processed")
+                .tags(tags)
+                .register(meterRegistry));
+        this.recordsProcessedCounter = Counter.builder(METER_RECORDS)
+                .description("Number of records processed")
+                .tags(tags)
+                .tag("outcome", "processed")
+                .register(meterRegistry);
+        this.recordsSkippedCounter = Counter.builder(METER_RECORDS)
+                .description("Number of records processed")
+                .tags(tags)
+                .tag("outcome", "skipped")
+                .register(meterRegistry);
+        this.retriesCounter = Counter.builder(METER_RETRIES)
+                .description("Number of records scheduled for retry after a retryable processing failure")
+                .tags(tags)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(METER_BATCH_SIZE)
+                .description("Number of records handed to the processor at once")
+                .tags(tags)
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder(METER_PROCESSING)
+                .description("Time spent in the processor")
+                .tags(tags)
+                .register(meterRegistry);
+        this.endToEndLatencyTimer = Timer.builder(METER_END_TO_END_LATENCY)
+                .description("Time between the record timestamp and completion of its processing")
+                .tags(tags)
+                .register(meterRegistry);
+        meters.addAll(List.of(recordsProcessedCounter, recordsSkippedCounter, retriesCounter,
+                batchSizeSummary, processingTimer, endToEndLatencyTimer));
+    }
+
+    /**
+     * Record the start of processing for a given set of records.
+     *
+     * @param records The records about to be processed
+     * @return A {@link Timer.Sample} to pass to {@link #stopProcessing(Timer.Sample, List, Outcome)}
+     */
+    Timer.Sample startProcessing(final List<? extends ConsumerRecord<?, ?>> records) {
+        recordsInFlight.addAndGet(records.size());
+        batchSizeSummary.record(records.size());
+        for (final ConsumerRecord<?, ?> record : records) {
+            maybeRegisterLagGauge(record.partition());
+        }
+
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Record the completion of processing for a given set of records.
+     *
+     * @param timerSample The {@link Timer.Sample} returned by {@link #startProcessing(List)}
+     * @param records     The records that were processed
+     * @param outcome     The {@link Outcome} of the processing
+     */
+    void stopProcessing(final Timer.Sample timerSample, final List<? extends ConsumerRecord<?, ?>> records, final Outcome outcome) {
+        timerSample.stop(processingTimer);
+        recordsInFlight.addAndGet(-records.size());
+
+        switch (outcome) {
+            case PROCESSED -> recordsProcessedCounter.increment(records.size());
+            case SKIPPED -> recordsSkippedCounter.increment(records.size());
+            case RETRIED -> {
+                // Records will be redelivered, so neither count them as
+                // completed, nor record their end-to-end latency yet.
+                retriesCounter.increment(records.size());
+                return;
+            }
+        }
+
+        final long nowMillis = clock.millis();
+        for (final ConsumerRecord<?, ?> record : records) {
+            if (record.timestamp() >= 0) {
+                endToEndLatencyTimer.record(Math.max(0, nowMillis - record.timestamp()), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Record records that were skipped before they reached the processor,
+     * e.g. because they could not be deserialized.
+     *
+     * @param numRecords Number of skipped records
+     */
+    void recordSkipped(final int numRecords) {
+        recordsSkippedCounter.increment(numRecords);
+    }
+
+    /**
+     * Remove all meters from the {@link MeterRegistry}.
+     * <p>
+     * Must be called when the processor is closed, or before another processor
+     * with the same name is registered.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        for (final Meter meter : meters) {
+            meterRegistry.remove(meter);
+        }
+        meters.clear();
+
+        for (final Gauge lagGauge : lagGaugesByPartition.values()) {
+            meterRegistry.remove(lagGauge);
+        }
+        lagGaugesByPartition.clear();
+    }
+
+    private void maybeRegisterLagGauge(final int partition) {
+        if (consumerMetricsSupplier == null || closed || lagGaugesByPartition.containsKey(partition)) {
+            return;
+        }
+
+        lagGaugesByPartition.computeIfAbsent(partition, ignored ->
+                Gauge.builder(METER_CONSUMER_LAG, () -> getConsumerLag(partition))
+                        .description("Number of records the consumer lags behind the partition's high watermark")
+                        .tags(tags)
+                        .tag("partition", String.valueOf(partition))
+                        .register(meterRegistry));
+    }
+
+    private double getConsumerLag(final int partition) {
+        final String partitionStr = String.valueOf(partition);
+        for (final Map.Entry<MetricName, ? extends Metric> entry : consumerMetricsSupplier.get().entrySet()) {
+            final MetricName metricName = entry.getKey();
+            if (CONSUMER_LAG_METRIC_NAME.equals(metricName.name())
+                    && CONSUMER_LAG_METRIC_GROUP.equals(metricName.group())
+                    && topic.equals(metricName.tags().get("topic"))
+                    && partitionStr.equals(metricName.tags().get("partition"))
+                    && entry.getValue().metricValue() instanceof final Number lag) {
+                return lag.doubleValue();
+            }
+        }
+
+        return Double.NaN;
+    }
+
+}
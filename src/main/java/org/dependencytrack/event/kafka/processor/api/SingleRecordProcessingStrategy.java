@@ -20,9 +20,11 @@ package org.dependencytrack.event.kafka.processor.api;
 
 import alpine.common.logging.Logger;
 import io.confluent.parallelconsumer.PCRetriableException;
+import io.micrometer.core.instrument.Timer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.serialization.Serde;
+import org.dependencytrack.event.kafka.processor.api.ProcessorMetrics.Outcome;
 import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
 import org.slf4j.MDC;
 
@@ -44,11 +46,14 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
     private static final Logger LOGGER = Logger.getLogger(SingleRecordProcessingStrategy.class);
 
     private final Processor<K, V> processor;
+    private final ProcessorMetrics metrics;
 
     SingleRecordProcessingStrategy(final Processor<K, V> processor,
-                                   final Serde<K> keySerde, final Serde<V> valueSerde) {
+                                   final Serde<K> keySerde, final Serde<V> valueSerde,
+                                   final ProcessorMetrics metrics) {
         super(keySerde, valueSerde);
         this.processor = processor;
+        this.metrics = metrics;
     }
 
     /**
@@ -78,12 +83,17 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
             deserializedRecord = deserialize(record);
         } catch (SerializationException e) {
             LOGGER.error("Failed to deserialize consumer record %s; Skipping", e);
+            metrics.recordSkipped(1);
             // TODO: Consider supporting error handlers, e.g. to send record to DLT.
             return; // Skip record to avoid poison-pill scenario.
         }
 
+        final List<ConsumerRecord<byte[], byte[]>> records = List.of(record);
+        final Timer.Sample timerSample = metrics.startProcessing(records);
+        Outcome outcome = Outcome.RETRIED;
         try (var ignoredMdcKafkaRecordKey = MDC.putCloseable(MDC_KAFKA_RECORD_KEY, String.valueOf(deserializedRecord.key()))) {
             processor.process(deserializedRecord);
+            outcome = Outcome.PROCESSED;
         } catch (ProcessingException | RuntimeException e) {
             if (isRetryableException(e)) {
                 LOGGER.warn("Encountered retryable exception while processing record", e);
@@ -91,8 +101,11 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
             }
 
             LOGGER.error("Encountered non-retryable exception while processing record; Skipping", e);
+            outcome = Outcome.SKIPPED;
             // TODO: Consider supporting error handlers, e.g. to send record to DLT.
             // Skip record to avoid poison-pill scenario.
+        } finally {
+            metrics.stopProcessing(timerSample, records, outcome);
         }
     }
 
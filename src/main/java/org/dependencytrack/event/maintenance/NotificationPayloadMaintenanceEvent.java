@@ -16,7 +16,12 @@
  * SPDX-License-Identifier: Apache-2.0
  * Copyright (c) OWASP Foundation. All Rights Reserved.
  */
-package org.dependencytrack.policy.cel.mapping;
+package org.dependencytrack.event.maintenance;
 
-public record PolicyViolationProjection(Long id, Long policyConditionId) {
+import alpine.event.framework.Event;
+
+/**
+ * @since 5.6.0
+ */
+public class NotificationPayloadMaintenanceEvent implements Event {
 }
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.filters;
+
+import jakarta.ws.rs.ext.Provider;
+import org.dependencytrack.auth.AclSnapshot;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+import java.security.Principal;
+
+/**
+ * Scopes {@link AclSnapshot}s to the resource method invocation of an API request,
+ * such that portfolio access control information is only loaded once per request.
+ *
+ * @since 5.6.0
+ */
+@Provider
+public class AclSnapshotApplicationEventListener implements ApplicationEventListener {
+
+    @Override
+    public void onEvent(final ApplicationEvent event) {
+    }
+
+    @Override
+    public RequestEventListener onRequest(final RequestEvent requestEvent) {
+        return event -> {
+            switch (event.getType()) {
+                case RESOURCE_METHOD_START -> {
+                    // Set by Alpine's AuthenticationFilter.
+                    if (event.getContainerRequest().getProperty("Principal") instanceof final Principal principal) {
+                        AclSnapshot.enterRequestScope(principal);
+                    }
+                }
+                case RESOURCE_METHOD_FINISHED -> AclSnapshot.exitRequestScope();
+                default -> {
+                }
+            }
+        };
+    }
+
+}
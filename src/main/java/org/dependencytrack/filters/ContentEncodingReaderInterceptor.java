@@ -0,0 +1,148 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.filters;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.NotSupportedException;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompresses request bodies of resource methods annotated with {@link AcceptsContentEncoding}
+ * while they are being read, such that they never have to be held in memory in their entirety.
+ * <p>
+ * Supported encodings are {@code gzip} and {@code zstd}. Requests with any other
+ * encoding are rejected with {@code 415 Unsupported Media Type}. JSON requests that decompress to
+ * more than {@link #MAX_DECODED_LENGTH} bytes are rejected with {@code 413 Content Too Large}.
+ * Other requests, e.g. {@code multipart/form-data} uploads, are not limited beyond what
+ * applies to their uncompressed equivalent.
+ *
+ * @since 5.6.0
+ */
+@Provider
+@AcceptsContentEncoding
+@Priority(Priorities.ENTITY_CODER)
+public class ContentEncodingReaderInterceptor implements ReaderInterceptor {
+
+    /**
+     * Maximum number of bytes a JSON request body may decompress to.
+     * <p>
+     * Corresponds to the maximum length of BOMs submitted as Base64 encoded JSON value,
+     * plus headroom for the remaining fields of the request. Larger JSON bodies would
+     * be rejected by Jackson anyway, but only after they were decompressed entirely.
+     */
+    static final long MAX_DECODED_LENGTH = StreamReadConstraints.DEFAULT_MAX_STRING_LEN + 1_048_576L;
+
+    @Override
+    public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException {
+        final String contentEncoding = context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncoding != null) {
+            InputStream decodedInputStream = decode(context.getInputStream(), contentEncoding);
+            if (MediaType.APPLICATION_JSON_TYPE.isCompatible(context.getMediaType())) {
+                decodedInputStream = new LengthLimitedInputStream(decodedInputStream, MAX_DECODED_LENGTH);
+            }
+
+            context.setInputStream(decodedInputStream);
+            context.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+        }
+
+        return context.proceed();
+    }
+
+    private static InputStream decode(final InputStream inputStream, final String contentEncoding) throws IOException {
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "identity" -> inputStream;
+            case "gzip", "x-gzip" -> new GZIPInputStream(inputStream);
+            case "zstd" -> new ZstdCompressorInputStream(inputStream);
+            default -> throw new NotSupportedException("Unsupported content encoding: " + contentEncoding);
+        };
+    }
+
+    /**
+     * An {@link InputStream} that fails with {@code 413 Content Too Large}
+     * once more than a given number of bytes have been read from it.
+     */
+    private static final class LengthLimitedInputStream extends FilterInputStream {
+
+        private final long maxLength;
+        private long bytesRead;
+
+        private LengthLimitedInputStream(final InputStream inputStream, final long maxLength) {
+            super(inputStream);
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int result = super.read();
+            if (result != -1) {
+                count(1);
+            }
+
+            return result;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            final int result = super.read(buffer, offset, length);
+            if (result > 0) {
+                count(result);
+            }
+
+            return result;
+        }
+
+        @Override
+        public long skip(final long length) throws IOException {
+            final long result = super.skip(length);
+            count(result);
+            return result;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(final long length) {
+            bytesRead += length;
+            if (bytesRead > maxLength) {
+                throw new WebApplicationException(
+                        "Decompressed request body exceeds the maximum allowed size of %d bytes".formatted(maxLength),
+                        Response.Status.REQUEST_ENTITY_TOO_LARGE);
+            }
+        }
+
+    }
+
+}
@@ -109,6 +109,11 @@ public class Bom implements Serializable {
     @Schema(type = "integer", format = "int64", requiredMode = Schema.RequiredMode.REQUIRED, description = "UNIX epoch timestamp in milliseconds")
     private Date generated;
 
+    @Persistent
+    @Column(name = "CONTENT_HASH", jdbcType = "VARCHAR", length = 64)
+    @JsonIgnore
+    private String contentHash;
+
     public long getId() {
         return id;
     }
@@ -180,4 +185,12 @@ public class Bom implements Serializable {
     public void setGenerated(Date generated) {
         this.generated = generated;
     }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
 }
@@ -77,6 +77,15 @@ public class WorkflowState implements Serializable {
     @Column(name = "FAILURE_REASON", jdbcType = "CLOB", allowsNull = "true")
     private String failureReason;
 
+    /**
+     * Human-readable details about the work performed by the step, if any.
+     *
+     * @since 5.6.0
+     */
+    @Persistent
+    @Column(name = "DETAILS", jdbcType = "CLOB", allowsNull = "true")
+    private String details;
+
     public long getId() {
         return id;
     }
@@ -140,4 +149,12 @@ public class WorkflowState implements Serializable {
     public void setFailureReason(String failureReason) {
         this.failureReason = failureReason;
     }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
 }
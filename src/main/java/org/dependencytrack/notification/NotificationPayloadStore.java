@@ -0,0 +1,91 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.notification;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.notification.vo.PayloadReference;
+import org.dependencytrack.persistence.jdbi.NotificationPayloadDao;
+
+import java.util.Optional;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * Content-addressed storage for payloads too large to be embedded in notifications.
+ * <p>
+ * Instead of the payload itself, notifications carry a {@link PayloadReference},
+ * which consumers can resolve when, and only if, they need the payload.
+ *
+ * @since 5.6.0
+ */
+public final class NotificationPayloadStore {
+
+    private static final Logger LOGGER = Logger.getLogger(NotificationPayloadStore.class);
+    private static final NotificationPayloadStore INSTANCE = new NotificationPayloadStore(
+            Config.getInstance().getPropertyAsInt(ConfigKey.NOTIFICATION_PAYLOAD_CLAIM_CHECK_THRESHOLD_BYTES));
+
+    private final int thresholdBytes;
+
+    NotificationPayloadStore(final int thresholdBytes) {
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    public static NotificationPayloadStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Store a payload if it exceeds the configured size threshold.
+     * <p>
+     * Failing to store the payload is not fatal. In that case, the payload
+     * is expected to be embedded in the notification as usual.
+     *
+     * @param payload The payload to store
+     * @return A {@link PayloadReference} to the stored payload, or {@code null}
+     * when the payload is small enough to be embedded, or could not be stored
+     */
+    public PayloadReference storeIfExceedsThreshold(final byte[] payload) {
+        if (payload == null || payload.length <= thresholdBytes) {
+            return null;
+        }
+
+        final String sha256 = DigestUtils.sha256Hex(payload);
+        try {
+            useJdbiHandle(handle -> handle.attach(NotificationPayloadDao.class).createOrRefresh(sha256, payload));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to store payload of %d bytes; Embedding it instead".formatted(payload.length), e);
+            return null;
+        }
+
+        return new PayloadReference(sha256, payload.length);
+    }
+
+    /**
+     * @param reference The {@link PayloadReference} to resolve
+     * @return The referenced payload, or {@link Optional#empty()} when it does not exist (anymore)
+     */
+    public Optional<byte[]> get(final PayloadReference reference) {
+        return withJdbiHandle(handle -> handle.attach(NotificationPayloadDao.class).getContent(reference.sha256()));
+    }
+
+}
@@ -26,11 +26,17 @@ public class BomValidationFailed {
 
     private Project project;
     private String bom;
+    private PayloadReference bomReference;
     private List<String> errors;
 
     public BomValidationFailed(final Project project, final String bom, final List<String> errors) {
+        this(project, bom, null, errors);
+    }
+
+    public BomValidationFailed(final Project project, final String bom, final PayloadReference bomReference, final List<String> errors) {
         this.project = project;
         this.bom = bom;
+        this.bomReference = bomReference;
         this.errors = errors;
     }
 
@@ -42,6 +48,10 @@ public class BomValidationFailed {
         return bom;
     }
 
+    public PayloadReference getBomReference() {
+        return bomReference;
+    }
+
     public List<String> getErrors() {
         return errors;
     }
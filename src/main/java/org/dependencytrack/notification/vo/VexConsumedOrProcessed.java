@@ -25,12 +25,19 @@ public class VexConsumedOrProcessed {
 
     private Project project;
     private String vex;
+    private PayloadReference vexReference;
     private Vex.Format format;
     private String specVersion;
 
     public VexConsumedOrProcessed(final Project project, final String vex, final Vex.Format format, final String specVersion) {
+        this(project, vex, null, format, specVersion);
+    }
+
+    public VexConsumedOrProcessed(final Project project, final String vex, final PayloadReference vexReference,
+                                  final Vex.Format format, final String specVersion) {
         this.project = project;
         this.vex = vex;
+        this.vexReference = vexReference;
         this.format = format;
         this.specVersion = specVersion;
     }
@@ -43,6 +50,10 @@ public class VexConsumedOrProcessed {
         return vex;
     }
 
+    public PayloadReference getVexReference() {
+        return vexReference;
+    }
+
     public Vex.Format getFormat() {
         return format;
     }
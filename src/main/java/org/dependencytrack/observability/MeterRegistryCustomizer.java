@@ -43,6 +43,8 @@ public class MeterRegistryCustomizer implements alpine.common.metrics.MeterRegis
                                                      @NotNull final DistributionStatisticConfig config) {
             if ("alpine_event_processing".equals(id.getName())
                     || "pc.user.function.processing.time".equals(id.getName())
+                    || "kafka_processor_processing".equals(id.getName())
+                    || "kafka_processor_end_to_end_latency".equals(id.getName())
                     || "http.server.requests".equals(id.getName())) {
                 return DistributionStatisticConfig.builder()
                         .percentiles(/* none */) // Disable client-side calculation of percentiles.
@@ -18,1446 +18,109 @@
  */
 package org.dependencytrack.parser.common.resolver;
 
-import jakarta.annotation.Generated;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
-@Generated(value = "From dictionary version 4.14")
-public final class CweDictionary {
+/**
+ * A read-only dictionary of CWE names, loaded lazily from {@value #RESOURCE_PATH}.
+ * <p>
+ * Names are held in an array indexed by CWE ID, such that lookups require neither hashing nor boxing.
+ * The resource is generated from the official CWE dictionary, and lists one {@code <ID>\t<Name>}
+ * entry per line, ordered by ID.
+ *
+ * @since 5.6.0
+ */
+final class CweDictionary {
+
+    static final String RESOURCE_PATH = "/cwe-dictionary.tsv";
+
+    private static final class Holder {
+        private static final CweDictionary INSTANCE = load();
+    }
+
+    private final int[] ids;
+    private final String[] namesById;
+
+    private CweDictionary(final int[] ids, final String[] namesById) {
+        this.ids = ids;
+        this.namesById = namesById;
+    }
+
+    static CweDictionary getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @param cweId ID of the CWE
+     * @return Name of the CWE, or {@code null} when no CWE with the given ID exists
+     */
+    String getName(final int cweId) {
+        return cweId >= 0 && cweId < namesById.length ? namesById[cweId] : null;
+    }
 
-    public static final Map<Integer, String> DICTIONARY = new LinkedHashMap<>();
+    /**
+     * @param index Index of the entry, between {@code 0} (inclusive) and {@link #size()} (exclusive)
+     * @return ID of the CWE at the given index, in ascending order of IDs
+     */
+    int getIdAt(final int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    private static CweDictionary load() {
+        final var ids = new ArrayList<Integer>(1500);
+        final var names = new ArrayList<String>(1500);
+
+        try (final InputStream inputStream = CweDictionary.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("CWE dictionary %s does not exist".formatted(RESOURCE_PATH));
+            }
+
+            final var reader = new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+
+                final int separatorIndex = line.indexOf('\t');
+                if (separatorIndex <= 0) {
+                    throw new IllegalStateException("Malformed entry in CWE dictionary: " + line);
+                }
+
+                final int id = Integer.parseInt(line, 0, separatorIndex, 10);
+                if (id < 0 || (!ids.isEmpty() && id <= ids.getLast())) {
+                    throw new IllegalStateException("Invalid or out-of-order ID in CWE dictionary: " + line);
+                }
+
+                ids.add(id);
+                names.add(line.substring(separatorIndex + 1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load CWE dictionary from " + RESOURCE_PATH, e);
+        }
+
+        return create(ids, names);
+    }
 
-    static {
-        DICTIONARY.put(1, "DEPRECATED: Location");
-        DICTIONARY.put(2, "7PK - Environment");
-        DICTIONARY.put(3, "DEPRECATED: Technology-specific Environment Issues");
-        DICTIONARY.put(4, "DEPRECATED: J2EE Environment Issues");
-        DICTIONARY.put(5, "J2EE Misconfiguration: Data Transmission Without Encryption");
-        DICTIONARY.put(6, "J2EE Misconfiguration: Insufficient Session-ID Length");
-        DICTIONARY.put(7, "J2EE Misconfiguration: Missing Custom Error Page");
-        DICTIONARY.put(8, "J2EE Misconfiguration: Entity Bean Declared Remote");
-        DICTIONARY.put(9, "J2EE Misconfiguration: Weak Access Permissions for EJB Methods");
-        DICTIONARY.put(10, "DEPRECATED: ASP.NET Environment Issues");
-        DICTIONARY.put(11, "ASP.NET Misconfiguration: Creating Debug Binary");
-        DICTIONARY.put(12, "ASP.NET Misconfiguration: Missing Custom Error Page");
-        DICTIONARY.put(13, "ASP.NET Misconfiguration: Password in Configuration File");
-        DICTIONARY.put(14, "Compiler Removal of Code to Clear Buffers");
-        DICTIONARY.put(15, "External Control of System or Configuration Setting");
-        DICTIONARY.put(16, "Configuration");
-        DICTIONARY.put(17, "DEPRECATED: Code");
-        DICTIONARY.put(18, "DEPRECATED: Source Code");
-        DICTIONARY.put(19, "Data Processing Errors");
-        DICTIONARY.put(20, "Improper Input Validation");
-        DICTIONARY.put(21, "DEPRECATED: Pathname Traversal and Equivalence Errors");
-        DICTIONARY.put(22, "Improper Limitation of a Pathname to a Restricted Directory ('Path Traversal')");
-        DICTIONARY.put(23, "Relative Path Traversal");
-        DICTIONARY.put(24, "Path Traversal: '../filedir'");
-        DICTIONARY.put(25, "Path Traversal: '/../filedir'");
-        DICTIONARY.put(26, "Path Traversal: '/dir/../filename'");
-        DICTIONARY.put(27, "Path Traversal: 'dir/../../filename'");
-        DICTIONARY.put(28, "Path Traversal: '..\\filedir'");
-        DICTIONARY.put(29, "Path Traversal: '\\..\\filename'");
-        DICTIONARY.put(30, "Path Traversal: '\\dir\\..\\filename'");
-        DICTIONARY.put(31, "Path Traversal: 'dir\\..\\..\\filename'");
-        DICTIONARY.put(32, "Path Traversal: '...' (Triple Dot)");
-        DICTIONARY.put(33, "Path Traversal: '....' (Multiple Dot)");
-        DICTIONARY.put(34, "Path Traversal: '....//'");
-        DICTIONARY.put(35, "Path Traversal: '.../...//'");
-        DICTIONARY.put(36, "Absolute Path Traversal");
-        DICTIONARY.put(37, "Path Traversal: '/absolute/pathname/here'");
-        DICTIONARY.put(38, "Path Traversal: '\\absolute\\pathname\\here'");
-        DICTIONARY.put(39, "Path Traversal: 'C:dirname'");
-        DICTIONARY.put(40, "Path Traversal: '\\\\UNC\\share\\name\\' (Windows UNC Share)");
-        DICTIONARY.put(41, "Improper Resolution of Path Equivalence");
-        DICTIONARY.put(42, "Path Equivalence: 'filename.' (Trailing Dot)");
-        DICTIONARY.put(43, "Path Equivalence: 'filename....' (Multiple Trailing Dot)");
-        DICTIONARY.put(44, "Path Equivalence: 'file.name' (Internal Dot)");
-        DICTIONARY.put(45, "Path Equivalence: 'file...name' (Multiple Internal Dot)");
-        DICTIONARY.put(46, "Path Equivalence: 'filename ' (Trailing Space)");
-        DICTIONARY.put(47, "Path Equivalence: ' filename' (Leading Space)");
-        DICTIONARY.put(48, "Path Equivalence: 'file name' (Internal Whitespace)");
-        DICTIONARY.put(49, "Path Equivalence: 'filename/' (Trailing Slash)");
-        DICTIONARY.put(50, "Path Equivalence: '//multiple/leading/slash'");
-        DICTIONARY.put(51, "Path Equivalence: '/multiple//internal/slash'");
-        DICTIONARY.put(52, "Path Equivalence: '/multiple/trailing/slash//'");
-        DICTIONARY.put(53, "Path Equivalence: '\\multiple\\\\internal\\backslash'");
-        DICTIONARY.put(54, "Path Equivalence: 'filedir\\' (Trailing Backslash)");
-        DICTIONARY.put(55, "Path Equivalence: '/./' (Single Dot Directory)");
-        DICTIONARY.put(56, "Path Equivalence: 'filedir*' (Wildcard)");
-        DICTIONARY.put(57, "Path Equivalence: 'fakedir/../realdir/filename'");
-        DICTIONARY.put(58, "Path Equivalence: Windows 8.3 Filename");
-        DICTIONARY.put(59, "Improper Link Resolution Before File Access ('Link Following')");
-        DICTIONARY.put(60, "DEPRECATED: UNIX Path Link Problems");
-        DICTIONARY.put(61, "UNIX Symbolic Link (Symlink) Following");
-        DICTIONARY.put(62, "UNIX Hard Link");
-        DICTIONARY.put(63, "DEPRECATED: Windows Path Link Problems");
-        DICTIONARY.put(64, "Windows Shortcut Following (.LNK)");
-        DICTIONARY.put(65, "Windows Hard Link");
-        DICTIONARY.put(66, "Improper Handling of File Names that Identify Virtual Resources");
-        DICTIONARY.put(67, "Improper Handling of Windows Device Names");
-        DICTIONARY.put(68, "DEPRECATED: Windows Virtual File Problems");
-        DICTIONARY.put(69, "Improper Handling of Windows ::DATA Alternate Data Stream");
-        DICTIONARY.put(70, "DEPRECATED: Mac Virtual File Problems");
-        DICTIONARY.put(71, "DEPRECATED: Apple '.DS_Store'");
-        DICTIONARY.put(72, "Improper Handling of Apple HFS+ Alternate Data Stream Path");
-        DICTIONARY.put(73, "External Control of File Name or Path");
-        DICTIONARY.put(74, "Improper Neutralization of Special Elements in Output Used by a Downstream Component ('Injection')");
-        DICTIONARY.put(75, "Failure to Sanitize Special Elements into a Different Plane (Special Element Injection)");
-        DICTIONARY.put(76, "Improper Neutralization of Equivalent Special Elements");
-        DICTIONARY.put(77, "Improper Neutralization of Special Elements used in a Command ('Command Injection')");
-        DICTIONARY.put(78, "Improper Neutralization of Special Elements used in an OS Command ('OS Command Injection')");
-        DICTIONARY.put(79, "Improper Neutralization of Input During Web Page Generation ('Cross-site Scripting')");
-        DICTIONARY.put(80, "Improper Neutralization of Script-Related HTML Tags in a Web Page (Basic XSS)");
-        DICTIONARY.put(81, "Improper Neutralization of Script in an Error Message Web Page");
-        DICTIONARY.put(82, "Improper Neutralization of Script in Attributes of IMG Tags in a Web Page");
-        DICTIONARY.put(83, "Improper Neutralization of Script in Attributes in a Web Page");
-        DICTIONARY.put(84, "Improper Neutralization of Encoded URI Schemes in a Web Page");
-        DICTIONARY.put(85, "Doubled Character XSS Manipulations");
-        DICTIONARY.put(86, "Improper Neutralization of Invalid Characters in Identifiers in Web Pages");
-        DICTIONARY.put(87, "Improper Neutralization of Alternate XSS Syntax");
-        DICTIONARY.put(88, "Improper Neutralization of Argument Delimiters in a Command ('Argument Injection')");
-        DICTIONARY.put(89, "Improper Neutralization of Special Elements used in an SQL Command ('SQL Injection')");
-        DICTIONARY.put(90, "Improper Neutralization of Special Elements used in an LDAP Query ('LDAP Injection')");
-        DICTIONARY.put(91, "XML Injection (aka Blind XPath Injection)");
-        DICTIONARY.put(92, "DEPRECATED: Improper Sanitization of Custom Special Characters");
-        DICTIONARY.put(93, "Improper Neutralization of CRLF Sequences ('CRLF Injection')");
-        DICTIONARY.put(94, "Improper Control of Generation of Code ('Code Injection')");
-        DICTIONARY.put(95, "Improper Neutralization of Directives in Dynamically Evaluated Code ('Eval Injection')");
-        DICTIONARY.put(96, "Improper Neutralization of Directives in Statically Saved Code ('Static Code Injection')");
-        DICTIONARY.put(97, "Improper Neutralization of Server-Side Includes (SSI) Within a Web Page");
-        DICTIONARY.put(98, "Improper Control of Filename for Include/Require Statement in PHP Program ('PHP Remote File Inclusion')");
-        DICTIONARY.put(99, "Improper Control of Resource Identifiers ('Resource Injection')");
-        DICTIONARY.put(100, "DEPRECATED: Technology-Specific Input Validation Problems");
-        DICTIONARY.put(101, "DEPRECATED: Struts Validation Problems");
-        DICTIONARY.put(102, "Struts: Duplicate Validation Forms");
-        DICTIONARY.put(103, "Struts: Incomplete validate() Method Definition");
-        DICTIONARY.put(104, "Struts: Form Bean Does Not Extend Validation Class");
-        DICTIONARY.put(105, "Struts: Form Field Without Validator");
-        DICTIONARY.put(106, "Struts: Plug-in Framework not in Use");
-        DICTIONARY.put(107, "Struts: Unused Validation Form");
-        DICTIONARY.put(108, "Struts: Unvalidated Action Form");
-        DICTIONARY.put(109, "Struts: Validator Turned Off");
-        DICTIONARY.put(110, "Struts: Validator Without Form Field");
-        DICTIONARY.put(111, "Direct Use of Unsafe JNI");
-        DICTIONARY.put(112, "Missing XML Validation");
-        DICTIONARY.put(113, "Improper Neutralization of CRLF Sequences in HTTP Headers ('HTTP Request/Response Splitting')");
-        DICTIONARY.put(114, "Process Control");
-        DICTIONARY.put(115, "Misinterpretation of Input");
-        DICTIONARY.put(116, "Improper Encoding or Escaping of Output");
-        DICTIONARY.put(117, "Improper Output Neutralization for Logs");
-        DICTIONARY.put(118, "Incorrect Access of Indexable Resource ('Range Error')");
-        DICTIONARY.put(119, "Improper Restriction of Operations within the Bounds of a Memory Buffer");
-        DICTIONARY.put(120, "Buffer Copy without Checking Size of Input ('Classic Buffer Overflow')");
-        DICTIONARY.put(121, "Stack-based Buffer Overflow");
-        DICTIONARY.put(122, "Heap-based Buffer Overflow");
-        DICTIONARY.put(123, "Write-what-where Condition");
-        DICTIONARY.put(124, "Buffer Underwrite ('Buffer Underflow')");
-        DICTIONARY.put(125, "Out-of-bounds Read");
-        DICTIONARY.put(126, "Buffer Over-read");
-        DICTIONARY.put(127, "Buffer Under-read");
-        DICTIONARY.put(128, "Wrap-around Error");
-        DICTIONARY.put(129, "Improper Validation of Array Index");
-        DICTIONARY.put(130, "Improper Handling of Length Parameter Inconsistency");
-        DICTIONARY.put(131, "Incorrect Calculation of Buffer Size");
-        DICTIONARY.put(132, "DEPRECATED: Miscalculated Null Termination");
-        DICTIONARY.put(133, "String Errors");
-        DICTIONARY.put(134, "Use of Externally-Controlled Format String");
-        DICTIONARY.put(135, "Incorrect Calculation of Multi-Byte String Length");
-        DICTIONARY.put(136, "Type Errors");
-        DICTIONARY.put(137, "Data Neutralization Issues");
-        DICTIONARY.put(138, "Improper Neutralization of Special Elements");
-        DICTIONARY.put(139, "DEPRECATED: General Special Element Problems");
-        DICTIONARY.put(140, "Improper Neutralization of Delimiters");
-        DICTIONARY.put(141, "Improper Neutralization of Parameter/Argument Delimiters");
-        DICTIONARY.put(142, "Improper Neutralization of Value Delimiters");
-        DICTIONARY.put(143, "Improper Neutralization of Record Delimiters");
-        DICTIONARY.put(144, "Improper Neutralization of Line Delimiters");
-        DICTIONARY.put(145, "Improper Neutralization of Section Delimiters");
-        DICTIONARY.put(146, "Improper Neutralization of Expression/Command Delimiters");
-        DICTIONARY.put(147, "Improper Neutralization of Input Terminators");
-        DICTIONARY.put(148, "Improper Neutralization of Input Leaders");
-        DICTIONARY.put(149, "Improper Neutralization of Quoting Syntax");
-        DICTIONARY.put(150, "Improper Neutralization of Escape, Meta, or Control Sequences");
-        DICTIONARY.put(151, "Improper Neutralization of Comment Delimiters");
-        DICTIONARY.put(152, "Improper Neutralization of Macro Symbols");
-        DICTIONARY.put(153, "Improper Neutralization of Substitution Characters");
-        DICTIONARY.put(154, "Improper Neutralization of Variable Name Delimiters");
-        DICTIONARY.put(155, "Improper Neutralization of Wildcards or Matching Symbols");
-        DICTIONARY.put(156, "Improper Neutralization of Whitespace");
-        DICTIONARY.put(157, "Failure to Sanitize Paired Delimiters");
-        DICTIONARY.put(158, "Improper Neutralization of Null Byte or NUL Character");
-        DICTIONARY.put(159, "Improper Handling of Invalid Use of Special Elements");
-        DICTIONARY.put(160, "Improper Neutralization of Leading Special Elements");
-        DICTIONARY.put(161, "Improper Neutralization of Multiple Leading Special Elements");
-        DICTIONARY.put(162, "Improper Neutralization of Trailing Special Elements");
-        DICTIONARY.put(163, "Improper Neutralization of Multiple Trailing Special Elements");
-        DICTIONARY.put(164, "Improper Neutralization of Internal Special Elements");
-        DICTIONARY.put(165, "Improper Neutralization of Multiple Internal Special Elements");
-        DICTIONARY.put(166, "Improper Handling of Missing Special Element");
-        DICTIONARY.put(167, "Improper Handling of Additional Special Element");
-        DICTIONARY.put(168, "Improper Handling of Inconsistent Special Elements");
-        DICTIONARY.put(169, "DEPRECATED: Technology-Specific Special Elements");
-        DICTIONARY.put(170, "Improper Null Termination");
-        DICTIONARY.put(171, "DEPRECATED: Cleansing, Canonicalization, and Comparison Errors");
-        DICTIONARY.put(172, "Encoding Error");
-        DICTIONARY.put(173, "Improper Handling of Alternate Encoding");
-        DICTIONARY.put(174, "Double Decoding of the Same Data");
-        DICTIONARY.put(175, "Improper Handling of Mixed Encoding");
-        DICTIONARY.put(176, "Improper Handling of Unicode Encoding");
-        DICTIONARY.put(177, "Improper Handling of URL Encoding (Hex Encoding)");
-        DICTIONARY.put(178, "Improper Handling of Case Sensitivity");
-        DICTIONARY.put(179, "Incorrect Behavior Order: Early Validation");
-        DICTIONARY.put(180, "Incorrect Behavior Order: Validate Before Canonicalize");
-        DICTIONARY.put(181, "Incorrect Behavior Order: Validate Before Filter");
-        DICTIONARY.put(182, "Collapse of Data into Unsafe Value");
-        DICTIONARY.put(183, "Permissive List of Allowed Inputs");
-        DICTIONARY.put(184, "Incomplete List of Disallowed Inputs");
-        DICTIONARY.put(185, "Incorrect Regular Expression");
-        DICTIONARY.put(186, "Overly Restrictive Regular Expression");
-        DICTIONARY.put(187, "Partial String Comparison");
-        DICTIONARY.put(188, "Reliance on Data/Memory Layout");
-        DICTIONARY.put(189, "Numeric Errors");
-        DICTIONARY.put(190, "Integer Overflow or Wraparound");
-        DICTIONARY.put(191, "Integer Underflow (Wrap or Wraparound)");
-        DICTIONARY.put(192, "Integer Coercion Error");
-        DICTIONARY.put(193, "Off-by-one Error");
-        DICTIONARY.put(194, "Unexpected Sign Extension");
-        DICTIONARY.put(195, "Signed to Unsigned Conversion Error");
-        DICTIONARY.put(196, "Unsigned to Signed Conversion Error");
-        DICTIONARY.put(197, "Numeric Truncation Error");
-        DICTIONARY.put(198, "Use of Incorrect Byte Ordering");
-        DICTIONARY.put(199, "Information Management Errors");
-        DICTIONARY.put(200, "Exposure of Sensitive Information to an Unauthorized Actor");
-        DICTIONARY.put(201, "Insertion of Sensitive Information Into Sent Data");
-        DICTIONARY.put(202, "Exposure of Sensitive Information Through Data Queries");
-        DICTIONARY.put(203, "Observable Discrepancy");
-        DICTIONARY.put(204, "Observable Response Discrepancy");
-        DICTIONARY.put(205, "Observable Behavioral Discrepancy");
-        DICTIONARY.put(206, "Observable Internal Behavioral Discrepancy");
-        DICTIONARY.put(207, "Observable Behavioral Discrepancy With Equivalent Products");
-        DICTIONARY.put(208, "Observable Timing Discrepancy");
-        DICTIONARY.put(209, "Generation of Error Message Containing Sensitive Information");
-        DICTIONARY.put(210, "Self-generated Error Message Containing Sensitive Information");
-        DICTIONARY.put(211, "Externally-Generated Error Message Containing Sensitive Information");
-        DICTIONARY.put(212, "Improper Removal of Sensitive Information Before Storage or Transfer");
-        DICTIONARY.put(213, "Exposure of Sensitive Information Due to Incompatible Policies");
-        DICTIONARY.put(214, "Invocation of Process Using Visible Sensitive Information");
-        DICTIONARY.put(215, "Insertion of Sensitive Information Into Debugging Code");
-        DICTIONARY.put(216, "DEPRECATED: Containment Errors (Container Errors)");
-        DICTIONARY.put(217, "DEPRECATED: Failure to Protect Stored Data from Modification");
-        DICTIONARY.put(218, "DEPRECATED: Failure to provide confidentiality for stored data");
-        DICTIONARY.put(219, "Storage of File with Sensitive Data Under Web Root");
-        DICTIONARY.put(220, "Storage of File With Sensitive Data Under FTP Root");
-        DICTIONARY.put(221, "Information Loss or Omission");
-        DICTIONARY.put(222, "Truncation of Security-relevant Information");
-        DICTIONARY.put(223, "Omission of Security-relevant Information");
-        DICTIONARY.put(224, "Obscured Security-relevant Information by Alternate Name");
-        DICTIONARY.put(225, "DEPRECATED: General Information Management Problems");
-        DICTIONARY.put(226, "Sensitive Information in Resource Not Removed Before Reuse");
-        DICTIONARY.put(227, "7PK - API Abuse");
-        DICTIONARY.put(228, "Improper Handling of Syntactically Invalid Structure");
-        DICTIONARY.put(229, "Improper Handling of Values");
-        DICTIONARY.put(230, "Improper Handling of Missing Values");
-        DICTIONARY.put(231, "Improper Handling of Extra Values");
-        DICTIONARY.put(232, "Improper Handling of Undefined Values");
-        DICTIONARY.put(233, "Improper Handling of Parameters");
-        DICTIONARY.put(234, "Failure to Handle Missing Parameter");
-        DICTIONARY.put(235, "Improper Handling of Extra Parameters");
-        DICTIONARY.put(236, "Improper Handling of Undefined Parameters");
-        DICTIONARY.put(237, "Improper Handling of Structural Elements");
-        DICTIONARY.put(238, "Improper Handling of Incomplete Structural Elements");
-        DICTIONARY.put(239, "Failure to Handle Incomplete Element");
-        DICTIONARY.put(240, "Improper Handling of Inconsistent Structural Elements");
-        DICTIONARY.put(241, "Improper Handling of Unexpected Data Type");
-        DICTIONARY.put(242, "Use of Inherently Dangerous Function");
-        DICTIONARY.put(243, "Creation of chroot Jail Without Changing Working Directory");
-        DICTIONARY.put(244, "Improper Clearing of Heap Memory Before Release ('Heap Inspection')");
-        DICTIONARY.put(245, "J2EE Bad Practices: Direct Management of Connections");
-        DICTIONARY.put(246, "J2EE Bad Practices: Direct Use of Sockets");
-        DICTIONARY.put(247, "DEPRECATED: Reliance on DNS Lookups in a Security Decision");
-        DICTIONARY.put(248, "Uncaught Exception");
-        DICTIONARY.put(249, "DEPRECATED: Often Misused: Path Manipulation");
-        DICTIONARY.put(250, "Execution with Unnecessary Privileges");
-        DICTIONARY.put(251, "Often Misused: String Management");
-        DICTIONARY.put(252, "Unchecked Return Value");
-        DICTIONARY.put(253, "Incorrect Check of Function Return Value");
-        DICTIONARY.put(254, "7PK - Security Features");
-        DICTIONARY.put(255, "Credentials Management Errors");
-        DICTIONARY.put(256, "Plaintext Storage of a Password");
-        DICTIONARY.put(257, "Storing Passwords in a Recoverable Format");
-        DICTIONARY.put(258, "Empty Password in Configuration File");
-        DICTIONARY.put(259, "Use of Hard-coded Password");
-        DICTIONARY.put(260, "Password in Configuration File");
-        DICTIONARY.put(261, "Weak Encoding for Password");
-        DICTIONARY.put(262, "Not Using Password Aging");
-        DICTIONARY.put(263, "Password Aging with Long Expiration");
-        DICTIONARY.put(264, "Permissions, Privileges, and Access Controls");
-        DICTIONARY.put(265, "Privilege Issues");
-        DICTIONARY.put(266, "Incorrect Privilege Assignment");
-        DICTIONARY.put(267, "Privilege Defined With Unsafe Actions");
-        DICTIONARY.put(268, "Privilege Chaining");
-        DICTIONARY.put(269, "Improper Privilege Management");
-        DICTIONARY.put(270, "Privilege Context Switching Error");
-        DICTIONARY.put(271, "Privilege Dropping / Lowering Errors");
-        DICTIONARY.put(272, "Least Privilege Violation");
-        DICTIONARY.put(273, "Improper Check for Dropped Privileges");
-        DICTIONARY.put(274, "Improper Handling of Insufficient Privileges");
-        DICTIONARY.put(275, "Permission Issues");
-        DICTIONARY.put(276, "Incorrect Default Permissions");
-        DICTIONARY.put(277, "Insecure Inherited Permissions");
-        DICTIONARY.put(278, "Insecure Preserved Inherited Permissions");
-        DICTIONARY.put(279, "Incorrect Execution-Assigned Permissions");
-        DICTIONARY.put(280, "Improper Handling of Insufficient Permissions or Privileges ");
-        DICTIONARY.put(281, "Improper Preservation of Permissions");
-        DICTIONARY.put(282, "Improper Ownership Management");
-        DICTIONARY.put(283, "Unverified Ownership");
-        DICTIONARY.put(284, "Improper Access Control");
-        DICTIONARY.put(285, "Improper Authorization");
-        DICTIONARY.put(286, "Incorrect User Management");
-        DICTIONARY.put(287, "Improper Authentication");
-        DICTIONARY.put(288, "Authentication Bypass Using an Alternate Path or Channel");
-        DICTIONARY.put(289, "Authentication Bypass by Alternate Name");
-        DICTIONARY.put(290, "Authentication Bypass by Spoofing");
-        DICTIONARY.put(291, "Reliance on IP Address for Authentication");
-        DICTIONARY.put(292, "DEPRECATED: Trusting Self-reported DNS Name");
-        DICTIONARY.put(293, "Using Referer Field for Authentication");
-        DICTIONARY.put(294, "Authentication Bypass by Capture-replay");
-        DICTIONARY.put(295, "Improper Certificate Validation");
-        DICTIONARY.put(296, "Improper Following of a Certificate's Chain of Trust");
-        DICTIONARY.put(297, "Improper Validation of Certificate with Host Mismatch");
-        DICTIONARY.put(298, "Improper Validation of Certificate Expiration");
-        DICTIONARY.put(299, "Improper Check for Certificate Revocation");
-        DICTIONARY.put(300, "Channel Accessible by Non-Endpoint");
-        DICTIONARY.put(301, "Reflection Attack in an Authentication Protocol");
-        DICTIONARY.put(302, "Authentication Bypass by Assumed-Immutable Data");
-        DICTIONARY.put(303, "Incorrect Implementation of Authentication Algorithm");
-        DICTIONARY.put(304, "Missing Critical Step in Authentication");
-        DICTIONARY.put(305, "Authentication Bypass by Primary Weakness");
-        DICTIONARY.put(306, "Missing Authentication for Critical Function");
-        DICTIONARY.put(307, "Improper Restriction of Excessive Authentication Attempts");
-        DICTIONARY.put(308, "Use of Single-factor Authentication");
-        DICTIONARY.put(309, "Use of Password System for Primary Authentication");
-        DICTIONARY.put(310, "Cryptographic Issues");
-        DICTIONARY.put(311, "Missing Encryption of Sensitive Data");
-        DICTIONARY.put(312, "Cleartext Storage of Sensitive Information");
-        DICTIONARY.put(313, "Cleartext Storage in a File or on Disk");
-        DICTIONARY.put(314, "Cleartext Storage in the Registry");
-        DICTIONARY.put(315, "Cleartext Storage of Sensitive Information in a Cookie");
-        DICTIONARY.put(316, "Cleartext Storage of Sensitive Information in Memory");
-        DICTIONARY.put(317, "Cleartext Storage of Sensitive Information in GUI");
-        DICTIONARY.put(318, "Cleartext Storage of Sensitive Information in Executable");
-        DICTIONARY.put(319, "Cleartext Transmission of Sensitive Information");
-        DICTIONARY.put(320, "Key Management Errors");
-        DICTIONARY.put(321, "Use of Hard-coded Cryptographic Key");
-        DICTIONARY.put(322, "Key Exchange without Entity Authentication");
-        DICTIONARY.put(323, "Reusing a Nonce, Key Pair in Encryption");
-        DICTIONARY.put(324, "Use of a Key Past its Expiration Date");
-        DICTIONARY.put(325, "Missing Cryptographic Step");
-        DICTIONARY.put(326, "Inadequate Encryption Strength");
-        DICTIONARY.put(327, "Use of a Broken or Risky Cryptographic Algorithm");
-        DICTIONARY.put(328, "Use of Weak Hash");
-        DICTIONARY.put(329, "Generation of Predictable IV with CBC Mode");
-        DICTIONARY.put(330, "Use of Insufficiently Random Values");
-        DICTIONARY.put(331, "Insufficient Entropy");
-        DICTIONARY.put(332, "Insufficient Entropy in PRNG");
-        DICTIONARY.put(333, "Improper Handling of Insufficient Entropy in TRNG");
-        DICTIONARY.put(334, "Small Space of Random Values");
-        DICTIONARY.put(335, "Incorrect Usage of Seeds in Pseudo-Random Number Generator (PRNG)");
-        DICTIONARY.put(336, "Same Seed in Pseudo-Random Number Generator (PRNG)");
-        DICTIONARY.put(337, "Predictable Seed in Pseudo-Random Number Generator (PRNG)");
-        DICTIONARY.put(338, "Use of Cryptographically Weak Pseudo-Random Number Generator (PRNG)");
-        DICTIONARY.put(339, "Small Seed Space in PRNG");
-        DICTIONARY.put(340, "Generation of Predictable Numbers or Identifiers");
-        DICTIONARY.put(341, "Predictable from Observable State");
-        DICTIONARY.put(342, "Predictable Exact Value from Previous Values");
-        DICTIONARY.put(343, "Predictable Value Range from Previous Values");
-        DICTIONARY.put(344, "Use of Invariant Value in Dynamically Changing Context");
-        DICTIONARY.put(345, "Insufficient Verification of Data Authenticity");
-        DICTIONARY.put(346, "Origin Validation Error");
-        DICTIONARY.put(347, "Improper Verification of Cryptographic Signature");
-        DICTIONARY.put(348, "Use of Less Trusted Source");
-        DICTIONARY.put(349, "Acceptance of Extraneous Untrusted Data With Trusted Data");
-        DICTIONARY.put(350, "Reliance on Reverse DNS Resolution for a Security-Critical Action");
-        DICTIONARY.put(351, "Insufficient Type Distinction");
-        DICTIONARY.put(352, "Cross-Site Request Forgery (CSRF)");
-        DICTIONARY.put(353, "Missing Support for Integrity Check");
-        DICTIONARY.put(354, "Improper Validation of Integrity Check Value");
-        DICTIONARY.put(355, "User Interface Security Issues");
-        DICTIONARY.put(356, "Product UI does not Warn User of Unsafe Actions");
-        DICTIONARY.put(357, "Insufficient UI Warning of Dangerous Operations");
-        DICTIONARY.put(358, "Improperly Implemented Security Check for Standard");
-        DICTIONARY.put(359, "Exposure of Private Personal Information to an Unauthorized Actor");
-        DICTIONARY.put(360, "Trust of System Event Data");
-        DICTIONARY.put(361, "7PK - Time and State");
-        DICTIONARY.put(362, "Concurrent Execution using Shared Resource with Improper Synchronization ('Race Condition')");
-        DICTIONARY.put(363, "Race Condition Enabling Link Following");
-        DICTIONARY.put(364, "Signal Handler Race Condition");
-        DICTIONARY.put(365, "DEPRECATED: Race Condition in Switch");
-        DICTIONARY.put(366, "Race Condition within a Thread");
-        DICTIONARY.put(367, "Time-of-check Time-of-use (TOCTOU) Race Condition");
-        DICTIONARY.put(368, "Context Switching Race Condition");
-        DICTIONARY.put(369, "Divide By Zero");
-        DICTIONARY.put(370, "Missing Check for Certificate Revocation after Initial Check");
-        DICTIONARY.put(371, "State Issues");
-        DICTIONARY.put(372, "Incomplete Internal State Distinction");
-        DICTIONARY.put(373, "DEPRECATED: State Synchronization Error");
-        DICTIONARY.put(374, "Passing Mutable Objects to an Untrusted Method");
-        DICTIONARY.put(375, "Returning a Mutable Object to an Untrusted Caller");
-        DICTIONARY.put(376, "DEPRECATED: Temporary File Issues");
-        DICTIONARY.put(377, "Insecure Temporary File");
-        DICTIONARY.put(378, "Creation of Temporary File With Insecure Permissions");
-        DICTIONARY.put(379, "Creation of Temporary File in Directory with Insecure Permissions");
-        DICTIONARY.put(380, "DEPRECATED: Technology-Specific Time and State Issues");
-        DICTIONARY.put(381, "DEPRECATED: J2EE Time and State Issues");
-        DICTIONARY.put(382, "J2EE Bad Practices: Use of System.exit()");
-        DICTIONARY.put(383, "J2EE Bad Practices: Direct Use of Threads");
-        DICTIONARY.put(384, "Session Fixation");
-        DICTIONARY.put(385, "Covert Timing Channel");
-        DICTIONARY.put(386, "Symbolic Name not Mapping to Correct Object");
-        DICTIONARY.put(387, "Signal Errors");
-        DICTIONARY.put(388, "7PK - Errors");
-        DICTIONARY.put(389, "Error Conditions, Return Values, Status Codes");
-        DICTIONARY.put(390, "Detection of Error Condition Without Action");
-        DICTIONARY.put(391, "Unchecked Error Condition");
-        DICTIONARY.put(392, "Missing Report of Error Condition");
-        DICTIONARY.put(393, "Return of Wrong Status Code");
-        DICTIONARY.put(394, "Unexpected Status Code or Return Value");
-        DICTIONARY.put(395, "Use of NullPointerException Catch to Detect NULL Pointer Dereference");
-        DICTIONARY.put(396, "Declaration of Catch for Generic Exception");
-        DICTIONARY.put(397, "Declaration of Throws for Generic Exception");
-        DICTIONARY.put(398, "7PK - Code Quality");
-        DICTIONARY.put(399, "Resource Management Errors");
-        DICTIONARY.put(400, "Uncontrolled Resource Consumption");
-        DICTIONARY.put(401, "Missing Release of Memory after Effective Lifetime");
-        DICTIONARY.put(402, "Transmission of Private Resources into a New Sphere ('Resource Leak')");
-        DICTIONARY.put(403, "Exposure of File Descriptor to Unintended Control Sphere ('File Descriptor Leak')");
-        DICTIONARY.put(404, "Improper Resource Shutdown or Release");
-        DICTIONARY.put(405, "Asymmetric Resource Consumption (Amplification)");
-        DICTIONARY.put(406, "Insufficient Control of Network Message Volume (Network Amplification)");
-        DICTIONARY.put(407, "Inefficient Algorithmic Complexity");
-        DICTIONARY.put(408, "Incorrect Behavior Order: Early Amplification");
-        DICTIONARY.put(409, "Improper Handling of Highly Compressed Data (Data Amplification)");
-        DICTIONARY.put(410, "Insufficient Resource Pool");
-        DICTIONARY.put(411, "Resource Locking Problems");
-        DICTIONARY.put(412, "Unrestricted Externally Accessible Lock");
-        DICTIONARY.put(413, "Improper Resource Locking");
-        DICTIONARY.put(414, "Missing Lock Check");
-        DICTIONARY.put(415, "Double Free");
-        DICTIONARY.put(416, "Use After Free");
-        DICTIONARY.put(417, "Communication Channel Errors");
-        DICTIONARY.put(418, "DEPRECATED: Channel Errors");
-        DICTIONARY.put(419, "Unprotected Primary Channel");
-        DICTIONARY.put(420, "Unprotected Alternate Channel");
-        DICTIONARY.put(421, "Race Condition During Access to Alternate Channel");
-        DICTIONARY.put(422, "Unprotected Windows Messaging Channel ('Shatter')");
-        DICTIONARY.put(423, "DEPRECATED: Proxied Trusted Channel");
-        DICTIONARY.put(424, "Improper Protection of Alternate Path");
-        DICTIONARY.put(425, "Direct Request ('Forced Browsing')");
-        DICTIONARY.put(426, "Untrusted Search Path");
-        DICTIONARY.put(427, "Uncontrolled Search Path Element");
-        DICTIONARY.put(428, "Unquoted Search Path or Element");
-        DICTIONARY.put(429, "Handler Errors");
-        DICTIONARY.put(430, "Deployment of Wrong Handler");
-        DICTIONARY.put(431, "Missing Handler");
-        DICTIONARY.put(432, "Dangerous Signal Handler not Disabled During Sensitive Operations");
-        DICTIONARY.put(433, "Unparsed Raw Web Content Delivery");
-        DICTIONARY.put(434, "Unrestricted Upload of File with Dangerous Type");
-        DICTIONARY.put(435, "Improper Interaction Between Multiple Correctly-Behaving Entities");
-        DICTIONARY.put(436, "Interpretation Conflict");
-        DICTIONARY.put(437, "Incomplete Model of Endpoint Features");
-        DICTIONARY.put(438, "Behavioral Problems");
-        DICTIONARY.put(439, "Behavioral Change in New Version or Environment");
-        DICTIONARY.put(440, "Expected Behavior Violation");
-        DICTIONARY.put(441, "Unintended Proxy or Intermediary ('Confused Deputy')");
-        DICTIONARY.put(442, "DEPRECATED: Web Problems");
-        DICTIONARY.put(443, "DEPRECATED: HTTP response splitting");
-        DICTIONARY.put(444, "Inconsistent Interpretation of HTTP Requests ('HTTP Request/Response Smuggling')");
-        DICTIONARY.put(445, "DEPRECATED: User Interface Errors");
-        DICTIONARY.put(446, "UI Discrepancy for Security Feature");
-        DICTIONARY.put(447, "Unimplemented or Unsupported Feature in UI");
-        DICTIONARY.put(448, "Obsolete Feature in UI");
-        DICTIONARY.put(449, "The UI Performs the Wrong Action");
-        DICTIONARY.put(450, "Multiple Interpretations of UI Input");
-        DICTIONARY.put(451, "User Interface (UI) Misrepresentation of Critical Information");
-        DICTIONARY.put(452, "Initialization and Cleanup Errors");
-        DICTIONARY.put(453, "Insecure Default Variable Initialization");
-        DICTIONARY.put(454, "External Initialization of Trusted Variables or Data Stores");
-        DICTIONARY.put(455, "Non-exit on Failed Initialization");
-        DICTIONARY.put(456, "Missing Initialization of a Variable");
-        DICTIONARY.put(457, "Use of Uninitialized Variable");
-        DICTIONARY.put(458, "DEPRECATED: Incorrect Initialization");
-        DICTIONARY.put(459, "Incomplete Cleanup");
-        DICTIONARY.put(460, "Improper Cleanup on Thrown Exception");
-        DICTIONARY.put(461, "DEPRECATED: Data Structure Issues");
-        DICTIONARY.put(462, "Duplicate Key in Associative List (Alist)");
-        DICTIONARY.put(463, "Deletion of Data Structure Sentinel");
-        DICTIONARY.put(464, "Addition of Data Structure Sentinel");
-        DICTIONARY.put(465, "Pointer Issues");
-        DICTIONARY.put(466, "Return of Pointer Value Outside of Expected Range");
-        DICTIONARY.put(467, "Use of sizeof() on a Pointer Type");
-        DICTIONARY.put(468, "Incorrect Pointer Scaling");
-        DICTIONARY.put(469, "Use of Pointer Subtraction to Determine Size");
-        DICTIONARY.put(470, "Use of Externally-Controlled Input to Select Classes or Code ('Unsafe Reflection')");
-        DICTIONARY.put(471, "Modification of Assumed-Immutable Data (MAID)");
-        DICTIONARY.put(472, "External Control of Assumed-Immutable Web Parameter");
-        DICTIONARY.put(473, "PHP External Variable Modification");
-        DICTIONARY.put(474, "Use of Function with Inconsistent Implementations");
-        DICTIONARY.put(475, "Undefined Behavior for Input to API");
-        DICTIONARY.put(476, "NULL Pointer Dereference");
-        DICTIONARY.put(477, "Use of Obsolete Function");
-        DICTIONARY.put(478, "Missing Default Case in Multiple Condition Expression");
-        DICTIONARY.put(479, "Signal Handler Use of a Non-reentrant Function");
-        DICTIONARY.put(480, "Use of Incorrect Operator");
-        DICTIONARY.put(481, "Assigning instead of Comparing");
-        DICTIONARY.put(482, "Comparing instead of Assigning");
-        DICTIONARY.put(483, "Incorrect Block Delimitation");
-        DICTIONARY.put(484, "Omitted Break Statement in Switch");
-        DICTIONARY.put(485, "7PK - Encapsulation");
-        DICTIONARY.put(486, "Comparison of Classes by Name");
-        DICTIONARY.put(487, "Reliance on Package-level Scope");
-        DICTIONARY.put(488, "Exposure of Data Element to Wrong Session");
-        DICTIONARY.put(489, "Active Debug Code");
-        DICTIONARY.put(490, "DEPRECATED: Mobile Code Issues");
-        DICTIONARY.put(491, "Public cloneable() Method Without Final ('Object Hijack')");
-        DICTIONARY.put(492, "Use of Inner Class Containing Sensitive Data");
-        DICTIONARY.put(493, "Critical Public Variable Without Final Modifier");
-        DICTIONARY.put(494, "Download of Code Without Integrity Check");
-        DICTIONARY.put(495, "Private Data Structure Returned From A Public Method");
-        DICTIONARY.put(496, "Public Data Assigned to Private Array-Typed Field");
-        DICTIONARY.put(497, "Exposure of Sensitive System Information to an Unauthorized Control Sphere");
-        DICTIONARY.put(498, "Cloneable Class Containing Sensitive Information");
-        DICTIONARY.put(499, "Serializable Class Containing Sensitive Data");
-        DICTIONARY.put(500, "Public Static Field Not Marked Final");
-        DICTIONARY.put(501, "Trust Boundary Violation");
-        DICTIONARY.put(502, "Deserialization of Untrusted Data");
-        DICTIONARY.put(503, "DEPRECATED: Byte/Object Code");
-        DICTIONARY.put(504, "DEPRECATED: Motivation/Intent");
-        DICTIONARY.put(505, "DEPRECATED: Intentionally Introduced Weakness");
-        DICTIONARY.put(506, "Embedded Malicious Code");
-        DICTIONARY.put(507, "Trojan Horse");
-        DICTIONARY.put(508, "Non-Replicating Malicious Code");
-        DICTIONARY.put(509, "Replicating Malicious Code (Virus or Worm)");
-        DICTIONARY.put(510, "Trapdoor");
-        DICTIONARY.put(511, "Logic/Time Bomb");
-        DICTIONARY.put(512, "Spyware");
-        DICTIONARY.put(513, "DEPRECATED: Intentionally Introduced Nonmalicious Weakness");
-        DICTIONARY.put(514, "Covert Channel");
-        DICTIONARY.put(515, "Covert Storage Channel");
-        DICTIONARY.put(516, "DEPRECATED: Covert Timing Channel");
-        DICTIONARY.put(517, "DEPRECATED: Other Intentional, Nonmalicious Weakness");
-        DICTIONARY.put(518, "DEPRECATED: Inadvertently Introduced Weakness");
-        DICTIONARY.put(519, "DEPRECATED: .NET Environment Issues");
-        DICTIONARY.put(520, ".NET Misconfiguration: Use of Impersonation");
-        DICTIONARY.put(521, "Weak Password Requirements");
-        DICTIONARY.put(522, "Insufficiently Protected Credentials");
-        DICTIONARY.put(523, "Unprotected Transport of Credentials");
-        DICTIONARY.put(524, "Use of Cache Containing Sensitive Information");
-        DICTIONARY.put(525, "Use of Web Browser Cache Containing Sensitive Information");
-        DICTIONARY.put(526, "Cleartext Storage of Sensitive Information in an Environment Variable");
-        DICTIONARY.put(527, "Exposure of Version-Control Repository to an Unauthorized Control Sphere");
-        DICTIONARY.put(528, "Exposure of Core Dump File to an Unauthorized Control Sphere");
-        DICTIONARY.put(529, "Exposure of Access Control List Files to an Unauthorized Control Sphere");
-        DICTIONARY.put(530, "Exposure of Backup File to an Unauthorized Control Sphere");
-        DICTIONARY.put(531, "Inclusion of Sensitive Information in Test Code");
-        DICTIONARY.put(532, "Insertion of Sensitive Information into Log File");
-        DICTIONARY.put(533, "DEPRECATED: Information Exposure Through Server Log Files");
-        DICTIONARY.put(534, "DEPRECATED: Information Exposure Through Debug Log Files");
-        DICTIONARY.put(535, "Exposure of Information Through Shell Error Message");
-        DICTIONARY.put(536, "Servlet Runtime Error Message Containing Sensitive Information");
-        DICTIONARY.put(537, "Java Runtime Error Message Containing Sensitive Information");
-        DICTIONARY.put(538, "Insertion of Sensitive Information into Externally-Accessible File or Directory");
-        DICTIONARY.put(539, "Use of Persistent Cookies Containing Sensitive Information");
-        DICTIONARY.put(540, "Inclusion of Sensitive Information in Source Code");
-        DICTIONARY.put(541, "Inclusion of Sensitive Information in an Include File");
-        DICTIONARY.put(542, "DEPRECATED: Information Exposure Through Cleanup Log Files");
-        DICTIONARY.put(543, "Use of Singleton Pattern Without Synchronization in a Multithreaded Context");
-        DICTIONARY.put(544, "Missing Standardized Error Handling Mechanism");
-        DICTIONARY.put(545, "DEPRECATED: Use of Dynamic Class Loading");
-        DICTIONARY.put(546, "Suspicious Comment");
-        DICTIONARY.put(547, "Use of Hard-coded, Security-relevant Constants");
-        DICTIONARY.put(548, "Exposure of Information Through Directory Listing");
-        DICTIONARY.put(549, "Missing Password Field Masking");
-        DICTIONARY.put(550, "Server-generated Error Message Containing Sensitive Information");
-        DICTIONARY.put(551, "Incorrect Behavior Order: Authorization Before Parsing and Canonicalization");
-        DICTIONARY.put(552, "Files or Directories Accessible to External Parties");
-        DICTIONARY.put(553, "Command Shell in Externally Accessible Directory");
-        DICTIONARY.put(554, "ASP.NET Misconfiguration: Not Using Input Validation Framework");
-        DICTIONARY.put(555, "J2EE Misconfiguration: Plaintext Password in Configuration File");
-        DICTIONARY.put(556, "ASP.NET Misconfiguration: Use of Identity Impersonation");
-        DICTIONARY.put(557, "Concurrency Issues");
-        DICTIONARY.put(558, "Use of getlogin() in Multithreaded Application");
-        DICTIONARY.put(559, "DEPRECATED: Often Misused: Arguments and Parameters");
-        DICTIONARY.put(560, "Use of umask() with chmod-style Argument");
-        DICTIONARY.put(561, "Dead Code");
-        DICTIONARY.put(562, "Return of Stack Variable Address");
-        DICTIONARY.put(563, "Assignment to Variable without Use");
-        DICTIONARY.put(564, "SQL Injection: Hibernate");
-        DICTIONARY.put(565, "Reliance on Cookies without Validation and Integrity Checking");
-        DICTIONARY.put(566, "Authorization Bypass Through User-Controlled SQL Primary Key");
-        DICTIONARY.put(567, "Unsynchronized Access to Shared Data in a Multithreaded Context");
-        DICTIONARY.put(568, "finalize() Method Without super.finalize()");
-        DICTIONARY.put(569, "Expression Issues");
-        DICTIONARY.put(570, "Expression is Always False");
-        DICTIONARY.put(571, "Expression is Always True");
-        DICTIONARY.put(572, "Call to Thread run() instead of start()");
-        DICTIONARY.put(573, "Improper Following of Specification by Caller");
-        DICTIONARY.put(574, "EJB Bad Practices: Use of Synchronization Primitives");
-        DICTIONARY.put(575, "EJB Bad Practices: Use of AWT Swing");
-        DICTIONARY.put(576, "EJB Bad Practices: Use of Java I/O");
-        DICTIONARY.put(577, "EJB Bad Practices: Use of Sockets");
-        DICTIONARY.put(578, "EJB Bad Practices: Use of Class Loader");
-        DICTIONARY.put(579, "J2EE Bad Practices: Non-serializable Object Stored in Session");
-        DICTIONARY.put(580, "clone() Method Without super.clone()");
-        DICTIONARY.put(581, "Object Model Violation: Just One of Equals and Hashcode Defined");
-        DICTIONARY.put(582, "Array Declared Public, Final, and Static");
-        DICTIONARY.put(583, "finalize() Method Declared Public");
-        DICTIONARY.put(584, "Return Inside Finally Block");
-        DICTIONARY.put(585, "Empty Synchronized Block");
-        DICTIONARY.put(586, "Explicit Call to Finalize()");
-        DICTIONARY.put(587, "Assignment of a Fixed Address to a Pointer");
-        DICTIONARY.put(588, "Attempt to Access Child of a Non-structure Pointer");
-        DICTIONARY.put(589, "Call to Non-ubiquitous API");
-        DICTIONARY.put(590, "Free of Memory not on the Heap");
-        DICTIONARY.put(591, "Sensitive Data Storage in Improperly Locked Memory");
-        DICTIONARY.put(592, "DEPRECATED: Authentication Bypass Issues");
-        DICTIONARY.put(593, "Authentication Bypass: OpenSSL CTX Object Modified after SSL Objects are Created");
-        DICTIONARY.put(594, "J2EE Framework: Saving Unserializable Objects to Disk");
-        DICTIONARY.put(595, "Comparison of Object References Instead of Object Contents");
-        DICTIONARY.put(596, "DEPRECATED: Incorrect Semantic Object Comparison");
-        DICTIONARY.put(597, "Use of Wrong Operator in String Comparison");
-        DICTIONARY.put(598, "Use of GET Request Method With Sensitive Query Strings");
-        DICTIONARY.put(599, "Missing Validation of OpenSSL Certificate");
-        DICTIONARY.put(600, "Uncaught Exception in Servlet ");
-        DICTIONARY.put(601, "URL Redirection to Untrusted Site ('Open Redirect')");
-        DICTIONARY.put(602, "Client-Side Enforcement of Server-Side Security");
-        DICTIONARY.put(603, "Use of Client-Side Authentication");
-        DICTIONARY.put(604, "Deprecated Entries");
-        DICTIONARY.put(605, "Multiple Binds to the Same Port");
-        DICTIONARY.put(606, "Unchecked Input for Loop Condition");
-        DICTIONARY.put(607, "Public Static Final Field References Mutable Object");
-        DICTIONARY.put(608, "Struts: Non-private Field in ActionForm Class");
-        DICTIONARY.put(609, "Double-Checked Locking");
-        DICTIONARY.put(610, "Externally Controlled Reference to a Resource in Another Sphere");
-        DICTIONARY.put(611, "Improper Restriction of XML External Entity Reference");
-        DICTIONARY.put(612, "Improper Authorization of Index Containing Sensitive Information");
-        DICTIONARY.put(613, "Insufficient Session Expiration");
-        DICTIONARY.put(614, "Sensitive Cookie in HTTPS Session Without 'Secure' Attribute");
-        DICTIONARY.put(615, "Inclusion of Sensitive Information in Source Code Comments");
-        DICTIONARY.put(616, "Incomplete Identification of Uploaded File Variables (PHP)");
-        DICTIONARY.put(617, "Reachable Assertion");
-        DICTIONARY.put(618, "Exposed Unsafe ActiveX Method");
-        DICTIONARY.put(619, "Dangling Database Cursor ('Cursor Injection')");
-        DICTIONARY.put(620, "Unverified Password Change");
-        DICTIONARY.put(621, "Variable Extraction Error");
-        DICTIONARY.put(622, "Improper Validation of Function Hook Arguments");
-        DICTIONARY.put(623, "Unsafe ActiveX Control Marked Safe For Scripting");
-        DICTIONARY.put(624, "Executable Regular Expression Error");
-        DICTIONARY.put(625, "Permissive Regular Expression");
-        DICTIONARY.put(626, "Null Byte Interaction Error (Poison Null Byte)");
-        DICTIONARY.put(627, "Dynamic Variable Evaluation");
-        DICTIONARY.put(628, "Function Call with Incorrectly Specified Arguments");
-        DICTIONARY.put(629, "Weaknesses in OWASP Top Ten (2007)");
-        DICTIONARY.put(630, "DEPRECATED: Weaknesses Examined by SAMATE");
-        DICTIONARY.put(631, "DEPRECATED: Resource-specific Weaknesses");
-        DICTIONARY.put(632, "DEPRECATED: Weaknesses that Affect Files or Directories");
-        DICTIONARY.put(633, "DEPRECATED: Weaknesses that Affect Memory");
-        DICTIONARY.put(634, "DEPRECATED: Weaknesses that Affect System Processes");
-        DICTIONARY.put(635, "Weaknesses Originally Used by NVD from 2008 to 2016");
-        DICTIONARY.put(636, "Not Failing Securely ('Failing Open')");
-        DICTIONARY.put(637, "Unnecessary Complexity in Protection Mechanism (Not Using 'Economy of Mechanism')");
-        DICTIONARY.put(638, "Not Using Complete Mediation");
-        DICTIONARY.put(639, "Authorization Bypass Through User-Controlled Key");
-        DICTIONARY.put(640, "Weak Password Recovery Mechanism for Forgotten Password");
-        DICTIONARY.put(641, "Improper Restriction of Names for Files and Other Resources");
-        DICTIONARY.put(642, "External Control of Critical State Data");
-        DICTIONARY.put(643, "Improper Neutralization of Data within XPath Expressions ('XPath Injection')");
-        DICTIONARY.put(644, "Improper Neutralization of HTTP Headers for Scripting Syntax");
-        DICTIONARY.put(645, "Overly Restrictive Account Lockout Mechanism");
-        DICTIONARY.put(646, "Reliance on File Name or Extension of Externally-Supplied File");
-        DICTIONARY.put(647, "Use of Non-Canonical URL Paths for Authorization Decisions");
-        DICTIONARY.put(648, "Incorrect Use of Privileged APIs");
-        DICTIONARY.put(649, "Reliance on Obfuscation or Encryption of Security-Relevant Inputs without Integrity Checking");
-        DICTIONARY.put(650, "Trusting HTTP Permission Methods on the Server Side");
-        DICTIONARY.put(651, "Exposure of WSDL File Containing Sensitive Information");
-        DICTIONARY.put(652, "Improper Neutralization of Data within XQuery Expressions ('XQuery Injection')");
-        DICTIONARY.put(653, "Improper Isolation or Compartmentalization");
-        DICTIONARY.put(654, "Reliance on a Single Factor in a Security Decision");
-        DICTIONARY.put(655, "Insufficient Psychological Acceptability");
-        DICTIONARY.put(656, "Reliance on Security Through Obscurity");
-        DICTIONARY.put(657, "Violation of Secure Design Principles");
-        DICTIONARY.put(658, "Weaknesses in Software Written in C");
-        DICTIONARY.put(659, "Weaknesses in Software Written in C++");
-        DICTIONARY.put(660, "Weaknesses in Software Written in Java");
-        DICTIONARY.put(661, "Weaknesses in Software Written in PHP");
-        DICTIONARY.put(662, "Improper Synchronization");
-        DICTIONARY.put(663, "Use of a Non-reentrant Function in a Concurrent Context");
-        DICTIONARY.put(664, "Improper Control of a Resource Through its Lifetime");
-        DICTIONARY.put(665, "Improper Initialization");
-        DICTIONARY.put(666, "Operation on Resource in Wrong Phase of Lifetime");
-        DICTIONARY.put(667, "Improper Locking");
-        DICTIONARY.put(668, "Exposure of Resource to Wrong Sphere");
-        DICTIONARY.put(669, "Incorrect Resource Transfer Between Spheres");
-        DICTIONARY.put(670, "Always-Incorrect Control Flow Implementation");
-        DICTIONARY.put(671, "Lack of Administrator Control over Security");
-        DICTIONARY.put(672, "Operation on a Resource after Expiration or Release");
-        DICTIONARY.put(673, "External Influence of Sphere Definition");
-        DICTIONARY.put(674, "Uncontrolled Recursion");
-        DICTIONARY.put(675, "Multiple Operations on Resource in Single-Operation Context");
-        DICTIONARY.put(676, "Use of Potentially Dangerous Function");
-        DICTIONARY.put(677, "Weakness Base Elements");
-        DICTIONARY.put(678, "Composites");
-        DICTIONARY.put(679, "DEPRECATED: Chain Elements");
-        DICTIONARY.put(680, "Integer Overflow to Buffer Overflow");
-        DICTIONARY.put(681, "Incorrect Conversion between Numeric Types");
-        DICTIONARY.put(682, "Incorrect Calculation");
-        DICTIONARY.put(683, "Function Call With Incorrect Order of Arguments");
-        DICTIONARY.put(684, "Incorrect Provision of Specified Functionality");
-        DICTIONARY.put(685, "Function Call With Incorrect Number of Arguments");
-        DICTIONARY.put(686, "Function Call With Incorrect Argument Type");
-        DICTIONARY.put(687, "Function Call With Incorrectly Specified Argument Value");
-        DICTIONARY.put(688, "Function Call With Incorrect Variable or Reference as Argument");
-        DICTIONARY.put(689, "Permission Race Condition During Resource Copy");
-        DICTIONARY.put(690, "Unchecked Return Value to NULL Pointer Dereference");
-        DICTIONARY.put(691, "Insufficient Control Flow Management");
-        DICTIONARY.put(692, "Incomplete Denylist to Cross-Site Scripting");
-        DICTIONARY.put(693, "Protection Mechanism Failure");
-        DICTIONARY.put(694, "Use of Multiple Resources with Duplicate Identifier");
-        DICTIONARY.put(695, "Use of Low-Level Functionality");
-        DICTIONARY.put(696, "Incorrect Behavior Order");
-        DICTIONARY.put(697, "Incorrect Comparison");
-        DICTIONARY.put(698, "Execution After Redirect (EAR)");
-        DICTIONARY.put(699, "Software Development");
-        DICTIONARY.put(700, "Seven Pernicious Kingdoms");
-        DICTIONARY.put(701, "Weaknesses Introduced During Design");
-        DICTIONARY.put(702, "Weaknesses Introduced During Implementation");
-        DICTIONARY.put(703, "Improper Check or Handling of Exceptional Conditions");
-        DICTIONARY.put(704, "Incorrect Type Conversion or Cast");
-        DICTIONARY.put(705, "Incorrect Control Flow Scoping");
-        DICTIONARY.put(706, "Use of Incorrectly-Resolved Name or Reference");
-        DICTIONARY.put(707, "Improper Neutralization");
-        DICTIONARY.put(708, "Incorrect Ownership Assignment");
-        DICTIONARY.put(709, "Named Chains");
-        DICTIONARY.put(710, "Improper Adherence to Coding Standards");
-        DICTIONARY.put(711, "Weaknesses in OWASP Top Ten (2004)");
-        DICTIONARY.put(712, "OWASP Top Ten 2007 Category A1 - Cross Site Scripting (XSS)");
-        DICTIONARY.put(713, "OWASP Top Ten 2007 Category A2 - Injection Flaws");
-        DICTIONARY.put(714, "OWASP Top Ten 2007 Category A3 - Malicious File Execution");
-        DICTIONARY.put(715, "OWASP Top Ten 2007 Category A4 - Insecure Direct Object Reference");
-        DICTIONARY.put(716, "OWASP Top Ten 2007 Category A5 - Cross Site Request Forgery (CSRF)");
-        DICTIONARY.put(717, "OWASP Top Ten 2007 Category A6 - Information Leakage and Improper Error Handling");
-        DICTIONARY.put(718, "OWASP Top Ten 2007 Category A7 - Broken Authentication and Session Management");
-        DICTIONARY.put(719, "OWASP Top Ten 2007 Category A8 - Insecure Cryptographic Storage");
-        DICTIONARY.put(720, "OWASP Top Ten 2007 Category A9 - Insecure Communications");
-        DICTIONARY.put(721, "OWASP Top Ten 2007 Category A10 - Failure to Restrict URL Access");
-        DICTIONARY.put(722, "OWASP Top Ten 2004 Category A1 - Unvalidated Input");
-        DICTIONARY.put(723, "OWASP Top Ten 2004 Category A2 - Broken Access Control");
-        DICTIONARY.put(724, "OWASP Top Ten 2004 Category A3 - Broken Authentication and Session Management");
-        DICTIONARY.put(725, "OWASP Top Ten 2004 Category A4 - Cross-Site Scripting (XSS) Flaws");
-        DICTIONARY.put(726, "OWASP Top Ten 2004 Category A5 - Buffer Overflows");
-        DICTIONARY.put(727, "OWASP Top Ten 2004 Category A6 - Injection Flaws");
-        DICTIONARY.put(728, "OWASP Top Ten 2004 Category A7 - Improper Error Handling");
-        DICTIONARY.put(729, "OWASP Top Ten 2004 Category A8 - Insecure Storage");
-        DICTIONARY.put(730, "OWASP Top Ten 2004 Category A9 - Denial of Service");
-        DICTIONARY.put(731, "OWASP Top Ten 2004 Category A10 - Insecure Configuration Management");
-        DICTIONARY.put(732, "Incorrect Permission Assignment for Critical Resource");
-        DICTIONARY.put(733, "Compiler Optimization Removal or Modification of Security-critical Code");
-        DICTIONARY.put(734, "Weaknesses Addressed by the CERT C Secure Coding Standard (2008)");
-        DICTIONARY.put(735, "CERT C Secure Coding Standard (2008) Chapter 2 - Preprocessor (PRE)");
-        DICTIONARY.put(736, "CERT C Secure Coding Standard (2008) Chapter 3 - Declarations and Initialization (DCL)");
-        DICTIONARY.put(737, "CERT C Secure Coding Standard (2008) Chapter 4 - Expressions (EXP)");
-        DICTIONARY.put(738, "CERT C Secure Coding Standard (2008) Chapter 5 - Integers (INT)");
-        DICTIONARY.put(739, "CERT C Secure Coding Standard (2008) Chapter 6 - Floating Point (FLP)");
-        DICTIONARY.put(740, "CERT C Secure Coding Standard (2008) Chapter 7 - Arrays (ARR)");
-        DICTIONARY.put(741, "CERT C Secure Coding Standard (2008) Chapter 8 - Characters and Strings (STR)");
-        DICTIONARY.put(742, "CERT C Secure Coding Standard (2008) Chapter 9 - Memory Management (MEM)");
-        DICTIONARY.put(743, "CERT C Secure Coding Standard (2008) Chapter 10 - Input Output (FIO)");
-        DICTIONARY.put(744, "CERT C Secure Coding Standard (2008) Chapter 11 - Environment (ENV)");
-        DICTIONARY.put(745, "CERT C Secure Coding Standard (2008) Chapter 12 - Signals (SIG)");
-        DICTIONARY.put(746, "CERT C Secure Coding Standard (2008) Chapter 13 - Error Handling (ERR)");
-        DICTIONARY.put(747, "CERT C Secure Coding Standard (2008) Chapter 14 - Miscellaneous (MSC)");
-        DICTIONARY.put(748, "CERT C Secure Coding Standard (2008) Appendix - POSIX (POS)");
-        DICTIONARY.put(749, "Exposed Dangerous Method or Function");
-        DICTIONARY.put(750, "Weaknesses in the 2009 CWE/SANS Top 25 Most Dangerous Programming Errors");
-        DICTIONARY.put(751, "2009 Top 25 - Insecure Interaction Between Components");
-        DICTIONARY.put(752, "2009 Top 25 - Risky Resource Management");
-        DICTIONARY.put(753, "2009 Top 25 - Porous Defenses");
-        DICTIONARY.put(754, "Improper Check for Unusual or Exceptional Conditions");
-        DICTIONARY.put(755, "Improper Handling of Exceptional Conditions");
-        DICTIONARY.put(756, "Missing Custom Error Page");
-        DICTIONARY.put(757, "Selection of Less-Secure Algorithm During Negotiation ('Algorithm Downgrade')");
-        DICTIONARY.put(758, "Reliance on Undefined, Unspecified, or Implementation-Defined Behavior");
-        DICTIONARY.put(759, "Use of a One-Way Hash without a Salt");
-        DICTIONARY.put(760, "Use of a One-Way Hash with a Predictable Salt");
-        DICTIONARY.put(761, "Free of Pointer not at Start of Buffer");
-        DICTIONARY.put(762, "Mismatched Memory Management Routines");
-        DICTIONARY.put(763, "Release of Invalid Pointer or Reference");
-        DICTIONARY.put(764, "Multiple Locks of a Critical Resource");
-        DICTIONARY.put(765, "Multiple Unlocks of a Critical Resource");
-        DICTIONARY.put(766, "Critical Data Element Declared Public");
-        DICTIONARY.put(767, "Access to Critical Private Variable via Public Method");
-        DICTIONARY.put(768, "Incorrect Short Circuit Evaluation");
-        DICTIONARY.put(769, "DEPRECATED: Uncontrolled File Descriptor Consumption");
-        DICTIONARY.put(770, "Allocation of Resources Without Limits or Throttling");
-        DICTIONARY.put(771, "Missing Reference to Active Allocated Resource");
-        DICTIONARY.put(772, "Missing Release of Resource after Effective Lifetime");
-        DICTIONARY.put(773, "Missing Reference to Active File Descriptor or Handle");
-        DICTIONARY.put(774, "Allocation of File Descriptors or Handles Without Limits or Throttling");
-        DICTIONARY.put(775, "Missing Release of File Descriptor or Handle after Effective Lifetime");
-        DICTIONARY.put(776, "Improper Restriction of Recursive Entity References in DTDs ('XML Entity Expansion')");
-        DICTIONARY.put(777, "Regular Expression without Anchors");
-        DICTIONARY.put(778, "Insufficient Logging");
-        DICTIONARY.put(779, "Logging of Excessive Data");
-        DICTIONARY.put(780, "Use of RSA Algorithm without OAEP");
-        DICTIONARY.put(781, "Improper Address Validation in IOCTL with METHOD_NEITHER I/O Control Code");
-        DICTIONARY.put(782, "Exposed IOCTL with Insufficient Access Control");
-        DICTIONARY.put(783, "Operator Precedence Logic Error");
-        DICTIONARY.put(784, "Reliance on Cookies without Validation and Integrity Checking in a Security Decision");
-        DICTIONARY.put(785, "Use of Path Manipulation Function without Maximum-sized Buffer");
-        DICTIONARY.put(786, "Access of Memory Location Before Start of Buffer");
-        DICTIONARY.put(787, "Out-of-bounds Write");
-        DICTIONARY.put(788, "Access of Memory Location After End of Buffer");
-        DICTIONARY.put(789, "Memory Allocation with Excessive Size Value");
-        DICTIONARY.put(790, "Improper Filtering of Special Elements");
-        DICTIONARY.put(791, "Incomplete Filtering of Special Elements");
-        DICTIONARY.put(792, "Incomplete Filtering of One or More Instances of Special Elements");
-        DICTIONARY.put(793, "Only Filtering One Instance of a Special Element");
-        DICTIONARY.put(794, "Incomplete Filtering of Multiple Instances of Special Elements");
-        DICTIONARY.put(795, "Only Filtering Special Elements at a Specified Location");
-        DICTIONARY.put(796, "Only Filtering Special Elements Relative to a Marker");
-        DICTIONARY.put(797, "Only Filtering Special Elements at an Absolute Position");
-        DICTIONARY.put(798, "Use of Hard-coded Credentials");
-        DICTIONARY.put(799, "Improper Control of Interaction Frequency");
-        DICTIONARY.put(800, "Weaknesses in the 2010 CWE/SANS Top 25 Most Dangerous Programming Errors");
-        DICTIONARY.put(801, "2010 Top 25 - Insecure Interaction Between Components");
-        DICTIONARY.put(802, "2010 Top 25 - Risky Resource Management");
-        DICTIONARY.put(803, "2010 Top 25 - Porous Defenses");
-        DICTIONARY.put(804, "Guessable CAPTCHA");
-        DICTIONARY.put(805, "Buffer Access with Incorrect Length Value");
-        DICTIONARY.put(806, "Buffer Access Using Size of Source Buffer");
-        DICTIONARY.put(807, "Reliance on Untrusted Inputs in a Security Decision");
-        DICTIONARY.put(808, "2010 Top 25 - Weaknesses On the Cusp");
-        DICTIONARY.put(809, "Weaknesses in OWASP Top Ten (2010)");
-        DICTIONARY.put(810, "OWASP Top Ten 2010 Category A1 - Injection");
-        DICTIONARY.put(811, "OWASP Top Ten 2010 Category A2 - Cross-Site Scripting (XSS)");
-        DICTIONARY.put(812, "OWASP Top Ten 2010 Category A3 - Broken Authentication and Session Management");
-        DICTIONARY.put(813, "OWASP Top Ten 2010 Category A4 - Insecure Direct Object References");
-        DICTIONARY.put(814, "OWASP Top Ten 2010 Category A5 - Cross-Site Request Forgery(CSRF)");
-        DICTIONARY.put(815, "OWASP Top Ten 2010 Category A6 - Security Misconfiguration");
-        DICTIONARY.put(816, "OWASP Top Ten 2010 Category A7 - Insecure Cryptographic Storage");
-        DICTIONARY.put(817, "OWASP Top Ten 2010 Category A8 - Failure to Restrict URL Access");
-        DICTIONARY.put(818, "OWASP Top Ten 2010 Category A9 - Insufficient Transport Layer Protection");
-        DICTIONARY.put(819, "OWASP Top Ten 2010 Category A10 - Unvalidated Redirects and Forwards");
-        DICTIONARY.put(820, "Missing Synchronization");
-        DICTIONARY.put(821, "Incorrect Synchronization");
-        DICTIONARY.put(822, "Untrusted Pointer Dereference");
-        DICTIONARY.put(823, "Use of Out-of-range Pointer Offset");
-        DICTIONARY.put(824, "Access of Uninitialized Pointer");
-        DICTIONARY.put(825, "Expired Pointer Dereference");
-        DICTIONARY.put(826, "Premature Release of Resource During Expected Lifetime");
-        DICTIONARY.put(827, "Improper Control of Document Type Definition");
-        DICTIONARY.put(828, "Signal Handler with Functionality that is not Asynchronous-Safe");
-        DICTIONARY.put(829, "Inclusion of Functionality from Untrusted Control Sphere");
-        DICTIONARY.put(830, "Inclusion of Web Functionality from an Untrusted Source");
-        DICTIONARY.put(831, "Signal Handler Function Associated with Multiple Signals");
-        DICTIONARY.put(832, "Unlock of a Resource that is not Locked");
-        DICTIONARY.put(833, "Deadlock");
-        DICTIONARY.put(834, "Excessive Iteration");
-        DICTIONARY.put(835, "Loop with Unreachable Exit Condition ('Infinite Loop')");
-        DICTIONARY.put(836, "Use of Password Hash Instead of Password for Authentication");
-        DICTIONARY.put(837, "Improper Enforcement of a Single, Unique Action");
-        DICTIONARY.put(838, "Inappropriate Encoding for Output Context");
-        DICTIONARY.put(839, "Numeric Range Comparison Without Minimum Check");
-        DICTIONARY.put(840, "Business Logic Errors");
-        DICTIONARY.put(841, "Improper Enforcement of Behavioral Workflow");
-        DICTIONARY.put(842, "Placement of User into Incorrect Group");
-        DICTIONARY.put(843, "Access of Resource Using Incompatible Type ('Type Confusion')");
-        DICTIONARY.put(844, "Weaknesses Addressed by The CERT Oracle Secure Coding Standard for Java (2011)");
-        DICTIONARY.put(845, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 2 - Input Validation and Data Sanitization (IDS)");
-        DICTIONARY.put(846, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 3 - Declarations and Initialization (DCL)");
-        DICTIONARY.put(847, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 4 - Expressions (EXP)");
-        DICTIONARY.put(848, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 5 - Numeric Types and Operations (NUM)");
-        DICTIONARY.put(849, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 6 - Object Orientation (OBJ)");
-        DICTIONARY.put(850, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 7 - Methods (MET)");
-        DICTIONARY.put(851, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 8 - Exceptional Behavior (ERR)");
-        DICTIONARY.put(852, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 9 - Visibility and Atomicity (VNA)");
-        DICTIONARY.put(853, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 10 - Locking (LCK)");
-        DICTIONARY.put(854, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 11 - Thread APIs (THI)");
-        DICTIONARY.put(855, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 12 - Thread Pools (TPS)");
-        DICTIONARY.put(856, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 13 - Thread-Safety Miscellaneous (TSM)");
-        DICTIONARY.put(857, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 14 - Input Output (FIO)");
-        DICTIONARY.put(858, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 15 - Serialization (SER)");
-        DICTIONARY.put(859, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 16 - Platform Security (SEC)");
-        DICTIONARY.put(860, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 17 - Runtime Environment (ENV)");
-        DICTIONARY.put(861, "The CERT Oracle Secure Coding Standard for Java (2011) Chapter 18 - Miscellaneous (MSC)");
-        DICTIONARY.put(862, "Missing Authorization");
-        DICTIONARY.put(863, "Incorrect Authorization");
-        DICTIONARY.put(864, "2011 Top 25 - Insecure Interaction Between Components");
-        DICTIONARY.put(865, "2011 Top 25 - Risky Resource Management");
-        DICTIONARY.put(866, "2011 Top 25 - Porous Defenses");
-        DICTIONARY.put(867, "2011 Top 25 - Weaknesses On the Cusp");
-        DICTIONARY.put(868, "Weaknesses Addressed by the SEI CERT C++ Coding Standard (2016 Version)");
-        DICTIONARY.put(869, "CERT C++ Secure Coding Section 01 - Preprocessor (PRE)");
-        DICTIONARY.put(870, "CERT C++ Secure Coding Section 02 - Declarations and Initialization (DCL)");
-        DICTIONARY.put(871, "CERT C++ Secure Coding Section 03 - Expressions (EXP)");
-        DICTIONARY.put(872, "CERT C++ Secure Coding Section 04 - Integers (INT)");
-        DICTIONARY.put(873, "CERT C++ Secure Coding Section 05 - Floating Point Arithmetic (FLP)");
-        DICTIONARY.put(874, "CERT C++ Secure Coding Section 06 - Arrays and the STL (ARR)");
-        DICTIONARY.put(875, "CERT C++ Secure Coding Section 07 - Characters and Strings (STR)");
-        DICTIONARY.put(876, "CERT C++ Secure Coding Section 08 - Memory Management (MEM)");
-        DICTIONARY.put(877, "CERT C++ Secure Coding Section 09 - Input Output (FIO)");
-        DICTIONARY.put(878, "CERT C++ Secure Coding Section 10 - Environment (ENV)");
-        DICTIONARY.put(879, "CERT C++ Secure Coding Section 11 - Signals (SIG)");
-        DICTIONARY.put(880, "CERT C++ Secure Coding Section 12 - Exceptions and Error Handling (ERR)");
-        DICTIONARY.put(881, "CERT C++ Secure Coding Section 13 - Object Oriented Programming (OOP)");
-        DICTIONARY.put(882, "CERT C++ Secure Coding Section 14 - Concurrency (CON)");
-        DICTIONARY.put(883, "CERT C++ Secure Coding Section 49 - Miscellaneous (MSC)");
-        DICTIONARY.put(884, "CWE Cross-section");
-        DICTIONARY.put(885, "SFP Primary Cluster: Risky Values");
-        DICTIONARY.put(886, "SFP Primary Cluster: Unused entities");
-        DICTIONARY.put(887, "SFP Primary Cluster: API");
-        DICTIONARY.put(888, "Software Fault Pattern (SFP) Clusters");
-        DICTIONARY.put(889, "SFP Primary Cluster: Exception Management");
-        DICTIONARY.put(890, "SFP Primary Cluster: Memory Access");
-        DICTIONARY.put(891, "SFP Primary Cluster: Memory Management");
-        DICTIONARY.put(892, "SFP Primary Cluster: Resource Management");
-        DICTIONARY.put(893, "SFP Primary Cluster: Path Resolution");
-        DICTIONARY.put(894, "SFP Primary Cluster: Synchronization");
-        DICTIONARY.put(895, "SFP Primary Cluster: Information Leak");
-        DICTIONARY.put(896, "SFP Primary Cluster: Tainted Input");
-        DICTIONARY.put(897, "SFP Primary Cluster: Entry Points");
-        DICTIONARY.put(898, "SFP Primary Cluster: Authentication");
-        DICTIONARY.put(899, "SFP Primary Cluster: Access Control");
-        DICTIONARY.put(900, "Weaknesses in the 2011 CWE/SANS Top 25 Most Dangerous Software Errors");
-        DICTIONARY.put(901, "SFP Primary Cluster: Privilege");
-        DICTIONARY.put(902, "SFP Primary Cluster: Channel");
-        DICTIONARY.put(903, "SFP Primary Cluster: Cryptography");
-        DICTIONARY.put(904, "SFP Primary Cluster: Malware");
-        DICTIONARY.put(905, "SFP Primary Cluster: Predictability");
-        DICTIONARY.put(906, "SFP Primary Cluster: UI");
-        DICTIONARY.put(907, "SFP Primary Cluster: Other");
-        DICTIONARY.put(908, "Use of Uninitialized Resource");
-        DICTIONARY.put(909, "Missing Initialization of Resource");
-        DICTIONARY.put(910, "Use of Expired File Descriptor");
-        DICTIONARY.put(911, "Improper Update of Reference Count");
-        DICTIONARY.put(912, "Hidden Functionality");
-        DICTIONARY.put(913, "Improper Control of Dynamically-Managed Code Resources");
-        DICTIONARY.put(914, "Improper Control of Dynamically-Identified Variables");
-        DICTIONARY.put(915, "Improperly Controlled Modification of Dynamically-Determined Object Attributes");
-        DICTIONARY.put(916, "Use of Password Hash With Insufficient Computational Effort");
-        DICTIONARY.put(917, "Improper Neutralization of Special Elements used in an Expression Language Statement ('Expression Language Injection')");
-        DICTIONARY.put(918, "Server-Side Request Forgery (SSRF)");
-        DICTIONARY.put(919, "Weaknesses in Mobile Applications");
-        DICTIONARY.put(920, "Improper Restriction of Power Consumption");
-        DICTIONARY.put(921, "Storage of Sensitive Data in a Mechanism without Access Control");
-        DICTIONARY.put(922, "Insecure Storage of Sensitive Information");
-        DICTIONARY.put(923, "Improper Restriction of Communication Channel to Intended Endpoints");
-        DICTIONARY.put(924, "Improper Enforcement of Message Integrity During Transmission in a Communication Channel");
-        DICTIONARY.put(925, "Improper Verification of Intent by Broadcast Receiver");
-        DICTIONARY.put(926, "Improper Export of Android Application Components");
-        DICTIONARY.put(927, "Use of Implicit Intent for Sensitive Communication");
-        DICTIONARY.put(928, "Weaknesses in OWASP Top Ten (2013)");
-        DICTIONARY.put(929, "OWASP Top Ten 2013 Category A1 - Injection");
-        DICTIONARY.put(930, "OWASP Top Ten 2013 Category A2 - Broken Authentication and Session Management");
-        DICTIONARY.put(931, "OWASP Top Ten 2013 Category A3 - Cross-Site Scripting (XSS)");
-        DICTIONARY.put(932, "OWASP Top Ten 2013 Category A4 - Insecure Direct Object References");
-        DICTIONARY.put(933, "OWASP Top Ten 2013 Category A5 - Security Misconfiguration");
-        DICTIONARY.put(934, "OWASP Top Ten 2013 Category A6 - Sensitive Data Exposure");
-        DICTIONARY.put(935, "OWASP Top Ten 2013 Category A7 - Missing Function Level Access Control");
-        DICTIONARY.put(936, "OWASP Top Ten 2013 Category A8 - Cross-Site Request Forgery (CSRF)");
-        DICTIONARY.put(937, "OWASP Top Ten 2013 Category A9 - Using Components with Known Vulnerabilities");
-        DICTIONARY.put(938, "OWASP Top Ten 2013 Category A10 - Unvalidated Redirects and Forwards");
-        DICTIONARY.put(939, "Improper Authorization in Handler for Custom URL Scheme");
-        DICTIONARY.put(940, "Improper Verification of Source of a Communication Channel");
-        DICTIONARY.put(941, "Incorrectly Specified Destination in a Communication Channel");
-        DICTIONARY.put(942, "Permissive Cross-domain Policy with Untrusted Domains");
-        DICTIONARY.put(943, "Improper Neutralization of Special Elements in Data Query Logic");
-        DICTIONARY.put(944, "SFP Secondary Cluster: Access Management");
-        DICTIONARY.put(945, "SFP Secondary Cluster: Insecure Resource Access");
-        DICTIONARY.put(946, "SFP Secondary Cluster: Insecure Resource Permissions");
-        DICTIONARY.put(947, "SFP Secondary Cluster: Authentication Bypass");
-        DICTIONARY.put(948, "SFP Secondary Cluster: Digital Certificate");
-        DICTIONARY.put(949, "SFP Secondary Cluster: Faulty Endpoint Authentication");
-        DICTIONARY.put(950, "SFP Secondary Cluster: Hardcoded Sensitive Data");
-        DICTIONARY.put(951, "SFP Secondary Cluster: Insecure Authentication Policy");
-        DICTIONARY.put(952, "SFP Secondary Cluster: Missing Authentication");
-        DICTIONARY.put(953, "SFP Secondary Cluster: Missing Endpoint Authentication");
-        DICTIONARY.put(954, "SFP Secondary Cluster: Multiple Binds to the Same Port");
-        DICTIONARY.put(955, "SFP Secondary Cluster: Unrestricted Authentication");
-        DICTIONARY.put(956, "SFP Secondary Cluster: Channel Attack");
-        DICTIONARY.put(957, "SFP Secondary Cluster: Protocol Error");
-        DICTIONARY.put(958, "SFP Secondary Cluster: Broken Cryptography");
-        DICTIONARY.put(959, "SFP Secondary Cluster: Weak Cryptography");
-        DICTIONARY.put(960, "SFP Secondary Cluster: Ambiguous Exception Type");
-        DICTIONARY.put(961, "SFP Secondary Cluster: Incorrect Exception Behavior");
-        DICTIONARY.put(962, "SFP Secondary Cluster: Unchecked Status Condition");
-        DICTIONARY.put(963, "SFP Secondary Cluster: Exposed Data");
-        DICTIONARY.put(964, "SFP Secondary Cluster: Exposure Temporary File");
-        DICTIONARY.put(965, "SFP Secondary Cluster: Insecure Session Management");
-        DICTIONARY.put(966, "SFP Secondary Cluster: Other Exposures");
-        DICTIONARY.put(967, "SFP Secondary Cluster: State Disclosure");
-        DICTIONARY.put(968, "SFP Secondary Cluster: Covert Channel");
-        DICTIONARY.put(969, "SFP Secondary Cluster: Faulty Memory Release");
-        DICTIONARY.put(970, "SFP Secondary Cluster: Faulty Buffer Access");
-        DICTIONARY.put(971, "SFP Secondary Cluster: Faulty Pointer Use");
-        DICTIONARY.put(972, "SFP Secondary Cluster: Faulty String Expansion");
-        DICTIONARY.put(973, "SFP Secondary Cluster: Improper NULL Termination");
-        DICTIONARY.put(974, "SFP Secondary Cluster: Incorrect Buffer Length Computation");
-        DICTIONARY.put(975, "SFP Secondary Cluster: Architecture");
-        DICTIONARY.put(976, "SFP Secondary Cluster: Compiler");
-        DICTIONARY.put(977, "SFP Secondary Cluster: Design");
-        DICTIONARY.put(978, "SFP Secondary Cluster: Implementation");
-        DICTIONARY.put(979, "SFP Secondary Cluster: Failed Chroot Jail");
-        DICTIONARY.put(980, "SFP Secondary Cluster: Link in Resource Name Resolution");
-        DICTIONARY.put(981, "SFP Secondary Cluster: Path Traversal");
-        DICTIONARY.put(982, "SFP Secondary Cluster: Failure to Release Resource");
-        DICTIONARY.put(983, "SFP Secondary Cluster: Faulty Resource Use");
-        DICTIONARY.put(984, "SFP Secondary Cluster: Life Cycle");
-        DICTIONARY.put(985, "SFP Secondary Cluster: Unrestricted Consumption");
-        DICTIONARY.put(986, "SFP Secondary Cluster: Missing Lock");
-        DICTIONARY.put(987, "SFP Secondary Cluster: Multiple Locks/Unlocks");
-        DICTIONARY.put(988, "SFP Secondary Cluster: Race Condition Window");
-        DICTIONARY.put(989, "SFP Secondary Cluster: Unrestricted Lock");
-        DICTIONARY.put(990, "SFP Secondary Cluster: Tainted Input to Command");
-        DICTIONARY.put(991, "SFP Secondary Cluster: Tainted Input to Environment");
-        DICTIONARY.put(992, "SFP Secondary Cluster: Faulty Input Transformation");
-        DICTIONARY.put(993, "SFP Secondary Cluster: Incorrect Input Handling");
-        DICTIONARY.put(994, "SFP Secondary Cluster: Tainted Input to Variable");
-        DICTIONARY.put(995, "SFP Secondary Cluster: Feature");
-        DICTIONARY.put(996, "SFP Secondary Cluster: Security");
-        DICTIONARY.put(997, "SFP Secondary Cluster: Information Loss");
-        DICTIONARY.put(998, "SFP Secondary Cluster: Glitch in Computation");
-        DICTIONARY.put(999, "DEPRECATED: Weaknesses without Software Fault Patterns");
-        DICTIONARY.put(1000, "Research Concepts");
-        DICTIONARY.put(1001, "SFP Secondary Cluster: Use of an Improper API");
-        DICTIONARY.put(1002, "SFP Secondary Cluster: Unexpected Entry Points");
-        DICTIONARY.put(1003, "Weaknesses for Simplified Mapping of Published Vulnerabilities");
-        DICTIONARY.put(1004, "Sensitive Cookie Without 'HttpOnly' Flag");
-        DICTIONARY.put(1005, "7PK - Input Validation and Representation");
-        DICTIONARY.put(1006, "Bad Coding Practices");
-        DICTIONARY.put(1007, "Insufficient Visual Distinction of Homoglyphs Presented to User");
-        DICTIONARY.put(1008, "Architectural Concepts");
-        DICTIONARY.put(1009, "Audit");
-        DICTIONARY.put(1010, "Authenticate Actors");
-        DICTIONARY.put(1011, "Authorize Actors");
-        DICTIONARY.put(1012, "Cross Cutting");
-        DICTIONARY.put(1013, "Encrypt Data");
-        DICTIONARY.put(1014, "Identify Actors");
-        DICTIONARY.put(1015, "Limit Access");
-        DICTIONARY.put(1016, "Limit Exposure");
-        DICTIONARY.put(1017, "Lock Computer");
-        DICTIONARY.put(1018, "Manage User Sessions");
-        DICTIONARY.put(1019, "Validate Inputs");
-        DICTIONARY.put(1020, "Verify Message Integrity");
-        DICTIONARY.put(1021, "Improper Restriction of Rendered UI Layers or Frames");
-        DICTIONARY.put(1022, "Use of Web Link to Untrusted Target with window.opener Access");
-        DICTIONARY.put(1023, "Incomplete Comparison with Missing Factors");
-        DICTIONARY.put(1024, "Comparison of Incompatible Types");
-        DICTIONARY.put(1025, "Comparison Using Wrong Factors");
-        DICTIONARY.put(1026, "Weaknesses in OWASP Top Ten (2017)");
-        DICTIONARY.put(1027, "OWASP Top Ten 2017 Category A1 - Injection");
-        DICTIONARY.put(1028, "OWASP Top Ten 2017 Category A2 - Broken Authentication");
-        DICTIONARY.put(1029, "OWASP Top Ten 2017 Category A3 - Sensitive Data Exposure");
-        DICTIONARY.put(1030, "OWASP Top Ten 2017 Category A4 - XML External Entities (XXE)");
-        DICTIONARY.put(1031, "OWASP Top Ten 2017 Category A5 - Broken Access Control");
-        DICTIONARY.put(1032, "OWASP Top Ten 2017 Category A6 - Security Misconfiguration");
-        DICTIONARY.put(1033, "OWASP Top Ten 2017 Category A7 - Cross-Site Scripting (XSS)");
-        DICTIONARY.put(1034, "OWASP Top Ten 2017 Category A8 - Insecure Deserialization");
-        DICTIONARY.put(1035, "OWASP Top Ten 2017 Category A9 - Using Components with Known Vulnerabilities");
-        DICTIONARY.put(1036, "OWASP Top Ten 2017 Category A10 - Insufficient Logging \u0026 Monitoring");
-        DICTIONARY.put(1037, "Processor Optimization Removal or Modification of Security-critical Code");
-        DICTIONARY.put(1038, "Insecure Automated Optimizations");
-        DICTIONARY.put(1039, "Automated Recognition Mechanism with Inadequate Detection or Handling of Adversarial Input Perturbations");
-        DICTIONARY.put(1040, "Quality Weaknesses with Indirect Security Impacts");
-        DICTIONARY.put(1041, "Use of Redundant Code");
-        DICTIONARY.put(1042, "Static Member Data Element outside of a Singleton Class Element");
-        DICTIONARY.put(1043, "Data Element Aggregating an Excessively Large Number of Non-Primitive Elements");
-        DICTIONARY.put(1044, "Architecture with Number of Horizontal Layers Outside of Expected Range");
-        DICTIONARY.put(1045, "Parent Class with a Virtual Destructor and a Child Class without a Virtual Destructor");
-        DICTIONARY.put(1046, "Creation of Immutable Text Using String Concatenation");
-        DICTIONARY.put(1047, "Modules with Circular Dependencies");
-        DICTIONARY.put(1048, "Invokable Control Element with Large Number of Outward Calls");
-        DICTIONARY.put(1049, "Excessive Data Query Operations in a Large Data Table");
-        DICTIONARY.put(1050, "Excessive Platform Resource Consumption within a Loop");
-        DICTIONARY.put(1051, "Initialization with Hard-Coded Network Resource Configuration Data");
-        DICTIONARY.put(1052, "Excessive Use of Hard-Coded Literals in Initialization");
-        DICTIONARY.put(1053, "Missing Documentation for Design");
-        DICTIONARY.put(1054, "Invocation of a Control Element at an Unnecessarily Deep Horizontal Layer");
-        DICTIONARY.put(1055, "Multiple Inheritance from Concrete Classes");
-        DICTIONARY.put(1056, "Invokable Control Element with Variadic Parameters");
-        DICTIONARY.put(1057, "Data Access Operations Outside of Expected Data Manager Component");
-        DICTIONARY.put(1058, "Invokable Control Element in Multi-Thread Context with non-Final Static Storable or Member Element");
-        DICTIONARY.put(1059, "Insufficient Technical Documentation");
-        DICTIONARY.put(1060, "Excessive Number of Inefficient Server-Side Data Accesses");
-        DICTIONARY.put(1061, "Insufficient Encapsulation");
-        DICTIONARY.put(1062, "Parent Class with References to Child Class");
-        DICTIONARY.put(1063, "Creation of Class Instance within a Static Code Block");
-        DICTIONARY.put(1064, "Invokable Control Element with Signature Containing an Excessive Number of Parameters");
-        DICTIONARY.put(1065, "Runtime Resource Management Control Element in a Component Built to Run on Application Servers");
-        DICTIONARY.put(1066, "Missing Serialization Control Element");
-        DICTIONARY.put(1067, "Excessive Execution of Sequential Searches of Data Resource");
-        DICTIONARY.put(1068, "Inconsistency Between Implementation and Documented Design");
-        DICTIONARY.put(1069, "Empty Exception Block");
-        DICTIONARY.put(1070, "Serializable Data Element Containing non-Serializable Item Elements");
-        DICTIONARY.put(1071, "Empty Code Block");
-        DICTIONARY.put(1072, "Data Resource Access without Use of Connection Pooling");
-        DICTIONARY.put(1073, "Non-SQL Invokable Control Element with Excessive Number of Data Resource Accesses");
-        DICTIONARY.put(1074, "Class with Excessively Deep Inheritance");
-        DICTIONARY.put(1075, "Unconditional Control Flow Transfer outside of Switch Block");
-        DICTIONARY.put(1076, "Insufficient Adherence to Expected Conventions");
-        DICTIONARY.put(1077, "Floating Point Comparison with Incorrect Operator");
-        DICTIONARY.put(1078, "Inappropriate Source Code Style or Formatting");
-        DICTIONARY.put(1079, "Parent Class without Virtual Destructor Method");
-        DICTIONARY.put(1080, "Source Code File with Excessive Number of Lines of Code");
-        DICTIONARY.put(1081, "Entries with Maintenance Notes");
-        DICTIONARY.put(1082, "Class Instance Self Destruction Control Element");
-        DICTIONARY.put(1083, "Data Access from Outside Expected Data Manager Component");
-        DICTIONARY.put(1084, "Invokable Control Element with Excessive File or Data Access Operations");
-        DICTIONARY.put(1085, "Invokable Control Element with Excessive Volume of Commented-out Code");
-        DICTIONARY.put(1086, "Class with Excessive Number of Child Classes");
-        DICTIONARY.put(1087, "Class with Virtual Method without a Virtual Destructor");
-        DICTIONARY.put(1088, "Synchronous Access of Remote Resource without Timeout");
-        DICTIONARY.put(1089, "Large Data Table with Excessive Number of Indices");
-        DICTIONARY.put(1090, "Method Containing Access of a Member Element from Another Class");
-        DICTIONARY.put(1091, "Use of Object without Invoking Destructor Method");
-        DICTIONARY.put(1092, "Use of Same Invokable Control Element in Multiple Architectural Layers");
-        DICTIONARY.put(1093, "Excessively Complex Data Representation");
-        DICTIONARY.put(1094, "Excessive Index Range Scan for a Data Resource");
-        DICTIONARY.put(1095, "Loop Condition Value Update within the Loop");
-        DICTIONARY.put(1096, "Singleton Class Instance Creation without Proper Locking or Synchronization");
-        DICTIONARY.put(1097, "Persistent Storable Data Element without Associated Comparison Control Element");
-        DICTIONARY.put(1098, "Data Element containing Pointer Item without Proper Copy Control Element");
-        DICTIONARY.put(1099, "Inconsistent Naming Conventions for Identifiers");
-        DICTIONARY.put(1100, "Insufficient Isolation of System-Dependent Functions");
-        DICTIONARY.put(1101, "Reliance on Runtime Component in Generated Code");
-        DICTIONARY.put(1102, "Reliance on Machine-Dependent Data Representation");
-        DICTIONARY.put(1103, "Use of Platform-Dependent Third Party Components");
-        DICTIONARY.put(1104, "Use of Unmaintained Third Party Components");
-        DICTIONARY.put(1105, "Insufficient Encapsulation of Machine-Dependent Functionality");
-        DICTIONARY.put(1106, "Insufficient Use of Symbolic Constants");
-        DICTIONARY.put(1107, "Insufficient Isolation of Symbolic Constant Definitions");
-        DICTIONARY.put(1108, "Excessive Reliance on Global Variables");
-        DICTIONARY.put(1109, "Use of Same Variable for Multiple Purposes");
-        DICTIONARY.put(1110, "Incomplete Design Documentation");
-        DICTIONARY.put(1111, "Incomplete I/O Documentation");
-        DICTIONARY.put(1112, "Incomplete Documentation of Program Execution");
-        DICTIONARY.put(1113, "Inappropriate Comment Style");
-        DICTIONARY.put(1114, "Inappropriate Whitespace Style");
-        DICTIONARY.put(1115, "Source Code Element without Standard Prologue");
-        DICTIONARY.put(1116, "Inaccurate Comments");
-        DICTIONARY.put(1117, "Callable with Insufficient Behavioral Summary");
-        DICTIONARY.put(1118, "Insufficient Documentation of Error Handling Techniques");
-        DICTIONARY.put(1119, "Excessive Use of Unconditional Branching");
-        DICTIONARY.put(1120, "Excessive Code Complexity");
-        DICTIONARY.put(1121, "Excessive McCabe Cyclomatic Complexity");
-        DICTIONARY.put(1122, "Excessive Halstead Complexity");
-        DICTIONARY.put(1123, "Excessive Use of Self-Modifying Code");
-        DICTIONARY.put(1124, "Excessively Deep Nesting");
-        DICTIONARY.put(1125, "Excessive Attack Surface");
-        DICTIONARY.put(1126, "Declaration of Variable with Unnecessarily Wide Scope");
-        DICTIONARY.put(1127, "Compilation with Insufficient Warnings or Errors");
-        DICTIONARY.put(1128, "CISQ Quality Measures (2016)");
-        DICTIONARY.put(1129, "CISQ Quality Measures (2016) - Reliability");
-        DICTIONARY.put(1130, "CISQ Quality Measures (2016) - Maintainability");
-        DICTIONARY.put(1131, "CISQ Quality Measures (2016) - Security");
-        DICTIONARY.put(1132, "CISQ Quality Measures (2016) - Performance Efficiency");
-        DICTIONARY.put(1133, "Weaknesses Addressed by the SEI CERT Oracle Coding Standard for Java");
-        DICTIONARY.put(1134, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 00. Input Validation and Data Sanitization (IDS)");
-        DICTIONARY.put(1135, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 01. Declarations and Initialization (DCL)");
-        DICTIONARY.put(1136, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 02. Expressions (EXP)");
-        DICTIONARY.put(1137, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 03. Numeric Types and Operations (NUM)");
-        DICTIONARY.put(1138, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 04. Characters and Strings (STR)");
-        DICTIONARY.put(1139, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 05. Object Orientation (OBJ)");
-        DICTIONARY.put(1140, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 06. Methods (MET)");
-        DICTIONARY.put(1141, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 07. Exceptional Behavior (ERR)");
-        DICTIONARY.put(1142, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 08. Visibility and Atomicity (VNA)");
-        DICTIONARY.put(1143, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 09. Locking (LCK)");
-        DICTIONARY.put(1144, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 10. Thread APIs (THI)");
-        DICTIONARY.put(1145, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 11. Thread Pools (TPS)");
-        DICTIONARY.put(1146, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 12. Thread-Safety Miscellaneous (TSM)");
-        DICTIONARY.put(1147, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 13. Input Output (FIO)");
-        DICTIONARY.put(1148, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 14. Serialization (SER)");
-        DICTIONARY.put(1149, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 15. Platform Security (SEC)");
-        DICTIONARY.put(1150, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 16. Runtime Environment (ENV)");
-        DICTIONARY.put(1151, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 17. Java Native Interface (JNI)");
-        DICTIONARY.put(1152, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 49. Miscellaneous (MSC)");
-        DICTIONARY.put(1153, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 50. Android (DRD)");
-        DICTIONARY.put(1154, "Weaknesses Addressed by the SEI CERT C Coding Standard");
-        DICTIONARY.put(1155, "SEI CERT C Coding Standard - Guidelines 01. Preprocessor (PRE)");
-        DICTIONARY.put(1156, "SEI CERT C Coding Standard - Guidelines 02. Declarations and Initialization (DCL)");
-        DICTIONARY.put(1157, "SEI CERT C Coding Standard - Guidelines 03. Expressions (EXP)");
-        DICTIONARY.put(1158, "SEI CERT C Coding Standard - Guidelines 04. Integers (INT)");
-        DICTIONARY.put(1159, "SEI CERT C Coding Standard - Guidelines 05. Floating Point (FLP)");
-        DICTIONARY.put(1160, "SEI CERT C Coding Standard - Guidelines 06. Arrays (ARR)");
-        DICTIONARY.put(1161, "SEI CERT C Coding Standard - Guidelines 07. Characters and Strings (STR)");
-        DICTIONARY.put(1162, "SEI CERT C Coding Standard - Guidelines 08. Memory Management (MEM)");
-        DICTIONARY.put(1163, "SEI CERT C Coding Standard - Guidelines 09. Input Output (FIO)");
-        DICTIONARY.put(1164, "Irrelevant Code");
-        DICTIONARY.put(1165, "SEI CERT C Coding Standard - Guidelines 10. Environment (ENV)");
-        DICTIONARY.put(1166, "SEI CERT C Coding Standard - Guidelines 11. Signals (SIG)");
-        DICTIONARY.put(1167, "SEI CERT C Coding Standard - Guidelines 12. Error Handling (ERR)");
-        DICTIONARY.put(1168, "SEI CERT C Coding Standard - Guidelines 13. Application Programming Interfaces (API)");
-        DICTIONARY.put(1169, "SEI CERT C Coding Standard - Guidelines 14. Concurrency (CON)");
-        DICTIONARY.put(1170, "SEI CERT C Coding Standard - Guidelines 48. Miscellaneous (MSC)");
-        DICTIONARY.put(1171, "SEI CERT C Coding Standard - Guidelines 50. POSIX (POS)");
-        DICTIONARY.put(1172, "SEI CERT C Coding Standard - Guidelines 51. Microsoft Windows (WIN) ");
-        DICTIONARY.put(1173, "Improper Use of Validation Framework");
-        DICTIONARY.put(1174, "ASP.NET Misconfiguration: Improper Model Validation");
-        DICTIONARY.put(1175, "SEI CERT Oracle Secure Coding Standard for Java - Guidelines 18. Concurrency (CON)");
-        DICTIONARY.put(1176, "Inefficient CPU Computation");
-        DICTIONARY.put(1177, "Use of Prohibited Code");
-        DICTIONARY.put(1178, "Weaknesses Addressed by the SEI CERT Perl Coding Standard");
-        DICTIONARY.put(1179, "SEI CERT Perl Coding Standard - Guidelines 01. Input Validation and Data Sanitization (IDS)");
-        DICTIONARY.put(1180, "SEI CERT Perl Coding Standard - Guidelines 02. Declarations and Initialization (DCL)");
-        DICTIONARY.put(1181, "SEI CERT Perl Coding Standard - Guidelines 03. Expressions (EXP)");
-        DICTIONARY.put(1182, "SEI CERT Perl Coding Standard - Guidelines 04. Integers (INT)");
-        DICTIONARY.put(1183, "SEI CERT Perl Coding Standard - Guidelines 05. Strings (STR)");
-        DICTIONARY.put(1184, "SEI CERT Perl Coding Standard - Guidelines 06. Object-Oriented Programming (OOP)");
-        DICTIONARY.put(1185, "SEI CERT Perl Coding Standard - Guidelines 07. File Input and Output (FIO)");
-        DICTIONARY.put(1186, "SEI CERT Perl Coding Standard - Guidelines 50. Miscellaneous (MSC)");
-        DICTIONARY.put(1187, "DEPRECATED: Use of Uninitialized Resource");
-        DICTIONARY.put(1188, "Initialization of a Resource with an Insecure Default");
-        DICTIONARY.put(1189, "Improper Isolation of Shared Resources on System-on-a-Chip (SoC)");
-        DICTIONARY.put(1190, "DMA Device Enabled Too Early in Boot Phase");
-        DICTIONARY.put(1191, "On-Chip Debug and Test Interface With Improper Access Control");
-        DICTIONARY.put(1192, "Improper Identifier for IP Block used in System-On-Chip (SOC)");
-        DICTIONARY.put(1193, "Power-On of Untrusted Execution Core Before Enabling Fabric Access Control");
-        DICTIONARY.put(1194, "Hardware Design");
-        DICTIONARY.put(1195, "Manufacturing and Life Cycle Management Concerns");
-        DICTIONARY.put(1196, "Security Flow Issues");
-        DICTIONARY.put(1197, "Integration Issues");
-        DICTIONARY.put(1198, "Privilege Separation and Access Control Issues");
-        DICTIONARY.put(1199, "General Circuit and Logic Design Concerns");
-        DICTIONARY.put(1200, "Weaknesses in the 2019 CWE Top 25 Most Dangerous Software Errors");
-        DICTIONARY.put(1201, "Core and Compute Issues");
-        DICTIONARY.put(1202, "Memory and Storage Issues");
-        DICTIONARY.put(1203, "Peripherals, On-chip Fabric, and Interface/IO Problems");
-        DICTIONARY.put(1204, "Generation of Weak Initialization Vector (IV)");
-        DICTIONARY.put(1205, "Security Primitives and Cryptography Issues");
-        DICTIONARY.put(1206, "Power, Clock, Thermal, and Reset Concerns");
-        DICTIONARY.put(1207, "Debug and Test Problems");
-        DICTIONARY.put(1208, "Cross-Cutting Problems");
-        DICTIONARY.put(1209, "Failure to Disable Reserved Bits");
-        DICTIONARY.put(1210, "Audit / Logging Errors");
-        DICTIONARY.put(1211, "Authentication Errors");
-        DICTIONARY.put(1212, "Authorization Errors");
-        DICTIONARY.put(1213, "Random Number Issues");
-        DICTIONARY.put(1214, "Data Integrity Issues");
-        DICTIONARY.put(1215, "Data Validation Issues");
-        DICTIONARY.put(1216, "Lockout Mechanism Errors");
-        DICTIONARY.put(1217, "User Session Errors");
-        DICTIONARY.put(1218, "Memory Buffer Errors");
-        DICTIONARY.put(1219, "File Handling Issues");
-        DICTIONARY.put(1220, "Insufficient Granularity of Access Control");
-        DICTIONARY.put(1221, "Incorrect Register Defaults or Module Parameters");
-        DICTIONARY.put(1222, "Insufficient Granularity of Address Regions Protected by Register Locks");
-        DICTIONARY.put(1223, "Race Condition for Write-Once Attributes");
-        DICTIONARY.put(1224, "Improper Restriction of Write-Once Bit Fields");
-        DICTIONARY.put(1225, "Documentation Issues");
-        DICTIONARY.put(1226, "Complexity Issues");
-        DICTIONARY.put(1227, "Encapsulation Issues");
-        DICTIONARY.put(1228, "API / Function Errors");
-        DICTIONARY.put(1229, "Creation of Emergent Resource");
-        DICTIONARY.put(1230, "Exposure of Sensitive Information Through Metadata");
-        DICTIONARY.put(1231, "Improper Prevention of Lock Bit Modification");
-        DICTIONARY.put(1232, "Improper Lock Behavior After Power State Transition");
-        DICTIONARY.put(1233, "Security-Sensitive Hardware Controls with Missing Lock Bit Protection");
-        DICTIONARY.put(1234, "Hardware Internal or Debug Modes Allow Override of Locks");
-        DICTIONARY.put(1235, "Incorrect Use of Autoboxing and Unboxing for Performance Critical Operations");
-        DICTIONARY.put(1236, "Improper Neutralization of Formula Elements in a CSV File");
-        DICTIONARY.put(1237, "SFP Primary Cluster: Faulty Resource Release");
-        DICTIONARY.put(1238, "SFP Primary Cluster: Failure to Release Memory");
-        DICTIONARY.put(1239, "Improper Zeroization of Hardware Register");
-        DICTIONARY.put(1240, "Use of a Cryptographic Primitive with a Risky Implementation");
-        DICTIONARY.put(1241, "Use of Predictable Algorithm in Random Number Generator");
-        DICTIONARY.put(1242, "Inclusion of Undocumented Features or Chicken Bits");
-        DICTIONARY.put(1243, "Sensitive Non-Volatile Information Not Protected During Debug");
-        DICTIONARY.put(1244, "Internal Asset Exposed to Unsafe Debug Access Level or State");
-        DICTIONARY.put(1245, "Improper Finite State Machines (FSMs) in Hardware Logic");
-        DICTIONARY.put(1246, "Improper Write Handling in Limited-write Non-Volatile Memories");
-        DICTIONARY.put(1247, "Improper Protection Against Voltage and Clock Glitches");
-        DICTIONARY.put(1248, "Semiconductor Defects in Hardware Logic with Security-Sensitive Implications");
-        DICTIONARY.put(1249, "Application-Level Admin Tool with Inconsistent View of Underlying Operating System");
-        DICTIONARY.put(1250, "Improper Preservation of Consistency Between Independent Representations of Shared State");
-        DICTIONARY.put(1251, "Mirrored Regions with Different Values");
-        DICTIONARY.put(1252, "CPU Hardware Not Configured to Support Exclusivity of Write and Execute Operations");
-        DICTIONARY.put(1253, "Incorrect Selection of Fuse Values");
-        DICTIONARY.put(1254, "Incorrect Comparison Logic Granularity");
-        DICTIONARY.put(1255, "Comparison Logic is Vulnerable to Power Side-Channel Attacks");
-        DICTIONARY.put(1256, "Improper Restriction of Software Interfaces to Hardware Features");
-        DICTIONARY.put(1257, "Improper Access Control Applied to Mirrored or Aliased Memory Regions");
-        DICTIONARY.put(1258, "Exposure of Sensitive System Information Due to Uncleared Debug Information");
-        DICTIONARY.put(1259, "Improper Restriction of Security Token Assignment");
-        DICTIONARY.put(1260, "Improper Handling of Overlap Between Protected Memory Ranges");
-        DICTIONARY.put(1261, "Improper Handling of Single Event Upsets");
-        DICTIONARY.put(1262, "Improper Access Control for Register Interface");
-        DICTIONARY.put(1263, "Improper Physical Access Control");
-        DICTIONARY.put(1264, "Hardware Logic with Insecure De-Synchronization between Control and Data Channels");
-        DICTIONARY.put(1265, "Unintended Reentrant Invocation of Non-reentrant Code Via Nested Calls");
-        DICTIONARY.put(1266, "Improper Scrubbing of Sensitive Data from Decommissioned Device");
-        DICTIONARY.put(1267, "Policy Uses Obsolete Encoding");
-        DICTIONARY.put(1268, "Policy Privileges are not Assigned Consistently Between Control and Data Agents");
-        DICTIONARY.put(1269, "Product Released in Non-Release Configuration");
-        DICTIONARY.put(1270, "Generation of Incorrect Security Tokens");
-        DICTIONARY.put(1271, "Uninitialized Value on Reset for Registers Holding Security Settings");
-        DICTIONARY.put(1272, "Sensitive Information Uncleared Before Debug/Power State Transition");
-        DICTIONARY.put(1273, "Device Unlock Credential Sharing");
-        DICTIONARY.put(1274, "Improper Access Control for Volatile Memory Containing Boot Code");
-        DICTIONARY.put(1275, "Sensitive Cookie with Improper SameSite Attribute");
-        DICTIONARY.put(1276, "Hardware Child Block Incorrectly Connected to Parent System");
-        DICTIONARY.put(1277, "Firmware Not Updateable");
-        DICTIONARY.put(1278, "Missing Protection Against Hardware Reverse Engineering Using Integrated Circuit (IC) Imaging Techniques");
-        DICTIONARY.put(1279, "Cryptographic Operations are run Before Supporting Units are Ready");
-        DICTIONARY.put(1280, "Access Control Check Implemented After Asset is Accessed");
-        DICTIONARY.put(1281, "Sequence of Processor Instructions Leads to Unexpected Behavior");
-        DICTIONARY.put(1282, "Assumed-Immutable Data is Stored in Writable Memory");
-        DICTIONARY.put(1283, "Mutable Attestation or Measurement Reporting Data");
-        DICTIONARY.put(1284, "Improper Validation of Specified Quantity in Input");
-        DICTIONARY.put(1285, "Improper Validation of Specified Index, Position, or Offset in Input");
-        DICTIONARY.put(1286, "Improper Validation of Syntactic Correctness of Input");
-        DICTIONARY.put(1287, "Improper Validation of Specified Type of Input");
-        DICTIONARY.put(1288, "Improper Validation of Consistency within Input");
-        DICTIONARY.put(1289, "Improper Validation of Unsafe Equivalence in Input");
-        DICTIONARY.put(1290, "Incorrect Decoding of Security Identifiers ");
-        DICTIONARY.put(1291, "Public Key Re-Use for Signing both Debug and Production Code");
-        DICTIONARY.put(1292, "Incorrect Conversion of Security Identifiers");
-        DICTIONARY.put(1293, "Missing Source Correlation of Multiple Independent Data");
-        DICTIONARY.put(1294, "Insecure Security Identifier Mechanism");
-        DICTIONARY.put(1295, "Debug Messages Revealing Unnecessary Information");
-        DICTIONARY.put(1296, "Incorrect Chaining or Granularity of Debug Components");
-        DICTIONARY.put(1297, "Unprotected Confidential Information on Device is Accessible by OSAT Vendors");
-        DICTIONARY.put(1298, "Hardware Logic Contains Race Conditions");
-        DICTIONARY.put(1299, "Missing Protection Mechanism for Alternate Hardware Interface");
-        DICTIONARY.put(1300, "Improper Protection of Physical Side Channels");
-        DICTIONARY.put(1301, "Insufficient or Incomplete Data Removal within Hardware Component");
-        DICTIONARY.put(1302, "Missing Source Identifier in Entity Transactions on a System-On-Chip (SOC)");
-        DICTIONARY.put(1303, "Non-Transparent Sharing of Microarchitectural Resources");
-        DICTIONARY.put(1304, "Improperly Preserved Integrity of Hardware Configuration State During a Power Save/Restore Operation");
-        DICTIONARY.put(1305, "CISQ Quality Measures (2020)");
-        DICTIONARY.put(1306, "CISQ Quality Measures - Reliability");
-        DICTIONARY.put(1307, "CISQ Quality Measures - Maintainability");
-        DICTIONARY.put(1308, "CISQ Quality Measures - Security");
-        DICTIONARY.put(1309, "CISQ Quality Measures - Efficiency");
-        DICTIONARY.put(1310, "Missing Ability to Patch ROM Code");
-        DICTIONARY.put(1311, "Improper Translation of Security Attributes by Fabric Bridge");
-        DICTIONARY.put(1312, "Missing Protection for Mirrored Regions in On-Chip Fabric Firewall");
-        DICTIONARY.put(1313, "Hardware Allows Activation of Test or Debug Logic at Runtime");
-        DICTIONARY.put(1314, "Missing Write Protection for Parametric Data Values");
-        DICTIONARY.put(1315, "Improper Setting of Bus Controlling Capability in Fabric End-point");
-        DICTIONARY.put(1316, "Fabric-Address Map Allows Programming of Unwarranted Overlaps of Protected and Unprotected Ranges");
-        DICTIONARY.put(1317, "Improper Access Control in Fabric Bridge");
-        DICTIONARY.put(1318, "Missing Support for Security Features in On-chip Fabrics or Buses");
-        DICTIONARY.put(1319, "Improper Protection against Electromagnetic Fault Injection (EM-FI)");
-        DICTIONARY.put(1320, "Improper Protection for Outbound Error Messages and Alert Signals");
-        DICTIONARY.put(1321, "Improperly Controlled Modification of Object Prototype Attributes ('Prototype Pollution')");
-        DICTIONARY.put(1322, "Use of Blocking Code in Single-threaded, Non-blocking Context");
-        DICTIONARY.put(1323, "Improper Management of Sensitive Trace Data");
-        DICTIONARY.put(1324, "DEPRECATED: Sensitive Information Accessible by Physical Probing of JTAG Interface");
-        DICTIONARY.put(1325, "Improperly Controlled Sequential Memory Allocation");
-        DICTIONARY.put(1326, "Missing Immutable Root of Trust in Hardware");
-        DICTIONARY.put(1327, "Binding to an Unrestricted IP Address");
-        DICTIONARY.put(1328, "Security Version Number Mutable to Older Versions");
-        DICTIONARY.put(1329, "Reliance on Component That is Not Updateable");
-        DICTIONARY.put(1330, "Remanent Data Readable after Memory Erase");
-        DICTIONARY.put(1331, "Improper Isolation of Shared Resources in Network On Chip (NoC)");
-        DICTIONARY.put(1332, "Improper Handling of Faults that Lead to Instruction Skips");
-        DICTIONARY.put(1333, "Inefficient Regular Expression Complexity");
-        DICTIONARY.put(1334, "Unauthorized Error Injection Can Degrade Hardware Redundancy");
-        DICTIONARY.put(1335, "Incorrect Bitwise Shift of Integer");
-        DICTIONARY.put(1336, "Improper Neutralization of Special Elements Used in a Template Engine");
-        DICTIONARY.put(1337, "Weaknesses in the 2021 CWE Top 25 Most Dangerous Software Weaknesses");
-        DICTIONARY.put(1338, "Improper Protections Against Hardware Overheating");
-        DICTIONARY.put(1339, "Insufficient Precision or Accuracy of a Real Number");
-        DICTIONARY.put(1340, "CISQ Data Protection Measures");
-        DICTIONARY.put(1341, "Multiple Releases of Same Resource or Handle");
-        DICTIONARY.put(1342, "Information Exposure through Microarchitectural State after Transient Execution");
-        DICTIONARY.put(1343, "Weaknesses in the 2021 CWE Most Important Hardware Weaknesses List");
-        DICTIONARY.put(1344, "Weaknesses in OWASP Top Ten (2021)");
-        DICTIONARY.put(1345, "OWASP Top Ten 2021 Category A01:2021 - Broken Access Control");
-        DICTIONARY.put(1346, "OWASP Top Ten 2021 Category A02:2021 - Cryptographic Failures");
-        DICTIONARY.put(1347, "OWASP Top Ten 2021 Category A03:2021 - Injection");
-        DICTIONARY.put(1348, "OWASP Top Ten 2021 Category A04:2021 - Insecure Design");
-        DICTIONARY.put(1349, "OWASP Top Ten 2021 Category A05:2021 - Security Misconfiguration");
-        DICTIONARY.put(1350, "Weaknesses in the 2020 CWE Top 25 Most Dangerous Software Weaknesses");
-        DICTIONARY.put(1351, "Improper Handling of Hardware Behavior in Exceptionally Cold Environments");
-        DICTIONARY.put(1352, "OWASP Top Ten 2021 Category A06:2021 - Vulnerable and Outdated Components");
-        DICTIONARY.put(1353, "OWASP Top Ten 2021 Category A07:2021 - Identification and Authentication Failures");
-        DICTIONARY.put(1354, "OWASP Top Ten 2021 Category A08:2021 - Software and Data Integrity Failures");
-        DICTIONARY.put(1355, "OWASP Top Ten 2021 Category A09:2021 - Security Logging and Monitoring Failures");
-        DICTIONARY.put(1356, "OWASP Top Ten 2021 Category A10:2021 - Server-Side Request Forgery (SSRF)");
-        DICTIONARY.put(1357, "Reliance on Insufficiently Trustworthy Component");
-        DICTIONARY.put(1358, "Weaknesses in SEI ETF Categories of Security Vulnerabilities in ICS");
-        DICTIONARY.put(1359, "ICS Communications");
-        DICTIONARY.put(1360, "ICS Dependencies (\u0026 Architecture)");
-        DICTIONARY.put(1361, "ICS Supply Chain");
-        DICTIONARY.put(1362, "ICS Engineering (Constructions/Deployment)");
-        DICTIONARY.put(1363, "ICS Operations (\u0026 Maintenance)");
-        DICTIONARY.put(1364, "ICS Communications: Zone Boundary Failures");
-        DICTIONARY.put(1365, "ICS Communications: Unreliability");
-        DICTIONARY.put(1366, "ICS Communications: Frail Security in Protocols");
-        DICTIONARY.put(1367, "ICS Dependencies (\u0026 Architecture): External Physical Systems");
-        DICTIONARY.put(1368, "ICS Dependencies (\u0026 Architecture): External Digital Systems");
-        DICTIONARY.put(1369, "ICS Supply Chain: IT/OT Convergence/Expansion");
-        DICTIONARY.put(1370, "ICS Supply Chain: Common Mode Frailties");
-        DICTIONARY.put(1371, "ICS Supply Chain: Poorly Documented or Undocumented Features");
-        DICTIONARY.put(1372, "ICS Supply Chain: OT Counterfeit and Malicious Corruption");
-        DICTIONARY.put(1373, "ICS Engineering (Construction/Deployment): Trust Model Problems");
-        DICTIONARY.put(1374, "ICS Engineering (Construction/Deployment): Maker Breaker Blindness");
-        DICTIONARY.put(1375, "ICS Engineering (Construction/Deployment): Gaps in Details/Data");
-        DICTIONARY.put(1376, "ICS Engineering (Construction/Deployment): Security Gaps in Commissioning");
-        DICTIONARY.put(1377, "ICS Engineering (Construction/Deployment): Inherent Predictability in Design");
-        DICTIONARY.put(1378, "ICS Operations (\u0026 Maintenance): Gaps in obligations and training");
-        DICTIONARY.put(1379, "ICS Operations (\u0026 Maintenance): Human factors in ICS environments");
-        DICTIONARY.put(1380, "ICS Operations (\u0026 Maintenance): Post-analysis changes");
-        DICTIONARY.put(1381, "ICS Operations (\u0026 Maintenance): Exploitable Standard Operational Procedures");
-        DICTIONARY.put(1382, "ICS Operations (\u0026 Maintenance): Emerging Energy Technologies");
-        DICTIONARY.put(1383, "ICS Operations (\u0026 Maintenance): Compliance/Conformance with Regulatory Requirements");
-        DICTIONARY.put(1384, "Improper Handling of Physical or Environmental Conditions");
-        DICTIONARY.put(1385, "Missing Origin Validation in WebSockets");
-        DICTIONARY.put(1386, "Insecure Operation on Windows Junction / Mount Point");
-        DICTIONARY.put(1387, "Weaknesses in the 2022 CWE Top 25 Most Dangerous Software Weaknesses");
-        DICTIONARY.put(1388, "Physical Access Issues and Concerns");
-        DICTIONARY.put(1389, "Incorrect Parsing of Numbers with Different Radices");
-        DICTIONARY.put(1390, "Weak Authentication");
-        DICTIONARY.put(1391, "Use of Weak Credentials");
-        DICTIONARY.put(1392, "Use of Default Credentials");
-        DICTIONARY.put(1393, "Use of Default Password");
-        DICTIONARY.put(1394, "Use of Default Cryptographic Key");
-        DICTIONARY.put(1395, "Dependency on Vulnerable Third-Party Component");
-        DICTIONARY.put(1396, "Comprehensive Categorization: Access Control");
-        DICTIONARY.put(1397, "Comprehensive Categorization: Comparison");
-        DICTIONARY.put(1398, "Comprehensive Categorization: Component Interaction");
-        DICTIONARY.put(1399, "Comprehensive Categorization: Memory Safety");
-        DICTIONARY.put(1400, "Comprehensive Categorization for Software Assurance Trends");
-        DICTIONARY.put(1401, "Comprehensive Categorization: Concurrency");
-        DICTIONARY.put(1402, "Comprehensive Categorization: Encryption");
-        DICTIONARY.put(1403, "Comprehensive Categorization: Exposed Resource");
-        DICTIONARY.put(1404, "Comprehensive Categorization: File Handling");
-        DICTIONARY.put(1405, "Comprehensive Categorization: Improper Check or Handling of Exceptional Conditions");
-        DICTIONARY.put(1406, "Comprehensive Categorization: Improper Input Validation");
-        DICTIONARY.put(1407, "Comprehensive Categorization: Improper Neutralization");
-        DICTIONARY.put(1408, "Comprehensive Categorization: Incorrect Calculation");
-        DICTIONARY.put(1409, "Comprehensive Categorization: Injection");
-        DICTIONARY.put(1410, "Comprehensive Categorization: Insufficient Control Flow Management");
-        DICTIONARY.put(1411, "Comprehensive Categorization: Insufficient Verification of Data Authenticity");
-        DICTIONARY.put(1412, "Comprehensive Categorization: Poor Coding Practices");
-        DICTIONARY.put(1413, "Comprehensive Categorization: Protection Mechanism Failure");
-        DICTIONARY.put(1414, "Comprehensive Categorization: Randomness");
-        DICTIONARY.put(1415, "Comprehensive Categorization: Resource Control");
-        DICTIONARY.put(1416, "Comprehensive Categorization: Resource Lifecycle Management");
-        DICTIONARY.put(1417, "Comprehensive Categorization: Sensitive Information Exposure");
-        DICTIONARY.put(1418, "Comprehensive Categorization: Violation of Secure Design Principles");
-        DICTIONARY.put(1419, "Incorrect Initialization of Resource");
-        DICTIONARY.put(1420, "Exposure of Sensitive Information during Transient Execution");
-        DICTIONARY.put(1421, "Exposure of Sensitive Information in Shared Microarchitectural Structures during Transient Execution");
-        DICTIONARY.put(1422, "Exposure of Sensitive Information caused by Incorrect Data Forwarding during Transient Execution");
-        DICTIONARY.put(1423, "Exposure of Sensitive Information caused by Shared Microarchitectural Predictor State that Influences Transient Execution");
-        DICTIONARY.put(1424, "Weaknesses Addressed by ISA/IEC 62443 Requirements");
-        DICTIONARY.put(1425, "Weaknesses in the 2023 CWE Top 25 Most Dangerous Software Weaknesses");
-        DICTIONARY.put(2000, "Comprehensive CWE Dictionary");
+    private static CweDictionary create(final List<Integer> ids, final List<String> names) {
+        final int[] idArray = ids.stream().mapToInt(Integer::intValue).toArray();
+        final String[] namesById = new String[idArray.length > 0 ? idArray[idArray.length - 1] + 1 : 0];
+        for (int i = 0; i < idArray.length; i++) {
+            namesById[idArray[i]] = names.get(i);
         }
 
-    private CweDictionary() {
+        return new CweDictionary(idArray, namesById);
     }
 
 }
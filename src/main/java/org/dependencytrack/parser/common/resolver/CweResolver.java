@@ -20,12 +20,10 @@ package org.dependencytrack.parser.common.resolver;
 
 import alpine.persistence.PaginatedResult;
 import alpine.persistence.Pagination;
-import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.model.Cwe;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Attempts to resolve an internal CWE object from a string
@@ -54,7 +52,7 @@ public class CweResolver {
      * @since 4.5.0
      */
     public Cwe lookup(final String cweString) {
-        return lookup(parseCweString(cweString));
+        return lookupById(parseCweId(cweString));
     }
 
     /**
@@ -66,16 +64,19 @@ public class CweResolver {
      * @since 4.5.0
      */
     public Cwe lookup(final Integer cweId) {
-        if (cweId != null) {
-            final String cweName = CweDictionary.DICTIONARY.get(cweId);
-            if (cweName != null) {
-                final Cwe cwe = new Cwe();
-                cwe.setCweId(cweId);
-                cwe.setName(cweName);
-                return cwe;
-            }
+        return cweId != null ? lookupById(cweId) : null;
+    }
+
+    private static Cwe lookupById(final int cweId) {
+        final String cweName = CweDictionary.getInstance().getName(cweId);
+        if (cweName == null) {
+            return null;
         }
-        return null;
+
+        final Cwe cwe = new Cwe();
+        cwe.setCweId(cweId);
+        cwe.setName(cweName);
+        return cwe;
     }
 
     /**
@@ -84,67 +85,100 @@ public class CweResolver {
      * @return a Cwe object
      */
     public Integer parseCweString(final String cweString) {
-        if (StringUtils.isNotBlank(cweString)) {
-            final String string = cweString.trim();
-            String lookupString = "";
-            if (string.startsWith("CWE-") && string.contains(" ")) {
+        final int cweId = parseCweId(cweString);
+        return cweId >= 0 ? cweId : null;
+    }
+
+    /**
+     * Parses the CWE ID from strings in the formats {@code CWE-264 Permissions, Privileges, and Access Controls},
+     * {@code CWE-264}, or {@code 264}, without allocating intermediate strings.
+     *
+     * @param cweString the string to parse
+     * @return the CWE ID, or {@code -1} when {@code cweString} is not a valid CWE reference
+     */
+    private static int parseCweId(final String cweString) {
+        if (cweString == null) {
+            return -1;
+        }
+
+        int start = 0;
+        int end = cweString.length();
+        while (start < end && Character.isWhitespace(cweString.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(cweString.charAt(end - 1))) {
+            end--;
+        }
+
+        if (cweString.startsWith("CWE-", start)) {
+            final int spaceIndex = cweString.indexOf(' ', start);
+            if (spaceIndex >= 0 && spaceIndex < end) {
                 // This is likely to be in the following format:
                 // CWE-264 Permissions, Privileges, and Access Controls
-                lookupString = string.substring(4, string.indexOf(" "));
-            } else if (string.startsWith("CWE-") && string.length() < 9) {
+                return parseDigits(cweString, start + 4, spaceIndex);
+            } else if (end - start < 9) {
                 // This is likely to be in the following format:
                 // CWE-264
-                lookupString = string.substring(4);
-            } else if (string.length() < 5) {
-                // This is likely to be in the following format:
-                // 264
-                lookupString = string;
+                return parseDigits(cweString, start + 4, end);
             }
-            try {
-                return Integer.valueOf(lookupString);
-            } catch (NumberFormatException e) {
-                // throw it away
+        } else if (end - start < 5) {
+            // This is likely to be in the following format:
+            // 264
+            return parseDigits(cweString, start, end);
+        }
+
+        return -1;
+    }
+
+    private static int parseDigits(final String string, final int start, final int end) {
+        if (start >= end) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            final char c = string.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            final int digit = c - '0';
+            if (value > (Integer.MAX_VALUE - digit) / 10) {
+                return -1;
             }
+
+            value = value * 10 + digit;
         }
-        return null;
+
+        return value;
     }
 
     public List<Cwe> all() {
-        return CweDictionary.DICTIONARY.entrySet().stream()
-                .map(dictEntry -> {
-                    final var cwe = new Cwe();
-                    cwe.setCweId(dictEntry.getKey());
-                    cwe.setName(dictEntry.getValue());
-                    return cwe;
-                })
-                .toList();
+        final CweDictionary dictionary = CweDictionary.getInstance();
+
+        final var cwes = new ArrayList<Cwe>(dictionary.size());
+        for (int i = 0; i < dictionary.size(); i++) {
+            cwes.add(lookupById(dictionary.getIdAt(i)));
+        }
+
+        return cwes;
     }
 
     public PaginatedResult all(final Pagination pagination) {
+        final CweDictionary dictionary = CweDictionary.getInstance();
         if (pagination == null || !pagination.isPaginated()) {
-            final List<Cwe> cwes = all();
-            return new PaginatedResult().objects(cwes).total(CweDictionary.DICTIONARY.size());
+            return new PaginatedResult().objects(all()).total(dictionary.size());
         }
 
-        int pos = 0;
-        final var cwes = new ArrayList<Cwe>();
-        for (final Map.Entry<Integer, String> dictEntry : CweDictionary.DICTIONARY.entrySet()) {
-            if (pagination.getOffset() > pos) {
-                continue;
-            }
-            if (pagination.getLimit() <= pos) {
-                break;
-            }
-
-            final var cwe = new Cwe();
-            cwe.setCweId(dictEntry.getKey());
-            cwe.setName(dictEntry.getValue());
-            cwes.add(cwe);
+        final int fromIndex = Math.min(Math.max(pagination.getOffset(), 0), dictionary.size());
+        final int toIndex = Math.min(fromIndex + Math.max(pagination.getLimit(), 0), dictionary.size());
 
-            pos++;
+        final var cwes = new ArrayList<Cwe>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            cwes.add(lookupById(dictionary.getIdAt(i)));
         }
 
-        return new PaginatedResult().objects(cwes).total(CweDictionary.DICTIONARY.size());
+        return new PaginatedResult().objects(cwes).total(dictionary.size());
     }
 
 }
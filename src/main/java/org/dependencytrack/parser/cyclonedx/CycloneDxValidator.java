@@ -22,6 +22,8 @@ import alpine.common.logging.Logger;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.commons.io.function.IOFunction;
+import org.apache.commons.io.function.IOSupplier;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.parsers.JsonParser;
@@ -35,6 +37,9 @@ import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.XMLEvent;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -72,8 +77,27 @@ public class CycloneDxValidator {
     }
 
     public void validate(final byte[] bomBytes) {
-        final FormatAndVersion formatAndVersion = detectFormatAndSchemaVersion(bomBytes);
+        final FormatAndVersion formatAndVersion = detectFormatAndSchemaVersion(() -> new ByteArrayInputStream(bomBytes));
+        validate(formatAndVersion, bomParser -> bomParser.validate(bomBytes, formatAndVersion.version()));
+    }
+
+    /**
+     * Validate a BOM stored in a file, without reading the file into a byte array first.
+     *
+     * @param bomPath {@link Path} to the BOM file
+     * @since 5.6.0
+     */
+    public void validate(final Path bomPath) {
+        final FormatAndVersion formatAndVersion = detectFormatAndSchemaVersion(() -> Files.newInputStream(bomPath));
+        validate(formatAndVersion, bomParser -> {
+            try (final InputStream inputStream = Files.newInputStream(bomPath)) {
+                return bomParser.validate(inputStream, formatAndVersion.version());
+            }
+        });
+    }
 
+    private void validate(final FormatAndVersion formatAndVersion,
+                          final IOFunction<Parser, List<ParseException>> validationFunction) {
         final Parser bomParser = switch (formatAndVersion.format()) {
             case JSON -> new JsonParser();
             case XML -> new XmlParser();
@@ -81,7 +105,7 @@ public class CycloneDxValidator {
 
         final List<ParseException> validationErrors;
         try {
-            validationErrors = bomParser.validate(bomBytes, formatAndVersion.version());
+            validationErrors = validationFunction.apply(bomParser);
         } catch (IOException e) {
             throw new RuntimeException("Failed to validate BOM", e);
         }
@@ -93,11 +117,11 @@ public class CycloneDxValidator {
         }
     }
 
-    private FormatAndVersion detectFormatAndSchemaVersion(final byte[] bomBytes) {
+    private FormatAndVersion detectFormatAndSchemaVersion(final IOSupplier<InputStream> bomInputStreamSupplier) {
         final var suppressedExceptions = new ArrayList<Exception>(2);
 
-        try {
-            final Version version = detectSchemaVersionFromJson(bomBytes);
+        try (final InputStream inputStream = bomInputStreamSupplier.get()) {
+            final Version version = detectSchemaVersionFromJson(inputStream);
             return new FormatAndVersion(Format.JSON, version);
         } catch (JsonParseException e) {
             suppressedExceptions.add(e);
@@ -108,14 +132,16 @@ public class CycloneDxValidator {
             throw new RuntimeException(e);
         }
 
-        try {
-            final Version version = detectSchemaVersionFromXml(bomBytes);
+        try (final InputStream inputStream = bomInputStreamSupplier.get()) {
+            final Version version = detectSchemaVersionFromXml(inputStream);
             return new FormatAndVersion(Format.XML, version);
         } catch (XMLStreamException e) {
             suppressedExceptions.add(e);
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Failed to parse BOM as XML", e);
             }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
 
         final var exception = new InvalidBomException("BOM is neither valid JSON nor XML");
@@ -123,8 +149,8 @@ public class CycloneDxValidator {
         throw exception;
     }
 
-    private Version detectSchemaVersionFromJson(final byte[] bomBytes) throws IOException {
-        try (final com.fasterxml.jackson.core.JsonParser jsonParser = jsonMapper.createParser(bomBytes)) {
+    private Version detectSchemaVersionFromJson(final InputStream inputStream) throws IOException {
+        try (final com.fasterxml.jackson.core.JsonParser jsonParser = jsonMapper.createParser(inputStream)) {
             JsonToken currentToken = jsonParser.nextToken();
             if (currentToken != JsonToken.START_OBJECT) {
                 final String currentTokenAsString = Optional.ofNullable(currentToken)
@@ -162,7 +188,7 @@ public class CycloneDxValidator {
         }
     }
 
-    private Version detectSchemaVersionFromXml(final byte[] bomBytes) throws XMLStreamException {
+    private Version detectSchemaVersionFromXml(final InputStream inputStream) throws XMLStreamException {
         final XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
         xmlInputFactory.setProperty(XMLConstants.FEATURE_SECURE_PROCESSING, true);
         // NB: Setting XMLConstants.ACCESS_EXTERNAL_DTD to empty string is recommended by SAST tools,
@@ -170,8 +196,7 @@ public class CycloneDxValidator {
         // Setting IS_SUPPORTING_EXTERNAL_ENTITIES to false achieves the same:
         // https://github.com/FasterXML/woodstox/issues/50#issuecomment-388842419
         xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        final var bomBytesStream = new ByteArrayInputStream(bomBytes);
-        final XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(bomBytesStream);
+        final XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream);
 
         Version schemaVersion = null;
         while (xmlStreamReader.hasNext()) {
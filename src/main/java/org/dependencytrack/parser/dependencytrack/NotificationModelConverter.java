@@ -36,6 +36,7 @@ import org.dependencytrack.notification.vo.BomProcessingFailed;
 import org.dependencytrack.notification.vo.BomValidationFailed;
 import org.dependencytrack.notification.vo.NewVulnerabilityIdentified;
 import org.dependencytrack.notification.vo.NewVulnerableDependency;
+import org.dependencytrack.notification.vo.PayloadReference;
 import org.dependencytrack.notification.vo.PolicyViolationIdentified;
 import org.dependencytrack.notification.vo.VexConsumedOrProcessed;
 import org.dependencytrack.notification.vo.ViolationAnalysisDecisionChange;
@@ -288,6 +289,7 @@ public final class NotificationModelConverter {
 
         org.dependencytrack.proto.notification.v1.Bom.Builder bomBuilder = org.dependencytrack.proto.notification.v1.Bom.newBuilder();
         Optional.ofNullable(subject.getBom()).ifPresent(bomBuilder::setContent);
+        Optional.ofNullable(subject.getBomReference()).map(NotificationModelConverter::convert).ifPresent(bomBuilder::setContentReference);
 
         final BomValidationFailedSubject.Builder builder = BomValidationFailedSubject.newBuilder()
                 .setProject(convert(subject.getProject()))
@@ -298,11 +300,20 @@ public final class NotificationModelConverter {
     }
 
     private static VexConsumedOrProcessedSubject convert(final VexConsumedOrProcessed subject) {
-        return VexConsumedOrProcessedSubject.newBuilder()
+        final VexConsumedOrProcessedSubject.Builder builder = VexConsumedOrProcessedSubject.newBuilder()
                 .setProject(convert(subject.getProject()))
-                .setVex(ByteString.copyFromUtf8(subject.getVex()))
                 .setFormat(subject.getFormat().getFormatShortName())
-                .setSpecVersion(subject.getSpecVersion())
+                .setSpecVersion(subject.getSpecVersion());
+
+        Optional.ofNullable(subject.getVex()).map(ByteString::copyFromUtf8).ifPresent(builder::setVex);
+        Optional.ofNullable(subject.getVexReference()).map(NotificationModelConverter::convert).ifPresent(builder::setVexReference);
+        return builder.build();
+    }
+
+    private static org.dependencytrack.proto.notification.v1.PayloadReference convert(final PayloadReference reference) {
+        return org.dependencytrack.proto.notification.v1.PayloadReference.newBuilder()
+                .setSha256(reference.sha256())
+                .setSize(reference.size())
                 .build();
     }
 
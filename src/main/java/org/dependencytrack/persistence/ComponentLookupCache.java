@@ -0,0 +1,208 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.Config;
+import alpine.common.metrics.Metrics;
+import alpine.persistence.OrderDirection;
+import alpine.persistence.PaginatedResult;
+import alpine.resources.AlpineRequest;
+import alpine.resources.Pagination;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.dependencytrack.auth.AclSnapshot;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.model.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache for the results of component lookups by identity or hash.
+ * <p>
+ * Results are cached per lookup criteria, pagination, ordering, and the set of teams
+ * whose projects the requesting principal has access to. Principals sharing the same team memberships
+ * thus share cache entries, while principals with different access never do.
+ * <p>
+ * Only the IDs of matching {@link Component}s are cached. On every hit, the {@link Component}s
+ * are resolved again by the caller, using its own {@link javax.jdo.PersistenceManager} and
+ * with portfolio access control applied. Cached results thus never share persistent objects
+ * across requests, and never include components of projects the principal lost access to.
+ * <p>
+ * All entries are invalidated when components or project access mappings are modified on this instance,
+ * e.g. through BOM processing. Modifications performed by other instances are only reflected after
+ * entries expire, as configured by {@link ConfigKey#COMPONENT_LOOKUP_CACHE_EXPIRE_AFTER_WRITE_DURATION}.
+ *
+ * @since 5.6.0
+ */
+public final class ComponentLookupCache {
+
+    private static final ComponentLookupCache INSTANCE = new ComponentLookupCache(
+            Config.getInstance().getPropertyAsInt(ConfigKey.COMPONENT_LOOKUP_CACHE_MAX_SIZE),
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.COMPONENT_LOOKUP_CACHE_EXPIRE_AFTER_WRITE_DURATION)),
+            Metrics.getRegistry());
+
+    enum LookupType {
+        HASH,
+        IDENTITY
+    }
+
+    /**
+     * @param lookupType     The type of the lookup
+     * @param criteria       The (normalized) criteria of the lookup
+     * @param projectUuid    UUID of the project the lookup is limited to, if any
+     * @param aclTeamIds     IDs of the teams whose projects are accessible, or {@code null} when access is unrestricted
+     * @param offset         Pagination offset
+     * @param limit          Pagination limit
+     * @param orderBy        Field to order by
+     * @param orderDirection Direction to order by
+     */
+    record Key(
+            LookupType lookupType,
+            List<String> criteria,
+            UUID projectUuid,
+            Set<Long> aclTeamIds,
+            int offset,
+            int limit,
+            String orderBy,
+            OrderDirection orderDirection) {
+
+        static Key of(
+                final LookupType lookupType,
+                final List<String> criteria,
+                final UUID projectUuid,
+                final AclSnapshot aclSnapshot,
+                final AlpineRequest request) {
+            final Set<Long> aclTeamIds = aclSnapshot != null && aclSnapshot.isProjectAccessRestricted()
+                    ? aclSnapshot.teamIds()
+                    : null;
+            final Pagination pagination = request != null ? request.getPagination() : null;
+            final boolean isPaginated = pagination != null && pagination.isPaginated();
+
+            return new Key(
+                    lookupType,
+                    criteria,
+                    projectUuid,
+                    aclTeamIds,
+                    isPaginated ? pagination.getOffset() : -1,
+                    isPaginated ? pagination.getLimit() : -1,
+                    request != null ? request.getOrderBy() : null,
+                    request != null ? request.getOrderDirection() : null);
+        }
+
+    }
+
+    private record GenerationKey(long generation, Key key) {
+    }
+
+    private record CachedResult(List<Long> componentIds, long total) {
+    }
+
+    private final Cache<GenerationKey, CachedResult> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    ComponentLookupCache(final long maxSize, final Duration expireAfterWrite, final MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "component_lookup");
+    }
+
+    public static ComponentLookupCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the cached result for a given {@link Key}, or compute and cache it if not present.
+     *
+     * @param key      The {@link Key} to get the result for
+     * @param loader   Loads the result on cache miss
+     * @param resolver Resolves {@link Component}s by their IDs on cache hit, omitting inaccessible ones
+     * @return The {@link PaginatedResult}
+     */
+    PaginatedResult get(
+            final Key key,
+            final Supplier<PaginatedResult> loader,
+            final Function<List<Long>, List<Component>> resolver) {
+        // Entries are keyed by generation, such that results loaded concurrently
+        // with an invalidation are never served after the invalidation completed.
+        final var generationKey = new GenerationKey(generation.get(), key);
+
+        final CachedResult cachedResult = cache.getIfPresent(generationKey);
+        if (cachedResult != null) {
+            return new PaginatedResult()
+                    .objects(resolve(cachedResult.componentIds(), resolver))
+                    .total(cachedResult.total());
+        }
+
+        final PaginatedResult result = loader.get();
+        if (result != null) {
+            final List<Long> componentIds = result.getObjects() != null
+                    ? result.getList(Component.class).stream().map(Component::getId).toList()
+                    : List.of();
+            cache.put(generationKey, new CachedResult(componentIds, result.getTotal()));
+        }
+
+        return result;
+    }
+
+    private static List<Component> resolve(
+            final List<Long> componentIds,
+            final Function<List<Long>, List<Component>> resolver) {
+        if (componentIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final var componentById = new HashMap<Long, Component>(componentIds.size());
+        for (final Component component : resolver.apply(componentIds)) {
+            componentById.put(component.getId(), component);
+        }
+
+        // Retain the order of the original result.
+        final var components = new ArrayList<Component>(componentIds.size());
+        for (final Long componentId : componentIds) {
+            final Component component = componentById.get(componentId);
+            if (component != null) {
+                components.add(component);
+            }
+        }
+
+        return components;
+    }
+
+    /**
+     * Invalidate all cached results.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+}
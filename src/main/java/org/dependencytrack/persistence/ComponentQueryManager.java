@@ -24,9 +24,6 @@ import alpine.persistence.PaginatedResult;
 import alpine.resources.AlpineRequest;
 import com.github.packageurl.MalformedPackageURLException;
 import com.github.packageurl.PackageURL;
-import jakarta.json.Json;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonValue;
 import org.apache.commons.lang3.tuple.Pair;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ComponentIdentity;
@@ -35,14 +32,17 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.model.RepositoryMetaComponent;
 import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.model.sqlmapping.ComponentProjection;
+import org.dependencytrack.persistence.ComponentLookupCache.LookupType;
+import org.dependencytrack.persistence.RepositoryQueryManager.RepositoryMetaComponentSearch;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao.DependencyGraphNodeRow;
 import org.dependencytrack.resources.v1.vo.DependencyGraphResponse;
-import org.dependencytrack.tasks.IntegrityMetaInitializerTask;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import javax.jdo.Transaction;
-import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -52,6 +52,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.dependencytrack.model.sqlmapping.ComponentProjection.mapToComponent;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.PersistenceUtil.assertNonPersistent;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistent;
 
@@ -263,7 +264,12 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         if (onlyDirect) {
             queryString +=
                     """
-                       AND "B0"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "A0"."UUID"))
+                       AND EXISTS (
+                         SELECT 1
+                           FROM "COMPONENT_DEPENDENCY" "CD"
+                          WHERE "CD"."CHILD_ID" = "A0"."ID"
+                            AND "CD"."PARENT_ID" IS NULL
+                       )
                     """;
         }
         if (orderBy == null) {
@@ -368,6 +374,13 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             return null;
         }
 
+        final ComponentLookupCache.Key cacheKey = ComponentLookupCache.Key.of(
+                LookupType.HASH, List.of(hash), /* projectUuid */ null,
+                principal != null ? getAclSnapshot(principal) : null, request);
+        return ComponentLookupCache.getInstance().get(cacheKey, () -> loadComponentsByHash(hash), this::getComponentsById);
+    }
+
+    private PaginatedResult loadComponentsByHash(final String hash) {
         final String queryFilter = switch (hash.length()) {
             case 32 -> "(md5 == :hash)";
             case 40 -> "(sha1 == :hash)";
@@ -378,28 +391,11 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         };
 
         final Query<Component> query = pm.newQuery(Component.class);
-        ;
         final Map<String, Object> params = Map.of("hash", hash);
         preprocessACLs(query, queryFilter, params, false);
         return execute(query, params);
     }
 
-    /**
-     * Returns ComponentProjection for the purl.
-     *
-     * @param purl the purl of the component to retrieve
-     * @return associated ComponentProjection
-     */
-    public IntegrityMetaInitializerTask.ComponentProjection getComponentByPurl(String purl) {
-        if (purl == null) {
-            return null;
-        }
-        final Query<Component> query = pm.newQuery(Component.class, "purl == :purl");
-        query.setParameters(purl);
-        query.setResult("DISTINCT purlCoordinates, internal");
-        return query.executeResultUnique(IntegrityMetaInitializerTask.ComponentProjection.class);
-    }
-
     /**
      * Returns Components by their identity.
      *
@@ -427,6 +423,51 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             return null;
         }
 
+        final ComponentLookupCache.Key cacheKey = ComponentLookupCache.Key.of(
+                LookupType.IDENTITY,
+                Arrays.asList(
+                        identity.getGroup(),
+                        identity.getName(),
+                        identity.getVersion(),
+                        identity.getPurl() != null ? identity.getPurl().canonicalize() : null,
+                        identity.getCpe(),
+                        identity.getSwidTagId()),
+                project != null ? project.getUuid() : null,
+                principal != null ? getAclSnapshot(principal) : null,
+                request);
+        final PaginatedResult result = ComponentLookupCache.getInstance().get(
+                cacheKey, () -> loadComponents(identity, project), this::getComponentsById);
+
+        if (includeMetrics) {
+            // Populate each Component object in the paginated result with transitive related
+            // data to minimize the number of round trips a client needs to make, process, and render.
+            for (Component component : result.getList(Component.class)) {
+                component.setMetrics(getMostRecentDependencyMetrics(component));
+                final PackageURL purl = component.getPurl();
+                if (purl != null) {
+                    final RepositoryType type = RepositoryType.resolve(purl);
+                    if (RepositoryType.UNSUPPORTED != type) {
+                        final RepositoryMetaComponent repoMetaComponent = getRepositoryMetaComponent(type, purl.getNamespace(), purl.getName());
+                        component.setRepositoryMeta(repoMetaComponent);
+                        component.setComponentMetaInformation(getMetaInformation(component.getUuid()));
+                    }
+                }
+            }
+        }
+        for (Component component : result.getList(Component.class)) {
+            component.getProject(); // Force loading of project
+            component.getProject().getGroup();
+            component.getProject().getName();
+            component.getProject().getVersion();
+            component.getProject().getSwidTagId();
+            component.getProject().getCpe();
+            component.getProject().getUuid();
+        }
+        return result;
+    }
+
+    private PaginatedResult loadComponents(final ComponentIdentity identity, final Project project) {
+
         final var queryFilterElements = new ArrayList<String>();
         final var queryParams = new HashMap<String, Object>();
 
@@ -470,34 +511,17 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             result = new PaginatedResult();
         }
 
-        if (includeMetrics) {
-            // Populate each Component object in the paginated result with transitive related
-            // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Component component : result.getList(Component.class)) {
-                component.setMetrics(getMostRecentDependencyMetrics(component));
-                final PackageURL purl = component.getPurl();
-                if (purl != null) {
-                    final RepositoryType type = RepositoryType.resolve(purl);
-                    if (RepositoryType.UNSUPPORTED != type) {
-                        final RepositoryMetaComponent repoMetaComponent = getRepositoryMetaComponent(type, purl.getNamespace(), purl.getName());
-                        component.setRepositoryMeta(repoMetaComponent);
-                        component.setComponentMetaInformation(getMetaInformation(component.getUuid()));
-                    }
-                }
-            }
-        }
-        for (Component component : result.getList(Component.class)) {
-            component.getProject(); // Force loading of project
-            component.getProject().getGroup();
-            component.getProject().getName();
-            component.getProject().getVersion();
-            component.getProject().getSwidTagId();
-            component.getProject().getCpe();
-            component.getProject().getUuid();
-        }
         return result;
     }
 
+    private List<Component> getComponentsById(final List<Long> ids) {
+        final Query<Component> query = pm.newQuery(Component.class);
+        final var params = new HashMap<String, Object>(Map.of("ids", ids));
+        preprocessACLs(query, ":ids.contains(id)", params, /* bypass */ false);
+        query.setNamedParameters(params);
+        return executeAndCloseList(query);
+    }
+
     private PaginatedResult loadComponents(String queryFilter, Map<String, Object> params) {
         var query = pm.newQuery(Component.class);
         if (orderBy == null) {
@@ -884,37 +908,51 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             return dependencyGraph;
         }
 
-        for(Component component : components) {
-            dependencyGraph.put(component.getUuid().toString(), component);
-            getParentDependenciesOfComponent(project, component, dependencyGraph);
-        }
-        if (!dependencyGraph.isEmpty()){
-            getRootDependencies(dependencyGraph, project);
-            getDirectDependenciesForPathDependencies(dependencyGraph);
-        }
-        // Reduce size of JSON response
-        for (Map.Entry<String, Component> entry : dependencyGraph.entrySet()) {
-            Component transientComponent = new Component();
-            transientComponent.setUuid(entry.getValue().getUuid());
-            transientComponent.setName(entry.getValue().getName());
-            transientComponent.setVersion(entry.getValue().getVersion());
-            transientComponent.setPurl(entry.getValue().getPurl());
-            transientComponent.setPurlCoordinates(entry.getValue().getPurlCoordinates());
-            transientComponent.setDependencyGraph(entry.getValue().getDependencyGraph());
-            transientComponent.setExpandDependencyGraph(entry.getValue().isExpandDependencyGraph());
+        final List<Long> componentIds = components.stream().map(Component::getId).toList();
+        final List<DependencyGraphNodeRow> nodeRows = withJdbiHandle(handle ->
+                handle.attach(DependencyGraphDao.class).getDependencyGraphForComponents(project.getId(), componentIds));
+
+        // Construct transient components to reduce size of JSON response
+        final var searchesByComponentUuid = new HashMap<String, RepositoryMetaComponentSearch>();
+        for (final DependencyGraphNodeRow nodeRow : nodeRows) {
+            final var transientComponent = new Component();
+            transientComponent.setUuid(nodeRow.uuid());
+            transientComponent.setName(nodeRow.name());
+            transientComponent.setVersion(nodeRow.version());
+            transientComponent.setPurl(nodeRow.purl());
+            transientComponent.setPurlCoordinates(nodeRow.purlCoordinates());
+            transientComponent.setExpandDependencyGraph(nodeRow.expandDependencyGraph());
+            if (nodeRow.dependencyGraph() != null) {
+                transientComponent.setDependencyGraph(new HashSet<>(nodeRow.dependencyGraph()));
+            }
+            dependencyGraph.put(nodeRow.uuid().toString(), transientComponent);
+
             if (transientComponent.getPurl() != null) {
                 final RepositoryType type = RepositoryType.resolve(transientComponent.getPurl());
                 if (RepositoryType.UNSUPPORTED != type) {
-                    final RepositoryMetaComponent repoMetaComponent = getRepositoryMetaComponent(type, transientComponent.getPurl().getNamespace(), transientComponent.getPurl().getName());
-                    if (repoMetaComponent != null) {
-                        RepositoryMetaComponent transientRepoMetaComponent = new RepositoryMetaComponent();
-                        transientRepoMetaComponent.setLatestVersion(repoMetaComponent.getLatestVersion());
-                        transientComponent.setRepositoryMeta(transientRepoMetaComponent);
-                    }
+                    searchesByComponentUuid.put(nodeRow.uuid().toString(), new RepositoryMetaComponentSearch(
+                            type, transientComponent.getPurl().getNamespace(), transientComponent.getPurl().getName()));
                 }
             }
-            dependencyGraph.put(entry.getKey(), transientComponent);
         }
+
+        final Map<RepositoryMetaComponentSearch, String> latestVersionBySearch =
+                getRepositoryMetaComponents(List.copyOf(new HashSet<>(searchesByComponentUuid.values()))).stream()
+                        .filter(metaComponent -> metaComponent.getLatestVersion() != null)
+                        .collect(Collectors.toMap(
+                                metaComponent -> new RepositoryMetaComponentSearch(
+                                        metaComponent.getRepositoryType(), metaComponent.getNamespace(), metaComponent.getName()),
+                                RepositoryMetaComponent::getLatestVersion,
+                                (a, b) -> a));
+        for (final Map.Entry<String, RepositoryMetaComponentSearch> entry : searchesByComponentUuid.entrySet()) {
+            final String latestVersion = latestVersionBySearch.get(entry.getValue());
+            if (latestVersion != null) {
+                final var transientRepoMetaComponent = new RepositoryMetaComponent();
+                transientRepoMetaComponent.setLatestVersion(latestVersion);
+                dependencyGraph.get(entry.getKey()).setRepositoryMeta(transientRepoMetaComponent);
+            }
+        }
+
         return dependencyGraph;
     }
 
@@ -931,57 +969,6 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         return List.copyOf(query.executeResultList(DependencyGraphResponse.class));
     }
 
-    private void getParentDependenciesOfComponent(Project project, Component childComponent, Map<String, Component> dependencyGraph) {
-        final Query<Component> query = pm.newQuery(Component.class, "directDependencies.jsonbContains(:child) && project == :project");
-        List<Component> parentComponents = (List<Component>) query.executeWithArray("[{\"uuid\":\"%s\"}]".formatted(childComponent.getUuid()), project);
-        for (Component parentComponent : parentComponents) {
-            parentComponent.setExpandDependencyGraph(true);
-            if(parentComponent.getDependencyGraph() == null) {
-                parentComponent.setDependencyGraph(new HashSet<>());
-            }
-            parentComponent.getDependencyGraph().add(childComponent.getUuid().toString());
-            if (!dependencyGraph.containsKey(parentComponent.getUuid().toString())) {
-                dependencyGraph.put(parentComponent.getUuid().toString(), parentComponent);
-                getParentDependenciesOfComponent(project, parentComponent, dependencyGraph);
-            }
-        }
-    }
-
-    private void getRootDependencies(Map<String, Component> dependencyGraph, Project project) {
-        JsonArray directDependencies = Json.createReader(new StringReader(project.getDirectDependencies())).readArray();
-        for (JsonValue directDependency : directDependencies) {
-            String uuid = directDependency.asJsonObject().getString("uuid");
-            if (!dependencyGraph.containsKey(uuid)) {
-                Component component = this.getObjectByUuid(Component.class, uuid);
-                dependencyGraph.put(uuid, component);
-            }
-        }
-        getDirectDependenciesForPathDependencies(dependencyGraph);
-    }
-
-    private void getDirectDependenciesForPathDependencies(Map<String, Component> dependencyGraph) {
-        Map<String, Component> addToDependencyGraph = new HashMap<>();
-        for (Component component : dependencyGraph.values()) {
-            if (component.getDirectDependencies() != null && !component.getDirectDependencies().isEmpty()) {
-                JsonArray directDependencies = Json.createReader(new StringReader(component.getDirectDependencies())).readArray();
-                for (JsonValue directDependency : directDependencies) {
-                    if (component.getDependencyGraph() == null) {
-                        component.setDependencyGraph(new HashSet<>());
-                    }
-                    String uuid = directDependency.asJsonObject().getString("uuid");
-                    if (!dependencyGraph.containsKey(uuid) && !addToDependencyGraph.containsKey(uuid)) {
-                        Component childNode = this.getObjectByUuid(Component.class, uuid);
-                        addToDependencyGraph.put(childNode.getUuid().toString(), childNode);
-                        component.getDependencyGraph().add(childNode.getUuid().toString());
-                    } else {
-                        component.getDependencyGraph().add(uuid);
-                    }
-                }
-            }
-        }
-        dependencyGraph.putAll(addToDependencyGraph);
-    }
-
     public List<Component> getComponentsByPurl(String purl) {
         try(final Query<Component> query = pm.newQuery(Component.class, "purl == :purl")) {
             query.setParameters(purl);
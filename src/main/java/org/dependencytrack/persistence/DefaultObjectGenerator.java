@@ -172,6 +172,7 @@ public class DefaultObjectGenerator implements ServletContextListener {
                     LOGGER.debug("Synchronizing: " + license.getName());
                     qm.synchronizeLicense(license, false);
                 }
+                LicenseIndex.getInstance().invalidate();
             } catch (IOException e) {
                 LOGGER.error("An error occurred during the parsing SPDX license definitions");
                 LOGGER.error(e.getMessage());
@@ -33,13 +33,14 @@ import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
 
 import javax.jdo.PersistenceManager;
-import javax.jdo.Query;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withReadOnlyJdbiHandle;
+
 public class FindingsSearchQueryManager extends QueryManager implements IQueryManager {
 
     private static final Map<String, String> sortingAttributes = Map.ofEntries(
@@ -116,10 +117,8 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
             params.put("showSuppressed", false);
         }
         processFilters(filters, queryFilter, params, false);
-        final Query<Object[]> query = pm.newQuery(Query.SQL, Finding.QUERY_ALL_FINDINGS + queryFilter + (this.orderBy != null ? " ORDER BY " + sortingAttributes.get(this.orderBy) + " " + (this.orderDirection == OrderDirection.DESCENDING ? " DESC" : "ASC") : ""));
+        final List<Object[]> totalList = executeReadOnlyQuery(Finding.QUERY_ALL_FINDINGS + queryFilter + (this.orderBy != null ? " ORDER BY " + sortingAttributes.get(this.orderBy) + " " + (this.orderDirection == OrderDirection.DESCENDING ? " DESC" : "ASC") : ""), params);
         PaginatedResult result = new PaginatedResult();
-        query.setNamedParameters(params);
-        final List<Object[]> totalList = query.executeList();
         result.setTotal(totalList.size());
         final List<Object[]> list = totalList.subList(this.pagination.getOffset(), Math.min(this.pagination.getOffset() + this.pagination.getLimit(), totalList.size()));
         final List<Finding> findings = new ArrayList<>();
@@ -165,10 +164,8 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
             params.put("active", true);
         }
         processFilters(filters, queryFilter, params, true);
-        final Query<Object[]> query = pm.newQuery(Query.SQL, GroupedFinding.QUERY + queryFilter + (this.orderBy != null ? " ORDER BY " + sortingAttributes.get(this.orderBy) + " " + (this.orderDirection == OrderDirection.DESCENDING ? " DESC" : "ASC") : ""));
+        final List<Object[]> totalList = executeReadOnlyQuery(GroupedFinding.QUERY + queryFilter + (this.orderBy != null ? " ORDER BY " + sortingAttributes.get(this.orderBy) + " " + (this.orderDirection == OrderDirection.DESCENDING ? " DESC" : "ASC") : ""), params);
         PaginatedResult result = new PaginatedResult();
-        query.setNamedParameters(params);
-        final List<Object[]> totalList = query.executeList();
         result.setTotal(totalList.size());
         final List<Object[]> list = totalList.subList(this.pagination.getOffset(), Math.min(this.pagination.getOffset() + this.pagination.getLimit(), totalList.size()));
         final List<GroupedFinding> findings = new ArrayList<>();
@@ -180,6 +177,27 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
         return result;
     }
 
+    /**
+     * Execute a findings search query, preferably on the read replica.
+     * <p>
+     * Rows are returned in the same shape as for native JDO SQL queries,
+     * i.e. one array of column values per row.
+     *
+     * @since 5.6.0
+     */
+    private static List<Object[]> executeReadOnlyQuery(final String sql, final Map<String, Object> params) {
+        return withReadOnlyJdbiHandle(handle -> handle.createQuery(sql)
+                .bindMap(params)
+                .map((rs, ctx) -> {
+                    final var row = new Object[rs.getMetaData().getColumnCount()];
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] = rs.getObject(i + 1);
+                    }
+                    return row;
+                })
+                .list());
+    }
+
     private void processFilters(Map<String, String> filters, StringBuilder queryFilter, Map<String, Object> params, boolean isGroupedByVulnerabilities) {
         for (String filter : filters.keySet()) {
             switch (filter) {
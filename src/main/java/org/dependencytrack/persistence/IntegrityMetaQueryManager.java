@@ -21,7 +21,6 @@ package org.dependencytrack.persistence;
 import alpine.common.logging.Logger;
 import alpine.resources.AlpineRequest;
 import alpine.server.util.DbUtil;
-import org.dependencytrack.model.FetchStatus;
 import org.dependencytrack.model.IntegrityMetaComponent;
 
 import javax.jdo.PersistenceManager;
@@ -30,9 +29,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Date;
-import java.util.List;
 
 public class IntegrityMetaQueryManager extends QueryManager implements IQueryManager {
 
@@ -160,52 +157,4 @@ public class IntegrityMetaQueryManager extends QueryManager implements IQueryMan
             throw new RuntimeException(e);
         }
     }
-
-    /**
-     * Returns the list of purls in IntegrityMetaComponent which are not yet processed.
-     *
-     * @return the list of purls
-     */
-    public List<IntegrityMetaComponent> fetchNextPurlsPage(long offset) {
-        try (final Query<IntegrityMetaComponent> query =
-                     pm.newQuery(IntegrityMetaComponent.class, "status == null || (status == :inProgress && lastFetch < :latest)")) {
-            query.setParameters(FetchStatus.IN_PROGRESS, Date.from(Instant.now().minus(1, ChronoUnit.HOURS)));
-            query.setRange(offset, offset + 5000);
-            query.setResult("id, purl");
-            return List.copyOf(query.executeResultList(IntegrityMetaComponent.class));
-        } catch (Exception e) {
-            LOGGER.error("Error in getting purls from integrity meta.", e);
-            throw new RuntimeException(e);
-        }
-    }
-
-    /**
-     * Batch updates IntegrityMetaComponent records
-     */
-    public void batchUpdateIntegrityMetaComponent(List<IntegrityMetaComponent> purls) {
-        final String updateQuery = """
-                UPDATE "INTEGRITY_META_COMPONENT"
-                SET "LAST_FETCH" = ?, "STATUS" = ?
-                WHERE "ID" = ? AND ("STATUS" IS NULL OR "STATUS" = 'IN_PROGRESS')
-                """;
-        Connection connection = null;
-        PreparedStatement preparedStatement = null;
-        try {
-            connection = (Connection) pm.getDataStoreConnection();
-            preparedStatement = connection.prepareStatement(updateQuery);
-            for (var purlRecord : purls) {
-                preparedStatement.setTimestamp(1, new Timestamp(Date.from(Instant.now()).getTime()));
-                preparedStatement.setString(2, FetchStatus.IN_PROGRESS.toString());
-                preparedStatement.setLong(3, purlRecord.getId());
-                preparedStatement.addBatch();
-            }
-            preparedStatement.executeBatch();
-        } catch (Exception ex) {
-            LOGGER.error("Error in batch updating integrity meta.", ex);
-            throw new RuntimeException(ex);
-        } finally {
-            DbUtil.close(preparedStatement);
-            DbUtil.close(connection);
-        }
-    }
 }
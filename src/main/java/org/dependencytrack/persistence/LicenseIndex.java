@@ -0,0 +1,187 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import org.dependencytrack.common.ConfigKey;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * A process-wide, in-memory index of the license catalog.
+ * <p>
+ * The index resolves licenses to their IDs, without querying the database for every lookup.
+ * It is loaded lazily, and reloaded when it was invalidated via {@link #invalidate()},
+ * e.g. because licenses were created or deleted on this instance. Modifications performed
+ * by other instances are reflected after the index exceeds the age configured by
+ * {@link ConfigKey#LICENSE_INDEX_MAX_AGE_DURATION}.
+ *
+ * @since 5.6.0
+ */
+public final class LicenseIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(LicenseIndex.class);
+    private static final LicenseIndex INSTANCE = new LicenseIndex(
+            Duration.parse(Config.getInstance().getProperty(ConfigKey.LICENSE_INDEX_MAX_AGE_DURATION)));
+
+    private record LicenseRow(long id, String licenseId, String name, boolean isCustom) {
+    }
+
+    /**
+     * An immutable view of the license catalog, as of a given version.
+     *
+     * @param version       Version of the index this snapshot was loaded for
+     * @param loadedAtNanos {@link System#nanoTime()} at which the snapshot was loaded
+     */
+    public record Snapshot(
+            long version,
+            long loadedAtNanos,
+            Map<String, Long> idsByIdOrName,
+            Map<String, Long> customIdsByName,
+            Map<String, Long> idsByAlias) {
+
+        /**
+         * @param licenseIdOrName SPDX ID or name of the license
+         * @return ID of the matching license, or {@code null} when no license matched
+         */
+        public Long getIdByIdOrName(final String licenseIdOrName) {
+            return licenseIdOrName != null ? idsByIdOrName.get(licenseIdOrName) : null;
+        }
+
+        /**
+         * @param name Name of the custom license
+         * @return ID of the matching custom license, or {@code null} when no custom license matched
+         */
+        public Long getCustomIdByName(final String name) {
+            return name != null ? customIdsByName.get(name) : null;
+        }
+
+        /**
+         * Resolve a license by its SPDX ID or name, ignoring case and surrounding whitespace.
+         *
+         * @param alias SPDX ID or name of the license
+         * @return ID of the matching license, or {@code null} when no license matched
+         */
+        public Long getIdByAlias(final String alias) {
+            return alias != null ? idsByAlias.get(toAlias(alias)) : null;
+        }
+
+    }
+
+    private final long maxAgeNanos;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    LicenseIndex(final Duration maxAge) {
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public static LicenseIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return A {@link Snapshot} of the license catalog, loading it first if necessary
+     */
+    public Snapshot getSnapshot() {
+        Snapshot currentSnapshot = snapshot;
+        if (isStale(currentSnapshot)) {
+            synchronized (this) {
+                currentSnapshot = snapshot;
+                if (isStale(currentSnapshot)) {
+                    currentSnapshot = load();
+                    snapshot = currentSnapshot;
+                }
+            }
+        }
+
+        return currentSnapshot;
+    }
+
+    /**
+     * Invalidate the index, causing it to be reloaded upon next access.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private boolean isStale(final Snapshot snapshot) {
+        return snapshot == null
+                || snapshot.version() != version.get()
+                || System.nanoTime() - snapshot.loadedAtNanos() > maxAgeNanos;
+    }
+
+    private Snapshot load() {
+        // Capture the version before loading, such that invalidations
+        // happening concurrently cause the snapshot to be considered stale.
+        final long loadVersion = version.get();
+        final long loadedAtNanos = System.nanoTime();
+
+        // Ordering mirrors that of LicenseQueryManager#getLicenseByIdOrName,
+        // such that the first license matching a given ID or name wins.
+        final List<LicenseRow> rows = withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT "ID"
+                             , "LICENSEID"
+                             , "NAME"
+                             , COALESCE("ISCUSTOMLICENSE", FALSE) AS "IS_CUSTOM"
+                          FROM "LICENSE"
+                         ORDER BY "LICENSEID" ASC, "ID" ASC
+                        """)
+                .map((rs, ctx) -> new LicenseRow(
+                        rs.getLong("ID"),
+                        rs.getString("LICENSEID"),
+                        rs.getString("NAME"),
+                        rs.getBoolean("IS_CUSTOM")))
+                .list());
+
+        final var idsByIdOrName = new HashMap<String, Long>();
+        final var customIdsByName = new HashMap<String, Long>();
+        final var idsByAlias = new HashMap<String, Long>();
+        for (final LicenseRow row : rows) {
+            if (row.licenseId() != null) {
+                idsByIdOrName.putIfAbsent(row.licenseId(), row.id());
+                idsByAlias.putIfAbsent(toAlias(row.licenseId()), row.id());
+            }
+            if (row.name() != null) {
+                idsByIdOrName.putIfAbsent(row.name(), row.id());
+                idsByAlias.putIfAbsent(toAlias(row.name()), row.id());
+                if (row.isCustom()) {
+                    customIdsByName.putIfAbsent(row.name(), row.id());
+                }
+            }
+        }
+
+        LOGGER.debug("Loaded %d license(s) into index version %d".formatted(rows.size(), loadVersion));
+        return new Snapshot(loadVersion, loadedAtNanos,
+                Map.copyOf(idsByIdOrName), Map.copyOf(customIdsByName), Map.copyOf(idsByAlias));
+    }
+
+    private static String toAlias(final String idOrName) {
+        return idOrName.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -26,11 +26,20 @@ import org.dependencytrack.model.PortfolioMetrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.VulnerabilityMetrics;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withReadOnlyJdbiHandle;
 
 public class MetricsQueryManager extends QueryManager implements IQueryManager {
 
@@ -89,27 +98,52 @@ public class MetricsQueryManager extends QueryManager implements IQueryManager {
 
     /**
      * Retrieves PortfolioMetrics in ascending order starting with the oldest since the date specified.
+     * <p>
+     * Metrics are read from the read replica if one is configured, and may thus be slightly stale.
      *
      * @return a List of metrics
      */
-    @SuppressWarnings("unchecked")
     public List<PortfolioMetrics> getPortfolioMetricsSince(Date since) {
-        final Query<PortfolioMetrics> query = pm.newQuery(PortfolioMetrics.class, "lastOccurrence >= :since");
-        query.setOrdering("lastOccurrence asc");
-        return (List<PortfolioMetrics>) query.execute(since);
+        return withReadOnlyJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getPortfolioMetricsSince(since.toInstant()));
     }
 
     /**
      * Retrieves the most recent ProjectMetrics.
+     * <p>
+     * The returned metrics are detached, and remain available even after the corresponding
+     * record has been removed from the metrics history due to retention.
      *
      * @param project the Project to retrieve metrics for
      * @return a ProjectMetrics object
      */
     public ProjectMetrics getMostRecentProjectMetrics(Project project) {
-        final Query<ProjectMetrics> query = pm.newQuery(ProjectMetrics.class, "project == :project");
-        query.setOrdering("lastOccurrence desc");
-        query.setRange(0, 1);
-        return singleResult(query.execute(project));
+        final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getMostRecentProjectMetrics(project.getId()));
+        if (metrics != null) {
+            metrics.setProject(project);
+        }
+        return metrics;
+    }
+
+    /**
+     * Retrieves the most recent ProjectMetrics of multiple projects, using a single query.
+     *
+     * @param projects the Projects to retrieve metrics for
+     * @return the ProjectMetrics, keyed by project ID; projects without metrics are omitted
+     * @see #getMostRecentProjectMetrics(Project)
+     */
+    public Map<Long, ProjectMetrics> getMostRecentProjectMetrics(final Collection<Project> projects) {
+        if (projects.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<Long, Project> projectById = projects.stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity(), (a, b) -> a));
+        final Map<Long, ProjectMetrics> metricsByProjectId = withJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getMostRecentProjectMetrics(projectById.keySet()));
+        metricsByProjectId.forEach((projectId, metrics) -> metrics.setProject(projectById.get(projectId)));
+        return metricsByProjectId;
     }
 
     /**
@@ -126,28 +160,34 @@ public class MetricsQueryManager extends QueryManager implements IQueryManager {
 
     /**
      * Retrieves ProjectMetrics in ascending order starting with the oldest since the date specified.
+     * <p>
+     * Metrics are read from the read replica if one is configured, and may thus be slightly stale.
      *
      * @return a List of metrics
      */
-    @SuppressWarnings("unchecked")
     public List<ProjectMetrics> getProjectMetricsSince(Project project, Date since) {
-        final Query<ProjectMetrics> query = pm.newQuery(ProjectMetrics.class, "project == :project && lastOccurrence >= :since");
-        query.setOrdering("lastOccurrence asc");
-        return (List<ProjectMetrics>) query.execute(project, since);
+        final List<ProjectMetrics> metrics = withReadOnlyJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getProjectMetricsSince(project.getId(), since.toInstant()));
+        metrics.forEach(projectMetrics -> projectMetrics.setProject(project));
+        return metrics;
     }
 
     /**
      * Retrieves the most recent DependencyMetrics.
+     * <p>
+     * The returned metrics are detached, and remain available even after the corresponding
+     * record has been removed from the metrics history due to retention.
      *
      * @param component the Component to retrieve metrics for
      * @return a DependencyMetrics object
      */
     public DependencyMetrics getMostRecentDependencyMetrics(Component component) {
-        final Query<DependencyMetrics> query = pm.newQuery(DependencyMetrics.class, "component == :component");
-        query.setOrdering("lastOccurrence desc");
-        query.setRange(0, 1);
-        return singleResult(query.execute(component));
-
+        final DependencyMetrics metrics = getMostRecentDependencyMetricsById(component.getId());
+        if (metrics != null) {
+            metrics.setProject(component.getProject());
+            metrics.setComponent(component);
+        }
+        return metrics;
     }
 
     /**
@@ -157,11 +197,8 @@ public class MetricsQueryManager extends QueryManager implements IQueryManager {
      * @return a DependencyMetrics object
      */
     public DependencyMetrics getMostRecentDependencyMetricsById(long componentId) {
-        final Query<DependencyMetrics> query = pm.newQuery(DependencyMetrics.class, "component.id == :componentId");
-        query.setOrdering("lastOccurrence desc");
-        query.setRange(0, 1);
-        return singleResult(query.execute(componentId));
-
+        return withJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getMostRecentDependencyMetrics(componentId));
     }
 
     /**
@@ -178,14 +215,19 @@ public class MetricsQueryManager extends QueryManager implements IQueryManager {
 
     /**
      * Retrieves DependencyMetrics in ascending order starting with the oldest since the date specified.
+     * <p>
+     * Metrics are read from the read replica if one is configured, and may thus be slightly stale.
      *
      * @return a List of metrics
      */
-    @SuppressWarnings("unchecked")
     public List<DependencyMetrics> getDependencyMetricsSince(Component component, Date since) {
-        final Query<DependencyMetrics> query = pm.newQuery(DependencyMetrics.class, "component == :component && lastOccurrence >= :since");
-        query.setOrdering("lastOccurrence asc");
-        return (List<DependencyMetrics>) query.execute(component, since);
+        final List<DependencyMetrics> metrics = withReadOnlyJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getDependencyMetricsSince(component.getId(), since.toInstant()));
+        for (final DependencyMetrics dependencyMetrics : metrics) {
+            dependencyMetrics.setProject(component.getProject());
+            dependencyMetrics.setComponent(component);
+        }
+        return metrics;
     }
 
     /**
@@ -34,6 +34,7 @@ import com.github.packageurl.PackageURL;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.datanucleus.api.jdo.JDOQuery;
+import org.dependencytrack.auth.AclSnapshot;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.model.Analysis;
@@ -45,6 +46,7 @@ import org.dependencytrack.model.FindingAttribution;
 import org.dependencytrack.model.PolicyViolation;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetadata;
+import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.ProjectProperty;
 import org.dependencytrack.model.ProjectVersion;
 import org.dependencytrack.model.ServiceComponent;
@@ -53,6 +55,7 @@ import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
@@ -70,6 +73,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+
 final class ProjectQueryManager extends QueryManager implements IQueryManager {
 
     private static final Logger LOGGER = Logger.getLogger(ProjectQueryManager.class);
@@ -138,9 +143,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMostRecentMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -369,9 +372,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMostRecentMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -407,9 +408,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMostRecentMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -709,6 +708,22 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
                 component.setDirectDependencies(directDependencies);
             }
 
+            if (!clonedComponentBySourceComponentId.isEmpty()) {
+                final var sourceComponentIds = new ArrayList<Long>(clonedComponentBySourceComponentId.size());
+                final var clonedComponentIds = new ArrayList<Long>(clonedComponentBySourceComponentId.size());
+                for (final Map.Entry<Long, Component> entry : clonedComponentBySourceComponentId.entrySet()) {
+                    sourceComponentIds.add(entry.getKey());
+                    clonedComponentIds.add(entry.getValue().getId());
+                }
+
+                final long clonedProjectId = project.getId();
+                final boolean includeProjectDependencies = project.getDirectDependencies() != null;
+
+                pm.flush();
+                useJdbiHandle(this, handle -> handle.attach(DependencyGraphDao.class).copyDependencies(
+                        source.getId(), clonedProjectId, sourceComponentIds, clonedComponentIds, includeProjectDependencies));
+            }
+
             if (includeServices) {
                 final List<ServiceComponent> sourceServices = getAllServiceComponents(source);
                 if (sourceServices != null) {
@@ -944,41 +959,24 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
 
     @Override
     public boolean hasAccess(final Principal principal, final Project project) {
-        if (isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED)) {
-            if (principal instanceof UserPrincipal userPrincipal) {
-                if (super.hasAccessManagementPermission(userPrincipal)) {
-                    return true;
-                }
-                if (userPrincipal.getTeams() != null) {
-                    for (final Team userInTeam : userPrincipal.getTeams()) {
-                        for (final Team accessTeam : project.getAccessTeams()) {
-                            if (userInTeam.getId() == accessTeam.getId()) {
-                                return true;
-                            }
-                        }
-                    }
-                }
-            } else if (principal instanceof ApiKey apiKey) {
-                if (super.hasAccessManagementPermission(apiKey)) {
+        if (principal == null) {
+            // This is a system request being made (e.g. MetricsUpdateTask, etc) where there isn't a principal
+            return true;
+        }
+
+        final AclSnapshot aclSnapshot = getAclSnapshot(principal);
+        if (!aclSnapshot.isProjectAccessRestricted()) {
+            return true;
+        }
+
+        if (project.getAccessTeams() != null) {
+            for (final Team accessTeam : project.getAccessTeams()) {
+                if (aclSnapshot.teamIds().contains(accessTeam.getId())) {
                     return true;
                 }
-                if (apiKey.getTeams() != null) {
-                    for (final Team userInTeam : apiKey.getTeams()) {
-                        for (final Team accessTeam : project.getAccessTeams()) {
-                            if (userInTeam.getId() == accessTeam.getId()) {
-                                return true;
-                            }
-                        }
-                    }
-                }
-            } else if (principal == null) {
-                // This is a system request being made (e.g. MetricsUpdateTask, etc) where there isn't a principal
-                return true;
             }
-            return false;
-        } else {
-            return true;
         }
+        return false;
     }
 
     @Override
@@ -1010,40 +1008,29 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
                         .formatted(internalQuery.getCandidateClassName(), Project.class.getName()));
             }
         }
-        if (super.principal != null && isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED) && !bypass) {
-            final List<Team> teams;
-            if (super.principal instanceof UserPrincipal userPrincipal) {
-                teams = userPrincipal.getTeams();
-                if (super.hasAccessManagementPermission(userPrincipal)) {
-                    query.setFilter(inputFilter);
-                    return;
-                }
-            } else {
-                final ApiKey apiKey = ((ApiKey) super.principal);
-                teams = apiKey.getTeams();
-                if (super.hasAccessManagementPermission(apiKey)) {
-                    query.setFilter(inputFilter);
-                    return;
-                }
+        final AclSnapshot aclSnapshot = super.principal != null && !bypass
+                ? getAclSnapshot(super.principal)
+                : null;
+        if (aclSnapshot != null && aclSnapshot.aclEnabled()) {
+            if (!aclSnapshot.isProjectAccessRestricted()) {
+                query.setFilter(inputFilter);
+                return;
             }
-            if (teams != null && !teams.isEmpty()) {
-                final StringBuilder sb = new StringBuilder();
-                for (int i = 0, teamsSize = teams.size(); i < teamsSize; i++) {
-                    final Team team = super.getObjectById(Team.class, teams.get(i).getId());
-                    sb.append(" ");
-                    if (projectMemberFieldName != null) {
-                        sb.append(projectMemberFieldName).append(".");
-                    }
-                    sb.append(" accessTeams.contains(:team").append(i).append(") ");
-                    params.put("team" + i, team);
-                    if (i < teamsSize - 1) {
-                        sb.append(" || ");
-                    }
-                }
+            if (!aclSnapshot.teamIds().isEmpty()) {
+                // NB: JDOQL can't bind arrays, so a collection parameter is used instead,
+                // which DataNucleus translates to a single IN predicate on the team IDs.
+                // The subquery is correlated via the project's access teams, and avoids
+                // the duplicate rows that a join on a query variable would produce.
+                final String accessTeamsField = projectMemberFieldName != null
+                        ? "this." + projectMemberFieldName + ".accessTeams"
+                        : "this.accessTeams";
+                final String aclFilter = "!(SELECT aclTeam.id FROM %s aclTeam WHERE :aclTeamIds.contains(aclTeam.id)).isEmpty()"
+                        .formatted(accessTeamsField);
+                params.put("aclTeamIds", aclSnapshot.teamIds());
                 if (inputFilter != null && !inputFilter.isBlank()) {
-                    query.setFilter(inputFilter + " && (" + sb + ")");
+                    query.setFilter(inputFilter + " && (" + aclFilter + ")");
                 } else {
-                    query.setFilter(sb.toString());
+                    query.setFilter(aclFilter);
                 }
             }
         } else if (StringUtils.trimToNull(inputFilter) != null) {
@@ -1126,9 +1113,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMostRecentMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -1155,9 +1140,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMostRecentMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -1188,9 +1171,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMostRecentMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -1266,6 +1247,20 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         return result;
     }
 
+    /**
+     * Populate the most recent {@link ProjectMetrics} of all given {@link Project}s.
+     * <p>
+     * Metrics of all {@link Project}s are fetched with a single query, instead of one query per {@link Project}.
+     *
+     * @param projects The {@link Project}s to populate metrics for
+     */
+    private void populateMostRecentMetrics(final List<Project> projects) {
+        final Map<Long, ProjectMetrics> metricsByProjectId = getMostRecentProjectMetrics(projects);
+        for (final Project project : projects) {
+            project.setMetrics(metricsByProjectId.get(project.getId()));
+        }
+    }
+
     /**
      * Fetch the {@link UUID}s of all parents of a given {@link Project}.
      *
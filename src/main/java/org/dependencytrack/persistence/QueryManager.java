@@ -42,6 +42,7 @@ import io.github.resilience4j.retry.RetryConfig;
 import org.apache.commons.lang3.ClassUtils;
 import org.datanucleus.PropertyNames;
 import org.datanucleus.api.jdo.JDOQuery;
+import org.dependencytrack.auth.AclSnapshot;
 import org.dependencytrack.model.AffectedVersionAttribution;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalysisComment;
@@ -100,7 +101,6 @@ import org.dependencytrack.proto.vulnanalysis.v1.ScanStatus;
 import org.dependencytrack.proto.vulnanalysis.v1.ScannerResult;
 import org.dependencytrack.resources.v1.vo.AffectedProject;
 import org.dependencytrack.resources.v1.vo.DependencyGraphResponse;
-import org.dependencytrack.tasks.IntegrityMetaInitializerTask;
 
 import javax.jdo.FetchPlan;
 import javax.jdo.PersistenceManager;
@@ -120,7 +120,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -129,7 +128,7 @@ import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 
 import static org.datanucleus.PropertyNames.PROPERTY_QUERY_SQL_ALLOWALL;
-import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.proto.vulnanalysis.v1.ScanStatus.SCAN_STATUS_FAILED;
 
 /**
@@ -498,24 +497,18 @@ public class QueryManager extends AlpineQueryManager {
     }
 
     /**
-     * Get the IDs of the {@link Team}s a given {@link Principal} is a member of.
+     * Get the {@link AclSnapshot} of a given {@link Principal}.
      *
-     * @return A {@link Set} of {@link Team} IDs
+     * @param principal The {@link Principal} to get the snapshot for
+     * @return The {@link AclSnapshot}
+     * @since 5.6.0
      */
-    protected Set<Long> getTeamIds(final Principal principal) {
-        final var principalTeamIds = new HashSet<Long>();
-        if (principal instanceof final UserPrincipal userPrincipal
-                && userPrincipal.getTeams() != null) {
-            for (final Team userInTeam : userPrincipal.getTeams()) {
-                principalTeamIds.add(userInTeam.getId());
-            }
-        } else if (principal instanceof final ApiKey apiKey
-                && apiKey.getTeams() != null) {
-            for (final Team userInTeam : apiKey.getTeams()) {
-                principalTeamIds.add(userInTeam.getId());
-            }
+    public AclSnapshot getAclSnapshot(final Principal principal) {
+        try {
+            return AclSnapshot.of(principal, p -> withJdbiHandle(handle -> AclSnapshot.load(p, handle.getConnection())));
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to load ACL snapshot of principal %s".formatted(principal.getName()), e);
         }
-        return principalTeamIds;
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -711,10 +704,6 @@ public class QueryManager extends AlpineQueryManager {
         return getComponentQueryManager().getComponentByHash(hash);
     }
 
-    public IntegrityMetaInitializerTask.ComponentProjection getComponentByPurl(String purl) {
-        return getComponentQueryManager().getComponentByPurl(purl);
-    }
-
     public PaginatedResult getComponents(ComponentIdentity identity) {
         return getComponentQueryManager().getComponents(identity);
     }
@@ -1289,6 +1278,10 @@ public class QueryManager extends AlpineQueryManager {
         return getMetricsQueryManager().getMostRecentProjectMetrics(project);
     }
 
+    public Map<Long, ProjectMetrics> getMostRecentProjectMetrics(Collection<Project> projects) {
+        return getMetricsQueryManager().getMostRecentProjectMetrics(projects);
+    }
+
     public PaginatedResult getProjectMetrics(Project project) {
         return getMetricsQueryManager().getProjectMetrics(project);
     }
@@ -1702,6 +1695,8 @@ public class QueryManager extends AlpineQueryManager {
      * This method expects that access to the {@link VulnerabilityScan} table is serialized
      * through Kafka events, keyed by the scan's token. This assumption allows for optimistic
      * locking to be used.
+     * <p>
+     * When a transaction is already active, the record is created as part of it.
      *
      * @param scanToken       The token that uniquely identifies the scan for clients
      * @param expectedResults Number of expected {@link ScanStatus #SCAN_STATUS_COMPLETE} events for this scan
@@ -1711,9 +1706,13 @@ public class QueryManager extends AlpineQueryManager {
                                                      final UUID targetIdentifier, final UUID scanToken,
                                                      final int expectedResults) {
         final Transaction trx = pm.currentTransaction();
-        trx.setOptimistic(true);
+        final boolean isJoiningExistingTrx = trx.isActive();
         try {
-            trx.begin();
+            if (!isJoiningExistingTrx) {
+                trx.setOptimistic(true);
+                trx.begin();
+            }
+
             final var scan = new VulnerabilityScan();
             scan.setToken(scanToken);
             scan.setTargetType(targetType);
@@ -1725,10 +1724,14 @@ public class QueryManager extends AlpineQueryManager {
             scan.setUpdatedAt(startDate);
             scan.setExpectedResults(expectedResults);
             pm.makePersistent(scan);
-            trx.commit();
+
+            if (!isJoiningExistingTrx) {
+                trx.commit();
+            }
+
             return scan;
         } finally {
-            if (trx.isActive()) {
+            if (!isJoiningExistingTrx && trx.isActive()) {
                 trx.rollback();
             }
         }
@@ -1944,14 +1947,6 @@ public class QueryManager extends AlpineQueryManager {
         return getIntegrityMetaQueryManager().getIntegrityMetaComponentCount();
     }
 
-    public List<IntegrityMetaComponent> fetchNextPurlsPage(long offset) {
-        return getIntegrityMetaQueryManager().fetchNextPurlsPage(offset);
-    }
-
-    public void batchUpdateIntegrityMetaComponent(List<IntegrityMetaComponent> purls) {
-        getIntegrityMetaQueryManager().batchUpdateIntegrityMetaComponent(purls);
-    }
-
     public IntegrityMetaComponent createIntegrityMetaComponent(IntegrityMetaComponent integrityMetaComponent) {
         return getIntegrityMetaQueryManager().createIntegrityMetaComponent(integrityMetaComponent);
     }
@@ -2091,31 +2086,29 @@ public class QueryManager extends AlpineQueryManager {
             return Map.entry(/* true */ "1=1", Collections.emptyMap());
         }
 
-        if (principal == null || !isEnabled(ACCESS_MANAGEMENT_ACL_ENABLED) || hasAccessManagementPermission(principal)) {
+        if (principal == null) {
             return Map.entry(/* true */ "1=1", Collections.emptyMap());
         }
 
-        final var teamIds = new ArrayList<>(getTeamIds(principal));
-        if (teamIds.isEmpty()) {
-            return Map.entry(/* false */ "1=2", Collections.emptyMap());
+        final AclSnapshot aclSnapshot = getAclSnapshot(principal);
+        if (!aclSnapshot.isProjectAccessRestricted()) {
+            return Map.entry(/* true */ "1=1", Collections.emptyMap());
         }
 
-
-        // NB: Need to work around the fact that the RDBMSes can't agree on how to do member checks. Oh joy! :)))
-        final var params = new HashMap<String, Object>();
-        final var teamIdChecks = new ArrayList<String>();
-        for (int i = 0; i < teamIds.size(); i++) {
-            teamIdChecks.add("\"PROJECT_ACCESS_TEAMS\".\"TEAM_ID\" = :teamId" + i);
-            params.put("teamId" + i, teamIds.get(i));
+        if (aclSnapshot.teamIds().isEmpty()) {
+            return Map.entry(/* false */ "1=2", Collections.emptyMap());
         }
 
+        // NB: JDO passes the array as-is to the JDBC driver, which binds it as BIGINT[].
+        final Long[] teamIds = aclSnapshot.teamIds().toArray(new Long[0]);
+
         return Map.entry("""
                 EXISTS (
                   SELECT 1
                     FROM "PROJECT_ACCESS_TEAMS"
                    WHERE "PROJECT_ACCESS_TEAMS"."PROJECT_ID" = "%s"."ID"
-                     AND (%s)
-                )""".formatted(projectTableAlias, String.join(" OR ", teamIdChecks)), params);
+                     AND "PROJECT_ACCESS_TEAMS"."TEAM_ID" = ANY(:projectAclTeamIds)
+                )""".formatted(projectTableAlias), Map.of("projectAclTeamIds", teamIds));
     }
 
     /**
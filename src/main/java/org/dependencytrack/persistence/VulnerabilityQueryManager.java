@@ -21,11 +21,11 @@ package org.dependencytrack.persistence;
 import alpine.persistence.PaginatedResult;
 import alpine.resources.AlpineRequest;
 import org.apache.commons.lang3.StringUtils;
+import org.dependencytrack.auth.AclSnapshot;
 import org.dependencytrack.model.AffectedVersionAttribution;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
-import org.dependencytrack.model.ConfigPropertyConstants;
 import org.dependencytrack.model.Epss;
 import org.dependencytrack.model.FindingAttribution;
 import org.dependencytrack.model.Project;
@@ -50,12 +50,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
-import static org.dependencytrack.util.PrincipalUtil.getPrincipalTeamIds;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 final class VulnerabilityQueryManager extends QueryManager implements IQueryManager {
 
@@ -508,14 +507,14 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         final var params = new HashMap<String, Object>();
         params.put("vuln", vulnerability);
 
-        if (isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED)
-                && !hasAccessManagementPermission(principal)) {
+        final AclSnapshot aclSnapshot = principal != null ? getAclSnapshot(principal) : null;
+        if (aclSnapshot != null && aclSnapshot.isProjectAccessRestricted()) {
             queryStr += """
                         && this.project.accessTeams.contains(team)
                         && :teamIds.contains(team.id)
                     VARIABLES alpine.model.Team team
                     """;
-            params.put("teamIds", getPrincipalTeamIds(super.principal));
+            params.put("teamIds", aclSnapshot.teamIds());
         }
 
         // TODO: This query should support pagination
@@ -534,45 +533,17 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
 
     /**
      * Returns a List of Projects affected by a specific vulnerability.
+     * <p>
+     * Pagination, ordering, and portfolio access control are applied based on the current request, if any.
+     *
      * @param vulnerability the vulnerability to query on
      * @return a List of AffectedProjects
      */
     public List<AffectedProject> getAffectedProjects(Vulnerability vulnerability) {
-        // Fetch all projects affected by the given vulnerability.
-        // Group them by their UUID to ease additional enrichment.
-        final Map<String, AffectedProject> affectedProjects = getProjects(vulnerability, Set.of(Project.FetchGroup.IDENTIFIERS.name())).stream()
-            .map(project -> new AffectedProject(
-                project.getUuid(),
-                project.getDirectDependencies() != null,
-                project.getName(),
-                project.getVersion(),
-                project.isActive(),
-                null
-            ))
-            .collect(Collectors.toMap(affectedProject -> affectedProject.getUuid().toString(), Function.identity()));
-    
-        // Fetch UUIDs of components that are part of the affected projects,
-        // and affected by the given vulnerability. Return both the component's UUID,
-        // but also the UUID of the project it belongs to, so we can correlate.
-        final Query<Component> query = pm.newQuery(Component.class);
-        query.setFilter(":projectUuids.contains(project.uuid) && vulnerabilities.contains(:vulnerability)");
-        query.setParameters(affectedProjects.keySet(), vulnerability);
-        query.setResult("uuid, project.uuid");
-        final List<Object[]> resultRows;
-        try {
-            resultRows = List.copyOf(query.executeResultList(Object[].class));
-        } finally {
-            query.closeAll();
-        }
-    
-        // "Enrich" affectedProjects with component UUIDs.
-        for (final Object[] resultRow : resultRows) {
-            final String componentUuid = String.valueOf(resultRow[0]);
-            final String projectUuid = String.valueOf(resultRow[1]);
-            affectedProjects.get(projectUuid).getAffectedComponentUuids().add(UUID.fromString(componentUuid));
-        }
-    
-        return new ArrayList<>(affectedProjects.values());
+        return withJdbiHandle(request, handle -> handle.attach(VulnerabilityDao.class)
+                .getAffectedProjects(vulnerability.getSource(), vulnerability.getVulnId(), /* activeFilter */ null)).stream()
+                .map(AffectedProject::new)
+                .toList();
     }
 
     /**
@@ -594,14 +565,14 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         final var params = new HashMap<String, Object>();
         params.put("vuln", vulnerability);
 
-        if (isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED)
-                && !hasAccessManagementPermission(principal)) {
+        final AclSnapshot aclSnapshot = principal != null ? getAclSnapshot(principal) : null;
+        if (aclSnapshot != null && aclSnapshot.isProjectAccessRestricted()) {
             queryStr += """
                         && this.project.accessTeams.contains(team)
                         && :teamIds.contains(team.id)
                     VARIABLES alpine.model.Team team
                     """;
-            params.put("teamIds", getPrincipalTeamIds(super.principal));
+            params.put("teamIds", aclSnapshot.teamIds());
         }
 
         final Query<?> query = pm.newQuery(Query.JDOQL, queryStr);
@@ -18,13 +18,9 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
-import alpine.model.ApiKey;
-import alpine.model.LdapUser;
-import alpine.model.ManagedUser;
-import alpine.model.OidcUser;
 import alpine.persistence.OrderDirection;
 import alpine.resources.AlpineRequest;
-import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.AclSnapshot;
 import org.dependencytrack.persistence.Ordering;
 import org.dependencytrack.persistence.jdbi.ApiRequestConfig.OrderingColumn;
 import org.jdbi.v3.core.qualifier.QualifiedType;
@@ -32,19 +28,15 @@ import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.StatementCustomizer;
 
 import javax.jdo.Query;
-import java.security.Principal;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Set;
 
-import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_FILTER_PARAMETER;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_ORDER_BY_CLAUSE;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_PROJECT_ACL_CONDITION;
-import static org.dependencytrack.util.PrincipalUtil.getPrincipalTeamIds;
 import static org.jdbi.v3.core.generic.GenericTypes.parameterizeClass;
 
 /**
@@ -173,18 +165,17 @@ class ApiRequestStatementCustomizer implements StatementCustomizer {
     }
 
     private void defineProjectAclCondition(final StatementContext ctx) throws SQLException {
-        if (apiRequest == null) {
+        if (apiRequest == null || apiRequest.getPrincipal() == null) {
             return;
         }
 
-        if (apiRequest.getPrincipal() == null
-            || !isAclEnabled(ctx)
-            || hasAccessManagementPermission(ctx, apiRequest.getPrincipal())) {
+        final AclSnapshot aclSnapshot = AclSnapshot.of(apiRequest.getPrincipal(),
+                principal -> AclSnapshot.load(principal, ctx.getConnection()));
+        if (!aclSnapshot.isProjectAccessRestricted()) {
             return;
         }
 
-        final Set<Long> principalTeamIds = getPrincipalTeamIds(apiRequest.getPrincipal());
-        if (principalTeamIds.isEmpty()) {
+        if (aclSnapshot.teamIds().isEmpty()) {
             ctx.define(ATTRIBUTE_API_PROJECT_ACL_CONDITION, "FALSE");
             return;
         }
@@ -195,165 +186,8 @@ class ApiRequestStatementCustomizer implements StatementCustomizer {
                 ATTRIBUTE_API_PROJECT_ACL_CONDITION,
                 TEMPLATE_PROJECT_ACL_CONDITION.formatted(config.projectAclProjectTableName())
         );
-        ctx.getBinding().addNamed(PARAMETER_PROJECT_ACL_TEAM_IDS, principalTeamIds,
+        ctx.getBinding().addNamed(PARAMETER_PROJECT_ACL_TEAM_IDS, aclSnapshot.teamIds(),
                 QualifiedType.of(parameterizeClass(Set.class, Long.class)));
     }
 
-    private boolean isAclEnabled(final StatementContext ctx) throws SQLException {
-        try (final PreparedStatement ps = ctx.getConnection().prepareStatement("""
-                SELECT 1
-                  FROM "CONFIGPROPERTY"
-                 WHERE "GROUPNAME" = ?
-                   AND "PROPERTYNAME" = ?
-                   AND "PROPERTYVALUE" = 'true'
-                """)) {
-            ps.setString(1, ACCESS_MANAGEMENT_ACL_ENABLED.getGroupName());
-            ps.setString(2, ACCESS_MANAGEMENT_ACL_ENABLED.getPropertyName());
-            return ps.executeQuery().next();
-        }
-    }
-
-    private boolean hasAccessManagementPermission(final StatementContext ctx, final Principal principal) throws SQLException {
-        // NB: This could be simplified if Alpine's AuthenticationFilter would load all
-        // effective permissions of the authenticated user, and make them available in
-        // the Principal object. Then, we wouldn't need to perform any database queries here.
-
-        return switch (principal) {
-            case ApiKey apiKey -> hasAccessManagementPermission(ctx, apiKey);
-            case LdapUser ldapUser -> hasAccessManagementPermission(ctx, ldapUser);
-            case ManagedUser managedUser -> hasAccessManagementPermission(ctx, managedUser);
-            case OidcUser oidcUser -> hasAccessManagementPermission(ctx, oidcUser);
-            default -> false;
-        };
-    }
-
-    private boolean hasAccessManagementPermission(final StatementContext ctx, final ApiKey apiKey) throws SQLException {
-        try (final PreparedStatement ps = ctx.getConnection().prepareStatement("""
-                SELECT EXISTS(
-                  SELECT 1
-                    FROM "APIKEY"
-                   INNER JOIN "APIKEYS_TEAMS"
-                      ON "APIKEYS_TEAMS"."APIKEY_ID" = "APIKEY"."ID"
-                   INNER JOIN "TEAM"
-                      ON "TEAM"."ID" = "APIKEYS_TEAMS"."TEAM_ID"
-                   INNER JOIN "TEAMS_PERMISSIONS"
-                      ON "TEAMS_PERMISSIONS"."TEAM_ID" = "TEAM"."ID"
-                   INNER JOIN "PERMISSION"
-                      ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
-                   WHERE "APIKEY"."ID" = ?
-                     AND "PERMISSION"."NAME" = ?
-                )""")) {
-            ps.setLong(1, apiKey.getId());
-            ps.setString(2, Permissions.Constants.ACCESS_MANAGEMENT);
-
-            final ResultSet rs = ps.executeQuery();
-            return rs.next() && rs.getBoolean(1);
-        }
-    }
-
-    private boolean hasAccessManagementPermission(final StatementContext ctx, final LdapUser user) throws SQLException {
-        try (final PreparedStatement ps = ctx.getConnection().prepareStatement("""
-                SELECT EXISTS(
-                  SELECT 1
-                    FROM "LDAPUSER"
-                   INNER JOIN "LDAPUSERS_TEAMS"
-                      ON "LDAPUSERS_TEAMS"."LDAPUSER_ID" = "LDAPUSER"."ID"
-                   INNER JOIN "TEAM"
-                      ON "TEAM"."ID" = "LDAPUSERS_TEAMS"."TEAM_ID"
-                   INNER JOIN "TEAMS_PERMISSIONS"
-                      ON "TEAMS_PERMISSIONS"."TEAM_ID" = "TEAM"."ID"
-                   INNER JOIN "PERMISSION"
-                      ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
-                   WHERE "LDAPUSER"."ID" = ?
-                     AND "PERMISSION"."NAME" = ?
-                   UNION
-                  SELECT 1
-                    FROM "LDAPUSER"
-                   INNER JOIN "LDAPUSERS_PERMISSIONS"
-                      ON "LDAPUSERS_PERMISSIONS"."LDAPUSER_ID" = "LDAPUSER"."ID"
-                   INNER JOIN "PERMISSION"
-                      ON "PERMISSION"."ID" = "LDAPUSERS_PERMISSIONS"."PERMISSION_ID"
-                   WHERE "LDAPUSER"."ID" = ?
-                     AND "PERMISSION"."NAME" = ?
-                )""")) {
-            ps.setLong(1, user.getId());
-            ps.setString(2, Permissions.Constants.ACCESS_MANAGEMENT);
-            ps.setLong(3, user.getId());
-            ps.setString(4, Permissions.Constants.ACCESS_MANAGEMENT);
-
-            final ResultSet rs = ps.executeQuery();
-            return rs.next() && rs.getBoolean(1);
-        }
-    }
-
-    private boolean hasAccessManagementPermission(final StatementContext ctx, final ManagedUser user) throws SQLException {
-        try (final PreparedStatement ps = ctx.getConnection().prepareStatement("""
-                SELECT EXISTS(
-                  SELECT 1
-                    FROM "MANAGEDUSER"
-                   INNER JOIN "MANAGEDUSERS_TEAMS"
-                      ON "MANAGEDUSERS_TEAMS"."MANAGEDUSER_ID" = "MANAGEDUSER"."ID"
-                   INNER JOIN "TEAM"
-                      ON "TEAM"."ID" = "MANAGEDUSERS_TEAMS"."TEAM_ID"
-                   INNER JOIN "TEAMS_PERMISSIONS"
-                      ON "TEAMS_PERMISSIONS"."TEAM_ID" = "TEAM"."ID"
-                   INNER JOIN "PERMISSION"
-                      ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
-                   WHERE "MANAGEDUSER"."ID" = ?
-                     AND "PERMISSION"."NAME" = ?
-                   UNION
-                  SELECT 1
-                    FROM "MANAGEDUSER"
-                   INNER JOIN "MANAGEDUSERS_PERMISSIONS"
-                      ON "MANAGEDUSERS_PERMISSIONS"."MANAGEDUSER_ID" = "MANAGEDUSER"."ID"
-                   INNER JOIN "PERMISSION"
-                      ON "PERMISSION"."ID" = "MANAGEDUSERS_PERMISSIONS"."PERMISSION_ID"
-                   WHERE "MANAGEDUSER"."ID" = ?
-                     AND "PERMISSION"."NAME" = ?
-                )""")) {
-            ps.setLong(1, user.getId());
-            ps.setString(2, Permissions.Constants.ACCESS_MANAGEMENT);
-            ps.setLong(3, user.getId());
-            ps.setString(4, Permissions.Constants.ACCESS_MANAGEMENT);
-
-            final ResultSet rs = ps.executeQuery();
-            return rs.next() && rs.getBoolean(1);
-        }
-    }
-
-    private boolean hasAccessManagementPermission(final StatementContext ctx, final OidcUser user) throws SQLException {
-        try (final PreparedStatement ps = ctx.getConnection().prepareStatement("""
-                SELECT EXISTS(
-                  SELECT 1
-                    FROM "OIDCUSER"
-                   INNER JOIN "OIDCUSERS_TEAMS"
-                      ON "OIDCUSERS_TEAMS"."OIDCUSERS_ID" = "OIDCUSER"."ID"
-                   INNER JOIN "TEAM"
-                      ON "TEAM"."ID" = "OIDCUSERS_TEAMS"."TEAM_ID"
-                   INNER JOIN "TEAMS_PERMISSIONS"
-                      ON "TEAMS_PERMISSIONS"."TEAM_ID" = "TEAM"."ID"
-                   INNER JOIN "PERMISSION"
-                      ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
-                   WHERE "OIDCUSER"."ID" = ?
-                     AND "PERMISSION"."NAME" = ?
-                   UNION
-                  SELECT 1
-                    FROM "OIDCUSER"
-                   INNER JOIN "OIDCUSERS_PERMISSIONS"
-                      ON "OIDCUSERS_PERMISSIONS"."OIDCUSER_ID" = "OIDCUSER"."ID"
-                   INNER JOIN "PERMISSION"
-                      ON "PERMISSION"."ID" = "OIDCUSERS_PERMISSIONS"."PERMISSION_ID"
-                   WHERE "OIDCUSER"."ID" = ?
-                     AND "PERMISSION"."NAME" = ?
-                )""")) {
-            ps.setLong(1, user.getId());
-            ps.setString(2, Permissions.Constants.ACCESS_MANAGEMENT);
-            ps.setLong(3, user.getId());
-            ps.setString(4, Permissions.Constants.ACCESS_MANAGEMENT);
-
-            final ResultSet rs = ps.executeQuery();
-            return rs.next() && rs.getBoolean(1);
-        }
-    }
-
 }
@@ -18,13 +18,119 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import jakarta.annotation.Nullable;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.DefineNamedBindings;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
+import java.time.Instant;
+import java.util.List;
+
 /**
  * @since 5.6.0
  */
 public interface ComponentMetaDao {
 
+    /**
+     * Fetch a page of distinct PURL coordinates eligible for repository meta analysis.
+     * <p>
+     * Pagination is keyset-based on ({@code purlCoordinates}, {@code internal}), such that
+     * the cost of fetching a page does not grow with the number of pages already fetched.
+     *
+     * @param projectId           ID of the project to limit the query to, or {@code null} for the entire portfolio
+     * @param lastPurlCoordinates PURL coordinates of the last row of the previous page, or {@code null} for the first page
+     * @param lastInternal        Internal flag of the last row of the previous page, or {@code null} for the first page
+     * @param limit               Maximum number of rows to return
+     * @return A {@link List} of {@link RepositoryMetaAnalysisCandidateRow}s
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="projectId" type="Boolean" -->
+            <#-- @ftlvariable name="lastPurlCoordinates" type="Boolean" -->
+            SELECT DISTINCT "COMPONENT"."PURLCOORDINATES" AS "purlCoordinates"
+                 , COALESCE("COMPONENT"."INTERNAL", FALSE) AS "internal"
+              FROM "COMPONENT"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
+             WHERE "PROJECT"."ACTIVE"
+               AND "COMPONENT"."PURLCOORDINATES" IS NOT NULL
+            <#if projectId>
+               AND "COMPONENT"."PROJECT_ID" = :projectId
+            </#if>
+            <#if lastPurlCoordinates>
+               AND "COMPONENT"."PURLCOORDINATES" >= :lastPurlCoordinates
+               AND ("COMPONENT"."PURLCOORDINATES" > :lastPurlCoordinates
+                    OR COALESCE("COMPONENT"."INTERNAL", FALSE) > :lastInternal)
+            </#if>
+             ORDER BY "purlCoordinates", "internal"
+             LIMIT :limit
+            """)
+    @DefineNamedBindings
+    @RegisterConstructorMapper(RepositoryMetaAnalysisCandidateRow.class)
+    List<RepositoryMetaAnalysisCandidateRow> getRepositoryMetaAnalysisCandidates(
+            @Bind Long projectId,
+            @Bind String lastPurlCoordinates,
+            @Bind Boolean lastInternal,
+            @Bind int limit
+    );
+
+    record RepositoryMetaAnalysisCandidateRow(String purlCoordinates, boolean internal) {
+    }
+
+    /**
+     * Fetch a page of {@code INTEGRITY_META_COMPONENT} records that are eligible for
+     * (re-) fetching of integrity metadata, along with the {@code internal} flag of
+     * the components they belong to.
+     * <p>
+     * Pagination is keyset-based on {@code ID}, such that the cost of fetching a page
+     * does not grow with the number of pages already fetched.
+     *
+     * @param lastId        ID of the last row of the previous page, or {@code 0} for the first page
+     * @param fetchedBefore Records in progress that were last fetched before this point in time are eligible again
+     * @param limit         Maximum number of rows to return
+     * @return A {@link List} of {@link IntegrityMetaInitializationCandidateRow}s
+     */
+    @SqlQuery("""
+            SELECT "IMC"."ID" AS "id"
+                 , "IMC"."PURL" AS "purl"
+                 , "C"."INTERNAL" AS "internal"
+              FROM "INTEGRITY_META_COMPONENT" AS "IMC"
+              LEFT JOIN LATERAL (
+                SELECT BOOL_OR(COALESCE("COMPONENT"."INTERNAL", FALSE)) AS "INTERNAL"
+                  FROM "COMPONENT"
+                 WHERE "COMPONENT"."PURL" = "IMC"."PURL"
+              ) AS "C" ON TRUE
+             WHERE "IMC"."ID" > :lastId
+               AND ("IMC"."STATUS" IS NULL
+                    OR ("IMC"."STATUS" = 'IN_PROGRESS' AND "IMC"."LAST_FETCH" < :fetchedBefore))
+             ORDER BY "IMC"."ID"
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(IntegrityMetaInitializationCandidateRow.class)
+    List<IntegrityMetaInitializationCandidateRow> getIntegrityMetaInitializationCandidates(
+            @Bind long lastId,
+            @Bind Instant fetchedBefore,
+            @Bind int limit
+    );
+
+    /**
+     * @param id       ID of the {@code INTEGRITY_META_COMPONENT} record
+     * @param purl     The PURL of the record
+     * @param internal Whether any component with the PURL is internal, or {@code null} when no such component exists
+     */
+    record IntegrityMetaInitializationCandidateRow(long id, String purl, @Nullable Boolean internal) {
+    }
+
+    @SqlUpdate("""
+            UPDATE "INTEGRITY_META_COMPONENT"
+               SET "LAST_FETCH" = NOW()
+                 , "STATUS" = 'IN_PROGRESS'
+             WHERE "ID" = ANY(:ids)
+               AND ("STATUS" IS NULL OR "STATUS" = 'IN_PROGRESS')
+            """)
+    int markIntegrityMetaComponentsInProgress(@Bind List<Long> ids);
+
     @SqlUpdate("""
             DELETE
               FROM "INTEGRITY_META_COMPONENT"
@@ -0,0 +1,207 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import jakarta.annotation.Nullable;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Access to the edges of a project's dependency graph, as stored in the {@code COMPONENT_DEPENDENCY} table.
+ * <p>
+ * Edges with a {@code PARENT_ID} of {@code null} denote direct dependencies of the project itself.
+ *
+ * @since 5.6.0
+ */
+public interface DependencyGraphDao {
+
+    @SqlUpdate("""
+            DELETE
+              FROM "COMPONENT_DEPENDENCY"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    int deleteDependencies(@Bind long projectId);
+
+    /**
+     * Create dependency edges for a given project.
+     * <p>
+     * {@code parentIds} and {@code childIds} are correlated by their index,
+     * and thus must be of equal size.
+     *
+     * @param projectId ID of the project
+     * @param parentIds IDs of the parent components, or {@code null} for direct dependencies of the project
+     * @param childIds  IDs of the child components
+     * @return Number of created edges
+     */
+    @SqlUpdate("""
+            INSERT INTO "COMPONENT_DEPENDENCY" ("PROJECT_ID", "PARENT_ID", "CHILD_ID")
+            SELECT :projectId
+                 , "PARENT_ID"
+                 , "CHILD_ID"
+              FROM UNNEST(:parentIds, :childIds) AS "EDGE"("PARENT_ID", "CHILD_ID")
+            ON CONFLICT DO NOTHING
+            """)
+    int createDependencies(@Bind long projectId, @Bind List<Long> parentIds, @Bind List<Long> childIds);
+
+    /**
+     * Copy the dependency edges of a project to another project.
+     * <p>
+     * {@code sourceComponentIds} and {@code targetComponentIds} map the source project's components
+     * to their counterparts in the target project, and are correlated by their index.
+     * Edges involving unmapped components are not copied.
+     *
+     * @param sourceProjectId            ID of the project to copy edges from
+     * @param targetProjectId            ID of the project to copy edges to
+     * @param sourceComponentIds         IDs of components in the source project
+     * @param targetComponentIds         IDs of the corresponding components in the target project
+     * @param includeProjectDependencies Whether to copy direct dependencies of the project
+     * @return Number of copied edges
+     */
+    @SqlUpdate("""
+            WITH "CTE_COMPONENT_MAPPING" AS (
+              SELECT *
+                FROM UNNEST(:sourceComponentIds, :targetComponentIds) AS "MAPPING"("SOURCE_ID", "TARGET_ID")
+            )
+            INSERT INTO "COMPONENT_DEPENDENCY" ("PROJECT_ID", "PARENT_ID", "CHILD_ID")
+            SELECT :targetProjectId
+                 , "PARENT_MAPPING"."TARGET_ID"
+                 , "CHILD_MAPPING"."TARGET_ID"
+              FROM "COMPONENT_DEPENDENCY" AS "CD"
+             INNER JOIN "CTE_COMPONENT_MAPPING" AS "CHILD_MAPPING"
+                ON "CHILD_MAPPING"."SOURCE_ID" = "CD"."CHILD_ID"
+              LEFT JOIN "CTE_COMPONENT_MAPPING" AS "PARENT_MAPPING"
+                ON "PARENT_MAPPING"."SOURCE_ID" = "CD"."PARENT_ID"
+             WHERE "CD"."PROJECT_ID" = :sourceProjectId
+               AND CASE WHEN "CD"."PARENT_ID" IS NULL
+                        THEN :includeProjectDependencies
+                        ELSE "PARENT_MAPPING"."TARGET_ID" IS NOT NULL
+                   END
+            ON CONFLICT DO NOTHING
+            """)
+    int copyDependencies(
+            @Bind long sourceProjectId,
+            @Bind long targetProjectId,
+            @Bind List<Long> sourceComponentIds,
+            @Bind List<Long> targetComponentIds,
+            @Bind boolean includeProjectDependencies);
+
+    @SqlQuery("""
+            SELECT "PARENT_ID"
+              FROM "COMPONENT_DEPENDENCY"
+             WHERE "CHILD_ID" = :componentId
+               AND "PARENT_ID" IS NOT NULL
+            """)
+    List<Long> getParentIds(@Bind long componentId);
+
+    /**
+     * Resolve the portion of a project's dependency graph that leads to the given components.
+     * <p>
+     * The result includes the components themselves, all of their (transitive) parents,
+     * the direct dependencies of the project, and up to two levels of children of those.
+     * For components whose children are included, {@link DependencyGraphNodeRow#dependencyGraph()}
+     * holds the UUIDs of all their children.
+     *
+     * @param projectId    ID of the project
+     * @param componentIds IDs of the components to resolve the graph for
+     * @return The nodes of the dependency graph
+     */
+    @SqlQuery("""
+            WITH RECURSIVE
+            "CTE_ANCESTOR" ("ID") AS (
+              SELECT "ID"
+                FROM "COMPONENT"
+               WHERE "ID" = ANY(:componentIds)
+              UNION
+              SELECT "CD"."PARENT_ID"
+                FROM "COMPONENT_DEPENDENCY" AS "CD"
+               INNER JOIN "CTE_ANCESTOR"
+                  ON "CTE_ANCESTOR"."ID" = "CD"."CHILD_ID"
+               WHERE "CD"."PROJECT_ID" = :projectId
+                 AND "CD"."PARENT_ID" IS NOT NULL
+            ),
+            "CTE_PATH" ("ID") AS (
+              SELECT "ID"
+                FROM "CTE_ANCESTOR"
+              UNION
+              SELECT "CHILD_ID"
+                FROM "COMPONENT_DEPENDENCY"
+               WHERE "PROJECT_ID" = :projectId
+                 AND "PARENT_ID" IS NULL
+            ),
+            "CTE_EXPANDED" ("ID") AS (
+              SELECT "ID"
+                FROM "CTE_PATH"
+              UNION
+              SELECT "CD"."CHILD_ID"
+                FROM "COMPONENT_DEPENDENCY" AS "CD"
+               INNER JOIN "CTE_PATH"
+                  ON "CTE_PATH"."ID" = "CD"."PARENT_ID"
+            ),
+            "CTE_NODE" ("ID") AS (
+              SELECT "ID"
+                FROM "CTE_EXPANDED"
+              UNION
+              SELECT "CD"."CHILD_ID"
+                FROM "COMPONENT_DEPENDENCY" AS "CD"
+               INNER JOIN "CTE_EXPANDED"
+                  ON "CTE_EXPANDED"."ID" = "CD"."PARENT_ID"
+            )
+            SELECT "C"."UUID" AS "uuid"
+                 , "C"."NAME" AS "name"
+                 , "C"."VERSION" AS "version"
+                 , "C"."PURL" AS "purl"
+                 , "C"."PURLCOORDINATES" AS "purlCoordinates"
+                 , EXISTS(
+                     SELECT 1
+                       FROM "COMPONENT_DEPENDENCY" AS "CD"
+                      INNER JOIN "CTE_ANCESTOR"
+                         ON "CTE_ANCESTOR"."ID" = "CD"."CHILD_ID"
+                      WHERE "CD"."PARENT_ID" = "C"."ID"
+                   ) AS "expandDependencyGraph"
+                 , CASE WHEN "C"."ID" IN (SELECT "ID" FROM "CTE_EXPANDED") THEN (
+                     SELECT ARRAY_AGG("CHILD"."UUID"::TEXT)
+                       FROM "COMPONENT_DEPENDENCY" AS "CD"
+                      INNER JOIN "COMPONENT" AS "CHILD"
+                         ON "CHILD"."ID" = "CD"."CHILD_ID"
+                      WHERE "CD"."PARENT_ID" = "C"."ID"
+                   ) END AS "dependencyGraph"
+              FROM "CTE_NODE"
+             INNER JOIN "COMPONENT" AS "C"
+                ON "C"."ID" = "CTE_NODE"."ID"
+            """)
+    @RegisterConstructorMapper(DependencyGraphNodeRow.class)
+    List<DependencyGraphNodeRow> getDependencyGraphForComponents(@Bind long projectId, @Bind List<Long> componentIds);
+
+    record DependencyGraphNodeRow(
+            UUID uuid,
+            String name,
+            @Nullable String version,
+            @Nullable String purl,
+            @Nullable String purlCoordinates,
+            boolean expandDependencyGraph,
+            @Nullable List<String> dependencyGraph
+    ) {
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import alpine.Config;
 import alpine.resources.AlpineRequest;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
@@ -26,6 +27,7 @@ import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.store.connection.ConnectionManagerImpl;
 import org.datanucleus.store.rdbms.ConnectionFactoryImpl;
 import org.datanucleus.store.rdbms.RDBMSStoreManager;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.persistence.QueryManager;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
@@ -41,6 +43,7 @@ import javax.jdo.PersistenceManager;
 import javax.jdo.PersistenceManagerFactory;
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.apache.commons.lang3.reflect.FieldUtils.readField;
@@ -48,6 +51,7 @@ import static org.apache.commons.lang3.reflect.FieldUtils.readField;
 public class JdbiFactory {
 
     private static final AtomicReference<GlobalInstanceHolder> GLOBAL_INSTANCE_HOLDER = new AtomicReference<>();
+    private static volatile Optional<ReadReplica> READ_REPLICA;
 
     public static Handle openJdbiHandle() {
         return createJdbi().open();
@@ -89,6 +93,68 @@ public class JdbiFactory {
         return createJdbi().inTransaction(handle -> handleCallback.withHandle(forApiRequest(handle, apiRequest)));
     }
 
+    /**
+     * Use a {@link Handle} that shares the {@link Connection} of a given {@link QueryManager}.
+     * <p>
+     * Statements executed via the {@link Handle} participate in the {@link javax.jdo.Transaction}
+     * that {@code qm} is currently in. Pending JDO changes must be flushed beforehand for them
+     * to be visible to the {@link Handle}.
+     *
+     * @see #createLocalJdbi(QueryManager)
+     * @since 5.6.0
+     */
+    public static <X extends Exception> void useJdbiHandle(final QueryManager qm, final HandleConsumer<X> handleConsumer) throws X {
+        createLocalJdbi(qm).useHandle(handleConsumer);
+    }
+
+    /**
+     * @see #useJdbiHandle(QueryManager, HandleConsumer)
+     * @since 5.6.0
+     */
+    public static <T, X extends Exception> T withJdbiHandle(final QueryManager qm, final HandleCallback<T, X> handleCallback) throws X {
+        return createLocalJdbi(qm).withHandle(handleCallback);
+    }
+
+    /**
+     * Use a {@link Handle} for read-only queries that can tolerate slightly stale data.
+     * <p>
+     * The {@link Handle} is backed by the read replica if one is configured, and its replication
+     * lag is within the configured maximum. Otherwise, it is backed by the primary database.
+     * <p>
+     * Data written to the primary database may not be visible to the {@link Handle} yet,
+     * so it must not be used to read data that was just written by the same request or task.
+     *
+     * @see ConfigKey#DATABASE_REPLICA_URL
+     * @since 5.6.0
+     */
+    public static <X extends Exception> void useReadOnlyJdbiHandle(final HandleConsumer<X> handleConsumer) throws X {
+        createReadOnlyJdbi().useHandle(handleConsumer);
+    }
+
+    /**
+     * @see #useReadOnlyJdbiHandle(HandleConsumer)
+     * @since 5.6.0
+     */
+    public static <X extends Exception> void useReadOnlyJdbiHandle(final AlpineRequest apiRequest, final HandleConsumer<X> handleConsumer) throws X {
+        createReadOnlyJdbi().useHandle(handle -> handleConsumer.useHandle(forApiRequest(handle, apiRequest)));
+    }
+
+    /**
+     * @see #useReadOnlyJdbiHandle(HandleConsumer)
+     * @since 5.6.0
+     */
+    public static <T, X extends Exception> T withReadOnlyJdbiHandle(final HandleCallback<T, X> handleCallback) throws X {
+        return createReadOnlyJdbi().withHandle(handleCallback);
+    }
+
+    /**
+     * @see #useReadOnlyJdbiHandle(HandleConsumer)
+     * @since 5.6.0
+     */
+    public static <T, X extends Exception> T withReadOnlyJdbiHandle(final AlpineRequest apiRequest, final HandleCallback<T, X> handleCallback) throws X {
+        return createReadOnlyJdbi().withHandle(handle -> handleCallback.withHandle(forApiRequest(handle, apiRequest)));
+    }
+
     private static Handle forApiRequest(final Handle handle, final AlpineRequest apiRequest) {
         return handle.addCustomizer(new ApiRequestStatementCustomizer(apiRequest));
     }
@@ -118,6 +184,53 @@ public class JdbiFactory {
         }
     }
 
+    /**
+     * Get a {@link Jdbi} instance for read-only queries that can tolerate slightly stale data.
+     *
+     * @return The read replica's {@link Jdbi} instance if a replica is configured and its
+     * replication lag is within the configured maximum, otherwise the global {@link Jdbi} instance
+     * @see #createJdbi()
+     */
+    static Jdbi createReadOnlyJdbi() {
+        return getReadReplica()
+                .flatMap(ReadReplica::jdbiIfWithinMaxLag)
+                .orElseGet(JdbiFactory::createJdbi);
+    }
+
+    private static Optional<ReadReplica> getReadReplica() {
+        // Initialized lazily upon first access, such that no connection pool
+        // is created for applications that never issue read-only queries.
+        Optional<ReadReplica> readReplica = READ_REPLICA;
+        if (readReplica == null) {
+            synchronized (JdbiFactory.class) {
+                readReplica = READ_REPLICA;
+                if (readReplica == null) {
+                    readReplica = ReadReplica.create(Config.getInstance(), JdbiFactory::customizeJdbi);
+                    READ_REPLICA = readReplica;
+                }
+            }
+        }
+
+        return readReplica;
+    }
+
+    /**
+     * Close the read replica's connection pool, if it has been initialized.
+     * <p>
+     * Read-only queries issued afterward will initialize a new connection pool.
+     *
+     * @see ReadReplicaInitializer
+     * @since 5.6.0
+     */
+    static synchronized void closeReadReplica() throws Exception {
+        final Optional<ReadReplica> readReplica = READ_REPLICA;
+        READ_REPLICA = null;
+
+        if (readReplica != null && readReplica.isPresent()) {
+            readReplica.get().close();
+        }
+    }
+
     private static Jdbi createJdbi(final PersistenceManager pm) {
         return GLOBAL_INSTANCE_HOLDER
                 .updateAndGet(previous -> {
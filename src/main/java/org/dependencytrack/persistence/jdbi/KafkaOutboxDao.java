@@ -0,0 +1,107 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+
+/**
+ * @since 5.6.0
+ */
+public interface KafkaOutboxDao {
+
+    /**
+     * @param id      ID of the outbox record
+     * @param topic   Name of the topic to produce to
+     * @param key     The serialized record key
+     * @param value   The serialized record value
+     * @param headers The record headers, as JSON object
+     */
+    record OutboxRecord(long id, String topic, byte[] key, byte[] value, String headers) {
+    }
+
+    @SqlBatch("""
+            INSERT INTO "KAFKA_OUTBOX" ("TOPIC", "KEY", "VALUE", "HEADERS", "CREATED_AT")
+            VALUES (:topic, :key, :value, CAST(:headers AS JSONB), NOW())
+            """)
+    void createAll(
+            @Bind("topic") List<String> topics,
+            @Bind("key") List<byte[]> keys,
+            @Bind("value") List<byte[]> values,
+            @Bind("headers") List<String> headers);
+
+    @SqlQuery("""
+            SELECT "ID"
+                 , "TOPIC"
+                 , "KEY"
+                 , "VALUE"
+                 , CAST("HEADERS" AS TEXT) AS "HEADERS"
+              FROM "KAFKA_OUTBOX"
+             ORDER BY "ID"
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(OutboxRecord.class)
+    List<OutboxRecord> getNext(@Bind int limit);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "KAFKA_OUTBOX"
+             WHERE "ID" = ANY(:ids)
+            """)
+    int deleteAll(@Bind List<Long> ids);
+
+    /**
+     * @return Age of the oldest record in the outbox in milliseconds, or {@code 0} when the outbox is empty
+     */
+    @SqlQuery("""
+            SELECT COALESCE(EXTRACT(EPOCH FROM NOW() - MIN("CREATED_AT")) * 1000, 0)::BIGINT
+              FROM "KAFKA_OUTBOX"
+            """)
+    long getLagMillis();
+
+    /**
+     * Attempt to acquire a session-scoped lock for relaying outbox records.
+     * <p>
+     * Relaying is limited to one instance at a time, such that records
+     * are not relayed multiple times by concurrently polling instances.
+     * The lock must be released via {@link #releaseRelayLock()}.
+     *
+     * @return {@code true} when the lock was acquired, otherwise {@code false}
+     */
+    @SqlQuery("""
+            SELECT PG_TRY_ADVISORY_LOCK(HASHTEXT('KAFKA_OUTBOX_RELAY'))
+            """)
+    boolean tryAcquireRelayLock();
+
+    /**
+     * Release the lock acquired via {@link #tryAcquireRelayLock()}.
+     *
+     * @return {@code true} when the lock was held and released, otherwise {@code false}
+     */
+    @SqlQuery("""
+            SELECT PG_ADVISORY_UNLOCK(HASHTEXT('KAFKA_OUTBOX_RELAY'))
+            """)
+    boolean releaseRelayLock();
+
+}
@@ -18,35 +18,202 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import org.dependencytrack.model.DependencyMetrics;
+import org.dependencytrack.model.PortfolioMetrics;
+import org.dependencytrack.model.ProjectMetrics;
+import org.jdbi.v3.sqlobject.config.KeyColumn;
+import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.transaction.Transaction;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * @since 5.6.0
  */
 public interface MetricsDao {
 
-    @SqlUpdate("""
-            DELETE
+    @SqlQuery("""
+            SELECT *
+                 , "RISKSCORE" AS "inheritedRiskScore"
+                 , "UNASSIGNED_SEVERITY" AS "unassigned"
+              FROM "PORTFOLIOMETRICS"
+             WHERE "LAST_OCCURRENCE" >= :since
+             ORDER BY "LAST_OCCURRENCE"
+            """)
+    @RegisterBeanMapper(PortfolioMetrics.class)
+    List<PortfolioMetrics> getPortfolioMetricsSince(@Bind Instant since);
+
+    @SqlQuery("""
+            SELECT *
+                 , "RISKSCORE" AS "inheritedRiskScore"
+                 , "UNASSIGNED_SEVERITY" AS "unassigned"
+              FROM "PROJECTMETRICS"
+             WHERE "PROJECT_ID" = :projectId
+               AND "LAST_OCCURRENCE" >= :since
+             ORDER BY "LAST_OCCURRENCE"
+            """)
+    @RegisterBeanMapper(ProjectMetrics.class)
+    List<ProjectMetrics> getProjectMetricsSince(@Bind long projectId, @Bind Instant since);
+
+    @SqlQuery("""
+            SELECT *
+                 , "RISKSCORE" AS "inheritedRiskScore"
+                 , "UNASSIGNED_SEVERITY" AS "unassigned"
+              FROM "PROJECTMETRICS_LATEST"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    @RegisterBeanMapper(ProjectMetrics.class)
+    ProjectMetrics getMostRecentProjectMetrics(@Bind long projectId);
+
+    @SqlQuery("""
+            SELECT *
+                 , "RISKSCORE" AS "inheritedRiskScore"
+                 , "UNASSIGNED_SEVERITY" AS "unassigned"
+              FROM "PROJECTMETRICS_LATEST"
+             WHERE "PROJECT_ID" = ANY(:projectIds)
+            """)
+    @KeyColumn("PROJECT_ID")
+    @RegisterBeanMapper(ProjectMetrics.class)
+    Map<Long, ProjectMetrics> getMostRecentProjectMetrics(@Bind Collection<Long> projectIds);
+
+    @SqlQuery("""
+            SELECT *
+                 , "RISKSCORE" AS "inheritedRiskScore"
+                 , "UNASSIGNED_SEVERITY" AS "unassigned"
               FROM "DEPENDENCYMETRICS"
-             USING "PROJECT"
-             WHERE "PROJECT"."ID" = "DEPENDENCYMETRICS"."PROJECT_ID"
-               AND "PROJECT"."ACTIVE"
-               AND NOW() - "DEPENDENCYMETRICS"."LAST_OCCURRENCE" > :duration
+             WHERE "COMPONENT_ID" = :componentId
+               AND "LAST_OCCURRENCE" >= :since
+             ORDER BY "LAST_OCCURRENCE"
+            """)
+    @RegisterBeanMapper(DependencyMetrics.class)
+    List<DependencyMetrics> getDependencyMetricsSince(@Bind long componentId, @Bind Instant since);
+
+    @SqlQuery("""
+            SELECT *
+                 , "RISKSCORE" AS "inheritedRiskScore"
+                 , "UNASSIGNED_SEVERITY" AS "unassigned"
+              FROM "DEPENDENCYMETRICS_LATEST"
+             WHERE "COMPONENT_ID" = :componentId
+            """)
+    @RegisterBeanMapper(DependencyMetrics.class)
+    DependencyMetrics getMostRecentDependencyMetrics(@Bind long componentId);
+
+    /**
+     * @param tableName Name of the partitioned table
+     * @return Names of all partitions of the table
+     */
+    @SqlQuery("""
+            SELECT pg_class.relname
+              FROM pg_inherits
+             INNER JOIN pg_class
+                ON pg_class.oid = pg_inherits.inhrelid
+             WHERE pg_inherits.inhparent = QUOTE_IDENT(:tableName)::REGCLASS
+            """)
+    List<String> getPartitionNames(@Bind String tableName);
+
+    /**
+     * Create a partition of a metrics table, covering a single day (UTC).
+     * <p>
+     * Records of that day that ended up in the table's default partition are moved
+     * to the new partition. Attaching the partition would fail otherwise.
+     *
+     * @param tableName Name of the partitioned table
+     * @param day       The day to create the partition for
+     */
+    @Transaction
+    default void createDailyPartition(final String tableName, final LocalDate day) {
+        final String partitionName = getDailyPartitionName(tableName, day);
+        final String lowerBound = day.format(DateTimeFormatter.ISO_LOCAL_DATE) + " 00:00:00+00";
+        final String upperBound = day.plusDays(1).format(DateTimeFormatter.ISO_LOCAL_DATE) + " 00:00:00+00";
+
+        createPartitionTable(tableName, partitionName);
+        moveFromDefaultPartition(tableName, partitionName, lowerBound, upperBound);
+        attachPartition(tableName, partitionName, lowerBound, upperBound);
+    }
+
+    @SqlUpdate("""
+            CREATE TABLE "${partitionName}" (LIKE "${tableName}")
             """)
-    int deleteComponentMetricsForRetentionDuration(@Bind Duration duration);
+    void createPartitionTable(@Define String tableName, @Define String partitionName);
 
+    @SqlUpdate("""
+            WITH "MOVED" AS (
+              DELETE
+                FROM "${tableName}_DEFAULT"
+               WHERE "LAST_OCCURRENCE" >= '${lowerBound}'::TIMESTAMPTZ
+                 AND "LAST_OCCURRENCE" < '${upperBound}'::TIMESTAMPTZ
+              RETURNING *
+            )
+            INSERT INTO "${partitionName}"
+            SELECT *
+              FROM "MOVED"
+            """)
+    int moveFromDefaultPartition(
+            @Define String tableName,
+            @Define String partitionName,
+            @Define String lowerBound,
+            @Define String upperBound);
+
+    @SqlUpdate("""
+            ALTER TABLE "${tableName}"
+              ATTACH PARTITION "${partitionName}"
+              FOR VALUES FROM ('${lowerBound}') TO ('${upperBound}')
+            """)
+    void attachPartition(
+            @Define String tableName,
+            @Define String partitionName,
+            @Define String lowerBound,
+            @Define String upperBound);
+
+    @SqlUpdate("""
+            DROP TABLE "${partitionName}"
+            """)
+    void dropPartition(@Define String partitionName);
+
+    /**
+     * @param tableName Name of the partitioned table
+     * @param cutoff    The retention cutoff
+     * @return Whether the table's legacy partition no longer holds any records newer than {@code cutoff}
+     */
+    @SqlQuery("""
+            SELECT NOT EXISTS(
+                     SELECT 1
+                       FROM "${tableName}_LEGACY"
+                      WHERE "LAST_OCCURRENCE" >= :cutoff
+                   )
+            """)
+    boolean isLegacyPartitionExpired(@Define String tableName, @Bind Instant cutoff);
+
+    /**
+     * Delete expired records from the default partition of a metrics table.
+     * <p>
+     * Records are deleted from the partition directly, bypassing the triggers of the partitioned table.
+     * This is consistent with dropping partitions, and retains records in the {@code *_LATEST} tables.
+     *
+     * @param tableName Name of the partitioned table
+     * @param cutoff    The retention cutoff
+     * @return Number of deleted records
+     */
     @SqlUpdate("""
             DELETE
-              FROM "PROJECTMETRICS"
-             USING "PROJECT"
-             WHERE "PROJECT"."ID" = "PROJECTMETRICS"."PROJECT_ID"
-               AND "PROJECT"."ACTIVE"
-               AND NOW() - "PROJECTMETRICS"."LAST_OCCURRENCE" > :duration
+              FROM "${tableName}_DEFAULT"
+             WHERE "LAST_OCCURRENCE" < :cutoff
             """)
-    int deleteProjectMetricsForRetentionDuration(@Bind Duration duration);
+    int deleteExpiredFromDefaultPartition(@Define String tableName, @Bind Instant cutoff);
+
+    static String getDailyPartitionName(final String tableName, final LocalDate day) {
+        return tableName + "_" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
 
     @SqlUpdate("""
             DELETE
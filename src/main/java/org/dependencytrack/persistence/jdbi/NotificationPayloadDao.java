@@ -0,0 +1,67 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * @since 5.6.0
+ */
+public interface NotificationPayloadDao {
+
+    /**
+     * Store a payload under its SHA-256 digest.
+     * <p>
+     * Storing a payload that already exists only refreshes its timestamp,
+     * such that it is retained for as long as it's being referenced.
+     */
+    @SqlUpdate("""
+            INSERT INTO "NOTIFICATION_PAYLOAD" ("SHA256", "CONTENT", "SIZE", "UPDATED_AT")
+            VALUES (:sha256, :content, OCTET_LENGTH(:content), NOW())
+            ON CONFLICT ("SHA256") DO UPDATE
+            SET "UPDATED_AT" = EXCLUDED."UPDATED_AT"
+            """)
+    void createOrRefresh(@Bind String sha256, @Bind byte[] content);
+
+    @SqlQuery("""
+            SELECT "CONTENT"
+              FROM "NOTIFICATION_PAYLOAD"
+             WHERE "SHA256" = :sha256
+            """)
+    Optional<byte[]> getContent(@Bind String sha256);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "NOTIFICATION_PAYLOAD"
+             WHERE "SHA256" IN (
+               SELECT "SHA256"
+                 FROM "NOTIFICATION_PAYLOAD"
+                WHERE "UPDATED_AT" < NOW() - :retentionDuration
+                LIMIT :limit
+                  FOR UPDATE
+                 SKIP LOCKED)
+            """)
+    int deleteForRetentionDuration(@Bind Duration retentionDuration, @Bind int limit);
+
+}
@@ -47,10 +47,13 @@ import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.dependencytrack.proto.notification.v1.ProjectVulnAnalysisStatus.PROJECT_VULN_ANALYSIS_STATUS_COMPLETED;
@@ -370,19 +373,38 @@ public interface NotificationSubjectDao extends SqlObject {
                      WHERE "PT"."PROJECT_ID" = "P"."ID"
                    ) AS "projectTags"
               FROM "PROJECT" AS "P"
-             WHERE "P"."UUID" = :projectUuid
+             WHERE "P"."UUID" = ANY(:projectUuids)
             """)
-    Optional<Project> getProject(UUID projectUuid);
+    List<Project> getProjects(Collection<UUID> projectUuids);
 
-    default Optional<ProjectVulnAnalysisCompleteSubject> getForProjectVulnAnalysisComplete(VulnerabilityScan vulnScan) {
-        final Optional<Project> optionalProject = getProject(vulnScan.getTargetIdentifier());
-        if (optionalProject.isEmpty()) {
-            return Optional.empty();
+    /**
+     * Get {@link ProjectVulnAnalysisCompleteSubject}s for multiple {@link VulnerabilityScan}s at once.
+     * <p>
+     * Scans that do not target an existing project are omitted from the result.
+     *
+     * @param vulnScans The {@link VulnerabilityScan}s to get subjects for
+     * @return A {@link List} of {@link ProjectVulnAnalysisCompleteSubject}s
+     * @since 5.6.0
+     */
+    default List<ProjectVulnAnalysisCompleteSubject> getForProjectVulnAnalysisComplete(Collection<VulnerabilityScan> vulnScans) {
+        final Set<UUID> targetUuids = vulnScans.stream()
+                .filter(vulnScan -> vulnScan.getTargetType() == VulnerabilityScan.TargetType.PROJECT)
+                .map(VulnerabilityScan::getTargetIdentifier)
+                .collect(Collectors.toSet());
+        if (targetUuids.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        final Map<Component, List<Vulnerability>> vulnsByComponent = getHandle().createQuery("""
-                          WITH "CTE_PROJECT" AS (SELECT "ID" FROM "PROJECT" WHERE "UUID" = :projectUuid)
-                        SELECT "C"."UUID" AS "componentUuid"
+        final Map<String, Project> projectByUuid = getProjects(targetUuids).stream()
+                .collect(Collectors.toMap(Project::getUuid, Function.identity()));
+        if (projectByUuid.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // NB: The project UUID must be the first column, as it's mapped using a single column mapper.
+        final Map<UUID, Map<Component, List<Vulnerability>>> vulnsByComponentByProjectUuid = getHandle().createQuery("""
+                        SELECT "P"."UUID" AS "projectUuid"
+                             , "C"."UUID" AS "componentUuid"
                              , "C"."GROUP" AS "componentGroup"
                              , "C"."NAME" AS "componentName"
                              , "C"."VERSION" AS "componentVersion"
@@ -435,44 +457,63 @@ public interface NotificationSubjectDao extends SqlObject {
                              , COALESCE("A"."SEVERITY", "V"."SEVERITY") AS "vulnSeverity"
                              , STRING_TO_ARRAY("V"."CWES", ',') AS "vulnCwes"
                              , JSONB_VULN_ALIASES("V"."SOURCE", "V"."VULNID") AS "vulnAliasesJson"
-                         FROM "COMPONENT" AS "C"
+                         FROM "PROJECT" AS "P"
+                        INNER JOIN "COMPONENT" AS "C" ON "C"."PROJECT_ID" = "P"."ID"
                         INNER JOIN "COMPONENTS_VULNERABILITIES" AS "CV" ON "CV"."COMPONENT_ID" = "C"."ID"
                         INNER JOIN "VULNERABILITY" AS "V" ON "V"."ID" = "CV"."VULNERABILITY_ID"
                          LEFT JOIN "ANALYSIS" AS "A" ON "A"."COMPONENT_ID" = "C"."ID" AND "A"."VULNERABILITY_ID" = "V"."ID"
-                        WHERE "C"."PROJECT_ID" = (SELECT "ID" FROM "CTE_PROJECT")
+                        WHERE "P"."UUID" = ANY(:projectUuids)
                           AND ("A"."SUPPRESSED" IS NULL OR NOT "A"."SUPPRESSED")
                         """)
-                .bind("projectUuid", UUID.fromString(optionalProject.get().getUuid()))
+                .bind("projectUuids", projectByUuid.keySet().stream().map(UUID::fromString).toList())
                 .registerRowMapper(Component.class, new NotificationComponentRowMapper())
                 .registerRowMapper(Vulnerability.class, new NotificationVulnerabilityRowMapper())
-                .map(JoinRowMapper.forTypes(Component.class, Vulnerability.class))
+                .map(JoinRowMapper.forTypes(UUID.class, Component.class, Vulnerability.class))
                 .stream()
                 .collect(Collectors.groupingBy(
-                        joinRow -> joinRow.get(Component.class),
-                        Collectors.mapping(joinRow -> joinRow.get(Vulnerability.class), Collectors.toList())
+                        joinRow -> joinRow.get(UUID.class),
+                        Collectors.groupingBy(
+                                joinRow -> joinRow.get(Component.class),
+                                Collectors.mapping(joinRow -> joinRow.get(Vulnerability.class), Collectors.toList())
+                        )
                 ));
 
-        final var findings = new ArrayList<ComponentVulnAnalysisCompleteSubject>(vulnsByComponent.size());
-        for (final Map.Entry<Component, List<Vulnerability>> entry : vulnsByComponent.entrySet()) {
-            findings.add(ComponentVulnAnalysisCompleteSubject.newBuilder()
-                    .setComponent(entry.getKey())
-                    .addAllVulnerabilities(entry.getValue())
+        final var subjects = new ArrayList<ProjectVulnAnalysisCompleteSubject>(vulnScans.size());
+        for (final VulnerabilityScan vulnScan : vulnScans) {
+            if (vulnScan.getTargetType() != VulnerabilityScan.TargetType.PROJECT) {
+                continue;
+            }
+
+            final Project project = projectByUuid.get(vulnScan.getTargetIdentifier().toString());
+            if (project == null) {
+                // Project (no longer) exists.
+                continue;
+            }
+
+            final Map<Component, List<Vulnerability>> vulnsByComponent =
+                    vulnsByComponentByProjectUuid.getOrDefault(vulnScan.getTargetIdentifier(), Collections.emptyMap());
+            final var findings = new ArrayList<ComponentVulnAnalysisCompleteSubject>(vulnsByComponent.size());
+            for (final Map.Entry<Component, List<Vulnerability>> entry : vulnsByComponent.entrySet()) {
+                findings.add(ComponentVulnAnalysisCompleteSubject.newBuilder()
+                        .setComponent(entry.getKey())
+                        .addAllVulnerabilities(entry.getValue())
+                        .build());
+            }
+
+            subjects.add(ProjectVulnAnalysisCompleteSubject.newBuilder()
+                    .setToken(String.valueOf(vulnScan.getToken()))
+                    .setStatus(switch (vulnScan.getStatus()) {
+                        case COMPLETED -> PROJECT_VULN_ANALYSIS_STATUS_COMPLETED;
+                        case FAILED -> PROJECT_VULN_ANALYSIS_STATUS_FAILED;
+                        default -> throw new IllegalArgumentException("""
+                                Unexpected vulnerability scan status: %s""".formatted(vulnScan.getStatus()));
+                    })
+                    .setProject(project)
+                    .addAllFindings(findings)
                     .build());
         }
 
-        final var subject = ProjectVulnAnalysisCompleteSubject.newBuilder()
-                .setToken(String.valueOf(vulnScan.getToken()))
-                .setStatus(switch (vulnScan.getStatus()) {
-                    case COMPLETED -> PROJECT_VULN_ANALYSIS_STATUS_COMPLETED;
-                    case FAILED -> PROJECT_VULN_ANALYSIS_STATUS_FAILED;
-                    default -> throw new IllegalArgumentException("""
-                            Unexpected vulnerability scan status: %s""".formatted(vulnScan.getStatus()));
-                })
-                .setProject(optionalProject.get())
-                .addAllFindings(findings)
-                .build();
-
-        return Optional.of(subject);
+        return subjects;
     }
 
 }
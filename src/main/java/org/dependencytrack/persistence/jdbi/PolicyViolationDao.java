@@ -0,0 +1,121 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based reconciliation of a project's policy violations with those reported by a policy evaluation.
+ * <p>
+ * Reported violations are identified by their component and policy condition. For all methods,
+ * {@code componentIds} and {@code policyConditionIds} (and where applicable, {@code uuids} and {@code types})
+ * are correlated by their index, and thus must be of equal size.
+ *
+ * @since 5.6.0
+ */
+public interface PolicyViolationDao {
+
+    /**
+     * Create reported violations that do not exist yet.
+     *
+     * @param projectId          ID of the project
+     * @param uuids              UUIDs to assign to violations, should they be created
+     * @param componentIds       IDs of the components of reported violations
+     * @param policyConditionIds IDs of the policy conditions of reported violations
+     * @param types              Types of reported violations
+     * @return IDs of the created violations
+     */
+    @SqlUpdate("""
+            WITH "CTE_REPORTED" AS (
+              SELECT DISTINCT ON ("COMPONENT_ID", "POLICYCONDITION_ID") *
+                FROM UNNEST(:uuids, :componentIds, :policyConditionIds, :types)
+                  AS "REPORTED"("UUID", "COMPONENT_ID", "POLICYCONDITION_ID", "TYPE")
+            )
+            INSERT INTO "POLICYVIOLATION" ("UUID", "TIMESTAMP", "COMPONENT_ID", "PROJECT_ID", "POLICYCONDITION_ID", "TYPE")
+            SELECT "REPORTED"."UUID"
+                 , NOW()
+                 , "REPORTED"."COMPONENT_ID"
+                 , :projectId
+                 , "REPORTED"."POLICYCONDITION_ID"
+                 , "REPORTED"."TYPE"
+              FROM "CTE_REPORTED" AS "REPORTED"
+             WHERE NOT EXISTS (
+                     SELECT 1
+                       FROM "POLICYVIOLATION" AS "PV"
+                      WHERE "PV"."PROJECT_ID" = :projectId
+                        AND "PV"."COMPONENT_ID" = "REPORTED"."COMPONENT_ID"
+                        AND "PV"."POLICYCONDITION_ID" = "REPORTED"."POLICYCONDITION_ID")
+            ON CONFLICT DO NOTHING
+            RETURNING "ID"
+            """)
+    @GetGeneratedKeys("ID")
+    List<Long> createMissingViolations(
+            @Bind long projectId,
+            @Bind List<UUID> uuids,
+            @Bind List<Long> componentIds,
+            @Bind List<Long> policyConditionIds,
+            @Bind List<String> types);
+
+    /**
+     * Delete violations that are no longer reported, including their analyses and analysis comments.
+     *
+     * @param projectId          ID of the project
+     * @param componentIds       IDs of the components of reported violations
+     * @param policyConditionIds IDs of the policy conditions of reported violations
+     * @return Number of deleted violations
+     */
+    @SqlUpdate("""
+            WITH "CTE_RESOLVED" AS (
+              SELECT "PV"."ID"
+                FROM "POLICYVIOLATION" AS "PV"
+               WHERE "PV"."PROJECT_ID" = :projectId
+                 AND NOT EXISTS (
+                       SELECT 1
+                         FROM UNNEST(:componentIds, :policyConditionIds)
+                           AS "REPORTED"("COMPONENT_ID", "POLICYCONDITION_ID")
+                        WHERE "REPORTED"."COMPONENT_ID" = "PV"."COMPONENT_ID"
+                          AND "REPORTED"."POLICYCONDITION_ID" = "PV"."POLICYCONDITION_ID")
+            ),
+            "CTE_DELETED_COMMENTS" AS (
+              DELETE
+                FROM "VIOLATIONANALYSISCOMMENT" AS "VAC"
+               USING "VIOLATIONANALYSIS" AS "VA"
+               WHERE "VAC"."VIOLATIONANALYSIS_ID" = "VA"."ID"
+                 AND "VA"."POLICYVIOLATION_ID" IN (SELECT "ID" FROM "CTE_RESOLVED")
+            ),
+            "CTE_DELETED_ANALYSES" AS (
+              DELETE
+                FROM "VIOLATIONANALYSIS"
+               WHERE "POLICYVIOLATION_ID" IN (SELECT "ID" FROM "CTE_RESOLVED")
+            )
+            DELETE
+              FROM "POLICYVIOLATION"
+             WHERE "ID" IN (SELECT "ID" FROM "CTE_RESOLVED")
+            """)
+    int deleteResolvedViolations(
+            @Bind long projectId,
+            @Bind List<Long> componentIds,
+            @Bind List<Long> policyConditionIds);
+
+}
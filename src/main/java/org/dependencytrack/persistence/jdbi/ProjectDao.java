@@ -97,10 +97,8 @@ public interface ProjectDao {
                      , "RISKSCORE"
                      , "UNASSIGNED_SEVERITY"
                      , "VULNERABILITIES"
-                  FROM "PROJECTMETRICS"
-                 WHERE "PROJECTMETRICS"."PROJECT_ID" = "PROJECT"."ID"
-                 ORDER BY "PROJECTMETRICS"."LAST_OCCURRENCE" DESC
-                 LIMIT 1
+                  FROM "PROJECTMETRICS_LATEST"
+                 WHERE "PROJECTMETRICS_LATEST"."PROJECT_ID" = "PROJECT"."ID"
               ) AS "metrics" ON TRUE
             </#if>
              WHERE ${apiProjectAclCondition!"TRUE"}
@@ -142,8 +140,16 @@ public interface ProjectDao {
                         AND ${apiParentProjectAclCondition!"TRUE"})
             </#if>
             <#if apiFilterParameter??>
-               AND (LOWER("PROJECT"."NAME") LIKE ('%' || LOWER(${apiFilterParameter}) || '%')
-                    OR EXISTS (SELECT 1 FROM "TAG" WHERE "TAG"."NAME" = ${apiFilterParameter}))
+               AND "PROJECT"."ID" IN (
+                     SELECT "ID"
+                       FROM "PROJECT"
+                      WHERE LOWER("NAME") LIKE ('%' || LOWER(${apiFilterParameter}) || '%')
+                      UNION
+                     SELECT "PROJECTS_TAGS"."PROJECT_ID"
+                       FROM "PROJECTS_TAGS"
+                      INNER JOIN "TAG"
+                         ON "TAG"."ID" = "PROJECTS_TAGS"."TAG_ID"
+                      WHERE "TAG"."NAME" = ${apiFilterParameter})
             </#if>
             <#if apiOrderByClause??>
               ${apiOrderByClause}
@@ -0,0 +1,172 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.dependencytrack.common.ConfigKey;
+import org.jdbi.v3.core.Jdbi;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * An optional read replica of the primary database.
+ * <p>
+ * Queries routed to the replica must tolerate reading data that is slightly stale.
+ * The replication lag is checked periodically, and the replica is bypassed for as long as
+ * the lag exceeds {@link ConfigKey#DATABASE_REPLICA_MAX_LAG_DURATION}, or the lag can not be determined.
+ * <p>
+ * The result of the lag check is cached. Only a single thread refreshes it at a time,
+ * while all other threads keep using the cached result instead of waiting for the refresh.
+ *
+ * @since 5.6.0
+ */
+final class ReadReplica implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ReadReplica.class);
+    private static final Duration LAG_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+    private final Jdbi jdbi;
+    private final AutoCloseable dataSource;
+    private final Duration maxLag;
+    private final Duration lagCheckInterval;
+    private final AtomicBoolean lagCheckInProgress = new AtomicBoolean(false);
+    private volatile long lastLagCheckNanos;
+    private volatile boolean withinMaxLag;
+
+    ReadReplica(final Jdbi jdbi, final AutoCloseable dataSource, final Duration maxLag, final Duration lagCheckInterval) {
+        this.jdbi = jdbi;
+        this.dataSource = dataSource;
+        this.maxLag = maxLag;
+        this.lagCheckInterval = lagCheckInterval;
+    }
+
+    /**
+     * Create a {@link ReadReplica} from the application's configuration.
+     *
+     * @param config        The {@link Config} to use
+     * @param jdbiCustomizer Customizer to apply to the replica's {@link Jdbi} instance
+     * @return The {@link ReadReplica}, or {@link Optional#empty()} when no replica is configured
+     */
+    static Optional<ReadReplica> create(final Config config, final Function<Jdbi, Jdbi> jdbiCustomizer) {
+        final String jdbcUrl = config.getProperty(ConfigKey.DATABASE_REPLICA_URL);
+        if (jdbcUrl == null || jdbcUrl.isBlank()) {
+            return Optional.empty();
+        }
+
+        final String username = Optional.ofNullable(config.getProperty(ConfigKey.DATABASE_REPLICA_USERNAME))
+                .orElseGet(() -> config.getProperty(Config.AlpineKey.DATABASE_USERNAME));
+        final String password = Optional.ofNullable(config.getProperty(ConfigKey.DATABASE_REPLICA_PASSWORD))
+                .orElseGet(() -> config.getProperty(Config.AlpineKey.DATABASE_PASSWORD));
+
+        final var hikariCfg = new HikariConfig();
+        hikariCfg.setPoolName("read-replica");
+        hikariCfg.setJdbcUrl(jdbcUrl);
+        hikariCfg.setDriverClassName(config.getProperty(Config.AlpineKey.DATABASE_DRIVER));
+        hikariCfg.setUsername(username);
+        hikariCfg.setPassword(password);
+        hikariCfg.setReadOnly(true);
+        hikariCfg.setMaximumPoolSize(config.getPropertyAsInt(ConfigKey.DATABASE_REPLICA_POOL_MAX_SIZE));
+        hikariCfg.setMinimumIdle(1);
+        hikariCfg.setConnectionTimeout(Duration.parse(
+                config.getProperty(ConfigKey.DATABASE_REPLICA_CONNECTION_TIMEOUT_DURATION)).toMillis());
+        // Do not fail application startup when the replica is unavailable.
+        // Reads will be served by the primary until the replica becomes reachable.
+        hikariCfg.setInitializationFailTimeout(-1);
+
+        final var dataSource = new HikariDataSource(hikariCfg);
+        final Duration maxLag = Duration.parse(config.getProperty(ConfigKey.DATABASE_REPLICA_MAX_LAG_DURATION));
+        LOGGER.info("Routing read-only queries to replica at %s (max lag: %s)".formatted(jdbcUrl, maxLag));
+
+        return Optional.of(new ReadReplica(jdbiCustomizer.apply(Jdbi.create(dataSource)), dataSource, maxLag, LAG_CHECK_INTERVAL));
+    }
+
+    /**
+     * @return The replica's {@link Jdbi} instance, or {@link Optional#empty()}
+     * when the replica is currently lagging too far behind, or unreachable
+     */
+    Optional<Jdbi> jdbiIfWithinMaxLag() {
+        final long nowNanos = System.nanoTime();
+        if (isLagCheckDue(nowNanos) && lagCheckInProgress.compareAndSet(false, true)) {
+            try {
+                if (isLagCheckDue(nowNanos)) {
+                    withinMaxLag = checkWithinMaxLag();
+                    lastLagCheckNanos = nowNanos;
+                }
+            } finally {
+                lagCheckInProgress.set(false);
+            }
+        }
+
+        return withinMaxLag ? Optional.of(jdbi) : Optional.empty();
+    }
+
+    private boolean isLagCheckDue(final long nowNanos) {
+        return lastLagCheckNanos == 0 || nowNanos - lastLagCheckNanos >= lagCheckInterval.toNanos();
+    }
+
+    private boolean checkWithinMaxLag() {
+        final Duration lag;
+        try {
+            lag = jdbi.withHandle(handle -> handle.createQuery(/* language=SQL */ """
+                            SELECT CASE
+                                     WHEN NOT PG_IS_IN_RECOVERY() THEN 0
+                                     -- No WAL is pending replay, so the replica is caught up
+                                     -- even if the primary hasn't written anything for a while.
+                                     WHEN PG_LAST_WAL_RECEIVE_LSN() = PG_LAST_WAL_REPLAY_LSN() THEN 0
+                                     ELSE (EXTRACT(EPOCH FROM NOW() - PG_LAST_XACT_REPLAY_TIMESTAMP()) * 1000)::BIGINT
+                                   END
+                            """)
+                    .mapTo(Long.class)
+                    .findOne()
+                    .map(Duration::ofMillis)
+                    .orElse(null));
+        } catch (RuntimeException e) {
+            if (withinMaxLag) {
+                LOGGER.warn("Failed to determine replication lag; Routing read-only queries to the primary", e);
+            }
+            return false;
+        }
+
+        if (lag == null || lag.compareTo(maxLag) > 0) {
+            if (withinMaxLag) {
+                LOGGER.warn("Replication lag of %s exceeds the maximum of %s; Routing read-only queries to the primary"
+                        .formatted(lag, maxLag));
+            }
+            return false;
+        }
+
+        if (!withinMaxLag && lastLagCheckNanos != 0) {
+            LOGGER.info("Replication lag of %s is within the maximum of %s; Routing read-only queries to the replica"
+                    .formatted(lag, maxLag));
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws Exception {
+        dataSource.close();
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import alpine.common.logging.Logger;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+
+/**
+ * Closes the connection pool of the database read replica upon shutdown.
+ * <p>
+ * The pool itself is initialized lazily upon the first read-only query.
+ * This listener must be registered after {@link alpine.server.persistence.PersistenceManagerFactory},
+ * such that the replica pool is closed before the primary pool.
+ *
+ * @since 5.6.0
+ */
+public class ReadReplicaInitializer implements ServletContextListener {
+
+    private static final Logger LOGGER = Logger.getLogger(ReadReplicaInitializer.class);
+
+    @Override
+    public void contextDestroyed(final ServletContextEvent event) {
+        LOGGER.info("Closing read replica connection pool");
+
+        try {
+            JdbiFactory.closeReadReplica();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to close read replica connection pool", e);
+        }
+    }
+
+}
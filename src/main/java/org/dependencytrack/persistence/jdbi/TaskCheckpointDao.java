@@ -0,0 +1,57 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * @since 5.6.0
+ */
+public interface TaskCheckpointDao {
+
+    @SqlQuery("""
+            SELECT "CURSOR"
+              FROM "TASK_CHECKPOINT"
+             WHERE "TASK_NAME" = :taskName
+               AND "UPDATED_AT" > NOW() - :maxAge
+            """)
+    Optional<Long> getCursor(@Bind String taskName, @Bind Duration maxAge);
+
+    @SqlUpdate("""
+            INSERT INTO "TASK_CHECKPOINT" ("TASK_NAME", "CURSOR", "UPDATED_AT")
+            VALUES (:taskName, :cursor, NOW())
+            ON CONFLICT ("TASK_NAME") DO UPDATE
+            SET "CURSOR" = EXCLUDED."CURSOR"
+              , "UPDATED_AT" = EXCLUDED."UPDATED_AT"
+            """)
+    void saveCursor(@Bind String taskName, @Bind long cursor);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "TASK_CHECKPOINT"
+             WHERE "TASK_NAME" = :taskName
+            """)
+    void deleteCursor(@Bind String taskName);
+
+}
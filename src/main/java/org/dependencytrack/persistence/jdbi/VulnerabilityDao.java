@@ -157,41 +157,31 @@ public interface VulnerabilityDao {
             <#-- @ftlvariable name="apiOrderByClause" type="String" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
-            WITH "CTE_AFFECTED_COMPONENTS" AS (
-              SELECT "COMPONENT"."UUID" AS "UUID"
-                   , "PROJECT"."ID" AS "PROJECT_ID"
-                FROM "COMPONENT"
-               INNER JOIN "PROJECT"
-                  ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
-               INNER JOIN "COMPONENTS_VULNERABILITIES"
-                  ON "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" = "COMPONENT"."ID"
-               INNER JOIN "VULNERABILITY"
-                  ON "VULNERABILITY"."ID" = "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
-               WHERE ${apiProjectAclCondition!"TRUE"}
-                 AND "VULNERABILITY"."SOURCE" = :source
-                 AND "VULNERABILITY"."VULNID" = :vulnId
+            SELECT "PROJECT"."UUID" AS "uuid"
+                 , "PROJECT"."NAME" AS "name"
+                 , "PROJECT"."VERSION" AS "version"
+                 , "PROJECT"."ACTIVE" AS "active"
+                 , ("PROJECT"."DIRECT_DEPENDENCIES" IS NOT NULL) AS "dependencyGraphAvailable"
+                 , ARRAY_AGG("COMPONENT"."UUID") AS "affectedComponentUuids"
+                 , COUNT(*) OVER() AS "totalCount"
+              FROM "VULNERABILITY"
+             INNER JOIN "COMPONENTS_VULNERABILITIES"
+                ON "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID" = "VULNERABILITY"."ID"
+             INNER JOIN "COMPONENT"
+                ON "COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
+             WHERE ${apiProjectAclCondition!"TRUE"}
+               AND "VULNERABILITY"."SOURCE" = :source
+               AND "VULNERABILITY"."VULNID" = :vulnId
             <#if activeFilter>
-                 AND "PROJECT"."ACTIVE" = :activeFilter
+               AND "PROJECT"."ACTIVE" = :activeFilter
             </#if>
-            )
-            SELECT "UUID" AS "uuid"
-                 , "NAME" AS "name"
-                 , "VERSION" AS "version"
-                 , "ACTIVE" AS "active"
-                 , ("DIRECT_DEPENDENCIES" IS NOT NULL) AS "dependencyGraphAvailable"
-                 , (SELECT ARRAY_AGG("UUID")
-                      FROM "CTE_AFFECTED_COMPONENTS"
-                     WHERE "PROJECT_ID" = "PROJECT"."ID") AS "affectedComponentUuids"
-                 , COUNT(*) OVER() AS "totalCount"
-              FROM "PROJECT"
-             WHERE EXISTS(
-                 SELECT 1
-                   FROM "CTE_AFFECTED_COMPONENTS"
-                  WHERE "PROJECT_ID" = "PROJECT"."ID")
+             GROUP BY "PROJECT"."ID"
             <#if apiOrderByClause??>
               ${apiOrderByClause}
             <#else>
-             ORDER BY "NAME" ASC, "VERSION" DESC
+             ORDER BY "name" ASC, "version" DESC
             </#if>
             ${apiOffsetLimitClause!}
             """)
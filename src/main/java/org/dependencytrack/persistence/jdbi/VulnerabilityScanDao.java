@@ -22,8 +22,7 @@ import org.dependencytrack.model.VulnerabilityScan;
 import org.jdbi.v3.sqlobject.SqlObject;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
-import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
-import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import java.time.Duration;
@@ -32,42 +31,130 @@ import java.util.UUID;
 
 public interface VulnerabilityScanDao extends SqlObject {
 
-    @SqlBatch("""
-                UPDATE "VULNERABILITYSCAN"
-                  SET "RECEIVED_RESULTS" = "RECEIVED_RESULTS" + :resultsTotal
-                    , "SCAN_TOTAL" = "SCAN_TOTAL" + :scannerResultsTotal
-                    , "SCAN_FAILED" = "SCAN_FAILED" + :scannerResultsFailed
-                    , "STATUS" = CASE WHEN "EXPECTED_RESULTS" = ("RECEIVED_RESULTS" + :resultsTotal)
-                                      THEN CASE WHEN (CAST("SCAN_FAILED" + :scannerResultsFailed AS DOUBLE PRECISION) / NULLIF("SCAN_TOTAL" + :scannerResultsTotal, 0)) > "FAILURE_THRESHOLD"
-                                                THEN 'FAILED'
-                                                ELSE 'COMPLETED'
-                                           END
-                                      ELSE 'IN_PROGRESS'
-                                 END
-                    , "UPDATED_AT" = NOW()
-                WHERE "TOKEN" = :token
-            RETURNING "TOKEN"
-                    , "STATUS"
-                    , "TARGET_TYPE"
-                    , "TARGET_IDENTIFIER"
-                    , CASE WHEN "STATUS" = 'FAILED'
-                           THEN 'Failure threshold of ' || ROUND("FAILURE_THRESHOLD"::NUMERIC, 2) * 100 || '% exceeded: '
-                                || "SCAN_FAILED" || '/' || "SCAN_TOTAL" || ' of scans failed'
-                      END AS "FAILURE_REASON"
+    /**
+     * Lock all given scans that are still in progress.
+     * <p>
+     * Scans are locked in a consistent order, such that concurrent transactions can not deadlock.
+     * Locking does not create new row versions, so it is significantly cheaper than an {@code UPDATE}.
+     *
+     * @param tokens Tokens of the scans to lock
+     * @return Tokens of the scans that are still in progress, and were locked
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "TOKEN"
+              FROM "VULNERABILITYSCAN"
+             WHERE "TOKEN" = ANY(:tokens)
+               AND "STATUS" = 'IN_PROGRESS'
+             ORDER BY "TOKEN"
+               FOR NO KEY UPDATE
             """)
-    @RegisterBeanMapper(VulnerabilityScan.class)
-    @GetGeneratedKeys({"TOKEN", "STATUS", "TARGET_TYPE", "TARGET_IDENTIFIER", "FAILURE_REASON"})
-    List<VulnerabilityScan> updateAll(
-            @Bind("token") List<UUID> tokens,
+    List<UUID> lockAllInProgress(@Bind List<UUID> tokens);
+
+    /**
+     * Append result counters for the given scans.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            INSERT INTO "VULNERABILITYSCAN_COUNTER" ("TOKEN", "RECEIVED_RESULTS", "SCAN_TOTAL", "SCAN_FAILED", "CREATED_AT")
+            SELECT "COUNTER"."TOKEN"
+                 , "COUNTER"."RECEIVED_RESULTS"
+                 , "COUNTER"."SCAN_TOTAL"
+                 , "COUNTER"."SCAN_FAILED"
+                 , NOW()
+              FROM UNNEST(:tokens, :resultsTotal, :scannerResultsTotal, :scannerResultsFailed)
+                AS "COUNTER"("TOKEN", "RECEIVED_RESULTS", "SCAN_TOTAL", "SCAN_FAILED")
+            """)
+    int createCounters(
+            @Bind List<UUID> tokens,
             @Bind List<Integer> resultsTotal,
             @Bind List<Integer> scannerResultsTotal,
             @Bind List<Integer> scannerResultsFailed);
 
+    /**
+     * Complete all given scans for which all expected results have been counted.
+     * <p>
+     * Counters of completed scans are merged into their {@link VulnerabilityScan} row,
+     * and deleted afterward. Scans for which results are still outstanding are not modified.
+     *
+     * @param tokens Tokens of the scans to complete
+     * @return The scans that transitioned to {@link VulnerabilityScan.Status#COMPLETED}
+     * or {@link VulnerabilityScan.Status#FAILED}
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            WITH "CTE_TOTALS" AS (
+              SELECT "TOKEN"
+                   , SUM("RECEIVED_RESULTS") AS "RECEIVED_RESULTS"
+                   , SUM("SCAN_TOTAL") AS "SCAN_TOTAL"
+                   , SUM("SCAN_FAILED") AS "SCAN_FAILED"
+                FROM "VULNERABILITYSCAN_COUNTER"
+               WHERE "TOKEN" = ANY(:tokens)
+               GROUP BY "TOKEN"
+            ),
+            "CTE_COMPLETED" AS (
+              UPDATE "VULNERABILITYSCAN" AS "VS"
+                 SET "RECEIVED_RESULTS" = "CTE_TOTALS"."RECEIVED_RESULTS"
+                   , "SCAN_TOTAL" = "CTE_TOTALS"."SCAN_TOTAL"
+                   , "SCAN_FAILED" = "CTE_TOTALS"."SCAN_FAILED"
+                   , "STATUS" = CASE WHEN (CAST("CTE_TOTALS"."SCAN_FAILED" AS DOUBLE PRECISION) / NULLIF("CTE_TOTALS"."SCAN_TOTAL", 0)) > "VS"."FAILURE_THRESHOLD"
+                                     THEN 'FAILED'
+                                     ELSE 'COMPLETED'
+                                END
+                   , "UPDATED_AT" = NOW()
+                FROM "CTE_TOTALS"
+               WHERE "VS"."TOKEN" = "CTE_TOTALS"."TOKEN"
+                 AND "VS"."STATUS" = 'IN_PROGRESS'
+                 AND "CTE_TOTALS"."RECEIVED_RESULTS" >= "VS"."EXPECTED_RESULTS"
+              RETURNING "VS"."TOKEN"
+                      , "VS"."STATUS"
+                      , "VS"."TARGET_TYPE"
+                      , "VS"."TARGET_IDENTIFIER"
+                      , "VS"."FAILURE_THRESHOLD"
+                      , "VS"."SCAN_TOTAL"
+                      , "VS"."SCAN_FAILED"
+            ),
+            "CTE_DELETED_COUNTERS" AS (
+              DELETE
+                FROM "VULNERABILITYSCAN_COUNTER"
+               WHERE "TOKEN" IN (SELECT "TOKEN" FROM "CTE_COMPLETED")
+            )
+            SELECT "TOKEN"
+                 , "STATUS"
+                 , "TARGET_TYPE"
+                 , "TARGET_IDENTIFIER"
+                 , CASE WHEN "STATUS" = 'FAILED'
+                        THEN 'Failure threshold of ' || ROUND("FAILURE_THRESHOLD"::NUMERIC, 2) * 100 || '% exceeded: '
+                             || "SCAN_FAILED" || '/' || "SCAN_TOTAL" || ' of scans failed'
+                   END AS "FAILURE_REASON"
+              FROM "CTE_COMPLETED"
+            """)
+    @RegisterBeanMapper(VulnerabilityScan.class)
+    List<VulnerabilityScan> completeAll(@Bind List<UUID> tokens);
+
+    /**
+     * Delete up to {@code limit} scans that have not been updated within {@code duration}.
+     *
+     * @since 5.6.0
+     */
     @SqlUpdate("""
             DELETE
               FROM "VULNERABILITYSCAN"
-             WHERE NOW() - "UPDATED_AT" > :duration
+             WHERE "ID" IN (
+               SELECT "ID"
+                 FROM "VULNERABILITYSCAN"
+                WHERE "UPDATED_AT" < NOW() - :duration
+                  -- Scans in progress only have their counters updated.
+                  AND NOT EXISTS (
+                        SELECT 1
+                          FROM "VULNERABILITYSCAN_COUNTER"
+                         WHERE "VULNERABILITYSCAN_COUNTER"."TOKEN" = "VULNERABILITYSCAN"."TOKEN"
+                           AND "VULNERABILITYSCAN_COUNTER"."CREATED_AT" >= NOW() - :duration)
+                LIMIT :limit
+                  FOR UPDATE
+                 SKIP LOCKED)
             """)
-    int deleteAllForRetentionDuration(@Bind Duration duration);
+    int deleteForRetentionDuration(@Bind Duration duration, @Bind int limit);
 
 }
@@ -133,57 +133,83 @@ public interface WorkflowDao extends SqlObject {
     int[] cancelAllChildrenByParentStepIdAnyOf(@Bind("parentId") List<Long> parentIds);
 
     /**
+     * Transition up to {@code limit} steps in {@link WorkflowStatus#PENDING} state
+     * to {@link WorkflowStatus#TIMED_OUT}, if they have not been updated within {@code timeoutDuration}.
+     *
      * @since 5.6.0
      */
     @SqlUpdate("""
             UPDATE "WORKFLOW_STATE"
                SET "STATUS" = 'TIMED_OUT'
                  , "UPDATED_AT" = NOW()
-             WHERE "STATUS" = 'PENDING'
-               AND NOW() - "UPDATED_AT" > :timeoutDuration
+             WHERE "ID" IN (
+               SELECT "ID"
+                 FROM "WORKFLOW_STATE"
+                WHERE "STATUS" = 'PENDING'
+                  AND "UPDATED_AT" < NOW() - :timeoutDuration
+                LIMIT :limit
+                  FOR UPDATE
+                 SKIP LOCKED)
             """)
-    int transitionAllPendingStepsToTimedOutForTimeout(@Bind Duration timeoutDuration);
+    int transitionPendingStepsToTimedOutForTimeout(@Bind Duration timeoutDuration, @Bind int limit);
 
     /**
+     * Transition up to {@code limit} steps in {@link WorkflowStatus#TIMED_OUT} state
+     * to {@link WorkflowStatus#FAILED}, if they have not been updated within {@code timeoutDuration}.
+     *
+     * @return IDs of the transitioned steps
      * @since 5.6.0
      */
-    default List<Long> transitionAllTimedOutStepsToFailedForTimeout(final Duration timeoutDuration) {
+    default List<Long> transitionTimedOutStepsToFailedForTimeout(final Duration timeoutDuration, final int limit) {
         // NB: Can't use interface method here due to https://github.com/jdbi/jdbi/issues/1807.
         return getHandle().createUpdate("""
                         UPDATE "WORKFLOW_STATE"
                            SET "STATUS" = 'FAILED'
                              , "FAILURE_REASON" = 'Timed out'
                              , "UPDATED_AT" = NOW()
-                         WHERE "STATUS" = 'TIMED_OUT'
-                           AND NOW() - "UPDATED_AT" > :timeoutDuration
+                         WHERE "ID" IN (
+                           SELECT "ID"
+                             FROM "WORKFLOW_STATE"
+                            WHERE "STATUS" = 'TIMED_OUT'
+                              AND "UPDATED_AT" < NOW() - :timeoutDuration
+                            LIMIT :limit
+                              FOR UPDATE
+                             SKIP LOCKED)
                         RETURNING "ID"
                         """)
                 .bind("timeoutDuration", timeoutDuration)
+                .bind("limit", limit)
                 .executeAndReturnGeneratedKeys()
                 .mapTo(Long.class)
                 .list();
     }
 
     /**
+     * Delete up to {@code limit} workflows of which all steps are in a terminal state,
+     * and none have been updated within {@code retentionDuration}.
+     *
+     * @return Number of deleted workflow steps
      * @since 5.6.0
      */
     @SqlUpdate("""
             WITH "CTE_ELIGIBLE_TOKENS" AS (
-              SELECT "TOKEN"
+              SELECT DISTINCT "TOKEN"
                 FROM "WORKFLOW_STATE" AS "WFS_PARENT"
-               WHERE NOT EXISTS(
-                 SELECT 1
-                   FROM "WORKFLOW_STATE" AS "WFS"
-                  WHERE "WFS"."TOKEN" = "WFS_PARENT"."TOKEN"
-                    AND "WFS"."STATUS" IN ('PENDING', 'TIMED_OUT'))
-               GROUP BY "TOKEN"
-              HAVING NOW() - MAX("UPDATED_AT") > :retentionDuration
+               WHERE "STATUS" NOT IN ('PENDING', 'TIMED_OUT')
+                 AND "UPDATED_AT" < NOW() - :retentionDuration
+                 AND NOT EXISTS(
+                   SELECT 1
+                     FROM "WORKFLOW_STATE" AS "WFS"
+                    WHERE "WFS"."TOKEN" = "WFS_PARENT"."TOKEN"
+                      AND ("WFS"."STATUS" IN ('PENDING', 'TIMED_OUT')
+                           OR "WFS"."UPDATED_AT" >= NOW() - :retentionDuration))
+               LIMIT :limit
             )
             DELETE
               FROM "WORKFLOW_STATE"
              WHERE "TOKEN" = ANY(SELECT "TOKEN" FROM "CTE_ELIGIBLE_TOKENS")
             """)
-    int deleteAllForRetention(@Bind Duration retentionDuration);
+    int deleteForRetention(@Bind Duration retentionDuration, @Bind int limit);
 
     /**
      * @since 5.6.0
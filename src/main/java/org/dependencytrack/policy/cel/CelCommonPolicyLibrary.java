@@ -494,14 +494,13 @@ public class CelCommonPolicyLibrary implements Library {
                           WHERE
                             "PROJECT_ID" = (SELECT "ID" FROM "CTE_PROJECT")
                             -- Do not consider other leaf nodes (typically the majority of components).
-                            -- Because we're looking for parent nodes, they MUST have direct dependencies defined.
-                            AND "DIRECT_DEPENDENCIES" IS NOT NULL
+                            -- Because we're looking for parent nodes, they MUST have direct dependencies.
+                            AND EXISTS(SELECT 1 FROM "COMPONENT_DEPENDENCY" AS "CD" WHERE "CD"."PARENT_ID" = "COMPONENT"."ID")
                             AND ${filters}
                         ),
-                        "CTE_DEPENDENCIES" ("UUID", "PROJECT_ID", "FOUND", "PATH") AS (
+                        "CTE_DEPENDENCIES" ("ID", "FOUND", "PATH") AS (
                           SELECT
-                            "C"."UUID"                                       AS "UUID",
-                            "C"."PROJECT_ID"                                 AS "PROJECT_ID",
+                            "C"."ID"                                         AS "ID",
                             ("C"."ID" = ANY(SELECT "ID" FROM "CTE_MATCHES")) AS "FOUND",
                             ARRAY ["C"."ID"]::BIGINT[]                       AS "PATH"
                           FROM
@@ -510,24 +509,28 @@ public class CelCommonPolicyLibrary implements Library {
                             -- Short-circuit the recursive query if we don't have any matches at all.
                             EXISTS(SELECT 1 FROM "CTE_MATCHES")
                             -- Otherwise, find components of which the given leaf component is a direct dependency.
-                            AND "C"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', :leafComponentUuid))
+                            AND "C"."ID" IN (
+                              SELECT "CD"."PARENT_ID"
+                                FROM "COMPONENT_DEPENDENCY" AS "CD"
+                               INNER JOIN "COMPONENT" AS "LEAF" ON "LEAF"."ID" = "CD"."CHILD_ID"
+                               WHERE "LEAF"."UUID" = :leafComponentUuid
+                            )
                           UNION ALL
                           SELECT
-                            "C"."UUID"                                       AS "UUID",
-                            "C"."PROJECT_ID"                                 AS "PROJECT_ID",
+                            "C"."ID"                                         AS "ID",
                             ("C"."ID" = ANY(SELECT "ID" FROM "CTE_MATCHES")) AS "FOUND",
                             ARRAY_APPEND("PREVIOUS"."PATH", "C"."ID")        AS "PATH"
                           FROM
                             "COMPONENT" AS "C"
                           INNER JOIN
-                            "CTE_DEPENDENCIES" AS "PREVIOUS" ON "PREVIOUS"."PROJECT_ID" = "C"."PROJECT_ID"
+                            "COMPONENT_DEPENDENCY" AS "CD" ON "CD"."PARENT_ID" = "C"."ID"
+                          INNER JOIN
+                            "CTE_DEPENDENCIES" AS "PREVIOUS" ON "PREVIOUS"."ID" = "CD"."CHILD_ID"
                           WHERE
                             -- If the previous row was a match already, we're done.
                             NOT "PREVIOUS"."FOUND"
                             -- Also, ensure we haven't seen this component before, to prevent cycles.
                             AND NOT ("C"."ID" = ANY("PREVIOUS"."PATH"))
-                            -- Otherwise, the previous component must appear in the current direct dependencies.
-                            AND "C"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "PREVIOUS"."UUID"))
                         )
                         SELECT BOOL_OR("FOUND") FROM "CTE_DEPENDENCIES";
                         """);
@@ -562,14 +565,13 @@ public class CelCommonPolicyLibrary implements Library {
                       WHERE
                         "PROJECT_ID" = (SELECT "ID" FROM "CTE_PROJECT")
                         -- Do not consider other leaf nodes (typically the majority of components).
-                        -- Because we're looking for parent nodes, they MUST have direct dependencies defined.
-                        AND "DIRECT_DEPENDENCIES" IS NOT NULL
+                        -- Because we're looking for parent nodes, they MUST have direct dependencies.
+                        AND EXISTS(SELECT 1 FROM "COMPONENT_DEPENDENCY" AS "CD" WHERE "CD"."PARENT_ID" = "COMPONENT"."ID")
                         AND ${filters}
                     ),
-                    "CTE_DEPENDENCIES" ("UUID", "PROJECT_ID", ${selectColumnNames?join(", ", "", ", ")} "FOUND", "PATH") AS (
+                    "CTE_DEPENDENCIES" ("ID", ${selectColumnNames?join(", ", "", ", ")} "FOUND", "PATH") AS (
                       SELECT
-                        "C"."UUID"                                       AS "UUID",
-                        "C"."PROJECT_ID"                                 AS "PROJECT_ID",
+                        "C"."ID"                                         AS "ID",
                         -- Select column required for in-memory filtering, but only if the
                         -- SQL filters already matched.
                         <#list selectColumnNames as columnName>
@@ -586,11 +588,15 @@ public class CelCommonPolicyLibrary implements Library {
                         -- Short-circuit the recursive query if we don't have any matches at all.
                         EXISTS(SELECT 1 FROM "CTE_MATCHES")
                         -- Otherwise, find components of which the given leaf component is a direct dependency.
-                        AND "C"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', :leafComponentUuid))
+                        AND "C"."ID" IN (
+                          SELECT "CD"."PARENT_ID"
+                            FROM "COMPONENT_DEPENDENCY" AS "CD"
+                           INNER JOIN "COMPONENT" AS "LEAF" ON "LEAF"."ID" = "CD"."CHILD_ID"
+                           WHERE "LEAF"."UUID" = :leafComponentUuid
+                        )
                       UNION ALL
                       SELECT
-                        "C"."UUID"                                       AS "UUID",
-                        "C"."PROJECT_ID"                                 AS "PROJECT_ID",
+                        "C"."ID"                                         AS "ID",
                         -- Select columns required for in-memory filtering, but only if the
                         -- SQL filters already matched.
                         <#list selectColumnNames as columnName>
@@ -604,15 +610,15 @@ public class CelCommonPolicyLibrary implements Library {
                       FROM
                         "COMPONENT" AS "C"
                       INNER JOIN
-                        "CTE_DEPENDENCIES" AS "PREVIOUS" ON "PREVIOUS"."PROJECT_ID" = "C"."PROJECT_ID"
+                        "COMPONENT_DEPENDENCY" AS "CD" ON "CD"."PARENT_ID" = "C"."ID"
+                      INNER JOIN
+                        "CTE_DEPENDENCIES" AS "PREVIOUS" ON "PREVIOUS"."ID" = "CD"."CHILD_ID"
                       WHERE
                         -- NB: No short-circuiting based on "PREVIOUS"."FOUND" here!
                         --     There might be more matching components on this path
                         --     for which in-memory filters need to be evaluated.
                         -- Ensure we haven't seen this component before, to prevent cycles.
                         NOT ("C"."ID" = ANY("PREVIOUS"."PATH"))
-                        -- Otherwise, the previous component must appear in the current direct dependencies.
-                        AND "C"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "PREVIOUS"."UUID"))
                     )
                     SELECT ${selectColumnNames?join(", ")} FROM "CTE_DEPENDENCIES" WHERE "FOUND";
                     """);
@@ -675,15 +681,13 @@ public class CelCommonPolicyLibrary implements Library {
                       WHERE
                         "PROJECT_ID" = (SELECT "ID" FROM "CTE_PROJECT")
                         -- Do not consider other leaf nodes (typically the majority of components).
-                        -- Because we're looking for parent nodes, they MUST have direct dependencies defined.
-                        AND "DIRECT_DEPENDENCIES" IS NOT NULL
+                        -- Because we're looking for parent nodes, they MUST have direct dependencies.
+                        AND EXISTS(SELECT 1 FROM "COMPONENT_DEPENDENCY" AS "CD" WHERE "CD"."PARENT_ID" = "COMPONENT"."ID")
                         AND ${filters}
                     ),
-                    "CTE_DEPENDENCIES" ("ID", "UUID", "PROJECT_ID", ${selectColumnNames?join(", ", "", ", ")} "FOUND", "PATH") AS (
+                    "CTE_DEPENDENCIES" ("ID", ${selectColumnNames?join(", ", "", ", ")} "FOUND", "PATH") AS (
                       SELECT
                         "C"."ID"                                         AS "ID",
-                        "C"."UUID"                                       AS "UUID",
-                        "C"."PROJECT_ID"                                 AS "PROJECT_ID",
                         -- Select columns required for in-memory filtering, but only if the
                         -- SQL filters already matched.
                         <#list selectColumnNames as columnName>
@@ -700,12 +704,15 @@ public class CelCommonPolicyLibrary implements Library {
                         -- Short-circuit the recursive query if we don't have any matches at all.
                         EXISTS(SELECT 1 FROM "CTE_MATCHES")
                         -- Otherwise, find components of which the given leaf component is a direct dependency.
-                        AND "C"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', :leafComponentUuid))
+                        AND "C"."ID" IN (
+                          SELECT "CD"."PARENT_ID"
+                            FROM "COMPONENT_DEPENDENCY" AS "CD"
+                           INNER JOIN "COMPONENT" AS "LEAF" ON "LEAF"."ID" = "CD"."CHILD_ID"
+                           WHERE "LEAF"."UUID" = :leafComponentUuid
+                        )
                       UNION ALL
                       SELECT
                         "C"."ID"                                         AS "ID",
-                        "C"."UUID"                                       AS "UUID",
-                        "C"."PROJECT_ID"                                 AS "PROJECT_ID",
                         -- Select columns required for in-memory filtering, but only if the
                         -- SQL filters already matched.
                         <#list selectColumnNames as columnName>
@@ -719,15 +726,15 @@ public class CelCommonPolicyLibrary implements Library {
                       FROM
                         "COMPONENT" AS "C"
                       INNER JOIN
-                        "CTE_DEPENDENCIES" AS "PREVIOUS" ON "PREVIOUS"."PROJECT_ID" = "C"."PROJECT_ID"
+                        "COMPONENT_DEPENDENCY" AS "CD" ON "CD"."PARENT_ID" = "C"."ID"
+                      INNER JOIN
+                        "CTE_DEPENDENCIES" AS "PREVIOUS" ON "PREVIOUS"."ID" = "CD"."CHILD_ID"
                       WHERE
                         -- NB: No short-circuiting based on "PREVIOUS"."FOUND" here!
                         --     There might be more matching components on this path
                         --     for which in-memory filters need to be evaluated.
                         -- Ensure we haven't seen this component before, to prevent cycles.
                         NOT ("C"."ID" = ANY("PREVIOUS"."PATH"))
-                        -- Otherwise, the previous component must appear in the current direct dependencies.
-                        AND "C"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "PREVIOUS"."UUID"))
                     )
                     SELECT "ID", ${selectColumnNames?join(", ", "", ", ")} "FOUND", "PATH" FROM "CTE_DEPENDENCIES";
                      """);
@@ -966,10 +973,10 @@ public class CelCommonPolicyLibrary implements Library {
                 FROM
                   "COMPONENT" AS "C"
                 INNER JOIN
-                  "PROJECT" AS "P" ON "P"."ID" = "C"."PROJECT_ID"
+                  "COMPONENT_DEPENDENCY" AS "CD" ON "CD"."CHILD_ID" = "C"."ID"
                 WHERE
                   "C"."UUID" = :leafComponentUuid
-                  AND "P"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', :leafComponentUuid))
+                  AND "CD"."PARENT_ID" IS NULL
                 """);
 
         return query
@@ -20,43 +20,32 @@ package org.dependencytrack.policy.cel;
 
 import alpine.common.logging.Logger;
 import org.apache.commons.collections4.MultiValuedMap;
-import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.PolicyViolation;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.PolicyViolationDao;
 import org.dependencytrack.policy.cel.mapping.ComponentProjection;
 import org.dependencytrack.policy.cel.mapping.ComponentsVulnerabilitiesProjection;
 import org.dependencytrack.policy.cel.mapping.LicenseGroupProjection;
 import org.dependencytrack.policy.cel.mapping.LicenseProjection;
-import org.dependencytrack.policy.cel.mapping.PolicyViolationProjection;
 import org.dependencytrack.policy.cel.mapping.ProjectProjection;
 import org.dependencytrack.policy.cel.mapping.ProjectPropertyProjection;
 import org.dependencytrack.policy.cel.mapping.VulnerabilityProjection;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
-import javax.jdo.datastore.JDOConnection;
-import java.sql.Array;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
-import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static java.sql.Connection.TRANSACTION_READ_COMMITTED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
 import static org.dependencytrack.policy.cel.mapping.FieldMappingUtil.getFieldMappings;
 
 class CelPolicyQueryManager implements AutoCloseable {
@@ -376,194 +365,31 @@ class CelPolicyQueryManager implements AutoCloseable {
     }
 
     List<Long> reconcileViolations(final long projectId, final MultiValuedMap<Long, PolicyViolation> reportedViolationsByComponentId) {
-        // We want to send notifications for newly identified policy violations,
-        // so need to keep track of which violations we created.
-        final var newViolationIds = new ArrayList<Long>();
-
-        // DataNucleus does not support batch inserts, which is something we need in order to
-        // create new violations efficiently. Falling back to "raw" JDBC for the sake of efficiency.
-        final JDOConnection jdoConnection = pm.getDataStoreConnection();
-        final var nativeConnection = (Connection) jdoConnection.getNativeConnection();
-        Boolean originalAutoCommit = null;
-        Integer originalTrxIsolation = null;
-
-        try {
-            // JDBC connections default to autocommit.
-            // We'll do multiple write operations here, and want to commit them all in a single transaction.
-            originalAutoCommit = nativeConnection.getAutoCommit();
-            originalTrxIsolation = nativeConnection.getTransactionIsolation();
-            nativeConnection.setAutoCommit(false);
-            nativeConnection.setTransactionIsolation(TRANSACTION_READ_COMMITTED);
-
-            // First, query for all existing policy violations of the project, grouping them by component ID.
-            final var existingViolationsByComponentId = new HashSetValuedHashMap<Long, PolicyViolationProjection>();
-            try (final PreparedStatement ps = nativeConnection.prepareStatement("""
-                    SELECT
-                      "ID"                 AS "id",
-                      "COMPONENT_ID"       AS "componentId",
-                      "POLICYCONDITION_ID" AS "policyConditionId"
-                    FROM
-                      "POLICYVIOLATION"
-                    WHERE
-                      "PROJECT_ID" = ?
-                    """)) {
-                ps.setLong(1, projectId);
-
-                final ResultSet rs = ps.executeQuery();
-                while (rs.next()) {
-                    existingViolationsByComponentId.put(
-                            rs.getLong("componentId"),
-                            new PolicyViolationProjection(
-                                    rs.getLong("id"),
-                                    rs.getLong("policyConditionId")
-                            ));
-                }
-            }
-
-            // For each component that has existing and / or reported violations...
-            final Set<Long> componentIds = new HashSet<>(reportedViolationsByComponentId.keySet().size() + existingViolationsByComponentId.keySet().size());
-            componentIds.addAll(reportedViolationsByComponentId.keySet());
-            componentIds.addAll(existingViolationsByComponentId.keySet());
-
-            // ... determine which existing violations should be deleted (because they're no longer reported),
-            // and which reported violations should be created (because they have not been reported before).
-            //
-            // Violations not belonging to either of those buckets are reported, but already exist,
-            // meaning no action needs to be taken for them.
-            final var violationIdsToDelete = new ArrayList<Long>();
-            final var violationsToCreate = new HashSetValuedHashMap<Long, PolicyViolation>();
-            for (final Long componentId : componentIds) {
-                final Collection<PolicyViolationProjection> existingViolations = existingViolationsByComponentId.get(componentId);
-                final Collection<PolicyViolation> reportedViolations = reportedViolationsByComponentId.get(componentId);
-
-                if (reportedViolations == null || reportedViolations.isEmpty()) {
-                    // Component has been removed, or does not have any violations anymore.
-                    // All of its existing violations can be deleted.
-                    violationIdsToDelete.addAll(existingViolations.stream().map(PolicyViolationProjection::id).toList());
-                    continue;
-                }
-
-                if (existingViolations == null || existingViolations.isEmpty()) {
-                    // Component did not have any violations before, but has some now.
-                    // All reported violations must be newly created.
-                    violationsToCreate.putAll(componentId, reportedViolations);
-                    continue;
-                }
-
-                // To determine which violations shall be deleted, find occurrences of violations appearing
-                // in the collection of existing violations, but not in the collection of reported violations.
-                existingViolations.stream()
-                        .filter(existingViolation -> reportedViolations.stream().noneMatch(newViolation ->
-                                newViolation.getPolicyCondition().getId() == existingViolation.policyConditionId()))
-                        .map(PolicyViolationProjection::id)
-                        .forEach(violationIdsToDelete::add);
-
-                // To determine which violations shall be created, find occurrences of violations appearing
-                // in the collection of reported violations, but not in the collection of existing violations.
-                reportedViolations.stream()
-                        .filter(reportedViolation -> existingViolations.stream().noneMatch(existingViolation ->
-                                existingViolation.policyConditionId() == reportedViolation.getPolicyCondition().getId()))
-                        .forEach(reportedViolation -> violationsToCreate.put(componentId, reportedViolation));
-            }
-
-            if (!violationsToCreate.isEmpty()) {
-                // For violations that need to be created, utilize batch inserts to limit database round-trips.
-                // Keep note of the IDs that were generated as part of the insert; For those we'll need to send
-                // notifications later.
-
-                try (final PreparedStatement ps = nativeConnection.prepareStatement("""
-                        INSERT INTO "POLICYVIOLATION"
-                          ("UUID", "TIMESTAMP", "COMPONENT_ID", "PROJECT_ID", "POLICYCONDITION_ID", "TYPE")
-                        VALUES
-                          (?, ?, ?, ?, ?, ?)
-                        ON CONFLICT DO NOTHING
-                        RETURNING "ID"
-                        """, Statement.RETURN_GENERATED_KEYS)) {
-                    for (final Map.Entry<Long, PolicyViolation> entry : violationsToCreate.entries()) {
-                        ps.setObject(1, UUID.randomUUID());
-                        ps.setTimestamp(2, new Timestamp(entry.getValue().getTimestamp().getTime()));
-                        ps.setLong(3, entry.getKey());
-                        ps.setLong(4, projectId);
-                        ps.setLong(5, entry.getValue().getPolicyCondition().getId());
-                        ps.setString(6, entry.getValue().getType().name());
-                        ps.addBatch();
-                    }
-                    ps.executeBatch();
-
-                    final ResultSet rs = ps.getGeneratedKeys();
-                    while (rs.next()) {
-                        newViolationIds.add(rs.getLong(1));
-                    }
-                }
-            }
-
-            if (!violationIdsToDelete.isEmpty()) {
-                final Array violationIdsToDeleteArray =
-                        nativeConnection.createArrayOf("BIGINT", violationIdsToDelete.toArray(new Long[0]));
-
-                // First, bulk-delete any analysis comments attached to the violations.
-                try (final PreparedStatement ps = nativeConnection.prepareStatement("""
-                        DELETE FROM
-                          "VIOLATIONANALYSISCOMMENT" AS "VAC"
-                        USING
-                          "VIOLATIONANALYSIS" AS "VA"
-                        WHERE
-                          "VAC"."VIOLATIONANALYSIS_ID" = "VA"."ID"
-                          AND "VA"."POLICYVIOLATION_ID" = ANY(?)
-                        """)) {
-                    ps.setArray(1, violationIdsToDeleteArray);
-                    ps.execute();
-                }
-
-                // Then, bulk-delete any analyses attached to the violations.
-                try (final PreparedStatement ps = nativeConnection.prepareStatement("""
-                        DELETE FROM
-                          "VIOLATIONANALYSIS"
-                        WHERE
-                          "POLICYVIOLATION_ID" = ANY(?)
-                        """)) {
-                    ps.setArray(1, violationIdsToDeleteArray);
-                    ps.execute();
-                }
-
-                // Finally, bulk-delete the actual violations.
-                try (final PreparedStatement ps = nativeConnection.prepareStatement("""
-                        DELETE FROM
-                          "POLICYVIOLATION"
-                        WHERE
-                          "ID" = ANY(?)
-                        """)) {
-                    ps.setArray(1, violationIdsToDeleteArray);
-                    ps.execute();
-                }
-            }
-
-            nativeConnection.commit();
-        } catch (Exception e) {
-            try {
-                nativeConnection.rollback();
-            } catch (SQLException ex) {
-                throw new RuntimeException(ex);
-            }
-
-            throw new RuntimeException(e);
-        } finally {
-            try {
-                if (originalAutoCommit != null) {
-                    nativeConnection.setAutoCommit(originalAutoCommit);
-                }
-                if (originalTrxIsolation != null) {
-                    nativeConnection.setTransactionIsolation(originalTrxIsolation);
-                }
-            } catch (SQLException e) {
-                LOGGER.error("Failed to restore original connection settings (autoCommit=%s, trxIsolation=%d)"
-                        .formatted(originalAutoCommit, originalTrxIsolation), e);
-            }
-
-            jdoConnection.close();
+        final int numReportedViolations = reportedViolationsByComponentId.size();
+        final var uuids = new ArrayList<UUID>(numReportedViolations);
+        final var componentIds = new ArrayList<Long>(numReportedViolations);
+        final var policyConditionIds = new ArrayList<Long>(numReportedViolations);
+        final var types = new ArrayList<String>(numReportedViolations);
+        for (final Map.Entry<Long, PolicyViolation> entry : reportedViolationsByComponentId.entries()) {
+            uuids.add(UUID.randomUUID());
+            componentIds.add(entry.getKey());
+            policyConditionIds.add(entry.getValue().getPolicyCondition().getId());
+            types.add(entry.getValue().getType().name());
         }
 
-        return newViolationIds;
+        // Reported violations are compared with existing ones by the database, such that
+        // existing violations never have to be loaded into memory. Violations that are
+        // reported, and already exist, are left untouched.
+        //
+        // We want to send notifications for newly identified policy violations,
+        // so need to keep track of which violations we created.
+        return inJdbiTransaction(handle -> {
+            final var dao = handle.attach(PolicyViolationDao.class);
+            final int numDeleted = dao.deleteResolvedViolations(projectId, componentIds, policyConditionIds);
+            final List<Long> newViolationIds = dao.createMissingViolations(projectId, uuids, componentIds, policyConditionIds, types);
+            LOGGER.debug("Deleted %d resolved, and created %d new violations".formatted(numDeleted, newViolationIds.size()));
+            return newViolationIds;
+        });
     }
 
     List<Policy> getApplicablePolicies(final Project project) {
@@ -652,9 +478,9 @@ class CelPolicyQueryManager implements AutoCloseable {
         String queryString = /* language=SQL */ """
                 SELECT COUNT(*)
                   FROM "COMPONENT" "C"
-                 INNER JOIN "PROJECT" "P"
-                    ON "P"."ID" = "C"."PROJECT_ID"
-                   AND "P"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', :uuid))
+                 INNER JOIN "COMPONENT_DEPENDENCY" "CD"
+                    ON "CD"."CHILD_ID" = "C"."ID"
+                   AND "CD"."PARENT_ID" IS NULL
                  WHERE "C"."UUID" = :uuid
                 """;
         final Query<?> query = pm.newQuery(Query.SQL, queryString);
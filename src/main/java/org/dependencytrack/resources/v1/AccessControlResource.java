@@ -47,6 +47,7 @@ import jakarta.ws.rs.core.Response;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.validation.ValidUuid;
+import org.dependencytrack.persistence.ComponentLookupCache;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 import org.dependencytrack.resources.v1.vo.AclMappingRequest;
@@ -137,6 +138,7 @@ public class AccessControlResource extends AlpineResource {
                 }
                 project.addAccessTeam(team);
                 qm.persist(project);
+                ComponentLookupCache.getInstance().invalidateAll();
                 return Response.ok().build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The UUID of the team could not be found.").build();
@@ -174,6 +176,7 @@ public class AccessControlResource extends AlpineResource {
                 }
                 project.setAccessTeams(teams);
                 qm.persist(project);
+                ComponentLookupCache.getInstance().invalidateAll();
                 return Response.ok().build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The UUID of the team or project could not be found.").build();
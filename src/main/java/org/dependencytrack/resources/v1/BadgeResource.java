@@ -49,6 +49,7 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.dependencytrack.resources.v1.misc.Badger;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.owasp.security.logging.SecurityMarkers;
@@ -57,6 +58,7 @@ import javax.naming.AuthenticationException;
 import java.security.Principal;
 
 import static org.dependencytrack.model.ConfigPropertyConstants.GENERAL_BADGE_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withReadOnlyJdbiHandle;
 
 /**
  * JAX-RS resources for processing metrics.
@@ -194,7 +196,8 @@ public class BadgeResource extends AlpineResource {
                 if (!shouldBypassAuth && !qm.hasAccess(super.getPrincipal(), project)) {
                     return Response.status(Response.Status.FORBIDDEN).entity("Access to the specified project is forbidden").build();
                 }
-                final ProjectMetrics metrics = qm.getMostRecentProjectMetrics(project);
+                final ProjectMetrics metrics = withReadOnlyJdbiHandle(handle ->
+                        handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
                 final Badger badger = new Badger();
                 return Response.ok(badger.generateVulnerabilities(metrics)).build();
             } else {
@@ -239,7 +242,8 @@ public class BadgeResource extends AlpineResource {
                 if (!shouldBypassAuth && !qm.hasAccess(super.getPrincipal(), project)) {
                     return Response.status(Response.Status.FORBIDDEN).entity("Access to the specified project is forbidden").build();
                 }
-                final ProjectMetrics metrics = qm.getMostRecentProjectMetrics(project);
+                final ProjectMetrics metrics = withReadOnlyJdbiHandle(handle ->
+                        handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
                 final Badger badger = new Badger();
                 return Response.ok(badger.generateVulnerabilities(metrics)).build();
             } else {
@@ -282,7 +286,8 @@ public class BadgeResource extends AlpineResource {
                 if (!shouldBypassAuth && !qm.hasAccess(super.getPrincipal(), project)) {
                     return Response.status(Response.Status.FORBIDDEN).entity("Access to the specified project is forbidden").build();
                 }
-                final ProjectMetrics metrics = qm.getMostRecentProjectMetrics(project);
+                final ProjectMetrics metrics = withReadOnlyJdbiHandle(handle ->
+                        handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
                 final Badger badger = new Badger();
                 return Response.ok(badger.generateViolations(metrics)).build();
             } else {
@@ -327,7 +332,8 @@ public class BadgeResource extends AlpineResource {
                 if (!shouldBypassAuth && !qm.hasAccess(super.getPrincipal(), project)) {
                     return Response.status(Response.Status.FORBIDDEN).entity("Access to the specified project is forbidden").build();
                 }
-                final ProjectMetrics metrics = qm.getMostRecentProjectMetrics(project);
+                final ProjectMetrics metrics = withReadOnlyJdbiHandle(handle ->
+                        handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
                 final Badger badger = new Badger();
                 return Response.ok(badger.generateViolations(metrics)).build();
             } else {
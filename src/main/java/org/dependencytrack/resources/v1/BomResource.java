@@ -51,14 +51,19 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.function.IOSupplier;
 import org.apache.commons.io.input.BOMInputStream;
+import org.apache.commons.io.input.CharSequenceInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.cyclonedx.CycloneDxMediaType;
 import org.cyclonedx.exception.GeneratorException;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.BomUploadEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.filters.AcceptsContentEncoding;
 import org.dependencytrack.model.BomValidationMode;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ConfigPropertyConstants;
@@ -66,8 +71,10 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
+import org.dependencytrack.notification.NotificationPayloadStore;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.vo.BomValidationFailed;
+import org.dependencytrack.notification.vo.PayloadReference;
 import org.dependencytrack.parser.cyclonedx.CycloneDXExporter;
 import org.dependencytrack.parser.cyclonedx.CycloneDxValidator;
 import org.dependencytrack.parser.cyclonedx.InvalidBomException;
@@ -80,13 +87,16 @@ import org.glassfish.jersey.media.multipart.BodyPartEntity;
 import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import org.glassfish.jersey.media.multipart.FormDataParam;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.security.Principal;
 import java.util.Arrays;
 import java.util.Base64;
@@ -257,6 +267,15 @@ public class BomResource extends AlpineResource {
                       a response with problem details in RFC 9457 format will be returned. In this case,
                       the response's content type will be <code>application/problem+json</code>.
                     </p>
+                    <p>
+                      The request body may be compressed with <code>gzip</code> or <code>zstd</code>,
+                      as indicated by the <code>Content-Encoding</code> header.
+                    </p>
+                    <p>
+                      If the content of the BOM is identical to that of the last BOM uploaded for the project,
+                      processing is skipped, and no analyses are triggered. Specify <code>force</code> as
+                      <code>true</code> to process the BOM regardless.
+                    </p>
                     <p>
                       The maximum allowed length of the <code>bom</code> value is 20'000'000 characters.
                       When uploading large BOMs, the <code>POST</code> endpoint is preferred,
@@ -282,9 +301,11 @@ public class BomResource extends AlpineResource {
             @ApiResponse(responseCode = "400", description = "The uploaded BOM is invalid"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Access to the specified project is forbidden"),
-            @ApiResponse(responseCode = "404", description = "The project could not be found")
+            @ApiResponse(responseCode = "404", description = "The project could not be found"),
+            @ApiResponse(responseCode = "415", description = "The content encoding of the request is not supported")
     })
     @PermissionRequired(Permissions.Constants.BOM_UPLOAD)
+    @AcceptsContentEncoding
     public Response uploadBom(@Parameter(required = true) BomSubmitRequest request) {
         final Validator validator = getValidator();
         if (request.getProject() != null) { // behavior in v3.0.0
@@ -294,7 +315,7 @@ public class BomResource extends AlpineResource {
             );
             try (QueryManager qm = new QueryManager()) {
                 final Project project = qm.getObjectByUuid(Project.class, request.getProject());
-                return process(qm, project, request.getBom());
+                return process(qm, project, request.getBom(), request.isForce());
             }
         } else { // additional behavior added in v3.1.0
             failOnValidationError(
@@ -346,7 +367,7 @@ public class BomResource extends AlpineResource {
                         return Response.status(Response.Status.UNAUTHORIZED).entity("The principal does not have permission to create project.").build();
                     }
                 }
-                return process(qm, project, request.getBom());
+                return process(qm, project, request.getBom(), request.isForce());
             }
         }
     }
@@ -370,6 +391,15 @@ public class BomResource extends AlpineResource {
                       a response with problem details in RFC 9457 format will be returned. In this case,
                       the response's content type will be <code>application/problem+json</code>.
                     </p>
+                    <p>
+                      The request body may be compressed with <code>gzip</code> or <code>zstd</code>,
+                      as indicated by the <code>Content-Encoding</code> header.
+                    </p>
+                    <p>
+                      If the content of the BOM is identical to that of the last BOM uploaded for the project,
+                      processing is skipped, and no analyses are triggered. Specify <code>force</code> as
+                      <code>true</code> to process the BOM regardless.
+                    </p>
                     <p>Requires permission <strong>BOM_UPLOAD</strong></p>""",
             operationId = "UploadBom"
     )
@@ -390,9 +420,11 @@ public class BomResource extends AlpineResource {
             @ApiResponse(responseCode = "400", description = "The uploaded BOM is invalid"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Access to the specified project is forbidden"),
-            @ApiResponse(responseCode = "404", description = "The project could not be found")
+            @ApiResponse(responseCode = "404", description = "The project could not be found"),
+            @ApiResponse(responseCode = "415", description = "The content encoding of the request is not supported")
     })
     @PermissionRequired(Permissions.Constants.BOM_UPLOAD)
+    @AcceptsContentEncoding
     public Response uploadBom(
             @FormDataParam("project") String projectUuid,
             @DefaultValue("false") @FormDataParam("autoCreate") boolean autoCreate,
@@ -403,12 +435,13 @@ public class BomResource extends AlpineResource {
             @FormDataParam("parentVersion") String parentVersion,
             @FormDataParam("parentUUID") String parentUUID,
             @DefaultValue("false") @FormDataParam("isLatest") boolean isLatest,
+            @DefaultValue("false") @FormDataParam("force") boolean force,
             @Parameter(schema = @Schema(type = "string")) @FormDataParam("bom") final List<FormDataBodyPart> artifactParts
     ) {
         if (projectUuid != null) { // behavior in v3.0.0
             try (QueryManager qm = new QueryManager()) {
                 final Project project = qm.getObjectByUuid(Project.class, projectUuid);
-                return process(qm, project, artifactParts);
+                return process(qm, project, artifactParts, force);
             }
         } else { // additional behavior added in v3.1.0
             try (QueryManager qm = new QueryManager()) {
@@ -453,7 +486,7 @@ public class BomResource extends AlpineResource {
                         return Response.status(Response.Status.UNAUTHORIZED).entity("The principal does not have permission to create project.").build();
                     }
                 }
-                return process(qm, project, artifactParts);
+                return process(qm, project, artifactParts, force);
             }
         }
     }
@@ -461,23 +494,25 @@ public class BomResource extends AlpineResource {
     /**
      * Common logic that processes a BOM given a project and encoded payload.
      */
-    private Response process(QueryManager qm, Project project, String encodedBomData) {
+    private Response process(QueryManager qm, Project project, String encodedBomData, boolean force) {
         if (project != null) {
             if (!qm.hasAccess(super.getPrincipal(), project)) {
                 return Response.status(Response.Status.FORBIDDEN).entity("Access to the specified project is forbidden").build();
             }
 
             final File bomFile;
-            try (final var encodedInputStream = new ByteArrayInputStream(encodedBomData.getBytes(StandardCharsets.UTF_8));
-                 final var decodedInputStream = Base64.getDecoder().wrap(encodedInputStream);
-                 final var byteOrderMarkInputStream = new BOMInputStream(decodedInputStream)) {
-                bomFile = validateAndStoreBom(IOUtils.toByteArray(byteOrderMarkInputStream), project);
+            try (final var encodedInputStream = CharSequenceInputStream.builder()
+                    .setCharSequence(encodedBomData)
+                    .setCharset(StandardCharsets.US_ASCII)
+                    .get();
+                 final var decodedInputStream = Base64.getDecoder().wrap(encodedInputStream)) {
+                bomFile = storeAndValidateBom(decodedInputStream, project);
             } catch (IOException e) {
                 LOGGER.error("An unexpected error occurred while validating or storing a BOM uploaded to project: " + project.getUuid(), e);
                 return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
             }
 
-            final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFile);
+            final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFile, force);
             qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
             Event.dispatch(bomUploadEvent);
 
@@ -492,7 +527,7 @@ public class BomResource extends AlpineResource {
     /**
      * Common logic that processes a BOM given a project and list of multi-party form objects containing decoded payloads.
      */
-    private Response process(QueryManager qm, Project project, List<FormDataBodyPart> artifactParts) {
+    private Response process(QueryManager qm, Project project, List<FormDataBodyPart> artifactParts, boolean force) {
         for (final FormDataBodyPart artifactPart : artifactParts) {
             final BodyPartEntity bodyPartEntity = (BodyPartEntity) artifactPart.getEntity();
             if (project != null) {
@@ -501,9 +536,8 @@ public class BomResource extends AlpineResource {
                 }
 
                 final File bomFile;
-                try (final var inputStream = bodyPartEntity.getInputStream();
-                     final var byteOrderMarkInputStream = new BOMInputStream(inputStream)) {
-                    bomFile = validateAndStoreBom(IOUtils.toByteArray(byteOrderMarkInputStream), project);
+                try (final var inputStream = bodyPartEntity.getInputStream()) {
+                    bomFile = storeAndValidateBom(inputStream, project);
                 } catch (IOException e) {
                     LOGGER.error("An unexpected error occurred while validating or storing a BOM uploaded to project: " + project.getUuid(), e);
                     return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
@@ -511,7 +545,7 @@ public class BomResource extends AlpineResource {
 
                 // todo: make option to combine all the bom data so components are reconciled in a single pass.
                 // todo: https://github.com/DependencyTrack/dependency-track/issues/130
-                final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFile);
+                final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFile, force);
 
                 qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
                 Event.dispatch(bomUploadEvent);
@@ -526,9 +560,18 @@ public class BomResource extends AlpineResource {
         return Response.ok().build();
     }
 
-    private File validateAndStoreBom(final byte[] bomBytes, final Project project) throws IOException {
-        validate(bomBytes, project);
-
+    /**
+     * Stream a BOM to a temporary file, and validate it afterwards.
+     * <p>
+     * The BOM is never read into memory in its entirety, unless it fails validation and has to be
+     * included in the respective notification.
+     *
+     * @param inputStream The {@link InputStream} to read the BOM from
+     * @param project     The {@link Project} the BOM was uploaded to
+     * @return The {@link File} the BOM was stored in
+     * @throws IOException When reading or storing the BOM failed
+     */
+    private File storeAndValidateBom(final InputStream inputStream, final Project project) throws IOException {
         // TODO: Store externally so other instances of the API server can pick it up.
         //   https://github.com/CycloneDX/cyclonedx-bom-repo-server
         final java.nio.file.Path tmpPath = Files.createTempFile("dtrack-bom-%s".formatted(project.getUuid()), null);
@@ -536,20 +579,51 @@ public class BomResource extends AlpineResource {
         tmpFile.deleteOnExit();
 
         LOGGER.debug("Writing BOM for project %s to %s".formatted(project.getUuid(), tmpPath));
-        try (final var tmpOutputStream = Files.newOutputStream(tmpPath, StandardOpenOption.WRITE)) {
-            tmpOutputStream.write(bomBytes);
+        final MessageDigest bomDigest = DigestUtils.getSha256Digest();
+        try (final var byteOrderMarkInputStream = new BOMInputStream(inputStream);
+             final OutputStream tmpOutputStream = Files.newOutputStream(tmpPath, StandardOpenOption.WRITE);
+             final var digestOutputStream = new DigestOutputStream(tmpOutputStream, bomDigest)) {
+            IOUtils.copy(byteOrderMarkInputStream, digestOutputStream);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmpPath);
+            throw e;
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Wrote BOM for project %s with %d bytes and SHA-256 digest %s".formatted(
+                    project.getUuid(), Files.size(tmpPath), Hex.encodeHexString(bomDigest.digest())));
+        }
+
+        try {
+            validate(tmpPath, project);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(tmpPath);
+            throw e;
         }
 
         return tmpFile;
     }
 
+    private static void validate(final java.nio.file.Path bomPath, final Project project) {
+        if (!shouldValidate(project)) {
+            return;
+        }
+
+        // The BOM is only read into memory when it is invalid, such that it can be included in the notification.
+        validateInternal(() -> CycloneDxValidator.getInstance().validate(bomPath), () -> Files.readAllBytes(bomPath), project);
+    }
+
     static void validate(final byte[] bomBytes, final Project project) {
         if (!shouldValidate(project)) {
             return;
         }
 
+        validateInternal(() -> CycloneDxValidator.getInstance().validate(bomBytes), () -> bomBytes, project);
+    }
+
+    private static void validateInternal(final Runnable validation, final IOSupplier<byte[]> bomBytesSupplier, final Project project) {
         try {
-            CycloneDxValidator.getInstance().validate(bomBytes);
+            validation.run();
         } catch (InvalidBomException e) {
             final var problemDetails = new InvalidBomProblemDetails();
             problemDetails.setStatus(400);
@@ -559,9 +633,20 @@ public class BomResource extends AlpineResource {
                 problemDetails.setErrors(e.getValidationErrors());
             }
 
-            final var bomEncoded = Base64.getEncoder()
-                    .encodeToString(bomBytes);
-            dispatchBomValidationFailedNotification(project, bomEncoded, problemDetails.getErrors());
+            byte[] bomBytes = null;
+            try {
+                bomBytes = bomBytesSupplier.get();
+            } catch (IOException ioe) {
+                LOGGER.warn("Failed to read invalid BOM; Notification will not include it", ioe);
+            }
+
+            final PayloadReference bomReference = bomBytes != null
+                    ? NotificationPayloadStore.getInstance().storeIfExceedsThreshold(bomBytes)
+                    : null;
+            final String bomEncoded = bomBytes != null && bomReference == null
+                    ? Base64.getEncoder().encodeToString(bomBytes)
+                    : null;
+            dispatchBomValidationFailedNotification(project, bomEncoded, bomReference, problemDetails.getErrors());
 
             throw new WebApplicationException(problemDetails.toResponse());
         } catch (RuntimeException e) {
@@ -571,7 +656,7 @@ public class BomResource extends AlpineResource {
         }
     }
 
-    private static void dispatchBomValidationFailedNotification(Project project, String bom, List<String> errors) {
+    private static void dispatchBomValidationFailedNotification(Project project, String bom, PayloadReference bomReference, List<String> errors) {
         final KafkaEventDispatcher eventDispatcher = new KafkaEventDispatcher();
         eventDispatcher.dispatchNotification(new Notification()
                 .scope(NotificationScope.PORTFOLIO)
@@ -579,7 +664,7 @@ public class BomResource extends AlpineResource {
                 .level(NotificationLevel.ERROR)
                 .title(NotificationConstants.Title.BOM_VALIDATION_FAILED)
                 .content("An error occurred while validating a BOM")
-                .subject(new BomValidationFailed(project, bom, errors)));
+                .subject(new BomValidationFailed(project, bom, bomReference, errors)));
     }
 
     private static boolean shouldValidate(final Project project) {
@@ -67,6 +67,7 @@ import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.model.VulnerabilityAnalysisLevel;
 import org.dependencytrack.model.VulnerabilityScan;
 import org.dependencytrack.model.validation.ValidUuid;
+import org.dependencytrack.persistence.ComponentLookupCache;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.proto.repometaanalysis.v1.FetchMeta;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
@@ -466,6 +467,7 @@ public class ComponentResource extends AlpineResource {
             component.setNotes(StringUtils.trimToNull(jsonComponent.getNotes()));
 
             component = qm.createComponent(component, true);
+            ComponentLookupCache.getInstance().invalidateAll();
             ComponentProjection componentProjection =
                     new ComponentProjection(component.getUuid(), component.getPurlCoordinates().toString(),
                             component.isInternal(), component.getPurl());
@@ -585,6 +587,7 @@ public class ComponentResource extends AlpineResource {
                 component.setNotes(StringUtils.trimToNull(jsonComponent.getNotes()));
 
                 component = qm.updateComponent(component, true);
+                ComponentLookupCache.getInstance().invalidateAll();
                 ComponentProjection componentProjection =
                         new ComponentProjection(component.getUuid(), component.getPurlCoordinates().toString(),
                                 component.isInternal(), component.getPurl());
@@ -633,6 +636,7 @@ public class ComponentResource extends AlpineResource {
                     return Response.status(Response.Status.FORBIDDEN).entity("Access to the specified component is forbidden").build();
                 }
                 qm.recursivelyDelete(component, false);
+                ComponentLookupCache.getInstance().invalidateAll();
                 return Response.status(Response.Status.NO_CONTENT).build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The UUID of the component could not be found.").build();
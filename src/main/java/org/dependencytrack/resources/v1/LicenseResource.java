@@ -44,6 +44,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.model.License;
+import org.dependencytrack.persistence.LicenseIndex;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 
@@ -163,6 +164,7 @@ public class LicenseResource extends AlpineResource {
             License license = qm.getLicense(jsonLicense.getLicenseId());
             if (license == null) {
                 license = qm.createCustomLicense(jsonLicense, true);
+                LicenseIndex.getInstance().invalidate();
                 LOGGER.info("License " + license.getName() + " created by " + super.getPrincipal().getName());
                 return Response.status(Response.Status.CREATED).entity(license).build();
             } else {
@@ -194,6 +196,7 @@ public class LicenseResource extends AlpineResource {
                 if (Boolean.TRUE.equals(license.isCustomLicense())) {
                     LOGGER.info("License " + license + " deletion request by " + super.getPrincipal().getName());
                     qm.deleteLicense(license, true);
+                    LicenseIndex.getInstance().invalidate();
                     return Response.status(Response.Status.NO_CONTENT).build();
                 } else {
                     return Response.status(Response.Status.CONFLICT).entity("Only custom licenses can be deleted.").build();
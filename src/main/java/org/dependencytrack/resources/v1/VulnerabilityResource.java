@@ -274,13 +274,7 @@ public class VulnerabilityResource extends AlpineResource {
 
         final long totalCount = affectedProjectRows.isEmpty() ? 0 : affectedProjectRows.getFirst().totalCount();
         final List<AffectedProject> affectedProjects = affectedProjectRows.stream()
-                .map(row -> new AffectedProject(
-                        row.uuid(),
-                        row.dependencyGraphAvailable(),
-                        row.name(),
-                        row.version(),
-                        row.active(),
-                        row.affectedComponentUuids()))
+                .map(AffectedProject::new)
                 .toList();
         return Response.ok(affectedProjects).header(TOTAL_COUNT_HEADER, totalCount).build();
     }
@@ -21,6 +21,7 @@ package org.dependencytrack.resources.v1.exception;
 import com.fasterxml.jackson.core.exc.StreamConstraintsException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import jakarta.annotation.Priority;
+import jakarta.ws.rs.WebApplicationException;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 import org.dependencytrack.resources.v1.vo.BomSubmitRequest;
 import org.dependencytrack.resources.v1.vo.VexSubmitRequest;
@@ -39,6 +40,11 @@ public class JsonMappingExceptionMapper implements ExceptionMapper<JsonMappingEx
 
     @Override
     public Response toResponse(final JsonMappingException exception) {
+        if (exception.getCause() instanceof final WebApplicationException webApplicationException) {
+            // Thrown while the entity was being read, e.g. by a ReaderInterceptor.
+            return webApplicationException.getResponse();
+        }
+
         final var problemDetails = new ProblemDetails();
         problemDetails.setStatus(400);
         problemDetails.setTitle("The provided JSON payload could not be mapped");
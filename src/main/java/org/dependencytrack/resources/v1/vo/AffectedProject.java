@@ -18,6 +18,8 @@
  */
 package org.dependencytrack.resources.v1.vo;
 
+import org.dependencytrack.persistence.jdbi.VulnerabilityDao.AffectedProjectListRow;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -51,6 +53,13 @@ public class AffectedProject {
         this.affectedComponentUuids = affectedComponentUuids == null ? new ArrayList<>() : affectedComponentUuids;
     }
 
+    /**
+     * @since 5.6.0
+     */
+    public AffectedProject(final AffectedProjectListRow row) {
+        this(row.uuid(), row.dependencyGraphAvailable(), row.name(), row.version(), row.active(), row.affectedComponentUuids());
+    }
+
     public UUID getUuid() {
         return uuid;
     }
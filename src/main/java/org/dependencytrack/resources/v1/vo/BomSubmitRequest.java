@@ -75,6 +75,8 @@ public final class BomSubmitRequest {
 
     private final boolean isLatestProjectVersion;
 
+    private final boolean force;
+
     public BomSubmitRequest(String project,
                             String projectName,
                             String projectVersion,
@@ -85,6 +87,19 @@ public final class BomSubmitRequest {
         this(project, projectName, projectVersion, projectTags, autoCreate, null, null, null, isLatestProjectVersion, bom);
     }
 
+    public BomSubmitRequest(String project,
+                            String projectName,
+                            String projectVersion,
+                            List<Tag> projectTags,
+                            boolean autoCreate,
+                            String parentUUID,
+                            String parentName,
+                            String parentVersion,
+                            boolean isLatestProjectVersion,
+                            String bom) {
+        this(project, projectName, projectVersion, projectTags, autoCreate, parentUUID, parentName, parentVersion, isLatestProjectVersion, bom, false);
+    }
+
     @JsonCreator
     public BomSubmitRequest(@JsonProperty(value = "project") String project,
                             @JsonProperty(value = "projectName") String projectName,
@@ -95,7 +110,8 @@ public final class BomSubmitRequest {
                             @JsonProperty(value = "parentName") String parentName,
                             @JsonProperty(value = "parentVersion") String parentVersion,
                             @JsonProperty(value = "isLatestProjectVersion", defaultValue = "false") boolean isLatestProjectVersion,
-                            @JsonProperty(value = "bom", required = true) String bom) {
+                            @JsonProperty(value = "bom", required = true) String bom,
+                            @JsonProperty(value = "force", defaultValue = "false") boolean force) {
         this.project = project;
         this.projectName = projectName;
         this.projectVersion = projectVersion;
@@ -106,6 +122,7 @@ public final class BomSubmitRequest {
         this.parentVersion = parentVersion;
         this.isLatestProjectVersion = isLatestProjectVersion;
         this.bom = bom;
+        this.force = force;
     }
 
     @Schema(example = "38640b33-4ba9-4733-bdab-cbfc40c6f8aa")
@@ -150,6 +167,11 @@ public final class BomSubmitRequest {
     @JsonProperty("isLatestProjectVersion")
     public boolean isLatestProjectVersion() { return isLatestProjectVersion; }
 
+    @Schema(description = "Whether to process the BOM even if its content is unchanged since the last upload")
+    public boolean isForce() {
+        return force;
+    }
+
     @Schema(
             description = "Base64 encoded BOM",
             requiredMode = Schema.RequiredMode.REQUIRED,
@@ -0,0 +1,250 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.packageurl.PackageURL;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.collections4.MultiValuedMap;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.ComponentIdentity;
+import org.dependencytrack.model.ComponentProperty;
+import org.dependencytrack.model.JsonViews;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetadata;
+import org.dependencytrack.model.ServiceComponent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Computes a canonical hash of the content of a consumed BOM.
+ * <p>
+ * The hash covers all fields that BOM processing applies to projects, components, services,
+ * and the dependency graph. It is independent of the order in which elements appear in the BOM,
+ * of BOM refs, and of fields that are not applied, such as the BOM's serial number or timestamp.
+ * Two BOMs with equal hashes thus lead to the same state when being processed.
+ *
+ * @since 5.6.0
+ */
+final class BomContentHasher {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+    private static final ObjectWriter TOOLS_WRITER = JSON_MAPPER.writerWithView(JsonViews.MetadataTools.class);
+
+    private BomContentHasher() {
+    }
+
+    /**
+     * @return Hex encoded SHA-256 hash of the BOM's canonical content
+     */
+    static String hash(
+            final Project project,
+            final ProjectMetadata projectMetadata,
+            final Collection<Component> components,
+            final Collection<ServiceComponent> services,
+            final MultiValuedMap<String, String> dependencyGraph,
+            final Map<String, ComponentIdentity> identitiesByBomRef
+    ) {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        update(digest, "project", List.of(canonicalize(project, projectMetadata)));
+        update(digest, "components", components.stream().map(BomContentHasher::canonicalize).toList());
+        update(digest, "services", services.stream().map(BomContentHasher::canonicalize).toList());
+        update(digest, "dependencies", canonicalize(dependencyGraph, project, identitiesByBomRef));
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static void update(final MessageDigest digest, final String section, final Collection<String> entries) {
+        digest.update(section.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+
+        // Entries are sorted, such that their order in the BOM does not affect the hash.
+        for (final String entry : new TreeSet<>(entries)) {
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+    }
+
+    private static String canonicalize(final Project project, final ProjectMetadata projectMetadata) {
+        final var fields = new TreeMap<String, Object>();
+        if (project != null) {
+            fields.put("authors", project.getAuthors());
+            fields.put("classifier", project.getClassifier());
+            fields.put("cpe", project.getCpe());
+            fields.put("externalReferences", project.getExternalReferences());
+            fields.put("manufacturer", project.getManufacturer());
+            fields.put("publisher", project.getPublisher());
+            fields.put("purl", canonicalize(project.getPurl()));
+            fields.put("supplier", project.getSupplier());
+            fields.put("swidTagId", project.getSwidTagId());
+        }
+        if (projectMetadata != null) {
+            fields.put("metadataAuthors", projectMetadata.getAuthors());
+            fields.put("metadataSupplier", projectMetadata.getSupplier());
+            fields.put("metadataTools", writeValueAsString(TOOLS_WRITER, projectMetadata.getTools()));
+        }
+
+        return writeValueAsString(JSON_MAPPER.writer(), fields);
+    }
+
+    private static String canonicalize(final Component component) {
+        final var fields = new TreeMap<String, Object>();
+        fields.put("authors", component.getAuthors());
+        fields.put("blake2b_256", component.getBlake2b_256());
+        fields.put("blake2b_384", component.getBlake2b_384());
+        fields.put("blake2b_512", component.getBlake2b_512());
+        fields.put("blake3", component.getBlake3());
+        fields.put("classifier", component.getClassifier());
+        fields.put("copyright", component.getCopyright());
+        fields.put("cpe", component.getCpe());
+        fields.put("description", component.getDescription());
+        fields.put("externalReferences", component.getExternalReferences());
+        fields.put("group", component.getGroup());
+        fields.put("license", component.getLicense());
+        fields.put("licenseCandidates", canonicalizeLicenseCandidates(component.getLicenseCandidates()));
+        fields.put("licenseExpression", component.getLicenseExpression());
+        fields.put("licenseUrl", component.getLicenseUrl());
+        fields.put("md5", component.getMd5());
+        fields.put("name", component.getName());
+        fields.put("properties", canonicalizeProperties(component.getProperties()));
+        fields.put("publisher", component.getPublisher());
+        fields.put("purl", canonicalize(component.getPurl()));
+        fields.put("sha1", component.getSha1());
+        fields.put("sha256", component.getSha256());
+        fields.put("sha384", component.getSha384());
+        fields.put("sha3_256", component.getSha3_256());
+        fields.put("sha3_384", component.getSha3_384());
+        fields.put("sha3_512", component.getSha3_512());
+        fields.put("sha512", component.getSha512());
+        fields.put("supplier", component.getSupplier());
+        fields.put("swidTagId", component.getSwidTagId());
+        fields.put("version", component.getVersion());
+        return writeValueAsString(JSON_MAPPER.writer(), fields);
+    }
+
+    private static String canonicalize(final ServiceComponent service) {
+        final var fields = new TreeMap<String, Object>();
+        fields.put("authenticated", service.getAuthenticated());
+        fields.put("crossesTrustBoundary", service.getCrossesTrustBoundary());
+        fields.put("data", service.getData());
+        fields.put("description", service.getDescription());
+        fields.put("endpoints", service.getEndpoints());
+        fields.put("externalReferences", service.getExternalReferences());
+        fields.put("group", service.getGroup());
+        fields.put("name", service.getName());
+        fields.put("provider", service.getProvider());
+        fields.put("version", service.getVersion());
+        return writeValueAsString(JSON_MAPPER.writer(), fields);
+    }
+
+    private static List<String> canonicalize(
+            final MultiValuedMap<String, String> dependencyGraph,
+            final Project project,
+            final Map<String, ComponentIdentity> identitiesByBomRef
+    ) {
+        final var edges = new ArrayList<String>(dependencyGraph.size());
+        for (final Map.Entry<String, String> edge : dependencyGraph.entries()) {
+            edges.add(canonicalizeBomRef(edge.getKey(), project, identitiesByBomRef)
+                      + " -> " + canonicalizeBomRef(edge.getValue(), project, identitiesByBomRef));
+        }
+
+        return edges;
+    }
+
+    private static String canonicalizeBomRef(
+            final String bomRef,
+            final Project project,
+            final Map<String, ComponentIdentity> identitiesByBomRef
+    ) {
+        // BOM refs are arbitrary, and frequently randomly generated.
+        // Refer to the identities they resolve to instead.
+        if (project != null && bomRef.equals(project.getBomRef())) {
+            return "project";
+        }
+
+        final ComponentIdentity identity = identitiesByBomRef.get(bomRef);
+        if (identity == null) {
+            return "unresolved:" + bomRef;
+        }
+
+        final var fields = new TreeMap<String, Object>();
+        fields.put("cpe", identity.getCpe());
+        fields.put("group", identity.getGroup());
+        fields.put("name", identity.getName());
+        fields.put("objectType", identity.getObjectType());
+        fields.put("purl", canonicalize(identity.getPurl()));
+        fields.put("swidTagId", identity.getSwidTagId());
+        fields.put("version", identity.getVersion());
+        return writeValueAsString(JSON_MAPPER.writer(), fields);
+    }
+
+    private static List<String> canonicalizeLicenseCandidates(final List<org.cyclonedx.model.License> licenseCandidates) {
+        if (licenseCandidates == null) {
+            return null;
+        }
+
+        // Order is retained, since license resolution prefers candidates that appear first.
+        return licenseCandidates.stream()
+                .map(license -> String.join("|", license.getId(), license.getName(), license.getUrl()))
+                .toList();
+    }
+
+    private static List<String> canonicalizeProperties(final List<ComponentProperty> properties) {
+        if (properties == null) {
+            return null;
+        }
+
+        return properties.stream()
+                .map(property -> String.join("|",
+                        property.getGroupName(),
+                        property.getPropertyName(),
+                        property.getPropertyValue(),
+                        property.getPropertyType() != null ? property.getPropertyType().name() : null,
+                        property.getDescription()))
+                .sorted()
+                .toList();
+    }
+
+    private static String canonicalize(final PackageURL purl) {
+        return purl != null ? purl.canonicalize() : null;
+    }
+
+    private static String writeValueAsString(final ObjectWriter writer, final Object value) {
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to canonicalize BOM content", e);
+        }
+    }
+
+}
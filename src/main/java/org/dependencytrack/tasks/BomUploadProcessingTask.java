@@ -20,12 +20,14 @@ package org.dependencytrack.tasks;
 
 import alpine.Config;
 import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
 import alpine.event.framework.ChainableEvent;
 import alpine.event.framework.Event;
 import alpine.event.framework.EventService;
 import alpine.event.framework.Subscriber;
 import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
+import io.micrometer.core.instrument.Counter;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -40,7 +42,9 @@ import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.IntegrityAnalysisEvent;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.event.kafka.KafkaEventOutbox;
 import org.dependencytrack.event.kafka.componentmeta.AbstractMetaHandler;
 import org.dependencytrack.model.Bom;
 import org.dependencytrack.model.Component;
@@ -61,7 +65,10 @@ import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.vo.BomConsumedOrProcessed;
 import org.dependencytrack.notification.vo.BomProcessingFailed;
+import org.dependencytrack.persistence.ComponentLookupCache;
+import org.dependencytrack.persistence.LicenseIndex;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao;
 import org.dependencytrack.util.InternalComponentIdentifier;
 import org.dependencytrack.util.WaitingLockConfiguration;
 import org.json.JSONArray;
@@ -81,6 +88,8 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -88,7 +97,9 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.trim;
@@ -113,6 +124,7 @@ import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertSe
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertToProject;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertToProjectMetadata;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.flatten;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_INTEGRITY_DATA_AND_LATEST_VERSION;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_LATEST_VERSION;
 import static org.dependencytrack.util.LockProvider.executeWithLockWaiting;
@@ -133,16 +145,19 @@ public class BomUploadProcessingTask implements Subscriber {
         private final UUID token;
         private final Project project;
         private final Bom.Format bomFormat;
+        private final boolean force;
         private final long startTimeNs;
         private String bomSpecVersion;
         private String bomSerialNumber;
         private Date bomTimestamp;
         private Integer bomVersion;
+        private String bomContentHash;
 
-        private Context(final UUID token, final Project project) {
+        private Context(final UUID token, final Project project, final boolean force) {
             this.token = token;
             this.project = project;
             this.bomFormat = Bom.Format.CYCLONEDX;
+            this.force = force;
             this.startTimeNs = System.nanoTime();
         }
 
@@ -170,7 +185,7 @@ public class BomUploadProcessingTask implements Subscriber {
             return;
         }
 
-        final var ctx = new Context(event.getChainIdentifier(), event.getProject());
+        final var ctx = new Context(event.getChainIdentifier(), event.getProject(), event.isForce());
         try (var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, ctx.project.getUuid().toString());
              var ignoredMdcProjectName = MDC.putCloseable(MDC_PROJECT_NAME, ctx.project.getName());
              var ignoredMdcProjectVersion = MDC.putCloseable(MDC_PROJECT_VERSION, ctx.project.getVersion());
@@ -198,6 +213,13 @@ public class BomUploadProcessingTask implements Subscriber {
             ctx.bomVersion = cdxBom.getVersion();
 
             consumedBom = consumeBom(cdxBom);
+            ctx.bomContentHash = BomContentHasher.hash(
+                    consumedBom.project(),
+                    consumedBom.projectMetadata(),
+                    consumedBom.components(),
+                    consumedBom.services(),
+                    consumedBom.dependencyGraph(),
+                    consumedBom.identitiesByBomRef());
         } catch (IOException | ParseException | RuntimeException e) {
             failWorkflowStepAndCancelDescendants(ctx, WorkflowStep.BOM_CONSUMPTION, e);
             dispatchBomProcessingFailedNotification(ctx, e);
@@ -222,18 +244,28 @@ public class BomUploadProcessingTask implements Subscriber {
             return;
         }
 
-        completeBomProcessingWorkflowStep(ctx);
+        ComponentLookupCache.getInstance().invalidateAll();
+        completeBomProcessingWorkflowStep(ctx, processedBom.delta());
         final var processingDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ctx.startTimeNs);
         LOGGER.info("BOM processed successfully in %s".formatted(formatDurationHMS(processingDurationMs)));
         if (!delayBomProcessedNotification) {
             dispatchBomProcessedNotification(ctx);
         }
 
-        final List<ComponentVulnerabilityAnalysisEvent> vulnAnalysisEvents = createVulnAnalysisEvents(ctx, processedBom.components());
-        final List<ComponentRepositoryMetaAnalysisEvent> repoMetaAnalysisEvents = createRepoMetaAnalysisEvents(processedBom.components());
+        if (KafkaEventOutbox.isEnabled()) {
+            // Analyses were already enqueued by the processing transaction,
+            // and are relayed to Kafka asynchronously.
+            if (processedBom.componentsToAnalyze().isEmpty()) {
+                initiateVulnerabilityAnalysis(ctx, Collections.emptyList(), processedBom.requiresPolicyEvaluation());
+            }
+            return;
+        }
+
+        final List<ComponentVulnerabilityAnalysisEvent> vulnAnalysisEvents = createVulnAnalysisEvents(ctx, processedBom.componentsToAnalyze());
+        final List<ComponentRepositoryMetaAnalysisEvent> repoMetaAnalysisEvents = createRepoMetaAnalysisEvents(processedBom.componentsToAnalyze());
 
         final var dispatchedEvents = new ArrayList<CompletableFuture<?>>(vulnAnalysisEvents.size() + repoMetaAnalysisEvents.size());
-        dispatchedEvents.addAll(initiateVulnerabilityAnalysis(ctx, vulnAnalysisEvents));
+        dispatchedEvents.addAll(initiateVulnerabilityAnalysis(ctx, vulnAnalysisEvents, processedBom.requiresPolicyEvaluation()));
         dispatchedEvents.addAll(initiateRepoMetaAnalysis(repoMetaAnalysisEvents));
         CompletableFuture.allOf(dispatchedEvents.toArray(new CompletableFuture[0])).join();
     }
@@ -299,10 +331,21 @@ public class BomUploadProcessingTask implements Subscriber {
         );
     }
 
+    /**
+     * @param project                  The processed {@link Project}
+     * @param components               All components of the project
+     * @param componentsToAnalyze      Components that require analysis, i.e. were added or changed
+     * @param services                 All services of the project
+     * @param delta                    Human-readable description of the changes made to the project
+     * @param requiresPolicyEvaluation Whether policies must be evaluated, even if no components require analysis
+     */
     private record ProcessedBom(
             Project project,
             Collection<Component> components,
-            Collection<ServiceComponent> services
+            Collection<Component> componentsToAnalyze,
+            Collection<ServiceComponent> services,
+            String delta,
+            boolean requiresPolicyEvaluation
     ) {
     }
 
@@ -347,11 +390,24 @@ public class BomUploadProcessingTask implements Subscriber {
             qm.getPersistenceManager().setProperty(PROPERTY_RETAIN_VALUES, "true");
 
             return qm.callInTransaction(() -> {
+                if (!ctx.force && isUnchanged(ctx, qm)) {
+                    // The BOM's content is identical to that of the last BOM processed for this project.
+                    // Processing it again would not modify anything, so only record the import.
+                    // Since no components are returned, no downstream analyses will be triggered.
+                    LOGGER.info("BOM content is unchanged since the last import; Skipping processing");
+                    final Project persistentProject = getPersistentProject(ctx, qm);
+                    recordBomImport(ctx, qm, persistentProject);
+                    return new ProcessedBom(persistentProject, Collections.emptyList(), Collections.emptyList(),
+                            Collections.emptyList(), "BOM content unchanged; Processing skipped", /* requiresPolicyEvaluation */ false);
+                }
+
                 final Project persistentProject = processProject(ctx, qm, bom.project(), bom.projectMetadata());
 
                 LOGGER.info("Processing %d components".formatted(bom.components().size()));
-                final Map<ComponentIdentity, Component> persistentComponentsByIdentity =
+                final ProcessedComponents processedComponents =
                         processComponents(qm, persistentProject, bom.components(), bom.identitiesByBomRef(), bom.bomRefsByIdentity());
+                final Map<ComponentIdentity, Component> persistentComponentsByIdentity = processedComponents.componentsByIdentity();
+                LOGGER.info("Processed %s".formatted(processedComponents.describeDelta()));
 
                 LOGGER.info("Processing %d services".formatted(bom.services().size()));
                 final Map<ComponentIdentity, ServiceComponent> persistentServicesByIdentity =
@@ -362,21 +418,42 @@ public class BomUploadProcessingTask implements Subscriber {
 
                 recordBomImport(ctx, qm, persistentProject);
 
+                // Unchanged components were analyzed before already, and will continue to be
+                // covered by scheduled portfolio analyses. Only analyze what actually changed,
+                // such that the cost of routine uploads scales with the size of the change,
+                // rather than with the size of the project. Forced uploads analyze everything.
+                final Collection<Component> componentsToAnalyze;
+                if (ctx.force) {
+                    componentsToAnalyze = persistentComponentsByIdentity.values();
+                } else {
+                    componentsToAnalyze = new ArrayList<>(processedComponents.addedComponents());
+                    componentsToAnalyze.addAll(processedComponents.changedComponents());
+                }
+
+                if (KafkaEventOutbox.isEnabled()) {
+                    // Enqueue analyses as part of the processing transaction, such that they are
+                    // relayed if, and only if, the changes they refer to are committed.
+                    enqueueAnalysisEvents(ctx, qm, persistentProject, componentsToAnalyze);
+                }
+
+                // Policies are evaluated against the project's components. Unless the project has none,
+                // and none were removed, changes to services and dependencies may affect violations, too.
+                final boolean requiresPolicyEvaluation = !persistentComponentsByIdentity.isEmpty()
+                        || processedComponents.numRemovedComponents() > 0;
+
                 return new ProcessedBom(
                         persistentProject,
                         persistentComponentsByIdentity.values(),
-                        persistentServicesByIdentity.values()
+                        componentsToAnalyze,
+                        persistentServicesByIdentity.values(),
+                        processedComponents.describeDelta(),
+                        requiresPolicyEvaluation
                 );
             });
         }
     }
 
-    private static Project processProject(
-            final Context ctx,
-            final QueryManager qm,
-            final Project project,
-            final ProjectMetadata projectMetadata
-    ) {
+    private static Project getPersistentProject(final Context ctx, final QueryManager qm) {
         final Query<Project> query = qm.getPersistenceManager().newQuery(Project.class);
         query.setFilter("uuid == :uuid");
         query.setParameters(ctx.project.getUuid());
@@ -391,6 +468,45 @@ public class BomUploadProcessingTask implements Subscriber {
             throw new IllegalStateException("Project does not exist");
         }
 
+        return persistentProject;
+    }
+
+    private static boolean isUnchanged(final Context ctx, final QueryManager qm) {
+        if (ctx.bomContentHash == null) {
+            return false;
+        }
+
+        final Query<Bom> query = qm.getPersistenceManager().newQuery(Bom.class);
+        query.setFilter("project.uuid == :uuid");
+        query.setParameters(ctx.project.getUuid());
+        query.setOrdering("imported desc, id desc");
+        query.setResult("contentHash");
+        query.setRange(0, 1);
+
+        final String lastContentHash;
+        try {
+            lastContentHash = query.executeResultUnique(String.class);
+        } finally {
+            query.closeAll();
+        }
+
+        final boolean isUnchanged = ctx.bomContentHash.equals(lastContentHash);
+        Counter.builder("bom_upload_unchanged_check")
+                .description("Number of BOM uploads checked for unchanged content, by result")
+                .tag("result", isUnchanged ? "hit" : "miss")
+                .register(Metrics.getRegistry())
+                .increment();
+        return isUnchanged;
+    }
+
+    private static Project processProject(
+            final Context ctx,
+            final QueryManager qm,
+            final Project project,
+            final ProjectMetadata projectMetadata
+    ) {
+        final Project persistentProject = getPersistentProject(ctx, qm);
+
         boolean hasChanged = false;
         if (project != null) {
             persistentProject.setBomRef(project.getBomRef()); // Transient
@@ -431,7 +547,28 @@ public class BomUploadProcessingTask implements Subscriber {
         return persistentProject;
     }
 
-    private static Map<ComponentIdentity, Component> processComponents(
+    /**
+     * @param componentsByIdentity All components of the project after processing, by their identity
+     * @param addedComponents      Components that were not part of the project before
+     * @param changedComponents    Components that were part of the project before, but had at least one field modified
+     * @param numRemovedComponents Number of components that are no longer part of the project
+     */
+    private record ProcessedComponents(
+            Map<ComponentIdentity, Component> componentsByIdentity,
+            List<Component> addedComponents,
+            List<Component> changedComponents,
+            int numRemovedComponents
+    ) {
+
+        private String describeDelta() {
+            return "%d component(s) added, %d changed, %d removed, %d unchanged".formatted(
+                    addedComponents.size(), changedComponents.size(), numRemovedComponents,
+                    componentsByIdentity.size() - addedComponents.size() - changedComponents.size());
+        }
+
+    }
+
+    private static ProcessedComponents processComponents(
             final QueryManager qm,
             final Project project,
             final List<Component> components,
@@ -444,20 +581,16 @@ public class BomUploadProcessingTask implements Subscriber {
         // We'll need them later to determine which components to delete.
         final Set<Long> idsOfComponentsToDelete = getAllComponentIds(qm, project, Component.class);
 
-        // Avoid redundant queries by caching resolved licenses.
-        // It is likely that if license IDs were present in a BOM,
-        // they appear multiple times for different components.
-        final var licenseCache = new HashMap<String, License>();
-
-        // We support resolution of custom licenses by their name.
-        // To avoid any conflicts with license IDs, cache those separately.
-        final var customLicenseCache = new HashMap<String, License>();
+        // Resolve the licenses of all components in a single pass, instead of
+        // interleaving license lookups with the processing of individual components.
+        resolveAndApplyLicenses(qm, components);
 
         final var internalComponentIdentifier = new InternalComponentIdentifier();
         final var persistentComponents = new HashMap<ComponentIdentity, Component>();
+        final var addedComponents = new ArrayList<Component>();
+        final var changedComponents = new ArrayList<Component>();
         for (final Component component : components) {
             component.setInternal(internalComponentIdentifier.isInternal(component));
-            resolveAndApplyLicense(qm, component, licenseCache, customLicenseCache);
 
             final var componentIdentity = new ComponentIdentity(component);
             Component persistentComponent;
@@ -478,38 +611,44 @@ public class BomUploadProcessingTask implements Subscriber {
                 component.setProject(project);
                 persistentComponent = qm.getPersistenceManager().makePersistent(component);
                 persistentComponent.setNew(true); // Transient
+                addedComponents.add(persistentComponent);
             } else {
                 persistentComponent.setBomRef(component.getBomRef()); // Transient
-                applyIfChanged(persistentComponent, component, Component::getAuthors, persistentComponent::setAuthors);
-                applyIfChanged(persistentComponent, component, Component::getPublisher, persistentComponent::setPublisher);
-                applyIfChanged(persistentComponent, component, Component::getSupplier, persistentComponent::setSupplier);
-                applyIfChanged(persistentComponent, component, Component::getClassifier, persistentComponent::setClassifier);
-                applyIfChanged(persistentComponent, component, Component::getGroup, persistentComponent::setGroup);
-                applyIfChanged(persistentComponent, component, Component::getName, persistentComponent::setName);
-                applyIfChanged(persistentComponent, component, Component::getVersion, persistentComponent::setVersion);
-                applyIfChanged(persistentComponent, component, Component::getDescription, persistentComponent::setDescription);
-                applyIfChanged(persistentComponent, component, Component::getCopyright, persistentComponent::setCopyright);
-                applyIfChanged(persistentComponent, component, Component::getCpe, persistentComponent::setCpe);
-                applyIfChanged(persistentComponent, component, Component::getPurl, persistentComponent::setPurl);
-                applyIfChanged(persistentComponent, component, Component::getSwidTagId, persistentComponent::setSwidTagId);
-                applyIfChanged(persistentComponent, component, Component::getMd5, persistentComponent::setMd5);
-                applyIfChanged(persistentComponent, component, Component::getSha1, persistentComponent::setSha1);
-                applyIfChanged(persistentComponent, component, Component::getSha256, persistentComponent::setSha256);
-                applyIfChanged(persistentComponent, component, Component::getSha384, persistentComponent::setSha384);
-                applyIfChanged(persistentComponent, component, Component::getSha512, persistentComponent::setSha512);
-                applyIfChanged(persistentComponent, component, Component::getSha3_256, persistentComponent::setSha3_256);
-                applyIfChanged(persistentComponent, component, Component::getSha3_384, persistentComponent::setSha3_384);
-                applyIfChanged(persistentComponent, component, Component::getSha3_512, persistentComponent::setSha3_512);
-                applyIfChanged(persistentComponent, component, Component::getBlake2b_256, persistentComponent::setBlake2b_256);
-                applyIfChanged(persistentComponent, component, Component::getBlake2b_384, persistentComponent::setBlake2b_384);
-                applyIfChanged(persistentComponent, component, Component::getBlake2b_512, persistentComponent::setBlake2b_512);
-                applyIfChanged(persistentComponent, component, Component::getBlake3, persistentComponent::setBlake3);
-                applyIfChanged(persistentComponent, component, Component::getResolvedLicense, persistentComponent::setResolvedLicense);
-                applyIfChanged(persistentComponent, component, Component::getLicense, persistentComponent::setLicense);
-                applyIfChanged(persistentComponent, component, Component::getLicenseUrl, persistentComponent::setLicenseUrl);
-                applyIfChanged(persistentComponent, component, Component::getLicenseExpression, persistentComponent::setLicenseExpression);
-                applyIfChanged(persistentComponent, component, Component::isInternal, persistentComponent::setInternal);
-                applyIfChanged(persistentComponent, component, Component::getExternalReferences, persistentComponent::setExternalReferences);
+                boolean hasChanged = false;
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getAuthors, persistentComponent::setAuthors);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getPublisher, persistentComponent::setPublisher);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getSupplier, persistentComponent::setSupplier);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getClassifier, persistentComponent::setClassifier);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getGroup, persistentComponent::setGroup);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getName, persistentComponent::setName);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getVersion, persistentComponent::setVersion);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getDescription, persistentComponent::setDescription);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getCopyright, persistentComponent::setCopyright);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getCpe, persistentComponent::setCpe);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getPurl, persistentComponent::setPurl);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getSwidTagId, persistentComponent::setSwidTagId);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getMd5, persistentComponent::setMd5);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getSha1, persistentComponent::setSha1);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getSha256, persistentComponent::setSha256);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getSha384, persistentComponent::setSha384);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getSha512, persistentComponent::setSha512);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getSha3_256, persistentComponent::setSha3_256);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getSha3_384, persistentComponent::setSha3_384);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getSha3_512, persistentComponent::setSha3_512);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getBlake2b_256, persistentComponent::setBlake2b_256);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getBlake2b_384, persistentComponent::setBlake2b_384);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getBlake2b_512, persistentComponent::setBlake2b_512);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getBlake3, persistentComponent::setBlake3);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getResolvedLicense, persistentComponent::setResolvedLicense);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getLicense, persistentComponent::setLicense);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getLicenseUrl, persistentComponent::setLicenseUrl);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getLicenseExpression, persistentComponent::setLicenseExpression);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::isInternal, persistentComponent::setInternal);
+                hasChanged |= applyIfChanged(persistentComponent, component, Component::getExternalReferences, persistentComponent::setExternalReferences);
+
+                if (hasChanged) {
+                    changedComponents.add(persistentComponent);
+                }
 
                 qm.synchronizeComponentProperties(persistentComponent, component.getProperties());
                 idsOfComponentsToDelete.remove(persistentComponent.getId());
@@ -533,7 +672,7 @@ public class BomUploadProcessingTask implements Subscriber {
             qm.getPersistenceManager().flush();
         }
 
-        return persistentComponents;
+        return new ProcessedComponents(persistentComponents, addedComponents, changedComponents, idsOfComponentsToDelete.size());
     }
 
     private static Map<ComponentIdentity, ServiceComponent> processServices(
@@ -602,6 +741,11 @@ public class BomUploadProcessingTask implements Subscriber {
     ) {
         assertPersistent(project, "Project must be persistent");
 
+        // Edges of the dependency graph, correlated by index.
+        // A parent ID of null denotes a direct dependency of the project.
+        final var edgeParentIds = new ArrayList<Long>();
+        final var edgeChildIds = new ArrayList<Long>();
+
         if (project.getBomRef() != null) {
             final Collection<String> directDependencyBomRefs = dependencyGraph.get(project.getBomRef());
             if (directDependencyBomRefs == null || directDependencyBomRefs.isEmpty()) {
@@ -611,6 +755,10 @@ public class BomUploadProcessingTask implements Subscriber {
                         """.formatted(dependencyGraph.size()));
             }
             final String directDependenciesJson = resolveDirectDependenciesJson(project.getBomRef(), directDependencyBomRefs, identitiesByBomRef);
+            for (final long childId : resolveDirectDependencyIds(directDependencyBomRefs, componentsByIdentity, identitiesByBomRef)) {
+                edgeParentIds.add(null);
+                edgeChildIds.add(childId);
+            }
             if (!Objects.equals(directDependenciesJson, project.getDirectDependencies())) {
                 project.setDirectDependencies(directDependenciesJson);
                 qm.getPersistenceManager().flush();
@@ -637,6 +785,10 @@ public class BomUploadProcessingTask implements Subscriber {
                 if (!Objects.equals(directDependenciesJson, component.getDirectDependencies())) {
                     component.setDirectDependencies(directDependenciesJson);
                 }
+                for (final long childId : resolveDirectDependencyIds(directDependencyBomRefs, componentsByIdentity, identitiesByBomRef)) {
+                    edgeParentIds.add(component.getId());
+                    edgeChildIds.add(childId);
+                }
             } else {
                 LOGGER.warn("""
                         Unable to resolve component identity %s to a persistent component; \
@@ -646,6 +798,42 @@ public class BomUploadProcessingTask implements Subscriber {
         }
 
         qm.getPersistenceManager().flush();
+
+        // The DIRECT_DEPENDENCIES columns are retained for API compatibility,
+        // but graph traversals are performed on the COMPONENT_DEPENDENCY table.
+        // Replace all edges at once, rather than determining the delta to the previous graph.
+        useJdbiHandle(qm, handle -> {
+            final var dao = handle.attach(DependencyGraphDao.class);
+            dao.deleteDependencies(project.getId());
+            if (!edgeChildIds.isEmpty()) {
+                dao.createDependencies(project.getId(), edgeParentIds, edgeChildIds);
+            }
+        });
+    }
+
+    private static Set<Long> resolveDirectDependencyIds(
+            final Collection<String> directDependencyBomRefs,
+            final Map<ComponentIdentity, Component> componentsByIdentity,
+            final Map<String, ComponentIdentity> identitiesByBomRef
+    ) {
+        if (directDependencyBomRefs == null || directDependencyBomRefs.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final var directDependencyIds = new LinkedHashSet<Long>(directDependencyBomRefs.size());
+        for (final String directDependencyBomRef : directDependencyBomRefs) {
+            final ComponentIdentity directDependencyIdentity = identitiesByBomRef.get(directDependencyBomRef);
+            if (directDependencyIdentity == null) {
+                continue;
+            }
+
+            final Component directDependency = componentsByIdentity.get(directDependencyIdentity);
+            if (directDependency != null) {
+                directDependencyIds.add(directDependency.getId());
+            }
+        }
+
+        return directDependencyIds;
     }
 
     private static void recordBomImport(final Context ctx, final QueryManager qm, final Project project) {
@@ -661,6 +849,7 @@ public class BomUploadProcessingTask implements Subscriber {
         bom.setBomVersion(ctx.bomVersion);
         bom.setImported(bomImportDate);
         bom.setGenerated(ctx.bomTimestamp);
+        bom.setContentHash(ctx.bomContentHash);
         qm.getPersistenceManager().makePersistent(bom);
 
         project.setLastBomImport(bomImportDate);
@@ -720,53 +909,96 @@ public class BomUploadProcessingTask implements Subscriber {
         return pm.newQuery(ServiceComponent.class, ":ids.contains(id)").deletePersistentAll(serviceIds);
     }
 
-    private static void resolveAndApplyLicense(
-            final QueryManager qm,
-            final Component component,
-            final Map<String, License> licenseCache,
-            final Map<String, License> customLicenseCache
-    ) {
+    private record LicenseResolution(long licenseId, String url) {
+    }
+
+    private static void resolveAndApplyLicenses(final QueryManager qm, final List<Component> components) {
+        // Use the same snapshot of the license catalog for all components of the BOM.
+        final LicenseIndex.Snapshot licenseIndex = LicenseIndex.getInstance().getSnapshot();
+
+        final var resolutionByComponent = new IdentityHashMap<Component, LicenseResolution>();
+        for (final Component component : components) {
+            final LicenseResolution resolution = resolveLicense(licenseIndex, component);
+            if (resolution != null) {
+                resolutionByComponent.put(component, resolution);
+            }
+        }
+
+        final Map<Long, License> licenseById = getLicensesById(qm, resolutionByComponent.values().stream()
+                .map(LicenseResolution::licenseId)
+                .collect(Collectors.toSet()));
+
+        for (final Component component : components) {
+            final LicenseResolution resolution = resolutionByComponent.get(component);
+
+            // The index may refer to licenses that have been deleted since it was loaded.
+            final License resolvedLicense = resolution != null ? licenseById.get(resolution.licenseId()) : null;
+            if (resolvedLicense != null) {
+                component.setResolvedLicense(resolvedLicense);
+                component.setLicenseUrl(trimToNull(resolution.url()));
+            }
+
+            // If we were unable to resolve any license by its ID, at least
+            // populate the license name. Again assuming order by priority.
+            if (component.getResolvedLicense() == null) {
+                component.getLicenseCandidates().stream()
+                        .filter(license -> isNotBlank(license.getName()))
+                        .findFirst()
+                        .ifPresent(license -> {
+                            component.setLicense(trim(license.getName()));
+                            component.setLicenseUrl(trimToNull(license.getUrl()));
+                        });
+            }
+        }
+    }
+
+    private static LicenseResolution resolveLicense(final LicenseIndex.Snapshot licenseIndex, final Component component) {
         // CycloneDX components can declare multiple licenses, but we currently
         // only support one. We assume that the licenseCandidates list is ordered
         // by priority, and simply take the first resolvable candidate.
         for (final org.cyclonedx.model.License licenseCandidate : component.getLicenseCandidates()) {
+            Long licenseId = null;
+
             if (isNotBlank(licenseCandidate.getId())) {
-                final License resolvedLicense = licenseCache.computeIfAbsent(licenseCandidate.getId(), qm::getLicenseByIdOrName);
-                if (resolvedLicense != License.UNRESOLVED) {
-                    component.setResolvedLicense(resolvedLicense);
-                    component.setLicenseUrl(trimToNull(licenseCandidate.getUrl()));
-                    break;
+                licenseId = licenseIndex.getIdByIdOrName(licenseCandidate.getId());
+                if (licenseId == null) {
+                    licenseId = licenseIndex.getIdByAlias(licenseCandidate.getId());
                 }
             }
 
-            if (isNotBlank(licenseCandidate.getName())) {
-                final License resolvedLicense = licenseCache.computeIfAbsent(licenseCandidate.getName(), qm::getLicenseByIdOrName);
-                if (resolvedLicense != License.UNRESOLVED) {
-                    component.setResolvedLicense(resolvedLicense);
-                    component.setLicenseUrl(trimToNull(licenseCandidate.getUrl()));
-                    break;
+            // We support resolution of custom licenses by their name.
+            if (licenseId == null && isNotBlank(licenseCandidate.getName())) {
+                licenseId = licenseIndex.getIdByIdOrName(licenseCandidate.getName());
+                if (licenseId == null) {
+                    licenseId = licenseIndex.getCustomIdByName(licenseCandidate.getName());
                 }
-
-                final License resolvedCustomLicense = customLicenseCache.computeIfAbsent(
-                        licenseCandidate.getName(), qm::getCustomLicenseByName);
-                if (resolvedCustomLicense != License.UNRESOLVED) {
-                    component.setResolvedLicense(resolvedCustomLicense);
-                    component.setLicenseUrl(trimToNull(licenseCandidate.getUrl()));
-                    break;
+                if (licenseId == null) {
+                    licenseId = licenseIndex.getIdByAlias(licenseCandidate.getName());
                 }
             }
+
+            if (licenseId != null) {
+                return new LicenseResolution(licenseId, licenseCandidate.getUrl());
+            }
         }
 
-        // If we were unable to resolve any license by its ID, at least
-        // populate the license name. Again assuming order by priority.
-        if (component.getResolvedLicense() == null) {
-            component.getLicenseCandidates().stream()
-                    .filter(license -> isNotBlank(license.getName()))
-                    .findFirst()
-                    .ifPresent(license -> {
-                        component.setLicense(trim(license.getName()));
-                        component.setLicenseUrl(trimToNull(license.getUrl()));
-                    });
+        return null;
+    }
+
+    private static Map<Long, License> getLicensesById(final QueryManager qm, final Set<Long> licenseIds) {
+        if (licenseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Query<License> query = qm.getPersistenceManager().newQuery(License.class);
+        query.setFilter(":ids.contains(id)");
+        query.setParameters(licenseIds);
+
+        try {
+            return query.executeList().stream()
+                    .collect(Collectors.toMap(License::getId, Function.identity()));
+        } finally {
+            query.closeAll();
         }
     }
 
@@ -857,13 +1089,14 @@ public class BomUploadProcessingTask implements Subscriber {
         }
     }
 
-    private static void completeBomProcessingWorkflowStep(final Context ctx) {
+    private static void completeBomProcessingWorkflowStep(final Context ctx, final String details) {
         // TODO: This should be a single UPDATE query.
         try (final var qm = new QueryManager()) {
             qm.runInTransaction(() -> {
                 final WorkflowState bomProcessingState =
                         qm.getWorkflowStateByTokenAndStep(ctx.token, WorkflowStep.BOM_PROCESSING);
                 bomProcessingState.setStatus(WorkflowStatus.COMPLETED);
+                bomProcessingState.setDetails(details);
                 bomProcessingState.setUpdatedAt(new Date());
             });
         }
@@ -888,7 +1121,8 @@ public class BomUploadProcessingTask implements Subscriber {
 
     private List<CompletableFuture<?>> initiateVulnerabilityAnalysis(
             final Context ctx,
-            final Collection<ComponentVulnerabilityAnalysisEvent> events
+            final Collection<ComponentVulnerabilityAnalysisEvent> events,
+            final boolean requiresPolicyEvaluation
     ) {
         if (events.isEmpty()) {
             // No components to be sent for vulnerability analysis.
@@ -904,17 +1138,30 @@ public class BomUploadProcessingTask implements Subscriber {
                     vulnAnalysisWorkflowState.setStatus(WorkflowStatus.NOT_APPLICABLE);
                     vulnAnalysisWorkflowState.setUpdatedAt(new Date());
 
-                    final WorkflowState policyEvalWorkflowState =
-                            qm.getWorkflowStateByTokenAndStep(ctx.token, WorkflowStep.POLICY_EVALUATION);
-                    policyEvalWorkflowState.setStatus(WorkflowStatus.NOT_APPLICABLE);
-                    policyEvalWorkflowState.setUpdatedAt(new Date());
+                    if (!requiresPolicyEvaluation) {
+                        final WorkflowState policyEvalWorkflowState =
+                                qm.getWorkflowStateByTokenAndStep(ctx.token, WorkflowStep.POLICY_EVALUATION);
+                        policyEvalWorkflowState.setStatus(WorkflowStatus.NOT_APPLICABLE);
+                        policyEvalWorkflowState.setUpdatedAt(new Date());
+                    }
                 });
             }
 
             // Trigger project metrics update no matter if vuln analysis is applicable or not.
             final ChainableEvent metricsUpdateEvent = new ProjectMetricsUpdateEvent(ctx.project.getUuid());
             metricsUpdateEvent.setChainIdentifier(ctx.token);
-            Event.dispatch(metricsUpdateEvent);
+
+            if (requiresPolicyEvaluation) {
+                // Removed components, or changed services and dependencies, may still
+                // resolve or introduce policy violations, even if nothing is to be analyzed.
+                final ChainableEvent policyEvalEvent = new ProjectPolicyEvaluationEvent(ctx.project.getUuid());
+                policyEvalEvent.setChainIdentifier(ctx.token);
+                policyEvalEvent.onSuccess(metricsUpdateEvent);
+                policyEvalEvent.onFailure(metricsUpdateEvent);
+                Event.dispatch(policyEvalEvent);
+            } else {
+                Event.dispatch(metricsUpdateEvent);
+            }
 
             return Collections.emptyList();
         }
@@ -1009,48 +1256,84 @@ public class BomUploadProcessingTask implements Subscriber {
                 .toList();
     }
 
-    private static List<ComponentRepositoryMetaAnalysisEvent> createRepoMetaAnalysisEvents(final Collection<Component> components) {
-        final var events = new ArrayList<ComponentRepositoryMetaAnalysisEvent>(components.size());
-        // TODO: This should be more efficient (https://github.com/DependencyTrack/hyades/issues/1306)
+    /**
+     * Create the vulnerability scan for, and enqueue vulnerability and repository meta analyses of,
+     * the given {@link Component}s to the {@link KafkaEventOutbox}.
+     * <p>
+     * Must be called within the BOM processing transaction.
+     */
+    private static void enqueueAnalysisEvents(
+            final Context ctx,
+            final QueryManager qm,
+            final Project project,
+            final Collection<Component> components
+    ) {
+        final List<ComponentVulnerabilityAnalysisEvent> vulnAnalysisEvents = createVulnAnalysisEvents(ctx, components);
+        if (!vulnAnalysisEvents.isEmpty()) {
+            qm.createVulnerabilityScan(TargetType.PROJECT, project.getUuid(), ctx.token, vulnAnalysisEvents.size());
+
+            final WorkflowState vulnAnalysisWorkflowState =
+                    qm.getWorkflowStateByTokenAndStep(ctx.token, WorkflowStep.VULN_ANALYSIS);
+            vulnAnalysisWorkflowState.setStartedAt(new Date());
+        }
 
+        final List<ComponentRepositoryMetaAnalysisEvent> repoMetaAnalysisEvents = createRepoMetaAnalysisEvents(qm, components);
+
+        useJdbiHandle(qm, handle -> {
+            KafkaEventOutbox.enqueueAllEvents(handle, vulnAnalysisEvents);
+            KafkaEventOutbox.enqueueAllEvents(handle, repoMetaAnalysisEvents);
+        });
+    }
+
+    private static List<ComponentRepositoryMetaAnalysisEvent> createRepoMetaAnalysisEvents(final Collection<Component> components) {
         try (final var qm = new QueryManager()) {
             qm.getPersistenceManager().setProperty(PROPERTY_PERSISTENCE_BY_REACHABILITY_AT_COMMIT, "false");
             qm.getPersistenceManager().setProperty(PROPERTY_RETAIN_VALUES, "true");
 
-            for (final Component component : components) {
-                if (component.getPurl() == null) {
-                    continue;
-                }
+            return createRepoMetaAnalysisEvents(qm, components);
+        }
+    }
 
-                if (!SUPPORTED_PACKAGE_URLS_FOR_INTEGRITY_CHECK.contains(component.getPurl().getType())) {
-                    events.add(new ComponentRepositoryMetaAnalysisEvent(
-                            /* componentUuid */ null,
-                            component.getPurlCoordinates().toString(),
-                            component.isInternal(),
-                            FETCH_META_LATEST_VERSION
-                    ));
-                    continue;
-                }
+    private static List<ComponentRepositoryMetaAnalysisEvent> createRepoMetaAnalysisEvents(
+            final QueryManager qm,
+            final Collection<Component> components
+    ) {
+        final var events = new ArrayList<ComponentRepositoryMetaAnalysisEvent>(components.size());
+        // TODO: This should be more efficient (https://github.com/DependencyTrack/hyades/issues/1306)
 
-                final boolean shouldFetchIntegrityData = qm.callInTransaction(() -> prepareIntegrityMetaComponent(qm, component));
-                if (shouldFetchIntegrityData) {
-                    events.add(new ComponentRepositoryMetaAnalysisEvent(
-                            component.getUuid(),
-                            component.getPurl().toString(),
-                            component.isInternal(),
-                            FETCH_META_INTEGRITY_DATA_AND_LATEST_VERSION
-                    ));
-                } else {
-                    // If integrity metadata was fetched recently, we don't want to fetch it again
-                    // as it's unlikely to change frequently. Fall back to fetching only the latest
-                    // version information.
-                    events.add(new ComponentRepositoryMetaAnalysisEvent(
-                            /* componentUuid */ null,
-                            component.getPurlCoordinates().toString(),
-                            component.isInternal(),
-                            FETCH_META_LATEST_VERSION
-                    ));
-                }
+        for (final Component component : components) {
+            if (component.getPurl() == null) {
+                continue;
+            }
+
+            if (!SUPPORTED_PACKAGE_URLS_FOR_INTEGRITY_CHECK.contains(component.getPurl().getType())) {
+                events.add(new ComponentRepositoryMetaAnalysisEvent(
+                        /* componentUuid */ null,
+                        component.getPurlCoordinates().toString(),
+                        component.isInternal(),
+                        FETCH_META_LATEST_VERSION
+                ));
+                continue;
+            }
+
+            final boolean shouldFetchIntegrityData = qm.callInTransaction(() -> prepareIntegrityMetaComponent(qm, component));
+            if (shouldFetchIntegrityData) {
+                events.add(new ComponentRepositoryMetaAnalysisEvent(
+                        component.getUuid(),
+                        component.getPurl().toString(),
+                        component.isInternal(),
+                        FETCH_META_INTEGRITY_DATA_AND_LATEST_VERSION
+                ));
+            } else {
+                // If integrity metadata was fetched recently, we don't want to fetch it again
+                // as it's unlikely to change frequently. Fall back to fetching only the latest
+                // version information.
+                events.add(new ComponentRepositoryMetaAnalysisEvent(
+                        /* componentUuid */ null,
+                        component.getPurlCoordinates().toString(),
+                        component.isInternal(),
+                        FETCH_META_LATEST_VERSION
+                ));
             }
         }
 
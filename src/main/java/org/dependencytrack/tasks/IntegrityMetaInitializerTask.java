@@ -28,12 +28,15 @@ import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.IntegrityMetaInitializerEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
-import org.dependencytrack.model.IntegrityMetaComponent;
-import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao.IntegrityMetaInitializationCandidateRow;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.dependencytrack.event.kafka.componentmeta.RepoMetaConstants.SUPPORTED_PACKAGE_URLS_FOR_INTEGRITY_CHECK;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_INTEGRITY_DATA;
 
 public class IntegrityMetaInitializerTask implements Subscriber {
@@ -48,45 +51,49 @@ public class IntegrityMetaInitializerTask implements Subscriber {
                 LOGGER.debug("Integrity initializer is disabled");
                 return;
             }
-            try (final var qm = new QueryManager()) {
-                batchProcessPurls(qm);
-            }
+            batchProcessPurls();
         }
     }
 
-    private void batchProcessPurls(QueryManager qm) {
-        long offset = 0;
-        List<IntegrityMetaComponent> integrityMetaPurls = qm.fetchNextPurlsPage(offset);
-        while (!integrityMetaPurls.isEmpty()) {
-            dispatchPurls(qm, integrityMetaPurls);
-            qm.batchUpdateIntegrityMetaComponent(integrityMetaPurls);
-            offset += integrityMetaPurls.size();
-            integrityMetaPurls = qm.fetchNextPurlsPage(offset);
-        }
+    private void batchProcessPurls() {
+        // Records that have been in progress for longer than an hour are considered stale.
+        final Instant fetchedBefore = Instant.now().minus(1, ChronoUnit.HOURS);
+
+        useJdbiHandle(handle -> {
+            final var dao = handle.attach(ComponentMetaDao.class);
+
+            List<IntegrityMetaInitializationCandidateRow> candidates =
+                    dao.getIntegrityMetaInitializationCandidates(0, fetchedBefore, 5000);
+            while (!candidates.isEmpty()) {
+                dispatchPurls(candidates);
+                dao.markIntegrityMetaComponentsInProgress(
+                        candidates.stream().map(IntegrityMetaInitializationCandidateRow::id).toList());
+
+                final long lastId = candidates.get(candidates.size() - 1).id();
+                candidates = dao.getIntegrityMetaInitializationCandidates(lastId, fetchedBefore, 5000);
+            }
+        });
     }
 
-    private void dispatchPurls(QueryManager qm, List<IntegrityMetaComponent> integrityMetaComponents) {
-        for (final IntegrityMetaComponent integrityMetaComponent : integrityMetaComponents) {
+    private void dispatchPurls(final List<IntegrityMetaInitializationCandidateRow> candidates) {
+        for (final IntegrityMetaInitializationCandidateRow candidate : candidates) {
             try {
-                PackageURL purl = new PackageURL(integrityMetaComponent.getPurl());
+                PackageURL purl = new PackageURL(candidate.purl());
                 //dispatch for integrity metadata only if purl type is supported
                 if (SUPPORTED_PACKAGE_URLS_FOR_INTEGRITY_CHECK.contains(purl.getType())) {
-                    IntegrityMetaInitializerTask.ComponentProjection componentProjection = qm.getComponentByPurl(integrityMetaComponent.getPurl());
-                    if (componentProjection == null) {
-                        LOGGER.debug("No component with PURL %s exists (anymore); Skipping".formatted(integrityMetaComponent.getPurl()));
+                    if (candidate.internal() == null) {
+                        LOGGER.debug("No component with PURL %s exists (anymore); Skipping".formatted(candidate.purl()));
                         continue;
                     }
-                    LOGGER.debug("Dispatching purl for integrity metadata: " + integrityMetaComponent.getPurl());
+                    LOGGER.debug("Dispatching purl for integrity metadata: " + candidate.purl());
                     //Initializer will not trigger Integrity Check on component so component uuid is not required
-                    kafkaEventDispatcher.dispatchEvent(new ComponentRepositoryMetaAnalysisEvent(null, integrityMetaComponent.getPurl(), componentProjection.internal(), FETCH_META_INTEGRITY_DATA));
+                    kafkaEventDispatcher.dispatchEvent(new ComponentRepositoryMetaAnalysisEvent(null, candidate.purl(), candidate.internal(), FETCH_META_INTEGRITY_DATA));
                 }
             } catch (MalformedPackageURLException packageURLException) {
-                LOGGER.warn("Initializer cannot dispatch for integrity because purl cannot be parse: " + integrityMetaComponent.getPurl());
+                LOGGER.warn("Initializer cannot dispatch for integrity because purl cannot be parse: " + candidate.purl());
                 //skip malformed url
             }
         }
     }
 
-    public record ComponentProjection(String purlCoordinates, Boolean internal) {
-    }
 }
@@ -28,18 +28,17 @@ import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.PortfolioRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ProjectRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
-import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao.RepositoryMetaAnalysisCandidateRow;
 import org.dependencytrack.proto.repometaanalysis.v1.FetchMeta;
 
-import javax.jdo.PersistenceManager;
-import javax.jdo.Query;
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
 import static org.dependencytrack.util.LockProvider.isTaskLockToBeExtended;
 import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
@@ -93,16 +92,12 @@ public class RepositoryMetaAnalysisTask implements Subscriber {
                 return;
             }
 
-            final PersistenceManager pm = qm.getPersistenceManager();
-
-            long offset = 0;
-            List<ComponentProjection> components = fetchNextComponentsPage(pm, project, offset);
+            List<RepositoryMetaAnalysisCandidateRow> components = fetchNextComponentsPage(project.getId(), null);
             while (!components.isEmpty()) {
                 //latest version information needs to be fetched for project as either triggered because of fresh bom upload or individual project reanalysis
                 dispatchComponents(components);
 
-                offset += components.size();
-                components = fetchNextComponentsPage(pm, project, offset);
+                components = fetchNextComponentsPage(project.getId(), components.get(components.size() - 1));
             }
         }
 
@@ -114,53 +109,34 @@ public class RepositoryMetaAnalysisTask implements Subscriber {
 
         LockConfiguration lockConfiguration = getLockConfigForTask(RepositoryMetaAnalysisTask.class);
 
-        try (final QueryManager qm = new QueryManager()) {
-            final PersistenceManager pm = qm.getPersistenceManager();
-
-            long offset = 0;
-            long startTime = System.currentTimeMillis();
-            List<ComponentProjection> components = fetchNextComponentsPage(pm, null, offset);
-            while (!components.isEmpty()) {
-                long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
-                if (isTaskLockToBeExtended(cumulativeProcessingTime, RepositoryMetaAnalysisTask.class)) {
-                    LockExtender.extendActiveLock(Duration.ofMinutes(5).plus(lockConfiguration.getLockAtLeastFor()), lockConfiguration.getLockAtLeastFor());
-                }
-                //latest version information does not need to be fetched for project as triggered for portfolio means it is a scheduled event happening
-                dispatchComponents(components);
-
-                offset += components.size();
-                components = fetchNextComponentsPage(pm, null, offset);
+        long startTime = System.currentTimeMillis();
+        List<RepositoryMetaAnalysisCandidateRow> components = fetchNextComponentsPage(null, null);
+        while (!components.isEmpty()) {
+            long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
+            if (isTaskLockToBeExtended(cumulativeProcessingTime, RepositoryMetaAnalysisTask.class)) {
+                LockExtender.extendActiveLock(Duration.ofMinutes(5).plus(lockConfiguration.getLockAtLeastFor()), lockConfiguration.getLockAtLeastFor());
             }
+            //latest version information does not need to be fetched for project as triggered for portfolio means it is a scheduled event happening
+            dispatchComponents(components);
+
+            components = fetchNextComponentsPage(null, components.get(components.size() - 1));
         }
 
         LOGGER.info("All components in portfolio submitted for repository meta analysis");
     }
 
-    private void dispatchComponents(final List<ComponentProjection> components) {
+    private void dispatchComponents(final List<RepositoryMetaAnalysisCandidateRow> components) {
         for (final var component : components) {
             kafkaEventDispatcher.dispatchEvent(new ComponentRepositoryMetaAnalysisEvent(null, component.purlCoordinates(), component.internal(), FetchMeta.FETCH_META_LATEST_VERSION));
         }
     }
 
-    private List<ComponentProjection> fetchNextComponentsPage(final PersistenceManager pm, final Project project, final long offset) throws Exception {
-        try (final Query<Component> query = pm.newQuery(Component.class)) {
-            var filter = "project.active == :projectActive && purlCoordinates != null";
-            var params = new HashMap<String, Object>();
-            params.put("projectActive", true);
-            if (project != null) {
-                filter += " && project == :project";
-                params.put("project", project);
-            }
-            query.setFilter(filter);
-            query.setNamedParameters(params);
-            query.setOrdering("purlCoordinates ASC"); // Keep the order somewhat consistent
-            query.setRange(offset, offset + 5000);
-            query.setResult("DISTINCT purlCoordinates, internal");
-            return List.copyOf(query.executeResultList(ComponentProjection.class));
-        }
-    }
-
-    public record ComponentProjection(String purlCoordinates, Boolean internal) {
+    private List<RepositoryMetaAnalysisCandidateRow> fetchNextComponentsPage(final Long projectId, final RepositoryMetaAnalysisCandidateRow lastRow) {
+        return withJdbiHandle(handle -> handle.attach(ComponentMetaDao.class).getRepositoryMetaAnalysisCandidates(
+                projectId,
+                lastRow != null ? lastRow.purlCoordinates() : null,
+                lastRow != null ? lastRow.internal() : null,
+                5000));
     }
 
 }
@@ -33,7 +33,9 @@ import org.dependencytrack.model.Vex;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
+import org.dependencytrack.notification.NotificationPayloadStore;
 import org.dependencytrack.notification.NotificationScope;
+import org.dependencytrack.notification.vo.PayloadReference;
 import org.dependencytrack.notification.vo.VexConsumedOrProcessed;
 import org.dependencytrack.parser.cyclonedx.CycloneDXVexImporter;
 import org.dependencytrack.persistence.QueryManager;
@@ -94,9 +96,13 @@ public class VexUploadProcessingTask implements Subscriber {
                     LOGGER.warn("The VEX uploaded is not in a supported format. Supported formats include CycloneDX XML and JSON");
                     return;
                 }
+                // Large documents are stored once and referenced by both notifications, instead of being embedded.
+                final PayloadReference vexReference = NotificationPayloadStore.getInstance().storeIfExceedsThreshold(vexBytes);
+                final String vexEncoded = vexReference == null ? Base64.getEncoder().encodeToString(vexBytes) : null;
+
                 final Project copyOfProject = qm.detach(Project.class, qm.getObjectById(Project.class, project.getId()).getId());
                 String content = "A " + vexFormat.getFormatShortName() + " VEX was consumed and will be processed";
-                Object subject = new VexConsumedOrProcessed(copyOfProject, Base64.getEncoder().encodeToString(vexBytes), vexFormat, vexSpecVersion);
+                Object subject = new VexConsumedOrProcessed(copyOfProject, vexEncoded, vexReference, vexFormat, vexSpecVersion);
                 eventDispatcher.dispatchNotification(new Notification()
                         .scope(NotificationScope.PORTFOLIO)
                         .group(NotificationGroup.VEX_CONSUMED)
@@ -108,7 +114,7 @@ public class VexUploadProcessingTask implements Subscriber {
 
                 final Project detachedProject = qm.detach(Project.class, project.getId());
                 content = "A " + vexFormat.getFormatShortName() + " VEX was processed";
-                subject = new VexConsumedOrProcessed(detachedProject, Base64.getEncoder().encodeToString(vexBytes), vexFormat, vexSpecVersion);
+                subject = new VexConsumedOrProcessed(detachedProject, vexEncoded, vexReference, vexFormat, vexSpecVersion);
                 eventDispatcher.dispatchNotification(new Notification()
                         .scope(NotificationScope.PORTFOLIO)
                         .group(NotificationGroup.VEX_PROCESSED)
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.maintenance;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Executes maintenance operations in bounded batches.
+ * <p>
+ * Each batch is expected to commit on its own, such that locks are released
+ * between batches and concurrent writers are not blocked for the entire operation.
+ *
+ * @since 5.6.0
+ */
+final class MaintenanceBatchExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(MaintenanceBatchExecutor.class);
+
+    private final String taskName;
+    private final int batchSize;
+
+    MaintenanceBatchExecutor(final Class<?> taskClass, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than zero, but was " + batchSize);
+        }
+
+        this.taskName = taskClass.getSimpleName();
+        this.batchSize = batchSize;
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Repeatedly execute a batch until it affects fewer than {@link #batchSize()} records.
+     *
+     * @param operation     Name of the operation, used for logging and metrics
+     * @param batchExecutor Executes a single batch, and returns the number of affected records
+     * @return Total number of affected records
+     */
+    int execute(final String operation, final IntSupplier batchExecutor) {
+        final Timer batchTimer = Timer.builder("maintenance_batch")
+                .description("Time spent executing a single batch of a maintenance operation")
+                .tag("task", taskName)
+                .tag("operation", operation)
+                .register(Metrics.getRegistry());
+        final DistributionSummary batchRecordsSummary = DistributionSummary.builder("maintenance_batch_records")
+                .description("Number of records affected by a single batch of a maintenance operation")
+                .tag("task", taskName)
+                .tag("operation", operation)
+                .register(Metrics.getRegistry());
+
+        int totalRecords = 0;
+        int numBatches = 0;
+        while (true) {
+            final Timer.Sample timerSample = Timer.start();
+            final int batchRecords = batchExecutor.getAsInt();
+            timerSample.stop(batchTimer);
+            batchRecordsSummary.record(batchRecords);
+            totalRecords += batchRecords;
+            numBatches++;
+
+            if (batchRecords < batchSize) {
+                break;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                LOGGER.warn("Interrupted after %d batch(es) of %s; Remaining records will be processed in the next run"
+                        .formatted(numBatches, operation));
+                break;
+            }
+
+            // Give other threads, e.g. those waiting for rows locked by the
+            // previous batch, a chance to make progress before continuing.
+            Thread.yield();
+        }
+
+        LOGGER.debug("Completed %s in %d batch(es), affecting %d record(s)".formatted(operation, numBatches, totalRecords));
+        return totalRecords;
+    }
+
+}
@@ -27,10 +27,17 @@ import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.jdbi.v3.core.Handle;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 
 import static net.javacrumbs.shedlock.core.LockAssert.assertLocked;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_METRICS_RETENTION_DAYS;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.MetricsDao.getDailyPartitionName;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
 import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 
@@ -40,6 +47,7 @@ import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 public class MetricsMaintenanceTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(MetricsMaintenanceTask.class);
+    private static final int PARTITIONS_AHEAD_DAYS = 7;
 
     @Override
     public void inform(final Event event) {
@@ -68,11 +76,14 @@ public class MetricsMaintenanceTask implements Subscriber {
 
     private record Statistics(
             Duration retentionDuration,
-            int deletedComponentMetrics,
-            int deletedProjectMetrics,
+            PartitionStatistics componentMetrics,
+            PartitionStatistics projectMetrics,
             int deletedPortfolioMetrics) {
     }
 
+    private record PartitionStatistics(int createdPartitions, int droppedPartitions, int deletedFromDefaultPartition) {
+    }
+
     private Statistics informLocked(final Handle jdbiHandle) {
         assertLocked();
 
@@ -81,12 +92,84 @@ public class MetricsMaintenanceTask implements Subscriber {
 
         final Integer retentionDays = configPropertyDao.getValue(MAINTENANCE_METRICS_RETENTION_DAYS, Integer.class);
         final Duration retentionDuration = Duration.ofDays(retentionDays);
+        final Instant retentionCutoff = Instant.now().minus(retentionDuration);
 
-        final int numDeletedComponent = metricsDao.deleteComponentMetricsForRetentionDuration(retentionDuration);
-        final int numDeletedProject = metricsDao.deleteProjectMetricsForRetentionDuration(retentionDuration);
+        final PartitionStatistics componentStatistics = maintainPartitions(metricsDao, "DEPENDENCYMETRICS", retentionCutoff);
+        final PartitionStatistics projectStatistics = maintainPartitions(metricsDao, "PROJECTMETRICS", retentionCutoff);
         final int numDeletedPortfolio = metricsDao.deletePortfolioMetricsForRetentionDuration(retentionDuration);
 
-        return new Statistics(retentionDuration, numDeletedComponent, numDeletedProject, numDeletedPortfolio);
+        return new Statistics(retentionDuration, componentStatistics, projectStatistics, numDeletedPortfolio);
+    }
+
+    /**
+     * Maintain the daily partitions of a metrics table.
+     * <p>
+     * Partitions are created ahead of time for the upcoming {@value #PARTITIONS_AHEAD_DAYS} days,
+     * such that records rarely end up in the default partition. Partitions that only hold records
+     * older than {@code retentionCutoff} are dropped entirely.
+     */
+    private PartitionStatistics maintainPartitions(
+            final MetricsDao metricsDao,
+            final String tableName,
+            final Instant retentionCutoff) {
+        final List<String> partitionNames = metricsDao.getPartitionNames(tableName);
+
+        int numDropped = 0;
+        LocalDate lastPartitionDay = null;
+        for (final String partitionName : partitionNames) {
+            if (partitionName.equals(tableName + "_LEGACY")) {
+                if (metricsDao.isLegacyPartitionExpired(tableName, retentionCutoff)) {
+                    LOGGER.info("Dropping expired partition %s".formatted(partitionName));
+                    metricsDao.dropPartition(partitionName);
+                    numDropped++;
+                }
+                continue;
+            }
+
+            final LocalDate partitionDay = parseDailyPartitionDay(tableName, partitionName);
+            if (partitionDay == null) {
+                continue;
+            }
+
+            if (!partitionDay.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().isAfter(retentionCutoff)) {
+                LOGGER.info("Dropping expired partition %s".formatted(partitionName));
+                metricsDao.dropPartition(partitionName);
+                numDropped++;
+            } else if (lastPartitionDay == null || partitionDay.isAfter(lastPartitionDay)) {
+                lastPartitionDay = partitionDay;
+            }
+        }
+
+        // Daily partitions form a contiguous range, and the legacy partition (if any) precedes it.
+        // Only extending the range beyond its last day ensures that partition bounds never overlap.
+        final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        int numCreated = 0;
+        for (int i = 0; i <= PARTITIONS_AHEAD_DAYS; i++) {
+            final LocalDate day = today.plusDays(i);
+            if (lastPartitionDay != null && !day.isAfter(lastPartitionDay)) {
+                continue;
+            }
+
+            LOGGER.info("Creating partition %s".formatted(getDailyPartitionName(tableName, day)));
+            metricsDao.createDailyPartition(tableName, day);
+            numCreated++;
+        }
+
+        final int numDeletedFromDefault = metricsDao.deleteExpiredFromDefaultPartition(tableName, retentionCutoff);
+
+        return new PartitionStatistics(numCreated, numDropped, numDeletedFromDefault);
+    }
+
+    private static LocalDate parseDailyPartitionDay(final String tableName, final String partitionName) {
+        if (!partitionName.startsWith(tableName + "_")) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(partitionName.substring(tableName.length() + 1), DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 
 }
@@ -0,0 +1,97 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.maintenance;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.maintenance.NotificationPayloadMaintenanceEvent;
+import org.dependencytrack.persistence.jdbi.NotificationPayloadDao;
+import org.jdbi.v3.core.Handle;
+
+import java.time.Duration;
+
+import static net.javacrumbs.shedlock.core.LockAssert.assertLocked;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+import static org.dependencytrack.util.LockProvider.executeWithLock;
+import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
+
+/**
+ * @since 5.6.0
+ */
+public class NotificationPayloadMaintenanceTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(NotificationPayloadMaintenanceTask.class);
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final MaintenanceBatchExecutor batchExecutor;
+    private final Duration retentionDuration;
+
+    public NotificationPayloadMaintenanceTask() {
+        this(DEFAULT_BATCH_SIZE, Duration.parse(Config.getInstance().getProperty(ConfigKey.NOTIFICATION_PAYLOAD_RETENTION_DURATION)));
+    }
+
+    NotificationPayloadMaintenanceTask(final int batchSize, final Duration retentionDuration) {
+        this.batchExecutor = new MaintenanceBatchExecutor(NotificationPayloadMaintenanceTask.class, batchSize);
+        this.retentionDuration = retentionDuration;
+    }
+
+    @Override
+    public void inform(final Event event) {
+        if (!(event instanceof NotificationPayloadMaintenanceEvent)) {
+            return;
+        }
+
+        final long startTimeNs = System.nanoTime();
+        try (final Handle jdbiHandle = openJdbiHandle()) {
+            LOGGER.info("Starting notification payload maintenance");
+            final Statistics statistics = executeWithLock(
+                    getLockConfigForTask(NotificationPayloadMaintenanceTask.class),
+                    () -> informLocked(jdbiHandle));
+            if (statistics == null) {
+                LOGGER.info("Task is locked by another instance; Skipping");
+                return;
+            }
+
+            final var taskDuration = Duration.ofNanos(System.nanoTime() - startTimeNs);
+            LOGGER.info("Completed in %s: %s".formatted(taskDuration, statistics));
+        } catch (Throwable e) {
+            final var taskDuration = Duration.ofNanos(System.nanoTime() - startTimeNs);
+            LOGGER.error("Failed to complete after %s".formatted(taskDuration), e);
+        }
+    }
+
+    private record Statistics(int deletedPayloads) {
+    }
+
+    private Statistics informLocked(final Handle handle) {
+        assertLocked();
+
+        final var payloadDao = handle.attach(NotificationPayloadDao.class);
+
+        // Payloads can be multiple megabytes in size, hence the smaller default batch size.
+        final int payloadsDeleted = batchExecutor.execute("delete_expired",
+                () -> payloadDao.deleteForRetentionDuration(retentionDuration, batchExecutor.batchSize()));
+
+        return new Statistics(payloadsDeleted);
+    }
+
+}
@@ -40,6 +40,17 @@ import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 public class VulnerabilityScanMaintenanceTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(VulnerabilityScanMaintenanceTask.class);
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final MaintenanceBatchExecutor batchExecutor;
+
+    public VulnerabilityScanMaintenanceTask() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    VulnerabilityScanMaintenanceTask(final int batchSize) {
+        this.batchExecutor = new MaintenanceBatchExecutor(VulnerabilityScanMaintenanceTask.class, batchSize);
+    }
 
     @Override
     public void inform(final Event event) {
@@ -78,7 +89,8 @@ public class VulnerabilityScanMaintenanceTask implements Subscriber {
         final Integer retentionHours = configPropertyDao.getValue(MAINTENANCE_VULNERABILITY_SCAN_RETENTION_HOURS, Integer.class);
         final Duration retentionDuration = Duration.ofHours(retentionHours);
 
-        final int scansDeleted = vulnScanDao.deleteAllForRetentionDuration(retentionDuration);
+        final int scansDeleted = batchExecutor.execute("delete_expired",
+                () -> vulnScanDao.deleteForRetentionDuration(retentionDuration, batchExecutor.batchSize()));
 
         return new Statistics(scansDeleted);
     }
@@ -44,6 +44,17 @@ import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 public class WorkflowMaintenanceTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(WorkflowMaintenanceTask.class);
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final MaintenanceBatchExecutor batchExecutor;
+
+    public WorkflowMaintenanceTask() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    WorkflowMaintenanceTask(final int batchSize) {
+        this.batchExecutor = new MaintenanceBatchExecutor(WorkflowMaintenanceTask.class, batchSize);
+    }
 
     @Override
     public void inform(final Event event) {
@@ -91,40 +102,44 @@ public class WorkflowMaintenanceTask implements Subscriber {
         final Integer stepTimeoutMinutes = configPropertyDao.getValue(MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES, Integer.class);
         final Duration stepTimeoutDuration = Duration.ofMinutes(stepTimeoutMinutes);
 
-        final int numStepsTimedOut = workflowDao.transitionAllPendingStepsToTimedOutForTimeout(stepTimeoutDuration);
+        final int numStepsTimedOut = batchExecutor.execute("transition_pending_to_timed_out",
+                () -> workflowDao.transitionPendingStepsToTimedOutForTimeout(stepTimeoutDuration, batchExecutor.batchSize()));
         if (numStepsTimedOut > 0) {
             LOGGER.warn("Transitioned %d workflow step(s) from %s to %s for timeout %s"
                     .formatted(numStepsTimedOut, WorkflowStatus.PENDING, WorkflowStatus.TIMED_OUT, stepTimeoutDuration));
         }
 
         final var failedStepsResult = new Object() {
-            int numStepsFailed = 0;
             int numStepsCancelled = 0;
         };
-        jdbiHandle.useTransaction(ignored -> {
-            final List<Long> failedStepIds = workflowDao.transitionAllTimedOutStepsToFailedForTimeout(stepTimeoutDuration);
-            if (failedStepIds.isEmpty()) {
-                return;
-            }
-
-            failedStepsResult.numStepsFailed = failedStepIds.size();
+        final int numStepsFailed = batchExecutor.execute("transition_timed_out_to_failed",
+                () -> jdbiHandle.inTransaction(ignored -> {
+                    final List<Long> failedStepIds = workflowDao.transitionTimedOutStepsToFailedForTimeout(
+                            stepTimeoutDuration, batchExecutor.batchSize());
+                    if (!failedStepIds.isEmpty()) {
+                        failedStepsResult.numStepsCancelled += Arrays.stream(
+                                workflowDao.cancelAllChildrenByParentStepIdAnyOf(failedStepIds)).sum();
+                    }
+
+                    return failedStepIds.size();
+                }));
+        if (numStepsFailed > 0) {
             LOGGER.warn("Transitioned %d workflow step(s) from %s to %s for timeout %s"
-                    .formatted(failedStepsResult.numStepsFailed, WorkflowStatus.TIMED_OUT, WorkflowStatus.FAILED, stepTimeoutDuration));
-
-            failedStepsResult.numStepsCancelled = Arrays.stream(workflowDao.cancelAllChildrenByParentStepIdAnyOf(failedStepIds)).sum();
-            if (failedStepsResult.numStepsCancelled > 0) {
-                LOGGER.warn("Transitioned %d workflow step(s) to %s because their parent steps transitioned to %s"
-                        .formatted(failedStepsResult.numStepsCancelled, WorkflowStatus.CANCELLED, WorkflowStatus.FAILED));
-            }
-        });
+                    .formatted(numStepsFailed, WorkflowStatus.TIMED_OUT, WorkflowStatus.FAILED, stepTimeoutDuration));
+        }
+        if (failedStepsResult.numStepsCancelled > 0) {
+            LOGGER.warn("Transitioned %d workflow step(s) to %s because their parent steps transitioned to %s"
+                    .formatted(failedStepsResult.numStepsCancelled, WorkflowStatus.CANCELLED, WorkflowStatus.FAILED));
+        }
 
-        final int numWorkflowsDeleted = workflowDao.deleteAllForRetention(retentionDuration);
+        final int numWorkflowsDeleted = batchExecutor.execute("delete_expired",
+                () -> workflowDao.deleteForRetention(retentionDuration, batchExecutor.batchSize()));
 
         return new Statistics(
                 retentionDuration,
                 stepTimeoutDuration,
                 numStepsTimedOut,
-                failedStepsResult.numStepsFailed,
+                numStepsFailed,
                 failedStepsResult.numStepsCancelled,
                 numWorkflowsDeleted);
     }
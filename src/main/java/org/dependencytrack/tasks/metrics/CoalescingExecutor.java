@@ -0,0 +1,138 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import alpine.common.logging.Logger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Coalesces concurrent requests to execute an operation for the same key.
+ * <p>
+ * A request for a key without an execution in progress is executed immediately, by the calling thread.
+ * Requests arriving while an execution for the same key is in progress are not executed by their
+ * calling threads. Instead, they are collected, and handled together in exactly one follow-up execution,
+ * which is performed by the thread that performed the previous execution.
+ * <p>
+ * Callers of coalesced requests may wait for the follow-up execution to complete using the
+ * {@link CompletableFuture} returned by {@link #execute(Object, Object, BiConsumer)}.
+ *
+ * @param <K> Type of the key
+ * @param <R> Type of the requests
+ * @since 5.6.0
+ */
+final class CoalescingExecutor<K, R> {
+
+    private static final Logger LOGGER = Logger.getLogger(CoalescingExecutor.class);
+
+    private record PendingRequest<R>(R request, CompletableFuture<Void> completion) {
+    }
+
+    /**
+     * Requests pending execution, by key. Presence of a key indicates that an execution is in progress.
+     * Values are only ever accessed within atomic {@link ConcurrentHashMap#compute} operations.
+     */
+    private final ConcurrentHashMap<K, List<PendingRequest<R>>> pendingRequestsByKey = new ConcurrentHashMap<>();
+    private final Counter coalescedRequestsCounter;
+
+    CoalescingExecutor(final String name, final MeterRegistry meterRegistry) {
+        this.coalescedRequestsCounter = Counter.builder("coalesced_requests")
+                .description("Number of requests that were coalesced with an execution already in progress")
+                .tag("executor", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Execute an operation for a given key, unless an execution for it is already in progress.
+     * <p>
+     * When the request is executed by the calling thread, this method returns once the execution, and all
+     * follow-up executions it performs, completed. Exceptions thrown by the execution of the request are
+     * propagated to the caller.
+     *
+     * @param key       The key to execute the operation for
+     * @param request   The request to execute the operation for
+     * @param operation The operation to execute, receiving the key and all requests handled by the execution
+     * @return A {@link CompletableFuture} that completes once an execution handling the request completed.
+     * It is already completed when the request was executed by the calling thread, and completes exceptionally
+     * when the execution handling the request failed.
+     */
+    CompletableFuture<Void> execute(final K key, final R request, final BiConsumer<K, List<R>> operation) {
+        final var pendingRequest = new PendingRequest<>(request, new CompletableFuture<>());
+        final var isExecutionInProgress = new boolean[1];
+        pendingRequestsByKey.compute(key, (ignored, pendingRequests) -> {
+            if (pendingRequests == null) {
+                return new ArrayList<>();
+            }
+
+            isExecutionInProgress[0] = true;
+            pendingRequests.add(pendingRequest);
+            return pendingRequests;
+        });
+        if (isExecutionInProgress[0]) {
+            coalescedRequestsCounter.increment();
+            return pendingRequest.completion();
+        }
+
+        List<PendingRequest<R>> requests = List.of(pendingRequest);
+        while (!requests.isEmpty()) {
+            try {
+                operation.accept(key, requests.stream().map(PendingRequest::request).toList());
+            } catch (RuntimeException | Error e) {
+                requests.forEach(executedRequest -> executedRequest.completion().completeExceptionally(e));
+                dropPendingRequests(key, e);
+
+                // Failures of follow-up executions are reported to the callers waiting for them.
+                if (requests.contains(pendingRequest)) {
+                    throw e;
+                }
+                break;
+            }
+            requests.forEach(executedRequest -> executedRequest.completion().complete(null));
+
+            final var nextRequests = new ArrayList<PendingRequest<R>>();
+            pendingRequestsByKey.compute(key, (ignored, pendingRequests) -> {
+                if (pendingRequests == null || pendingRequests.isEmpty()) {
+                    return null;
+                }
+
+                nextRequests.addAll(pendingRequests);
+                return new ArrayList<>();
+            });
+            requests = nextRequests;
+        }
+
+        return pendingRequest.completion();
+    }
+
+    private void dropPendingRequests(final K key, final Throwable cause) {
+        final List<PendingRequest<R>> droppedRequests = pendingRequestsByKey.remove(key);
+        if (droppedRequests != null && !droppedRequests.isEmpty()) {
+            LOGGER.warn("Dropping %d coalesced request(s) for %s due to failed execution"
+                    .formatted(droppedRequests.size(), key));
+            droppedRequests.forEach(droppedRequest -> droppedRequest.completion().completeExceptionally(cause));
+        }
+    }
+
+}
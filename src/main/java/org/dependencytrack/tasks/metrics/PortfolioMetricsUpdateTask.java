@@ -19,29 +19,36 @@
 package org.dependencytrack.tasks.metrics;
 
 import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
 import alpine.common.util.SystemUtil;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import net.javacrumbs.shedlock.core.LockConfiguration;
 import net.javacrumbs.shedlock.core.LockExtender;
 import net.javacrumbs.shedlock.core.LockingTaskExecutor;
 import org.dependencytrack.event.CallbackEvent;
 import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
-import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.TaskCheckpointDao;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+import static org.dependencytrack.metrics.Metrics.updatePortfolioMetrics;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
 import static org.dependencytrack.util.LockProvider.isTaskLockToBeExtended;
 import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
@@ -56,6 +63,18 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
     private static final Logger LOGGER = Logger.getLogger(PortfolioMetricsUpdateTask.class);
     private static final int MAX_CONCURRENCY = SystemUtil.getCpuCores();
     private static final int BATCH_SIZE = MAX_CONCURRENCY * 100;
+    private static final String CHECKPOINT_TASK_NAME = PortfolioMetricsUpdateTask.class.getSimpleName();
+    private static final Duration CHECKPOINT_MAX_AGE = Duration.ofHours(24);
+    private static final AtomicInteger PROJECTS_IN_FLIGHT = new AtomicInteger();
+    private static final Counter PROJECTS_REFRESHED_COUNTER = Counter.builder("portfolio_metrics_projects_refreshed")
+            .description("Number of projects whose metrics were refreshed as part of a portfolio metrics update")
+            .register(Metrics.getRegistry());
+
+    static {
+        Gauge.builder("portfolio_metrics_projects_in_flight", PROJECTS_IN_FLIGHT, AtomicInteger::get)
+                .description("Number of project metrics updates currently in flight as part of a portfolio metrics update")
+                .register(Metrics.getRegistry());
+    }
 
     @Override
     public void inform(final Event e) {
@@ -80,54 +99,75 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
                 refreshProjectMetrics();
             }
 
-            Metrics.updatePortfolioMetrics();
+            updatePortfolioMetrics();
         } finally {
             LOGGER.info("Completed portfolio metrics update in " + Duration.ofNanos(System.nanoTime() - startTimeNs));
         }
     }
 
     private static void refreshProjectMetrics() throws Exception {
+        final LockConfiguration portfolioMetricsTaskConfig = getLockConfigForTask(PortfolioMetricsUpdateTask.class);
+        final Long checkpointCursor = withJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class)
+                .getCursor(CHECKPOINT_TASK_NAME, CHECKPOINT_MAX_AGE)
+                .orElse(null));
+        if (checkpointCursor != null) {
+            LOGGER.info("Resuming project metrics refresh from checkpoint; Skipping projects with ID >= " + checkpointCursor);
+        }
+
+        // Keep at most MAX_CONCURRENCY updates in flight, and dispatch the next one
+        // as soon as any of them completes, instead of waiting for entire batches.
+        final var permits = new Semaphore(MAX_CONCURRENCY);
+        final var inFlightProjectIds = new ConcurrentSkipListSet<Long>();
+
         try (final var qm = new QueryManager()) {
             final PersistenceManager pm = qm.getPersistenceManager();
 
             LOGGER.debug("Fetching first " + BATCH_SIZE + " projects");
-            LockConfiguration portfolioMetricsTaskConfig = getLockConfigForTask(PortfolioMetricsUpdateTask.class);
-            List<ProjectProjection> activeProjects = fetchNextActiveProjectsPage(pm, null);
+            List<ProjectProjection> activeProjects = fetchNextActiveProjectsPage(pm, checkpointCursor);
             long processStartTime = System.currentTimeMillis();
             while (!activeProjects.isEmpty()) {
                 long startTimeOfBatch = System.currentTimeMillis();
-                final long firstId = activeProjects.get(0).id();
                 final long lastId = activeProjects.get(activeProjects.size() - 1).id();
 
-                // Distribute the batch across at most MAX_CONCURRENCY events, and process them asynchronously.
-                final List<List<ProjectProjection>> partitions = partition(activeProjects, MAX_CONCURRENCY);
-                final var countDownLatch = new CountDownLatch(partitions.size());
+                for (final ProjectProjection project : activeProjects) {
+                    permits.acquire();
+                    inFlightProjectIds.add(project.id());
+                    PROJECTS_IN_FLIGHT.incrementAndGet();
 
-                for (final List<ProjectProjection> partition : partitions) {
-                    final var partitionEvent = new CallbackEvent(() -> {
-                        for (final ProjectProjection project : partition) {
-                            new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.uuid()));
+                    final Consumer<Boolean> onCompletion = refreshed -> {
+                        inFlightProjectIds.remove(project.id());
+                        PROJECTS_IN_FLIGHT.decrementAndGet();
+                        if (refreshed) {
+                            PROJECTS_REFRESHED_COUNTER.increment();
                         }
-                    });
-
-                    final var countDownEvent = new CallbackEvent(countDownLatch::countDown);
-                    Event.dispatch(partitionEvent
-                            .onSuccess(countDownEvent)
-                            .onFailure(countDownEvent));
+                        permits.release();
+                    };
+
+                    try {
+                        Event.dispatch(new CallbackEvent(() -> {
+                            boolean refreshed = false;
+                            try {
+                                // NB: Returns only once the update, or the coalesced update
+                                // of a concurrent request for the same project, completed.
+                                new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.uuid()));
+                                refreshed = true;
+                            } finally {
+                                onCompletion.accept(refreshed);
+                            }
+                        }));
+                    } catch (RuntimeException ex) {
+                        onCompletion.accept(false);
+                        throw ex;
+                    }
                 }
 
-                LOGGER.debug("Waiting for metrics updates for projects " + firstId + "-" + lastId + " to complete");
-                if (!countDownLatch.await(15, TimeUnit.MINUTES)) {
-                    // Depending on the system load, it may take a while for the queued events
-                    // to be processed. And depending on how large the projects are, it may take a
-                    // while for the processing of the respective event to complete.
-                    // It is unlikely though that either of these situations causes a block for
-                    // over 15 minutes. If that happens, the system is under-resourced.
-                    LOGGER.warn("Updating metrics for projects " + firstId + "-" + lastId +
-                            " took longer than expected (15m); Proceeding with potentially stale data");
-                }
-                LOGGER.debug("Completed metrics updates for projects " + firstId + "-" + lastId);
-                LOGGER.debug("Fetching next " + BATCH_SIZE + " projects");
+                // Projects are processed in descending order of their IDs. All projects with IDs
+                // greater than the oldest update still in flight are thus known to be completed.
+                final long checkpoint = inFlightProjectIds.isEmpty() ? lastId : inFlightProjectIds.last() + 1;
+                useJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class)
+                        .saveCursor(CHECKPOINT_TASK_NAME, checkpoint));
+
+                LOGGER.debug("Dispatched metrics updates up to project " + lastId + "; Fetching next " + BATCH_SIZE + " projects");
                 long now = System.currentTimeMillis();
                 long processDurationInMillis = now - startTimeOfBatch;
                 long cumulativeDurationInMillis = now - processStartTime;
@@ -143,6 +183,21 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
                 activeProjects = fetchNextActiveProjectsPage(pm, lastId);
             }
         }
+
+        LOGGER.debug("Waiting for remaining metrics updates to complete");
+        if (!permits.tryAcquire(MAX_CONCURRENCY, 15, TimeUnit.MINUTES)) {
+            // Depending on the system load, it may take a while for the queued events
+            // to be processed. And depending on how large the projects are, it may take a
+            // while for the processing of the respective event to complete.
+            // It is unlikely though that either of these situations causes a block for
+            // over 15 minutes. If that happens, the system is under-resourced.
+            // The checkpoint is retained, such that the next run picks up the remaining projects.
+            LOGGER.warn("Updating metrics for projects " + inFlightProjectIds +
+                    " took longer than expected (15m); Proceeding with potentially stale data");
+            return;
+        }
+
+        useJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class).deleteCursor(CHECKPOINT_TASK_NAME));
     }
 
     public record ProjectProjection(long id, UUID uuid) {
@@ -163,24 +218,4 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
         }
     }
 
-    static <T> List<List<T>> partition(final List<T> list, int numPartitions) {
-        if (list == null || list.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        final int listSize = list.size();
-        final var partitions = new ArrayList<List<T>>(numPartitions);
-        int partitionSize = (int) Math.ceil((double) listSize / numPartitions);
-
-        int i = 0, elementsLeft = listSize;
-        while (i < listSize && numPartitions != 0) {
-            partitions.add(list.subList(i, i + partitionSize));
-            i = i + partitionSize;
-            elementsLeft = elementsLeft - partitionSize;
-            partitionSize = (int) Math.ceil((double) elementsLeft / --numPartitions);
-        }
-
-        return partitions;
-    }
-
 }
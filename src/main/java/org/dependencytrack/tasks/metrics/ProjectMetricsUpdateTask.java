@@ -19,10 +19,10 @@
 package org.dependencytrack.tasks.metrics;
 
 import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
-import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.model.WorkflowStep;
@@ -30,9 +30,13 @@ import org.dependencytrack.persistence.QueryManager;
 import org.slf4j.MDC;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
+import static org.dependencytrack.metrics.Metrics.updateProjectMetrics;
 
 /**
  * A {@link Subscriber} task that updates {@link Project} metrics.
@@ -43,19 +47,48 @@ public class ProjectMetricsUpdateTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(ProjectMetricsUpdateTask.class);
 
+    /**
+     * Shared by all instances of this task, such that concurrent updates
+     * for the same project are coalesced, no matter where they originate from.
+     */
+    private static final CoalescingExecutor<UUID, ProjectMetricsUpdateEvent> COALESCING_EXECUTOR =
+            new CoalescingExecutor<>("project_metrics_update", Metrics.getRegistry());
+
     @Override
     public void inform(final Event e) {
         if (e instanceof final ProjectMetricsUpdateEvent event) {
-            try (final var qm = new QueryManager();
-                 var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, event.getUuid().toString())) {
-                final WorkflowState metricsUpdateState = qm.updateStartTimeIfWorkflowStateExists(event.getChainIdentifier(), WorkflowStep.METRICS_UPDATE);
-                try {
-                    updateMetrics(event.getUuid());
+            final CompletableFuture<Void> completion =
+                    COALESCING_EXECUTOR.execute(event.getUuid(), event, ProjectMetricsUpdateTask::updateMetrics);
+            if (!completion.isDone()) {
+                // Callers rely on metrics being up-to-date once this method returns.
+                LOGGER.debug("Metrics update for project %s is already in progress; Waiting for follow-up update"
+                        .formatted(event.getUuid()));
+                completion.join();
+            }
+        }
+    }
+
+    private static void updateMetrics(final UUID projectUuid, final List<ProjectMetricsUpdateEvent> events) {
+        try (final var qm = new QueryManager();
+             var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, projectUuid.toString())) {
+            final var metricsUpdateStates = new ArrayList<WorkflowState>(events.size());
+            for (final ProjectMetricsUpdateEvent event : events) {
+                metricsUpdateStates.add(qm.updateStartTimeIfWorkflowStateExists(event.getChainIdentifier(), WorkflowStep.METRICS_UPDATE));
+            }
+            if (events.size() > 1) {
+                LOGGER.debug("Executing metrics update for %d coalesced requests".formatted(events.size()));
+            }
+
+            try {
+                updateMetrics(projectUuid);
+                for (final WorkflowState metricsUpdateState : metricsUpdateStates) {
                     qm.updateWorkflowStateToComplete(metricsUpdateState);
-                } catch (RuntimeException ex) {
+                }
+            } catch (RuntimeException ex) {
+                for (final WorkflowState metricsUpdateState : metricsUpdateStates) {
                     qm.updateWorkflowStateToFailed(metricsUpdateState, ex.getMessage());
-                    LOGGER.error("An unexpected error occurred while updating metrics", ex);
                 }
+                LOGGER.error("An unexpected error occurred while updating metrics", ex);
             }
         }
     }
@@ -64,7 +97,7 @@ public class ProjectMetricsUpdateTask implements Subscriber {
         LOGGER.debug("Executing metrics update");
         final long startTimeNs = System.nanoTime();
         try {
-            Metrics.updateProjectMetrics(uuid);
+            updateProjectMetrics(uuid);
         } finally {
             LOGGER.debug("Completed metrics update in %s".formatted(Duration.ofNanos(System.nanoTime() - startTimeNs)));
         }
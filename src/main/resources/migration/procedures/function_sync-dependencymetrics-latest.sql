@@ -0,0 +1,129 @@
+CREATE OR REPLACE FUNCTION "SYNC_DEPENDENCYMETRICS_LATEST"()
+  RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+BEGIN
+  -- Keeps "DEPENDENCYMETRICS_LATEST" in sync with the most recent record per component in "DEPENDENCYMETRICS".
+  -- Used for statement-level triggers, with transition tables "NEW_ROWS" (INSERT, UPDATE) and "OLD_ROWS" (DELETE).
+  IF TG_OP = 'DELETE' THEN
+    DELETE
+      FROM "DEPENDENCYMETRICS_LATEST"
+     USING "OLD_ROWS"
+     WHERE "DEPENDENCYMETRICS_LATEST"."COMPONENT_ID" = "OLD_ROWS"."COMPONENT_ID"
+       AND "DEPENDENCYMETRICS_LATEST"."ID" = "OLD_ROWS"."ID";
+
+    -- Fall back to the most recent remaining record of each affected component, if any.
+    -- "DEPENDENCYMETRICS_LATEST" is created LIKE "DEPENDENCYMETRICS", so the columns of both tables line up.
+    INSERT INTO "DEPENDENCYMETRICS_LATEST"
+    SELECT DISTINCT ON ("COMPONENT_ID") *
+      FROM "DEPENDENCYMETRICS"
+     WHERE "COMPONENT_ID" IN (SELECT "COMPONENT_ID" FROM "OLD_ROWS")
+     ORDER BY "COMPONENT_ID", "LAST_OCCURRENCE" DESC
+        ON CONFLICT ("COMPONENT_ID") DO NOTHING;
+
+    RETURN NULL;
+  END IF;
+
+  INSERT INTO "DEPENDENCYMETRICS_LATEST" ("ID",
+                                          "COMPONENT_ID",
+                                          "CRITICAL",
+                                          "FINDINGS_AUDITED",
+                                          "FINDINGS_TOTAL",
+                                          "FINDINGS_UNAUDITED",
+                                          "FIRST_OCCURRENCE",
+                                          "HIGH",
+                                          "RISKSCORE",
+                                          "LAST_OCCURRENCE",
+                                          "LOW",
+                                          "MEDIUM",
+                                          "POLICYVIOLATIONS_AUDITED",
+                                          "POLICYVIOLATIONS_FAIL",
+                                          "POLICYVIOLATIONS_INFO",
+                                          "POLICYVIOLATIONS_LICENSE_AUDITED",
+                                          "POLICYVIOLATIONS_LICENSE_TOTAL",
+                                          "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+                                          "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+                                          "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+                                          "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+                                          "POLICYVIOLATIONS_SECURITY_AUDITED",
+                                          "POLICYVIOLATIONS_SECURITY_TOTAL",
+                                          "POLICYVIOLATIONS_SECURITY_UNAUDITED",
+                                          "POLICYVIOLATIONS_TOTAL",
+                                          "POLICYVIOLATIONS_UNAUDITED",
+                                          "POLICYVIOLATIONS_WARN",
+                                          "SUPPRESSED",
+                                          "UNASSIGNED_SEVERITY",
+                                          "VULNERABILITIES",
+                                          "PROJECT_ID")
+  SELECT DISTINCT ON ("COMPONENT_ID")
+         "ID"
+       , "COMPONENT_ID"
+       , "CRITICAL"
+       , "FINDINGS_AUDITED"
+       , "FINDINGS_TOTAL"
+       , "FINDINGS_UNAUDITED"
+       , "FIRST_OCCURRENCE"
+       , "HIGH"
+       , "RISKSCORE"
+       , "LAST_OCCURRENCE"
+       , "LOW"
+       , "MEDIUM"
+       , "POLICYVIOLATIONS_AUDITED"
+       , "POLICYVIOLATIONS_FAIL"
+       , "POLICYVIOLATIONS_INFO"
+       , "POLICYVIOLATIONS_LICENSE_AUDITED"
+       , "POLICYVIOLATIONS_LICENSE_TOTAL"
+       , "POLICYVIOLATIONS_LICENSE_UNAUDITED"
+       , "POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+       , "POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+       , "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+       , "POLICYVIOLATIONS_SECURITY_AUDITED"
+       , "POLICYVIOLATIONS_SECURITY_TOTAL"
+       , "POLICYVIOLATIONS_SECURITY_UNAUDITED"
+       , "POLICYVIOLATIONS_TOTAL"
+       , "POLICYVIOLATIONS_UNAUDITED"
+       , "POLICYVIOLATIONS_WARN"
+       , "SUPPRESSED"
+       , "UNASSIGNED_SEVERITY"
+       , "VULNERABILITIES"
+       , "PROJECT_ID"
+    FROM "NEW_ROWS"
+   ORDER BY "COMPONENT_ID", "LAST_OCCURRENCE" DESC
+  ON CONFLICT ("COMPONENT_ID") DO UPDATE
+     SET "ID" = EXCLUDED."ID"
+       , "CRITICAL" = EXCLUDED."CRITICAL"
+       , "FINDINGS_AUDITED" = EXCLUDED."FINDINGS_AUDITED"
+       , "FINDINGS_TOTAL" = EXCLUDED."FINDINGS_TOTAL"
+       , "FINDINGS_UNAUDITED" = EXCLUDED."FINDINGS_UNAUDITED"
+       , "FIRST_OCCURRENCE" = EXCLUDED."FIRST_OCCURRENCE"
+       , "HIGH" = EXCLUDED."HIGH"
+       , "RISKSCORE" = EXCLUDED."RISKSCORE"
+       , "LAST_OCCURRENCE" = EXCLUDED."LAST_OCCURRENCE"
+       , "LOW" = EXCLUDED."LOW"
+       , "MEDIUM" = EXCLUDED."MEDIUM"
+       , "POLICYVIOLATIONS_AUDITED" = EXCLUDED."POLICYVIOLATIONS_AUDITED"
+       , "POLICYVIOLATIONS_FAIL" = EXCLUDED."POLICYVIOLATIONS_FAIL"
+       , "POLICYVIOLATIONS_INFO" = EXCLUDED."POLICYVIOLATIONS_INFO"
+       , "POLICYVIOLATIONS_LICENSE_AUDITED" = EXCLUDED."POLICYVIOLATIONS_LICENSE_AUDITED"
+       , "POLICYVIOLATIONS_LICENSE_TOTAL" = EXCLUDED."POLICYVIOLATIONS_LICENSE_TOTAL"
+       , "POLICYVIOLATIONS_LICENSE_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_LICENSE_UNAUDITED"
+       , "POLICYVIOLATIONS_OPERATIONAL_AUDITED" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+       , "POLICYVIOLATIONS_OPERATIONAL_TOTAL" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+       , "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+       , "POLICYVIOLATIONS_SECURITY_AUDITED" = EXCLUDED."POLICYVIOLATIONS_SECURITY_AUDITED"
+       , "POLICYVIOLATIONS_SECURITY_TOTAL" = EXCLUDED."POLICYVIOLATIONS_SECURITY_TOTAL"
+       , "POLICYVIOLATIONS_SECURITY_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_SECURITY_UNAUDITED"
+       , "POLICYVIOLATIONS_TOTAL" = EXCLUDED."POLICYVIOLATIONS_TOTAL"
+       , "POLICYVIOLATIONS_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_UNAUDITED"
+       , "POLICYVIOLATIONS_WARN" = EXCLUDED."POLICYVIOLATIONS_WARN"
+       , "SUPPRESSED" = EXCLUDED."SUPPRESSED"
+       , "UNASSIGNED_SEVERITY" = EXCLUDED."UNASSIGNED_SEVERITY"
+       , "VULNERABILITIES" = EXCLUDED."VULNERABILITIES"
+       , "PROJECT_ID" = EXCLUDED."PROJECT_ID"
+   WHERE "DEPENDENCYMETRICS_LATEST"."ID" = EXCLUDED."ID"
+      OR "DEPENDENCYMETRICS_LATEST"."LAST_OCCURRENCE" <= EXCLUDED."LAST_OCCURRENCE";
+
+  RETURN NULL;
+END;
+$$;
\ No newline at end of file
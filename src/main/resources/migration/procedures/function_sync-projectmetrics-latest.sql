@@ -0,0 +1,132 @@
+CREATE OR REPLACE FUNCTION "SYNC_PROJECTMETRICS_LATEST"()
+  RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+BEGIN
+  -- Keeps "PROJECTMETRICS_LATEST" in sync with the most recent record per project in "PROJECTMETRICS".
+  -- Used for statement-level triggers, with transition tables "NEW_ROWS" (INSERT, UPDATE) and "OLD_ROWS" (DELETE).
+  IF TG_OP = 'DELETE' THEN
+    DELETE
+      FROM "PROJECTMETRICS_LATEST"
+     USING "OLD_ROWS"
+     WHERE "PROJECTMETRICS_LATEST"."PROJECT_ID" = "OLD_ROWS"."PROJECT_ID"
+       AND "PROJECTMETRICS_LATEST"."ID" = "OLD_ROWS"."ID";
+
+    -- Fall back to the most recent remaining record of each affected project, if any.
+    -- "PROJECTMETRICS_LATEST" is created LIKE "PROJECTMETRICS", so the columns of both tables line up.
+    INSERT INTO "PROJECTMETRICS_LATEST"
+    SELECT DISTINCT ON ("PROJECT_ID") *
+      FROM "PROJECTMETRICS"
+     WHERE "PROJECT_ID" IN (SELECT "PROJECT_ID" FROM "OLD_ROWS")
+     ORDER BY "PROJECT_ID", "LAST_OCCURRENCE" DESC
+        ON CONFLICT ("PROJECT_ID") DO NOTHING;
+
+    RETURN NULL;
+  END IF;
+
+  INSERT INTO "PROJECTMETRICS_LATEST" ("ID",
+                                       "COMPONENTS",
+                                       "CRITICAL",
+                                       "FINDINGS_AUDITED",
+                                       "FINDINGS_TOTAL",
+                                       "FINDINGS_UNAUDITED",
+                                       "FIRST_OCCURRENCE",
+                                       "HIGH",
+                                       "RISKSCORE",
+                                       "LAST_OCCURRENCE",
+                                       "LOW",
+                                       "MEDIUM",
+                                       "POLICYVIOLATIONS_AUDITED",
+                                       "POLICYVIOLATIONS_FAIL",
+                                       "POLICYVIOLATIONS_INFO",
+                                       "POLICYVIOLATIONS_LICENSE_AUDITED",
+                                       "POLICYVIOLATIONS_LICENSE_TOTAL",
+                                       "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+                                       "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+                                       "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+                                       "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+                                       "POLICYVIOLATIONS_SECURITY_AUDITED",
+                                       "POLICYVIOLATIONS_SECURITY_TOTAL",
+                                       "POLICYVIOLATIONS_SECURITY_UNAUDITED",
+                                       "POLICYVIOLATIONS_TOTAL",
+                                       "POLICYVIOLATIONS_UNAUDITED",
+                                       "POLICYVIOLATIONS_WARN",
+                                       "SUPPRESSED",
+                                       "UNASSIGNED_SEVERITY",
+                                       "VULNERABILITIES",
+                                       "PROJECT_ID",
+                                       "VULNERABLECOMPONENTS")
+  SELECT DISTINCT ON ("PROJECT_ID")
+         "ID"
+       , "COMPONENTS"
+       , "CRITICAL"
+       , "FINDINGS_AUDITED"
+       , "FINDINGS_TOTAL"
+       , "FINDINGS_UNAUDITED"
+       , "FIRST_OCCURRENCE"
+       , "HIGH"
+       , "RISKSCORE"
+       , "LAST_OCCURRENCE"
+       , "LOW"
+       , "MEDIUM"
+       , "POLICYVIOLATIONS_AUDITED"
+       , "POLICYVIOLATIONS_FAIL"
+       , "POLICYVIOLATIONS_INFO"
+       , "POLICYVIOLATIONS_LICENSE_AUDITED"
+       , "POLICYVIOLATIONS_LICENSE_TOTAL"
+       , "POLICYVIOLATIONS_LICENSE_UNAUDITED"
+       , "POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+       , "POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+       , "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+       , "POLICYVIOLATIONS_SECURITY_AUDITED"
+       , "POLICYVIOLATIONS_SECURITY_TOTAL"
+       , "POLICYVIOLATIONS_SECURITY_UNAUDITED"
+       , "POLICYVIOLATIONS_TOTAL"
+       , "POLICYVIOLATIONS_UNAUDITED"
+       , "POLICYVIOLATIONS_WARN"
+       , "SUPPRESSED"
+       , "UNASSIGNED_SEVERITY"
+       , "VULNERABILITIES"
+       , "PROJECT_ID"
+       , "VULNERABLECOMPONENTS"
+    FROM "NEW_ROWS"
+   ORDER BY "PROJECT_ID", "LAST_OCCURRENCE" DESC
+  ON CONFLICT ("PROJECT_ID") DO UPDATE
+     SET "ID" = EXCLUDED."ID"
+       , "COMPONENTS" = EXCLUDED."COMPONENTS"
+       , "CRITICAL" = EXCLUDED."CRITICAL"
+       , "FINDINGS_AUDITED" = EXCLUDED."FINDINGS_AUDITED"
+       , "FINDINGS_TOTAL" = EXCLUDED."FINDINGS_TOTAL"
+       , "FINDINGS_UNAUDITED" = EXCLUDED."FINDINGS_UNAUDITED"
+       , "FIRST_OCCURRENCE" = EXCLUDED."FIRST_OCCURRENCE"
+       , "HIGH" = EXCLUDED."HIGH"
+       , "RISKSCORE" = EXCLUDED."RISKSCORE"
+       , "LAST_OCCURRENCE" = EXCLUDED."LAST_OCCURRENCE"
+       , "LOW" = EXCLUDED."LOW"
+       , "MEDIUM" = EXCLUDED."MEDIUM"
+       , "POLICYVIOLATIONS_AUDITED" = EXCLUDED."POLICYVIOLATIONS_AUDITED"
+       , "POLICYVIOLATIONS_FAIL" = EXCLUDED."POLICYVIOLATIONS_FAIL"
+       , "POLICYVIOLATIONS_INFO" = EXCLUDED."POLICYVIOLATIONS_INFO"
+       , "POLICYVIOLATIONS_LICENSE_AUDITED" = EXCLUDED."POLICYVIOLATIONS_LICENSE_AUDITED"
+       , "POLICYVIOLATIONS_LICENSE_TOTAL" = EXCLUDED."POLICYVIOLATIONS_LICENSE_TOTAL"
+       , "POLICYVIOLATIONS_LICENSE_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_LICENSE_UNAUDITED"
+       , "POLICYVIOLATIONS_OPERATIONAL_AUDITED" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+       , "POLICYVIOLATIONS_OPERATIONAL_TOTAL" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+       , "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+       , "POLICYVIOLATIONS_SECURITY_AUDITED" = EXCLUDED."POLICYVIOLATIONS_SECURITY_AUDITED"
+       , "POLICYVIOLATIONS_SECURITY_TOTAL" = EXCLUDED."POLICYVIOLATIONS_SECURITY_TOTAL"
+       , "POLICYVIOLATIONS_SECURITY_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_SECURITY_UNAUDITED"
+       , "POLICYVIOLATIONS_TOTAL" = EXCLUDED."POLICYVIOLATIONS_TOTAL"
+       , "POLICYVIOLATIONS_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_UNAUDITED"
+       , "POLICYVIOLATIONS_WARN" = EXCLUDED."POLICYVIOLATIONS_WARN"
+       , "SUPPRESSED" = EXCLUDED."SUPPRESSED"
+       , "UNASSIGNED_SEVERITY" = EXCLUDED."UNASSIGNED_SEVERITY"
+       , "VULNERABILITIES" = EXCLUDED."VULNERABILITIES"
+       , "VULNERABLECOMPONENTS" = EXCLUDED."VULNERABLECOMPONENTS"
+   WHERE "PROJECTMETRICS_LATEST"."ID" = EXCLUDED."ID"
+      OR "PROJECTMETRICS_LATEST"."LAST_OCCURRENCE" <= EXCLUDED."LAST_OCCURRENCE";
+
+  RETURN NULL;
+END;
+$$;
\ No newline at end of file
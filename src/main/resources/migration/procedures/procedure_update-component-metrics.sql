@@ -37,6 +37,7 @@ DECLARE
   "v_policy_violations_security_audited"      INT     := 0; -- Number of audited policy violations of type security
   "v_policy_violations_security_unaudited"    INT     := 0; -- Number of unaudited policy violations of type security
   "v_existing_id"                             BIGINT; -- ID of the existing row that matches the data point calculated in this procedure
+  "v_existing_last_occurrence"                TIMESTAMPTZ; -- Last occurrence of the existing row, used for partition pruning
 BEGIN
   SELECT "ID", "PROJECT_ID" INTO "v_component" FROM "COMPONENT" WHERE "UUID" = "component_uuid";
   IF "v_component" IS NULL THEN
@@ -202,15 +203,11 @@ BEGIN
     + "v_policy_violations_security_audited";
   "v_policy_violations_unaudited" = "v_policy_violations_total" - "v_policy_violations_audited";
 
-  WITH "CTE_LATEST_METRICS" AS (
-    SELECT *
-      FROM "DEPENDENCYMETRICS"
-     WHERE "COMPONENT_ID" = "v_component"."ID"
-     ORDER BY "LAST_OCCURRENCE" DESC
-     LIMIT 1)
-  SELECT "ID"
-  FROM "CTE_LATEST_METRICS"
-  WHERE "VULNERABILITIES" = "v_vulnerabilities"
+  -- "DEPENDENCYMETRICS_LATEST" is kept in sync with "DEPENDENCYMETRICS" by triggers.
+  SELECT "ID", "LAST_OCCURRENCE"
+  FROM "DEPENDENCYMETRICS_LATEST"
+  WHERE "COMPONENT_ID" = "v_component"."ID"
+    AND "VULNERABILITIES" = "v_vulnerabilities"
     AND "CRITICAL" = "v_critical"
     AND "HIGH" = "v_high"
     AND "MEDIUM" = "v_medium"
@@ -237,11 +234,17 @@ BEGIN
     AND "POLICYVIOLATIONS_SECURITY_AUDITED" = "v_policy_violations_security_audited"
     AND "POLICYVIOLATIONS_SECURITY_UNAUDITED" = "v_policy_violations_security_unaudited"
   LIMIT 1
-  INTO "v_existing_id";
+  INTO "v_existing_id", "v_existing_last_occurrence";
 
   IF "v_existing_id" IS NOT NULL THEN
-    UPDATE "DEPENDENCYMETRICS" SET "LAST_OCCURRENCE" = NOW() WHERE "ID" = "v_existing_id";
-  ELSE
+    UPDATE "DEPENDENCYMETRICS"
+       SET "LAST_OCCURRENCE" = NOW()
+     WHERE "ID" = "v_existing_id"
+       AND "LAST_OCCURRENCE" = "v_existing_last_occurrence";
+  END IF;
+
+  -- The existing row may have been removed from the history already, due to retention.
+  IF "v_existing_id" IS NULL OR NOT FOUND THEN
     INSERT INTO "DEPENDENCYMETRICS" ("COMPONENT_ID",
                                      "PROJECT_ID",
                                      "VULNERABILITIES",
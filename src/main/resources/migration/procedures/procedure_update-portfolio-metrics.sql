@@ -35,7 +35,7 @@ DECLARE
   "v_policy_violations_security_unaudited"    INT; -- Number of unaudited policy violations of type security
   "v_existing_id"                             BIGINT; -- ID of the existing row that matches the data point calculated in this procedure
 BEGIN
-  -- Aggregate over all most recent DEPENDENCYMETRICS.
+  -- Aggregate over the most recent PROJECTMETRICS of all active projects.
   -- NOTE: SUM returns NULL when no rows match the query, but COUNT returns 0.
   -- For nullable result columns, use COALESCE(..., 0) to have a default value.
   SELECT COUNT(*)::INT,
@@ -67,12 +67,10 @@ BEGIN
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_TOTAL")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_AUDITED")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_UNAUDITED")::INT, 0)
-  FROM (SELECT DISTINCT ON ("PM"."PROJECT_ID") *
-        FROM "PROJECTMETRICS" AS "PM"
-               INNER JOIN "PROJECT" AS "P" ON "P"."ID" = "PM"."PROJECT_ID"
-        WHERE "P"."ACTIVE" = TRUE  -- Only consider active projects
-          OR "P"."ACTIVE" IS NULL -- ACTIVE is nullable, assume TRUE per default
-        ORDER BY "PM"."PROJECT_ID", "PM"."LAST_OCCURRENCE" DESC) AS "LATEST_PROJECT_METRICS"
+  FROM "PROJECTMETRICS_LATEST" AS "PM"
+         INNER JOIN "PROJECT" AS "P" ON "P"."ID" = "PM"."PROJECT_ID"
+  WHERE "P"."ACTIVE" = TRUE  -- Only consider active projects
+    OR "P"."ACTIVE" IS NULL -- ACTIVE is nullable, assume TRUE per default
   INTO
     "v_projects",
     "v_vulnerable_projects",
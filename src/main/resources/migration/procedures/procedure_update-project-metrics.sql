@@ -36,6 +36,7 @@ DECLARE
   "v_policy_violations_security_audited"      INT; -- Number of audited policy violations of type security
   "v_policy_violations_security_unaudited"    INT; -- Number of unaudited policy violations of type security
   "v_existing_id"                             BIGINT; -- ID of the existing row that matches the data point calculated in this procedure
+  "v_existing_last_occurrence"                TIMESTAMPTZ; -- Last occurrence of the existing row, used for partition pruning
 BEGIN
   SELECT "ID" FROM "PROJECT" WHERE "UUID" = "project_uuid" INTO "v_project_id";
   IF "v_project_id" IS NULL THEN
@@ -47,7 +48,7 @@ BEGIN
     CALL "UPDATE_COMPONENT_METRICS"("v_component_uuid");
   END LOOP;
 
-  -- Aggregate over all most recent DEPENDENCYMETRICS.
+  -- Aggregate over the most recent DEPENDENCYMETRICS of all components.
   -- NOTE: SUM returns NULL when no rows match the query, but COUNT returns 0.
   -- For nullable result columns, use COALESCE(..., 0) to have a default value.
   SELECT COUNT(*)::INT,
@@ -77,10 +78,8 @@ BEGIN
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_TOTAL")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_AUDITED")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_UNAUDITED")::INT, 0)
-  FROM (SELECT DISTINCT ON ("DM"."COMPONENT_ID") *
-        FROM "DEPENDENCYMETRICS" AS "DM"
-        WHERE "PROJECT_ID" = "v_project_id"
-        ORDER BY "DM"."COMPONENT_ID", "DM"."LAST_OCCURRENCE" DESC) AS "LATEST_COMPONENT_METRICS"
+  FROM "DEPENDENCYMETRICS_LATEST"
+  WHERE "PROJECT_ID" = "v_project_id"
   INTO
     "v_components",
     "v_vulnerable_components",
@@ -112,15 +111,11 @@ BEGIN
 
   "v_risk_score" = "CALC_RISK_SCORE"("v_critical", "v_high", "v_medium", "v_low", "v_unassigned");
 
-  WITH "CTE_LATEST_METRICS" AS (
-    SELECT *
-      FROM "PROJECTMETRICS"
-     WHERE "PROJECT_ID" = "v_project_id"
-     ORDER BY "LAST_OCCURRENCE" DESC
-     LIMIT 1)
-  SELECT "ID"
-  FROM "CTE_LATEST_METRICS"
-  WHERE "COMPONENTS" = "v_components"
+  -- "PROJECTMETRICS_LATEST" is kept in sync with "PROJECTMETRICS" by triggers.
+  SELECT "ID", "LAST_OCCURRENCE"
+  FROM "PROJECTMETRICS_LATEST"
+  WHERE "PROJECT_ID" = "v_project_id"
+    AND "COMPONENTS" = "v_components"
     AND "VULNERABLECOMPONENTS" = "v_vulnerable_components"
     AND "VULNERABILITIES" = "v_vulnerabilities"
     AND "CRITICAL" = "v_critical"
@@ -149,11 +144,17 @@ BEGIN
     AND "POLICYVIOLATIONS_SECURITY_AUDITED" = "v_policy_violations_security_audited"
     AND "POLICYVIOLATIONS_SECURITY_UNAUDITED" = "v_policy_violations_security_unaudited"
   LIMIT 1
-  INTO "v_existing_id";
+  INTO "v_existing_id", "v_existing_last_occurrence";
 
   IF "v_existing_id" IS NOT NULL THEN
-    UPDATE "PROJECTMETRICS" SET "LAST_OCCURRENCE" = NOW() WHERE "ID" = "v_existing_id";
-  ELSE
+    UPDATE "PROJECTMETRICS"
+       SET "LAST_OCCURRENCE" = NOW()
+     WHERE "ID" = "v_existing_id"
+       AND "LAST_OCCURRENCE" = "v_existing_last_occurrence";
+  END IF;
+
+  -- The existing row may have been removed from the history already, due to retention.
+  IF "v_existing_id" IS NULL OR NOT FOUND THEN
     INSERT INTO "PROJECTMETRICS" ("PROJECT_ID",
                                   "COMPONENTS",
                                   "VULNERABLECOMPONENTS",
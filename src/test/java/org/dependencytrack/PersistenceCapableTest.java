@@ -24,6 +24,8 @@ import org.apache.kafka.clients.producer.MockProducer;
 import org.datanucleus.PropertyNames;
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.dependencytrack.event.kafka.KafkaProducerInitializer;
+import org.dependencytrack.persistence.ComponentLookupCache;
+import org.dependencytrack.persistence.LicenseIndex;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.plugin.PluginManagerTestUtil;
 import org.junit.After;
@@ -54,6 +56,8 @@ public abstract class PersistenceCapableTest {
     @Before
     public void before() throws Exception {
         truncateTables(postgresContainer);
+        ComponentLookupCache.getInstance().invalidateAll();
+        LicenseIndex.getInstance().invalidate();
         configurePmf(postgresContainer);
 
         qm = new QueryManager();
@@ -27,6 +27,8 @@ import org.apache.kafka.clients.producer.MockProducer;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.kafka.KafkaProducerInitializer;
 import org.dependencytrack.model.ConfigPropertyConstants;
+import org.dependencytrack.persistence.ComponentLookupCache;
+import org.dependencytrack.persistence.LicenseIndex;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.plugin.PluginManagerTestUtil;
 import org.junit.After;
@@ -115,6 +117,8 @@ public abstract class ResourceTest {
     @Before
     public void before() throws Exception {
         truncateTables(postgresContainer);
+        ComponentLookupCache.getInstance().invalidateAll();
+        LicenseIndex.getInstance().invalidate();
         configurePmf(postgresContainer);
 
         // Add a test user and team with API key. Optional if this is used, but its available to all tests.
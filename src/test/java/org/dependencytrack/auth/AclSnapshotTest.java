@@ -0,0 +1,113 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.auth;
+
+import alpine.model.ManagedUser;
+import alpine.model.Permission;
+import alpine.model.Team;
+import org.dependencytrack.PersistenceCapableTest;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class AclSnapshotTest extends PersistenceCapableTest {
+
+    @After
+    @Override
+    public void after() {
+        AclSnapshot.exitRequestScope();
+        super.after();
+    }
+
+    @Test
+    public void testLoad() throws Exception {
+        qm.createConfigProperty(
+                ACCESS_MANAGEMENT_ACL_ENABLED.getGroupName(),
+                ACCESS_MANAGEMENT_ACL_ENABLED.getPropertyName(),
+                "true",
+                ACCESS_MANAGEMENT_ACL_ENABLED.getPropertyType(),
+                ACCESS_MANAGEMENT_ACL_ENABLED.getDescription()
+        );
+
+        final Permission viewPortfolioPermission = qm.createPermission(
+                Permissions.VIEW_PORTFOLIO.name(),
+                Permissions.VIEW_PORTFOLIO.getDescription()
+        );
+        final Permission bomUploadPermission = qm.createPermission(
+                Permissions.BOM_UPLOAD.name(),
+                Permissions.BOM_UPLOAD.getDescription()
+        );
+
+        final Team team = qm.createTeam("team", false);
+        team.setPermissions(List.of(viewPortfolioPermission));
+        qm.persist(team);
+
+        final ManagedUser managedUser = qm.createManagedUser("username", "passwordHash");
+        managedUser.setPermissions(List.of(bomUploadPermission));
+        qm.persist(managedUser);
+        qm.addUserToTeam(managedUser, team);
+
+        final AclSnapshot aclSnapshot = withJdbiHandle(handle -> AclSnapshot.load(managedUser, handle.getConnection()));
+        assertThat(aclSnapshot.aclEnabled()).isTrue();
+        assertThat(aclSnapshot.permissions()).containsExactlyInAnyOrder(
+                Permissions.VIEW_PORTFOLIO.name(), Permissions.BOM_UPLOAD.name());
+        assertThat(aclSnapshot.teamIds()).containsOnly(team.getId());
+        assertThat(aclSnapshot.isProjectAccessRestricted()).isTrue();
+    }
+
+    @Test
+    public void testIsProjectAccessRestricted() {
+        assertThat(new AclSnapshot(false, Set.of(), Set.of()).isProjectAccessRestricted()).isFalse();
+        assertThat(new AclSnapshot(true, Set.of(), Set.of()).isProjectAccessRestricted()).isTrue();
+        assertThat(new AclSnapshot(true, Set.of(Permissions.Constants.ACCESS_MANAGEMENT), Set.of()).isProjectAccessRestricted()).isFalse();
+    }
+
+    @Test
+    public void testOfWithinRequestScope() throws Exception {
+        final ManagedUser managedUser = qm.createManagedUser("username", "passwordHash");
+        final ManagedUser otherManagedUser = qm.createManagedUser("other-username", "passwordHash");
+
+        final var loadCount = new AtomicInteger();
+        final AclSnapshot.Loader loader = principal -> {
+            loadCount.incrementAndGet();
+            return new AclSnapshot(true, Set.of(), Set.of());
+        };
+
+        AclSnapshot.enterRequestScope(managedUser);
+        assertThat(AclSnapshot.of(managedUser, loader)).isSameAs(AclSnapshot.of(managedUser, loader));
+        assertThat(loadCount).hasValue(1);
+
+        // Snapshots of principals other than the one of the request are not cached.
+        AclSnapshot.of(otherManagedUser, loader);
+        AclSnapshot.of(otherManagedUser, loader);
+        assertThat(loadCount).hasValue(3);
+
+        AclSnapshot.exitRequestScope();
+        AclSnapshot.of(managedUser, loader);
+        assertThat(loadCount).hasValue(4);
+    }
+
+}
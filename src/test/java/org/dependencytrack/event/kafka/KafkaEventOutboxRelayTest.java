@@ -0,0 +1,148 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
+import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
+import org.dependencytrack.model.VulnerabilityAnalysisLevel;
+import org.dependencytrack.persistence.jdbi.KafkaOutboxDao;
+import org.dependencytrack.proto.repometaanalysis.v1.FetchMeta;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class KafkaEventOutboxRelayTest extends PersistenceCapableTest {
+
+    @Test
+    public void testRelayBatch() {
+        useJdbiTransaction(handle -> KafkaEventOutbox.enqueueAllEvents(handle, List.of(
+                new ComponentRepositoryMetaAnalysisEvent(UUID.randomUUID(),
+                        "pkg:maven/foo/bar@1.2.3", /* internal */ false, FetchMeta.FETCH_META_LATEST_VERSION),
+                new ComponentVulnerabilityAnalysisEvent(UUID.randomUUID(), UUID.randomUUID(),
+                        "pkg:maven/foo/baz@1.2.3", "cpe", "swidTagId", /* internal */ false,
+                        VulnerabilityAnalysisLevel.BOM_UPLOAD_ANALYSIS, /* isNew */ true),
+                new ComponentRepositoryMetaAnalysisEvent(UUID.randomUUID(),
+                        "pkg:maven/foo/qux@1.2.3", /* internal */ false, FetchMeta.FETCH_META_LATEST_VERSION))));
+
+        final var relay = new KafkaEventOutboxRelay(kafkaMockProducer, 2);
+        assertThat(relay.relayBatch()).isEqualTo(2);
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(relay.relayBatch()).isZero();
+
+        // Records of the same transaction must be relayed in the order in which they were written.
+        assertThat(kafkaMockProducer.history()).satisfiesExactly(
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.REPO_META_ANALYSIS_COMMAND.name());
+                    assertThat(record.key()).asString().isEqualTo("pkg:maven/foo/bar@1.2.3");
+                    assertThat(record.value()).isNotNull();
+                    assertThat(record.headers()).isEmpty();
+                },
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_COMMAND.name());
+                    assertThat(record.key()).isNotNull();
+                    assertThat(record.value()).isNotNull();
+                    assertThat(record.headers()).satisfiesExactlyInAnyOrder(
+                            header -> {
+                                assertThat(header.key()).isEqualTo(KafkaEventHeaders.VULN_ANALYSIS_LEVEL);
+                                assertThat(header.value()).asString().isEqualTo("BOM_UPLOAD_ANALYSIS");
+                            },
+                            header -> {
+                                assertThat(header.key()).isEqualTo(KafkaEventHeaders.IS_NEW_COMPONENT);
+                                assertThat(header.value()).asString().isEqualTo("true");
+                            }
+                    );
+                },
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.REPO_META_ANALYSIS_COMMAND.name());
+                    assertThat(record.key()).asString().isEqualTo("pkg:maven/foo/qux@1.2.3");
+                });
+
+        assertThat(withJdbiHandle(handle -> handle.attach(KafkaOutboxDao.class).getNext(10))).isEmpty();
+    }
+
+    @Test
+    public void testRelayBatchWithSendFailure() {
+        useJdbiTransaction(handle -> KafkaEventOutbox.enqueueAllEvents(handle, List.of(
+                new ComponentRepositoryMetaAnalysisEvent(UUID.randomUUID(),
+                        "pkg:maven/foo/bar@1.2.3", /* internal */ false, FetchMeta.FETCH_META_LATEST_VERSION))));
+
+        final var failingProducer = new MockProducer<>(false, new ByteArraySerializer(), new ByteArraySerializer());
+        CompletableFuture.runAsync(() -> {
+            await("Record sent")
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> !failingProducer.history().isEmpty());
+            failingProducer.errorNext(new IllegalStateException("Boom"));
+        });
+
+        final var relay = new KafkaEventOutboxRelay(failingProducer, 10);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(relay::relayBatch)
+                .withMessage("Failed to relay records to Kafka");
+
+        // Records that were not acknowledged must remain in the outbox.
+        assertThat(withJdbiHandle(handle -> handle.attach(KafkaOutboxDao.class).getNext(10))).hasSize(1);
+
+        assertThat(new KafkaEventOutboxRelay(kafkaMockProducer, 10).relayBatch()).isEqualTo(1);
+        assertThat(kafkaMockProducer.history()).hasSize(1);
+    }
+
+    @Test
+    public void testRelayBatchWhenLocked() {
+        useJdbiTransaction(handle -> KafkaEventOutbox.enqueueAllEvents(handle, List.of(
+                new ComponentRepositoryMetaAnalysisEvent(UUID.randomUUID(),
+                        "pkg:maven/foo/bar@1.2.3", /* internal */ false, FetchMeta.FETCH_META_LATEST_VERSION))));
+
+        final var relay = new KafkaEventOutboxRelay(kafkaMockProducer, 10);
+
+        useJdbiHandle(handle -> {
+            final var dao = handle.attach(KafkaOutboxDao.class);
+            assertThat(dao.tryAcquireRelayLock()).isTrue();
+            try {
+                // Another instance is currently relaying.
+                assertThat(relay.relayBatch()).isZero();
+            } finally {
+                dao.releaseRelayLock();
+            }
+        });
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(kafkaMockProducer.history()).hasSize(1);
+
+        // The lock must have been released after relaying.
+        useJdbiHandle(handle -> {
+            final var dao = handle.attach(KafkaOutboxDao.class);
+            assertThat(dao.tryAcquireRelayLock()).isTrue();
+            assertThat(dao.releaseRelayLock()).isTrue();
+        });
+    }
+
+}
@@ -19,8 +19,6 @@
 package org.dependencytrack.event.kafka.processor;
 
 import alpine.event.framework.Event;
-import alpine.event.framework.EventService;
-import alpine.event.framework.Subscriber;
 import org.dependencytrack.event.ComponentMetricsUpdateEvent;
 import org.dependencytrack.event.ComponentPolicyEvaluationEvent;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
@@ -68,21 +66,20 @@ import static org.dependencytrack.util.KafkaTestUtil.deserializeValue;
 
 public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProcessorTest {
 
+    private VulnerabilityScanCompletionExecutor completionExecutor;
+
     @Before
     @Override
     public void before() throws Exception {
         super.before();
 
-        EventService.getInstance().subscribe(ComponentMetricsUpdateEvent.class, EventSubscriber.class);
-        EventService.getInstance().subscribe(ProjectMetricsUpdateEvent.class, EventSubscriber.class);
-        EventService.getInstance().subscribe(ComponentPolicyEvaluationEvent.class, EventSubscriber.class);
-        EventService.getInstance().subscribe(ProjectPolicyEvaluationEvent.class, EventSubscriber.class);
+        completionExecutor = new VulnerabilityScanCompletionExecutor(1, 10, EVENTS::add);
     }
 
     @After
     @Override
     public void after() {
-        EventService.getInstance().unsubscribe(EventSubscriber.class);
+        completionExecutor.close();
         EVENTS.clear();
 
         super.after();
@@ -126,7 +123,7 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
                     .build());
         }
 
-        final var processor = new ProcessedVulnerabilityScanResultProcessor();
+        final var processor = new ProcessedVulnerabilityScanResultProcessor(completionExecutor);
         processor.process(scanResults.stream().map(result -> aConsumerRecord(vulnScan.getToken().toString(), result).build()).toList());
 
         qm.getPersistenceManager().refresh(vulnScan);
@@ -198,7 +195,7 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
         // or when all scanners are disabled.
         final var scanResult = ScanResult.newBuilder().build();
 
-        final var processor = new ProcessedVulnerabilityScanResultProcessor();
+        final var processor = new ProcessedVulnerabilityScanResultProcessor(completionExecutor);
         processor.process(List.of(aConsumerRecord(vulnScan.getToken().toString(), scanResult).build()));
 
         qm.getPersistenceManager().refresh(vulnScan);
@@ -260,6 +257,65 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
                 ));
     }
 
+    @Test
+    public void testProcessAcrossMultipleBatches() throws Exception {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final UUID workflowToken = UUID.randomUUID();
+        qm.createWorkflowSteps(workflowToken);
+
+        final var vulnScan = new VulnerabilityScan();
+        vulnScan.setToken(workflowToken);
+        vulnScan.setTargetType(VulnerabilityScan.TargetType.PROJECT);
+        vulnScan.setTargetIdentifier(project.getUuid());
+        vulnScan.setStatus(VulnerabilityScan.Status.IN_PROGRESS);
+        vulnScan.setExpectedResults(3);
+        vulnScan.setStartedAt(new Date());
+        vulnScan.setUpdatedAt(vulnScan.getStartedAt());
+        qm.persist(vulnScan);
+
+        final var scanResult = ScanResult.newBuilder()
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_INTERNAL)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL))
+                .build();
+
+        final var processor = new ProcessedVulnerabilityScanResultProcessor(completionExecutor);
+        processor.process(List.of(
+                aConsumerRecord(vulnScan.getToken().toString(), scanResult).build(),
+                aConsumerRecord(vulnScan.getToken().toString(), scanResult).build()));
+
+        // Results are only counted, the scan itself must not be modified until it completes.
+        qm.getPersistenceManager().refresh(vulnScan);
+        assertThat(vulnScan.getStatus()).isEqualTo(VulnerabilityScan.Status.IN_PROGRESS);
+        assertThat(vulnScan.getReceivedResults()).isZero();
+        assertThat(getCounterCount(workflowToken)).isEqualTo(1);
+        assertThat(kafkaMockProducer.history()).isEmpty();
+
+        // Results for unknown scans must be ignored.
+        processor.process(List.of(
+                aConsumerRecord(vulnScan.getToken().toString(), scanResult).build(),
+                aConsumerRecord(UUID.randomUUID().toString(), scanResult).build()));
+
+        qm.getPersistenceManager().refresh(vulnScan);
+        assertThat(vulnScan.getStatus()).isEqualTo(VulnerabilityScan.Status.COMPLETED);
+        assertThat(vulnScan.getReceivedResults()).isEqualTo(3);
+        assertThat(vulnScan.getScanTotal()).isEqualTo(3);
+        assertThat(vulnScan.getScanFailed()).isZero();
+        assertThat(getCounterCount(workflowToken)).isZero();
+        assertThat(kafkaMockProducer.history()).satisfiesExactly(record ->
+                assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_PROJECT_VULN_ANALYSIS_COMPLETE.name()));
+
+        // Results received after completion must not modify the scan anymore.
+        processor.process(List.of(aConsumerRecord(vulnScan.getToken().toString(), scanResult).build()));
+
+        qm.getPersistenceManager().refresh(vulnScan);
+        assertThat(vulnScan.getReceivedResults()).isEqualTo(3);
+        assertThat(getCounterCount(workflowToken)).isZero();
+    }
+
     @Test
     public void testProcessWithDelayedBomProcessedNotification() throws Exception {
         final var project = new Project();
@@ -291,7 +347,7 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
         // or when all scanners are disabled.
         final var scanResult = ScanResult.newBuilder().build();
 
-        final var processor = new ProcessedVulnerabilityScanResultProcessor(/* shouldDispatchBomProcessedNotification */ true);
+        final var processor = new ProcessedVulnerabilityScanResultProcessor(completionExecutor, /* shouldDispatchBomProcessedNotification */ true);
         processor.process(List.of(aConsumerRecord(vulnScan.getToken().toString(), scanResult).build()));
 
         assertThat(kafkaMockProducer.history()).satisfiesExactly(
@@ -354,7 +410,7 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
                         .setStatus(SCAN_STATUS_FAILED))
                 .build();
 
-        final var processor = new ProcessedVulnerabilityScanResultProcessor(/* shouldDispatchBomProcessedNotification */ true);
+        final var processor = new ProcessedVulnerabilityScanResultProcessor(completionExecutor, /* shouldDispatchBomProcessedNotification */ true);
         processor.process(List.of(aConsumerRecord(vulnScan.getToken().toString(), scanResult).build()));
 
         assertThat(kafkaMockProducer.history()).satisfiesExactly(
@@ -408,7 +464,7 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
         // or when all scanners are disabled.
         final var scanResult = ScanResult.newBuilder().build();
 
-        final var processor = new ProcessedVulnerabilityScanResultProcessor(/* shouldDispatchBomProcessedNotification */ true);
+        final var processor = new ProcessedVulnerabilityScanResultProcessor(completionExecutor, /* shouldDispatchBomProcessedNotification */ true);
         processor.process(List.of(aConsumerRecord(vulnScan.getToken().toString(), scanResult).build()));
 
         assertThat(kafkaMockProducer.history()).satisfiesExactly(record ->
@@ -460,7 +516,7 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
                         .setStatus(SCAN_STATUS_SUCCESSFUL))
                 .build();
 
-        final var processor = new ProcessedVulnerabilityScanResultProcessor(/* shouldDispatchBomProcessedNotification */ true);
+        final var processor = new ProcessedVulnerabilityScanResultProcessor(completionExecutor, /* shouldDispatchBomProcessedNotification */ true);
         processor.process(List.of(aConsumerRecord(vulnScan.getToken().toString(), scanResult).build()));
 
         qm.getPersistenceManager().refreshAll(vulnScan, workflowState);
@@ -487,15 +543,17 @@ public class ProcessedVulnerabilityScanResultProcessorTest extends AbstractProce
                 ));
     }
 
-    private static final ConcurrentLinkedQueue<Event> EVENTS = new ConcurrentLinkedQueue<>();
-
-    public static class EventSubscriber implements Subscriber {
-
-        @Override
-        public void inform(final Event event) {
-            EVENTS.add(event);
-        }
-
+    private static int getCounterCount(final UUID token) {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(*)
+                          FROM "VULNERABILITYSCAN_COUNTER"
+                         WHERE "TOKEN" = :token
+                        """)
+                .bind("token", token)
+                .mapTo(Integer.class)
+                .one());
     }
 
+    private static final ConcurrentLinkedQueue<Event> EVENTS = new ConcurrentLinkedQueue<>();
+
 }
\ No newline at end of file
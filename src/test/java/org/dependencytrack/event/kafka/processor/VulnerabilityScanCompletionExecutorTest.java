@@ -0,0 +1,143 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor;
+
+import alpine.event.framework.ChainableEvent;
+import alpine.event.framework.Event;
+import org.dependencytrack.event.ComponentMetricsUpdateEvent;
+import org.dependencytrack.event.ComponentPolicyEvaluationEvent;
+import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
+import org.dependencytrack.model.VulnerabilityScan;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class VulnerabilityScanCompletionExecutorTest {
+
+    @Test
+    public void testExecuteAll() {
+        final var events = new ConcurrentLinkedQueue<Event>();
+
+        final UUID projectUuid = UUID.randomUUID();
+        final UUID componentUuid = UUID.randomUUID();
+        final VulnerabilityScan projectScanA = vulnScan(VulnerabilityScan.TargetType.PROJECT, projectUuid, VulnerabilityScan.Status.COMPLETED);
+        final VulnerabilityScan componentScan = vulnScan(VulnerabilityScan.TargetType.COMPONENT, componentUuid, VulnerabilityScan.Status.COMPLETED);
+        final VulnerabilityScan projectScanB = vulnScan(VulnerabilityScan.TargetType.PROJECT, projectUuid, VulnerabilityScan.Status.COMPLETED);
+        final VulnerabilityScan failedScan = vulnScan(VulnerabilityScan.TargetType.PROJECT, UUID.randomUUID(), VulnerabilityScan.Status.FAILED);
+
+        try (final var executor = new VulnerabilityScanCompletionExecutor(2, 10, events::add)) {
+            // Scans of the same target are grouped into a single unit, failed scans are ignored.
+            assertThat(executor.executeAll(List.of(projectScanA, componentScan, projectScanB, failedScan))).isEqualTo(2);
+
+            await("Event execution")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(events).hasSize(6));
+        }
+
+        // Work for the same target is executed in order of completion.
+        assertThat(events.stream().filter(event -> event instanceof ProjectPolicyEvaluationEvent
+                        || event instanceof ProjectMetricsUpdateEvent)
+                .map(ChainableEvent.class::cast)
+                .map(ChainableEvent::getChainIdentifier))
+                .containsExactly(projectScanA.getToken(), projectScanA.getToken(), projectScanB.getToken(), projectScanB.getToken());
+        assertThat(events.stream().filter(event -> event instanceof ComponentPolicyEvaluationEvent
+                        || event instanceof ComponentMetricsUpdateEvent))
+                .satisfiesExactly(
+                        event -> assertThat(event).isInstanceOf(ComponentPolicyEvaluationEvent.class),
+                        event -> assertThat(event).isInstanceOf(ComponentMetricsUpdateEvent.class));
+    }
+
+    @Test
+    public void testExecuteAllWithPolicyEvaluationFailure() {
+        final var events = new ConcurrentLinkedQueue<Event>();
+
+        try (final var executor = new VulnerabilityScanCompletionExecutor(1, 10, event -> {
+            if (event instanceof ProjectPolicyEvaluationEvent) {
+                throw new IllegalStateException();
+            }
+
+            events.add(event);
+        })) {
+            executor.executeAll(List.of(vulnScan(VulnerabilityScan.TargetType.PROJECT, UUID.randomUUID(), VulnerabilityScan.Status.COMPLETED)));
+
+            // Metrics must be updated even if policy evaluation failed.
+            await("Event execution")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(events).satisfiesExactly(
+                            event -> assertThat(event).isInstanceOf(ProjectMetricsUpdateEvent.class)));
+        }
+    }
+
+    @Test
+    public void testExecuteAllWithFullQueue() throws Exception {
+        final var events = new ConcurrentLinkedQueue<Event>();
+        final var unblockLatch = new CountDownLatch(1);
+
+        try (final var executor = new VulnerabilityScanCompletionExecutor(1, 1, event -> {
+            try {
+                unblockLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            events.add(event);
+        })) {
+            // The first unit is picked up by the lane, and blocks it. The second unit fills the queue.
+            assertThat(executor.executeAll(List.of(
+                    vulnScan(VulnerabilityScan.TargetType.PROJECT, UUID.randomUUID(), VulnerabilityScan.Status.COMPLETED),
+                    vulnScan(VulnerabilityScan.TargetType.PROJECT, UUID.randomUUID(), VulnerabilityScan.Status.COMPLETED)))).isEqualTo(2);
+
+            // The third unit must wait for queue capacity to become available.
+            final CompletableFuture<Integer> executeFuture = CompletableFuture.supplyAsync(() -> executor.executeAll(List.of(
+                    vulnScan(VulnerabilityScan.TargetType.PROJECT, UUID.randomUUID(), VulnerabilityScan.Status.COMPLETED))));
+            await("Back-pressure")
+                    .during(Duration.ofMillis(250))
+                    .atMost(Duration.ofSeconds(1))
+                    .until(() -> !executeFuture.isDone());
+
+            unblockLatch.countDown();
+            assertThat(executeFuture.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+
+            await("Event execution")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(events).hasSize(6));
+        }
+    }
+
+    private static VulnerabilityScan vulnScan(final VulnerabilityScan.TargetType targetType, final UUID targetUuid,
+                                              final VulnerabilityScan.Status status) {
+        final var vulnScan = new VulnerabilityScan();
+        vulnScan.setToken(UUID.randomUUID());
+        vulnScan.setTargetType(targetType);
+        vulnScan.setTargetIdentifier(targetUuid);
+        vulnScan.setStatus(status);
+        return vulnScan;
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import io.confluent.parallelconsumer.PCRetriableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ProcessorMetricsTest {
+
+    private static final Instant NOW = Instant.ofEpochMilli(1_700_000_000_000L);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessorMetrics metrics;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        final var lagMetricName = new MetricName("records-lag", "consumer-fetch-manager-metrics", "",
+                Map.of("client-id", "foo-consumer", "topic", "input", "partition", "1"));
+        final Map<MetricName, Metric> consumerMetrics = Map.of(lagMetricName, new Metric() {
+            @Override
+            public MetricName metricName() {
+                return lagMetricName;
+            }
+
+            @Override
+            public Object metricValue() {
+                return 42.0;
+            }
+        });
+
+        metrics = new ProcessorMetrics(meterRegistry, "foo", "input",
+                () -> consumerMetrics, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testSingleRecordProcessing() {
+        final var strategy = new SingleRecordProcessingStrategy<String, String>(
+                record -> {
+                }, Serdes.String(), Serdes.String(), metrics);
+
+        strategy.processRecords(List.of(createRecord(1, NOW.minusSeconds(5))));
+        strategy.processRecords(List.of(createRecord(1, NOW.minusSeconds(15))));
+
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_RECORDS)
+                .tags("processor", "foo", "topic", "input", "outcome", "processed")
+                .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_RECORDS_IN_FLIGHT)
+                .tags("processor", "foo", "topic", "input")
+                .gauge().value()).isZero();
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_PROCESSING)
+                .tags("processor", "foo", "topic", "input")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_BATCH_SIZE)
+                .tags("processor", "foo", "topic", "input")
+                .summary().max()).isEqualTo(1);
+
+        final var endToEndLatencyTimer = meterRegistry.get(ProcessorMetrics.METER_END_TO_END_LATENCY)
+                .tags("processor", "foo", "topic", "input")
+                .timer();
+        assertThat(endToEndLatencyTimer.count()).isEqualTo(2);
+        assertThat(endToEndLatencyTimer.totalTime(TimeUnit.SECONDS)).isEqualTo(20);
+        assertThat(endToEndLatencyTimer.max(TimeUnit.SECONDS)).isEqualTo(15);
+
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_CONSUMER_LAG)
+                .tags("processor", "foo", "topic", "input", "partition", "1")
+                .gauge().value()).isEqualTo(42.0);
+    }
+
+    @Test
+    public void testSingleRecordProcessingWithRetry() {
+        final var attempts = new AtomicInteger(0);
+        final var strategy = new SingleRecordProcessingStrategy<String, String>(
+                record -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new RuntimeException(new TimeoutException());
+                    }
+                }, Serdes.String(), Serdes.String(), metrics);
+
+        final ConsumerRecord<byte[], byte[]> record = createRecord(0, NOW.minusSeconds(3));
+        assertThatExceptionOfType(PCRetriableException.class)
+                .isThrownBy(() -> strategy.processRecords(List.of(record)));
+        strategy.processRecords(List.of(record));
+
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_RETRIES)
+                .tags("processor", "foo", "topic", "input")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_RECORDS)
+                .tags("processor", "foo", "topic", "input", "outcome", "processed")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_PROCESSING)
+                .tags("processor", "foo", "topic", "input")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_END_TO_END_LATENCY)
+                .tags("processor", "foo", "topic", "input")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_RECORDS_IN_FLIGHT)
+                .tags("processor", "foo", "topic", "input")
+                .gauge().value()).isZero();
+    }
+
+    @Test
+    public void testSingleRecordProcessingWithNonRetryableException() {
+        final var strategy = new SingleRecordProcessingStrategy<String, String>(
+                record -> {
+                    throw new IllegalStateException();
+                }, Serdes.String(), Serdes.String(), metrics);
+
+        strategy.processRecords(List.of(createRecord(0, NOW)));
+
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_RECORDS)
+                .tags("processor", "foo", "topic", "input", "outcome", "skipped")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_RETRIES)
+                .tags("processor", "foo", "topic", "input")
+                .counter().count()).isZero();
+    }
+
+    @Test
+    public void testBatchProcessing() {
+        final var strategy = new BatchProcessingStrategy<String, String>(
+                records -> {
+                }, Serdes.String(), Serdes.String(), metrics);
+
+        strategy.processRecords(List.of(
+                createRecord(0, NOW.minusSeconds(1)),
+                createRecord(1, NOW.minusSeconds(2)),
+                createRecord(2, NOW.minusSeconds(3))));
+
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_RECORDS)
+                .tags("processor", "foo", "topic", "input", "outcome", "processed")
+                .counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_PROCESSING)
+                .tags("processor", "foo", "topic", "input")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_BATCH_SIZE)
+                .tags("processor", "foo", "topic", "input")
+                .summary().max()).isEqualTo(3);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_END_TO_END_LATENCY)
+                .tags("processor", "foo", "topic", "input")
+                .timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_CONSUMER_LAG)
+                .tags("processor", "foo", "topic", "input")
+                .gauges()).hasSize(3);
+
+        // No lag reported by the consumer for partitions other than 1.
+        assertThat(meterRegistry.get(ProcessorMetrics.METER_CONSUMER_LAG)
+                .tags("processor", "foo", "topic", "input", "partition", "0")
+                .gauge().value()).isNaN();
+    }
+
+    @Test
+    public void testClose() {
+        final var strategy = new BatchProcessingStrategy<String, String>(
+                records -> {
+                }, Serdes.String(), Serdes.String(), metrics);
+        strategy.processRecords(List.of(createRecord(0, NOW), createRecord(1, NOW)));
+        assertThat(meterRegistry.find(ProcessorMetrics.METER_CONSUMER_LAG).gauges()).hasSize(2);
+
+        metrics.close();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+
+        // Records processed after closing must not re-register lag gauges.
+        strategy.processRecords(List.of(createRecord(2, NOW)));
+        assertThat(meterRegistry.find(ProcessorMetrics.METER_CONSUMER_LAG).gauges()).isEmpty();
+    }
+
+    private static ConsumerRecord<byte[], byte[]> createRecord(final int partition, final Instant timestamp) {
+        return new ConsumerRecord<>("input", partition, /* offset */ 0,
+                timestamp.toEpochMilli(), TimestampType.CREATE_TIME,
+                /* serializedKeySize */ -1, /* serializedValueSize */ -1,
+                "foo".getBytes(StandardCharsets.UTF_8), "bar".getBytes(StandardCharsets.UTF_8),
+                new RecordHeaders(), /* leaderEpoch */ Optional.empty());
+    }
+
+}
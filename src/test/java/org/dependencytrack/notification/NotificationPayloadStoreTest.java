@@ -0,0 +1,60 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.notification;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.notification.vo.PayloadReference;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationPayloadStoreTest extends PersistenceCapableTest {
+
+    @Test
+    public void testStoreIfExceedsThreshold() {
+        final var store = new NotificationPayloadStore(5);
+        final byte[] payload = "foobar".getBytes(StandardCharsets.UTF_8);
+
+        final PayloadReference reference = store.storeIfExceedsThreshold(payload);
+        assertThat(reference).isNotNull();
+        assertThat(reference.sha256()).isEqualTo(DigestUtils.sha256Hex(payload));
+        assertThat(reference.size()).isEqualTo(6);
+        assertThat(store.get(reference)).hasValueSatisfying(content -> assertThat(content).isEqualTo(payload));
+
+        // Storing the same payload again must yield the same reference.
+        assertThat(store.storeIfExceedsThreshold(payload)).isEqualTo(reference);
+    }
+
+    @Test
+    public void testStoreIfExceedsThresholdWithSmallPayload() {
+        final var store = new NotificationPayloadStore(6);
+        assertThat(store.storeIfExceedsThreshold("foobar".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(store.storeIfExceedsThreshold(null)).isNull();
+    }
+
+    @Test
+    public void testGetWithUnknownReference() {
+        final var store = new NotificationPayloadStore(0);
+        assertThat(store.get(new PayloadReference(DigestUtils.sha256Hex("foo"), 3))).isEmpty();
+    }
+
+}
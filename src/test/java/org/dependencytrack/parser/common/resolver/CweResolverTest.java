@@ -18,6 +18,8 @@
  */
 package org.dependencytrack.parser.common.resolver;
 
+import alpine.persistence.PaginatedResult;
+import alpine.persistence.Pagination;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.model.Cwe;
 import org.junit.Assert;
@@ -57,4 +59,25 @@ public class CweResolverTest extends PersistenceCapableTest {
         Cwe cwe = CweResolver.getInstance().lookup("CWE-A");
         Assert.assertNull(cwe);
     }
+
+    @Test
+    public void testParseCweString() {
+        Assert.assertEquals(Integer.valueOf(264), CweResolver.getInstance().parseCweString("  CWE-264  "));
+        Assert.assertEquals(Integer.valueOf(264), CweResolver.getInstance().parseCweString("CWE-264 Permissions, Privileges, and Access Controls"));
+        Assert.assertNull(CweResolver.getInstance().parseCweString("CWE-"));
+        Assert.assertNull(CweResolver.getInstance().parseCweString("CWE-99999999999 Overflow"));
+        Assert.assertNull(CweResolver.getInstance().parseCweString("12345"));
+        Assert.assertNull(CweResolver.getInstance().parseCweString(" "));
+        Assert.assertNull(CweResolver.getInstance().parseCweString(null));
+    }
+
+    @Test
+    public void testAllWithPagination() {
+        final PaginatedResult result = CweResolver.getInstance().all(new Pagination(Pagination.Strategy.OFFSET, 1, 2));
+        Assert.assertEquals(1426, result.getTotal());
+        Assert.assertEquals(2, result.getObjects().size());
+        Assert.assertEquals(2, ((Cwe) result.getObjects().get(0)).getCweId());
+        Assert.assertEquals(3, ((Cwe) result.getObjects().get(1)).getCweId());
+    }
+
 }
@@ -224,6 +224,12 @@ public class CycloneDxValidatorTest {
         assertThatNoException().isThrownBy(() -> validator.validate(bomBytes));
     }
 
+    @Test
+    @Parameters(method = "testValidateWithValidBomParameters")
+    public void testValidateWithValidBomFile(final Path bomFilePath) {
+        assertThatNoException().isThrownBy(() -> validator.validate(bomFilePath));
+    }
+
     @Test // https://github.com/DependencyTrack/dependency-track/issues/3831
     public void testValidateJsonWithUrlContainingEncodedBrackets() {
         assertThatNoException()
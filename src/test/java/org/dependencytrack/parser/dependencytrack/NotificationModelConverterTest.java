@@ -37,6 +37,7 @@ import org.dependencytrack.notification.vo.BomProcessingFailed;
 import org.dependencytrack.notification.vo.BomValidationFailed;
 import org.dependencytrack.notification.vo.NewVulnerabilityIdentified;
 import org.dependencytrack.notification.vo.NewVulnerableDependency;
+import org.dependencytrack.notification.vo.PayloadReference;
 import org.dependencytrack.notification.vo.PolicyViolationIdentified;
 import org.dependencytrack.notification.vo.VexConsumedOrProcessed;
 import org.dependencytrack.notification.vo.ViolationAnalysisDecisionChange;
@@ -516,6 +517,32 @@ public class NotificationModelConverterTest extends PersistenceCapableTest {
         assertThat(subject.getSpecVersion()).isEqualTo("1.4");
     }
 
+    @Test
+    public void testConvertVexConsumedNotificationWithVexReference() throws Exception {
+        final org.dependencytrack.model.Project project = createProject();
+
+        final var alpineNotification = new alpine.notification.Notification();
+        alpineNotification.setScope(NotificationScope.PORTFOLIO.name());
+        alpineNotification.setLevel(NotificationLevel.INFORMATIONAL);
+        alpineNotification.setGroup(NotificationGroup.VEX_CONSUMED.name());
+        alpineNotification.setTitle("Foo");
+        alpineNotification.setContent("Bar");
+        alpineNotification.setSubject(new VexConsumedOrProcessed(project, null,
+                new PayloadReference("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", 666), Vex.Format.CYCLONEDX, "1.4"));
+
+        final Notification notification = NotificationModelConverter.convert(alpineNotification);
+        assertThat(notification.getSubject().is(VexConsumedOrProcessedSubject.class)).isTrue();
+
+        final var subject = notification.getSubject().unpack(VexConsumedOrProcessedSubject.class);
+        assertProject(subject.getProject());
+        assertThat(subject.getVex().isEmpty()).isTrue();
+        assertThat(subject.hasVexReference()).isTrue();
+        assertThat(subject.getVexReference().getSha256()).isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+        assertThat(subject.getVexReference().getSize()).isEqualTo(666);
+        assertThat(subject.getFormat()).isEqualTo("CycloneDX");
+        assertThat(subject.getSpecVersion()).isEqualTo("1.4");
+    }
+
     @Test
     public void testConvertPolicyViolationNotification() throws Exception {
         final org.dependencytrack.model.Project project = createProject();
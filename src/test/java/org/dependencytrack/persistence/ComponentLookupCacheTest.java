@@ -0,0 +1,150 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.persistence.PaginatedResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.dependencytrack.auth.AclSnapshot;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.persistence.ComponentLookupCache.Key;
+import org.dependencytrack.persistence.ComponentLookupCache.LookupType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ComponentLookupCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ComponentLookupCache cache;
+    private AtomicInteger loadCount;
+    private List<Long> resolvableComponentIds;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ComponentLookupCache(100, Duration.ofMinutes(1), meterRegistry);
+        loadCount = new AtomicInteger();
+        resolvableComponentIds = new ArrayList<>(List.of(1L, 2L));
+    }
+
+    @Test
+    public void testGet() {
+        final Key key = hashKey("da39a3ee5e6b4b0d3255bfef95601890afd80709", null);
+
+        final PaginatedResult loadedResult = get(key);
+        assertThat(loadedResult.getList(Component.class)).extracting(Component::getId).containsExactly(2L, 1L);
+
+        // Cached results are resolved again, such that component instances are never shared.
+        final PaginatedResult cachedResult = get(key);
+        assertThat(cachedResult.getList(Component.class)).extracting(Component::getId).containsExactly(2L, 1L);
+        assertThat(cachedResult.getList(Component.class)).doesNotContainAnyElementsOf(loadedResult.getList(Component.class));
+        assertThat(get(key).getTotal()).isEqualTo(2);
+        assertThat(loadCount).hasValue(1);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "component_lookup").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "component_lookup").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetWithUnresolvableComponents() {
+        final Key key = hashKey("foo", null);
+        get(key);
+
+        // Components that were deleted, or became inaccessible, since the result was cached are omitted.
+        resolvableComponentIds.remove(2L);
+        assertThat(get(key).getList(Component.class)).extracting(Component::getId).containsExactly(1L);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    public void testGetWithDifferentAcl() {
+        final var unrestricted = new AclSnapshot(false, Set.of(), Set.of());
+        final var restrictedToTeamA = new AclSnapshot(true, Set.of(), Set.of(1L));
+        final var restrictedToTeamB = new AclSnapshot(true, Set.of(), Set.of(2L));
+
+        get(hashKey("foo", unrestricted));
+        get(hashKey("foo", restrictedToTeamA));
+        get(hashKey("foo", restrictedToTeamB));
+        assertThat(loadCount).hasValue(3);
+
+        // Principals with equal access share cache entries.
+        get(hashKey("foo", null));
+        get(hashKey("foo", new AclSnapshot(true, Set.of(), Set.of(1L))));
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        final Key key = hashKey("foo", null);
+
+        get(key);
+        cache.invalidateAll();
+        get(key);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    public void testInvalidateAllDuringLoad() {
+        final Key key = hashKey("foo", null);
+
+        // Results loaded before an invalidation must not be served after it.
+        cache.get(key, () -> {
+            cache.invalidateAll();
+            return load();
+        }, this::resolve);
+        get(key);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private PaginatedResult get(final Key key) {
+        return cache.get(key, this::load, this::resolve);
+    }
+
+    private PaginatedResult load() {
+        loadCount.incrementAndGet();
+        return new PaginatedResult().objects(List.of(component(2), component(1))).total(2);
+    }
+
+    private List<Component> resolve(final List<Long> componentIds) {
+        return componentIds.stream()
+                .filter(resolvableComponentIds::contains)
+                .map(ComponentLookupCacheTest::component)
+                .toList();
+    }
+
+    private static Component component(final long id) {
+        final var component = new Component();
+        component.setId(id);
+        return component;
+    }
+
+    private static Key hashKey(final String hash, final AclSnapshot aclSnapshot) {
+        return Key.of(LookupType.HASH, List.of(hash), null, aclSnapshot, null);
+    }
+
+}
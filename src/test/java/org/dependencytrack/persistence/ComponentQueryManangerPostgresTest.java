@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.DependencyGraphTestUtil.createDependencyEdges;
 
 public class ComponentQueryManangerPostgresTest extends PersistenceCapableTest {
 
@@ -122,6 +123,7 @@ public class ComponentQueryManangerPostgresTest extends PersistenceCapableTest {
             }
         }
         project.setDirectDependencies("[" + String.join(",", directDepencencies.toArray(new String[0])) + "]");
+        createDependencyEdges(project);
         return project;
     }
 
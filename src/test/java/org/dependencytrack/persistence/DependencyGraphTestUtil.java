@@ -0,0 +1,67 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+
+public final class DependencyGraphTestUtil {
+
+    private DependencyGraphTestUtil() {
+    }
+
+    /**
+     * (Re-)Create the {@code COMPONENT_DEPENDENCY} edges of a {@link Project} from the
+     * {@code DIRECT_DEPENDENCIES} of the project and its components.
+     * <p>
+     * Outside of tests, edges are created during BOM processing. Tests however
+     * usually construct dependency graphs by assigning {@code DIRECT_DEPENDENCIES} directly.
+     *
+     * @param project The {@link Project} to create edges for
+     */
+    public static void createDependencyEdges(final Project project) {
+        useJdbiHandle(handle -> {
+            handle.attach(DependencyGraphDao.class).deleteDependencies(project.getId());
+            handle.createUpdate(/* language=SQL */ """
+                        INSERT INTO "COMPONENT_DEPENDENCY" ("PROJECT_ID", "PARENT_ID", "CHILD_ID")
+                        SELECT DISTINCT "CHILD"."PROJECT_ID", "PARENT"."ID", "CHILD"."ID"
+                          FROM (
+                            SELECT NULL::BIGINT AS "ID", "DIRECT_DEPENDENCIES"
+                              FROM "PROJECT"
+                             WHERE "ID" = :projectId
+                             UNION ALL
+                            SELECT "ID", "DIRECT_DEPENDENCIES"
+                              FROM "COMPONENT"
+                             WHERE "PROJECT_ID" = :projectId
+                          ) AS "PARENT"
+                         CROSS JOIN LATERAL JSONB_ARRAY_ELEMENTS(
+                             CASE WHEN JSONB_TYPEOF("PARENT"."DIRECT_DEPENDENCIES") = 'array' THEN "PARENT"."DIRECT_DEPENDENCIES" END
+                           ) AS "DEP"
+                         INNER JOIN "COMPONENT" AS "CHILD"
+                            ON "CHILD"."PROJECT_ID" = :projectId
+                           AND "CHILD"."UUID" = ("DEP"->>'uuid')::UUID
+                        """)
+                    .bind("projectId", project.getId())
+                    .execute();
+        });
+    }
+
+}
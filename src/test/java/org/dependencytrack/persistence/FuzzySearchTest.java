@@ -0,0 +1,167 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.resources.AlpineRequest;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.dependencytrack.persistence.jdbi.ProjectDao.ConciseProjectListRow;
+import org.jdbi.v3.core.Handle;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * Ensures that substring searches are served by trigram indexes, rather than table scans.
+ * <p>
+ * Tables are seeded with enough records for the query planner to prefer index scans.
+ * Scans are counted using the per-transaction statistics of PostgreSQL.
+ */
+public class FuzzySearchTest extends PersistenceCapableTest {
+
+    private static final int NUM_RECORDS = 10_000;
+
+    @Before
+    @Override
+    public void before() throws Exception {
+        super.before();
+
+        useJdbiHandle(handle -> {
+            handle.createUpdate("""
+                            INSERT INTO "PROJECT" ("NAME", "UUID")
+                            SELECT 'acme-app-' || LPAD(i::TEXT, 5, '0')
+                                 , MD5('project-' || i)::UUID
+                              FROM GENERATE_SERIES(1, :numRecords) AS i
+                            """)
+                    .bind("numRecords", NUM_RECORDS)
+                    .execute();
+            handle.createUpdate("""
+                            INSERT INTO "COMPONENT" ("GROUP", "NAME", "PROJECT_ID", "UUID")
+                            SELECT 'com.acme'
+                                 , 'acme-lib-' || LPAD(i::TEXT, 5, '0')
+                                 , (SELECT MIN("ID") FROM "PROJECT")
+                                 , MD5('component-' || i)::UUID
+                              FROM GENERATE_SERIES(1, :numRecords) AS i
+                            """)
+                    .bind("numRecords", NUM_RECORDS)
+                    .execute();
+            handle.createUpdate("""
+                            INSERT INTO "VULNERABILITY" ("VULNID", "SOURCE", "UUID")
+                            SELECT 'INT-' || LPAD(i::TEXT, 5, '0')
+                                 , 'INTERNAL'
+                                 , MD5('vulnerability-' || i)::UUID
+                              FROM GENERATE_SERIES(1, :numRecords) AS i
+                            """)
+                    .bind("numRecords", NUM_RECORDS)
+                    .execute();
+            handle.execute("""
+                    ANALYZE "PROJECT", "COMPONENT", "VULNERABILITY"
+                    """);
+        });
+    }
+
+    @Test
+    public void testProjectSearch() {
+        try (final var qm = new QueryManager(requestWithFilter("ACME-APP-04242"))) {
+            qm.runInTransaction(() -> {
+                final List<Project> projects = qm.getProjects(false, false, false, null).getList(Project.class);
+                assertThat(projects).extracting(Project::getName).containsExactly("acme-app-04242");
+                assertThatScansAreIndexOnly(qm, "PROJECT");
+            });
+        }
+    }
+
+    @Test
+    public void testConciseProjectSearch() {
+        final List<ConciseProjectListRow> rows = inJdbiTransaction(requestWithFilter("ACME-APP-04242"), handle -> {
+            final List<ConciseProjectListRow> result = handle.attach(ProjectDao.class)
+                    .getPageConcise(null, null, null, null, null, null, null, false);
+            assertThatScansAreIndexOnly(getScanCounts(handle, "PROJECT"));
+            return result;
+        });
+
+        assertThat(rows).extracting(ConciseProjectListRow::name).containsExactly("acme-app-04242");
+    }
+
+    @Test
+    public void testComponentSearch() {
+        try (final var qm = new QueryManager(requestWithFilter("acme-lib-04242"))) {
+            qm.runInTransaction(() -> {
+                final List<Component> components = qm.getComponents(false).getList(Component.class);
+                assertThat(components).extracting(Component::getName).containsExactly("acme-lib-04242");
+                assertThatScansAreIndexOnly(qm, "COMPONENT");
+            });
+        }
+    }
+
+    @Test
+    public void testVulnerabilitySearch() {
+        try (final var qm = new QueryManager(requestWithFilter("int-04242"))) {
+            qm.runInTransaction(() -> {
+                final List<Vulnerability> vulns = qm.getVulnerabilities().getList(Vulnerability.class);
+                assertThat(vulns).extracting(Vulnerability::getVulnId).containsExactly("INT-04242");
+                assertThatScansAreIndexOnly(qm, "VULNERABILITY");
+            });
+        }
+    }
+
+    private record ScanCounts(long seqScans, long idxScans) {
+    }
+
+    private static AlpineRequest requestWithFilter(final String filter) {
+        return new AlpineRequest(
+                /* principal */ null,
+                /* pagination */ null,
+                /* filter */ filter,
+                /* orderBy */ null,
+                /* orderDirection */ null
+        );
+    }
+
+    private static void assertThatScansAreIndexOnly(final QueryManager qm, final String tableName) {
+        assertThatScansAreIndexOnly(withJdbiHandle(qm, handle -> getScanCounts(handle, tableName)));
+    }
+
+    private static void assertThatScansAreIndexOnly(final ScanCounts scanCounts) {
+        assertThat(scanCounts.seqScans()).isZero();
+        assertThat(scanCounts.idxScans()).isPositive();
+    }
+
+    private static ScanCounts getScanCounts(final Handle handle, final String tableName) {
+        return handle.createQuery("""
+                        SELECT COALESCE("seq_scan", 0) AS "seqScans"
+                             , COALESCE("idx_scan", 0) AS "idxScans"
+                          FROM "pg_stat_xact_user_tables"
+                         WHERE "relname" = :tableName
+                        """)
+                .bind("tableName", tableName)
+                .map((rs, ctx) -> new ScanCounts(rs.getLong("seqScans"), rs.getLong("idxScans")))
+                .one();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.License;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LicenseIndexTest extends PersistenceCapableTest {
+
+    @Test
+    public void testGetSnapshot() {
+        final License mit = createLicense("MIT", "MIT License");
+        final License apache = createLicense("Apache-2.0", "Apache License 2.0");
+        final var transientCustomLicense = new License();
+        transientCustomLicense.setName("Acme Proprietary License");
+        final License customLicense = qm.createCustomLicense(transientCustomLicense, false);
+
+        final LicenseIndex.Snapshot snapshot = new LicenseIndex(Duration.ofMinutes(5)).getSnapshot();
+        assertThat(snapshot.getIdByIdOrName("MIT")).isEqualTo(mit.getId());
+        assertThat(snapshot.getIdByIdOrName("Apache License 2.0")).isEqualTo(apache.getId());
+        assertThat(snapshot.getIdByIdOrName("mit")).isNull();
+        assertThat(snapshot.getIdByIdOrName(null)).isNull();
+        assertThat(snapshot.getCustomIdByName("Acme Proprietary License")).isEqualTo(customLicense.getId());
+        assertThat(snapshot.getCustomIdByName("MIT License")).isNull();
+        assertThat(snapshot.getIdByAlias(" mit ")).isEqualTo(mit.getId());
+        assertThat(snapshot.getIdByAlias("APACHE LICENSE 2.0")).isEqualTo(apache.getId());
+        assertThat(snapshot.getIdByAlias("acme proprietary license")).isEqualTo(customLicense.getId());
+        assertThat(snapshot.getIdByAlias("foo")).isNull();
+    }
+
+    @Test
+    public void testGetSnapshotWithAmbiguousName() {
+        // Multiple licenses can have the same name; The one with the lowest license ID must win.
+        createLicense("GPL-3.0-only", "GNU General Public License v3.0");
+        final License gpl3 = createLicense("GPL-3.0", "GNU General Public License v3.0");
+
+        final LicenseIndex.Snapshot snapshot = new LicenseIndex(Duration.ofMinutes(5)).getSnapshot();
+        assertThat(snapshot.getIdByIdOrName("GNU General Public License v3.0")).isEqualTo(gpl3.getId());
+    }
+
+    @Test
+    public void testInvalidate() {
+        final var index = new LicenseIndex(Duration.ofMinutes(5));
+        assertThat(index.getSnapshot().getIdByIdOrName("MIT")).isNull();
+
+        final License mit = createLicense("MIT", "MIT License");
+        assertThat(index.getSnapshot().getIdByIdOrName("MIT")).isNull();
+
+        index.invalidate();
+        assertThat(index.getSnapshot().getIdByIdOrName("MIT")).isEqualTo(mit.getId());
+    }
+
+    @Test
+    public void testGetSnapshotWithExpiredSnapshot() {
+        final var index = new LicenseIndex(Duration.ZERO);
+        assertThat(index.getSnapshot().getIdByIdOrName("MIT")).isNull();
+
+        final License mit = createLicense("MIT", "MIT License");
+        assertThat(index.getSnapshot().getIdByIdOrName("MIT")).isEqualTo(mit.getId());
+    }
+
+    private License createLicense(final String licenseId, final String name) {
+        final var license = new License();
+        license.setLicenseId(licenseId);
+        license.setName(name);
+        return qm.persist(license);
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.DependencyMetrics;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetrics;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class MetricsQueryManagerTest extends PersistenceCapableTest {
+
+    @Test
+    public void testGetMostRecentProjectMetrics() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        assertThat(qm.getMostRecentProjectMetrics(project)).isNull();
+
+        final Instant now = Instant.now();
+        final ProjectMetrics newMetrics = createProjectMetrics(project, now, 2);
+        final ProjectMetrics oldMetrics = createProjectMetrics(project, now.minus(Duration.ofDays(1)), 1);
+
+        // Recording older metrics must not replace the most recent ones.
+        assertThat(qm.getMostRecentProjectMetrics(project)).satisfies(metrics -> {
+            assertThat(metrics.getId()).isEqualTo(newMetrics.getId());
+            assertThat(metrics.getVulnerabilities()).isEqualTo(2);
+        });
+
+        // Bumping the last occurrence of the most recent metrics must be reflected.
+        final Date bumpedLastOccurrence = Date.from(now.plus(Duration.ofMinutes(5)));
+        newMetrics.setLastOccurrence(bumpedLastOccurrence);
+        qm.persist(newMetrics);
+        assertThat(qm.getMostRecentProjectMetrics(project).getLastOccurrence()).isEqualTo(bumpedLastOccurrence);
+
+        // Deleting the most recent metrics must fall back to the next most recent ones.
+        qm.delete(newMetrics);
+        assertThat(qm.getMostRecentProjectMetrics(project)).satisfies(metrics -> {
+            assertThat(metrics.getId()).isEqualTo(oldMetrics.getId());
+            assertThat(metrics.getVulnerabilities()).isEqualTo(1);
+        });
+
+        // Deleting the only remaining metrics must not leave a dangling reference behind.
+        qm.delete(oldMetrics);
+        assertThat(qm.getMostRecentProjectMetrics(project)).isNull();
+        assertThat(getLatestProjectMetricsCount()).isZero();
+    }
+
+    @Test
+    public void testGetMostRecentDependencyMetrics() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        qm.persist(component);
+
+        assertThat(qm.getMostRecentDependencyMetrics(component)).isNull();
+
+        final Instant now = Instant.now();
+        final DependencyMetrics oldMetrics = createDependencyMetrics(component, now.minus(Duration.ofDays(1)), 1);
+        final DependencyMetrics newMetrics = createDependencyMetrics(component, now, 2);
+
+        assertThat(qm.getMostRecentDependencyMetrics(component)).satisfies(metrics -> {
+            assertThat(metrics.getId()).isEqualTo(newMetrics.getId());
+            assertThat(metrics.getVulnerabilities()).isEqualTo(2);
+        });
+        assertThat(qm.getMostRecentDependencyMetricsById(component.getId()).getId()).isEqualTo(newMetrics.getId());
+
+        // Deleting the most recent metrics must fall back to the next most recent ones.
+        qm.delete(newMetrics);
+        assertThat(qm.getMostRecentDependencyMetrics(component)).satisfies(metrics -> {
+            assertThat(metrics.getId()).isEqualTo(oldMetrics.getId());
+            assertThat(metrics.getVulnerabilities()).isEqualTo(1);
+        });
+
+        qm.delete(oldMetrics);
+        assertThat(qm.getMostRecentDependencyMetrics(component)).isNull();
+    }
+
+    private ProjectMetrics createProjectMetrics(final Project project, final Instant lastOccurrence, final int vulnerabilities) {
+        final var metrics = new ProjectMetrics();
+        metrics.setProject(project);
+        metrics.setVulnerabilities(vulnerabilities);
+        metrics.setFirstOccurrence(Date.from(lastOccurrence));
+        metrics.setLastOccurrence(Date.from(lastOccurrence));
+        return qm.persist(metrics);
+    }
+
+    private DependencyMetrics createDependencyMetrics(final Component component, final Instant lastOccurrence, final int vulnerabilities) {
+        final var metrics = new DependencyMetrics();
+        metrics.setProject(component.getProject());
+        metrics.setComponent(component);
+        metrics.setVulnerabilities(vulnerabilities);
+        metrics.setFirstOccurrence(Date.from(lastOccurrence));
+        metrics.setLastOccurrence(Date.from(lastOccurrence));
+        return qm.persist(metrics);
+    }
+
+    private static long getLatestProjectMetricsCount() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(*)
+                          FROM "PROJECTMETRICS_LATEST"
+                        """)
+                .mapTo(Long.class)
+                .one());
+    }
+
+}
@@ -41,21 +41,29 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetadata;
 import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.Tag;
 import org.dependencytrack.model.Vex;
 import org.dependencytrack.model.ViolationAnalysis;
 import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.notification.NotificationScope;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.junit.Test;
 
 import javax.jdo.JDOObjectNotFoundException;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class ProjectQueryManagerTest extends PersistenceCapableTest {
 
@@ -226,4 +234,62 @@ public class ProjectQueryManagerTest extends PersistenceCapableTest {
         assertThat(finding).isNotNull();
         assertThat(finding.getAttribution().isEmpty()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetProjectsWithMetrics() {
+        final Tag tag = qm.createTag("foo");
+
+        for (int i = 0; i < 3; i++) {
+            final var project = new Project();
+            project.setName("acme-app-" + i);
+            qm.persist(project);
+            qm.bind(project, List.of(tag));
+
+            if (i > 0) {
+                final var metrics = new ProjectMetrics();
+                metrics.setProject(project);
+                metrics.setVulnerabilities(i);
+                metrics.setFirstOccurrence(new Date());
+                metrics.setLastOccurrence(new Date());
+                qm.persist(metrics);
+            }
+        }
+
+        // Count the metrics queries issued via the global JDBI instance,
+        // to ensure metrics are fetched in bulk rather than per project.
+        final var metricsQueryCount = new AtomicInteger();
+        final Jdbi jdbi = withJdbiHandle(Handle::getJdbi);
+        jdbi.getConfig(SqlStatements.class).setSqlLogger(new SqlLogger() {
+            @Override
+            public void logAfterExecution(final StatementContext context) {
+                if (context.getRenderedSql().contains("\"PROJECTMETRICS_LATEST\"")) {
+                    metricsQueryCount.incrementAndGet();
+                }
+            }
+        });
+
+        final List<Project> projects;
+        final List<Project> taggedProjects;
+        try {
+            // NB: Not wrapped in a transaction, as API resources don't do this either.
+            projects = qm.getProjects(true, false, false, null).getList(Project.class);
+            assertThat(metricsQueryCount).hasValue(1);
+
+            taggedProjects = qm.getProjects(tag, true, false, false).getList(Project.class);
+            assertThat(metricsQueryCount).hasValue(2);
+        } finally {
+            jdbi.getConfig(SqlStatements.class).setSqlLogger(SqlLogger.NOP_SQL_LOGGER);
+        }
+
+        assertThat(projects).satisfiesExactly(
+                project -> assertThat(project.getMetrics()).isNull(),
+                project -> assertThat(project.getMetrics().getVulnerabilities()).isEqualTo(1),
+                project -> assertThat(project.getMetrics().getVulnerabilities()).isEqualTo(2));
+        projects.stream()
+                .filter(project -> project.getMetrics() != null)
+                .forEach(project -> assertThat(project.getMetrics().getProject()).isSameAs(project));
+
+        assertThat(taggedProjects).extracting(project -> project.getMetrics() != null).containsExactly(false, true, true);
+    }
+
+}
@@ -21,6 +21,7 @@ package org.dependencytrack.persistence;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Epss;
 import org.dependencytrack.model.ExternalReference;
@@ -47,7 +48,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.dependencytrack.persistence.VulnerabilityQueryManagerTest.SynchronizeVulnerabilityAliasTest.VulnerabilityAliasBuilder.anAlias;
 
 @RunWith(Suite.class)
-@SuiteClasses(VulnerabilityQueryManagerTest.SynchronizeVulnerabilityAliasTest.class)
+@SuiteClasses({
+        VulnerabilityQueryManagerTest.SynchronizeVulnerabilityAliasTest.class,
+        VulnerabilityQueryManagerTest.AffectedProjectsTest.class
+})
 public class VulnerabilityQueryManagerTest {
 
     @RunWith(JUnitParamsRunner.class)
@@ -850,4 +854,61 @@ public class VulnerabilityQueryManagerTest {
             assertThat(taggedVulnerabilities.getTotal()).isEqualTo(2);
         }
     }
-}
\ No newline at end of file
+
+    public static class AffectedProjectsTest extends PersistenceCapableTest {
+
+        @Test
+        public void testGetAffectedProjects() {
+            final var vuln = new Vulnerability();
+            vuln.setVulnId("INT-001");
+            vuln.setSource(Vulnerability.Source.INTERNAL);
+            qm.persist(vuln);
+
+            final var projectA = new Project();
+            projectA.setName("acme-app-a");
+            qm.persist(projectA);
+
+            final var projectB = new Project();
+            projectB.setName("acme-app-b");
+            projectB.setVersion("1.0.0");
+            projectB.setActive(false);
+            qm.persist(projectB);
+
+            final var unaffectedProject = new Project();
+            unaffectedProject.setName("acme-app-c");
+            qm.persist(unaffectedProject);
+
+            final Component componentA1 = createComponent(projectA, "acme-lib-a1");
+            final Component componentA2 = createComponent(projectA, "acme-lib-a2");
+            final Component componentB = createComponent(projectB, "acme-lib-b");
+            createComponent(unaffectedProject, "acme-lib-c");
+
+            qm.addVulnerability(vuln, componentA1, AnalyzerIdentity.INTERNAL_ANALYZER);
+            qm.addVulnerability(vuln, componentA2, AnalyzerIdentity.INTERNAL_ANALYZER);
+            qm.addVulnerability(vuln, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+            assertThat(qm.getAffectedProjects(vuln)).satisfiesExactly(
+                    affectedProject -> {
+                        assertThat(affectedProject.getUuid()).isEqualTo(projectA.getUuid());
+                        assertThat(affectedProject.getName()).isEqualTo("acme-app-a");
+                        assertThat(affectedProject.getActive()).isTrue();
+                        assertThat(affectedProject.getAffectedComponentUuids()).containsExactlyInAnyOrder(
+                                componentA1.getUuid(), componentA2.getUuid());
+                    },
+                    affectedProject -> {
+                        assertThat(affectedProject.getUuid()).isEqualTo(projectB.getUuid());
+                        assertThat(affectedProject.getVersion()).isEqualTo("1.0.0");
+                        assertThat(affectedProject.getActive()).isFalse();
+                        assertThat(affectedProject.getAffectedComponentUuids()).containsExactly(componentB.getUuid());
+                    }
+            );
+        }
+
+        private Component createComponent(final Project project, final String name) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName(name);
+            return qm.persist(component);
+        }
+    }
+}
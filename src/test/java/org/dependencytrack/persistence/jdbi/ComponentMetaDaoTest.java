@@ -0,0 +1,157 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.FetchStatus;
+import org.dependencytrack.model.IntegrityMetaComponent;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao.IntegrityMetaInitializationCandidateRow;
+import org.dependencytrack.persistence.jdbi.ComponentMetaDao.RepositoryMetaAnalysisCandidateRow;
+import org.jdbi.v3.core.Handle;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+
+public class ComponentMetaDaoTest extends PersistenceCapableTest {
+
+    private Handle jdbiHandle;
+    private ComponentMetaDao componentMetaDao;
+
+    @Before
+    public void before() throws Exception {
+        super.before();
+
+        jdbiHandle = openJdbiHandle();
+        componentMetaDao = jdbiHandle.attach(ComponentMetaDao.class);
+    }
+
+    @After
+    public void after() {
+        if (jdbiHandle != null) {
+            jdbiHandle.close();
+        }
+
+        super.after();
+    }
+
+    @Test
+    public void testGetRepositoryMetaAnalysisCandidatesKeysetPagination() {
+        final var project = qm.createProject("acme-app", null, "1.0.0", null, null, null, true, false);
+        final var inactiveProject = qm.createProject("acme-app-inactive", null, "1.0.0", null, null, null, false, false);
+
+        createComponent(project, "pkg:maven/acme/acme-lib-b@1.0.0", false);
+        createComponent(project, "pkg:maven/acme/acme-lib-a@1.0.0", null);
+        createComponent(project, "pkg:maven/acme/acme-lib-a@1.0.0", true);
+        createComponent(project, "pkg:maven/acme/acme-lib-a@1.0.0", false);
+        createComponent(project, "pkg:maven/acme/acme-lib-c@1.0.0", true);
+        createComponent(inactiveProject, "pkg:maven/acme/acme-lib-d@1.0.0", false);
+
+        final var rows = new ArrayList<RepositoryMetaAnalysisCandidateRow>();
+        List<RepositoryMetaAnalysisCandidateRow> page = componentMetaDao.getRepositoryMetaAnalysisCandidates(null, null, null, 1);
+        while (!page.isEmpty()) {
+            assertThat(page).hasSize(1);
+            rows.addAll(page);
+
+            final RepositoryMetaAnalysisCandidateRow lastRow = page.get(page.size() - 1);
+            page = componentMetaDao.getRepositoryMetaAnalysisCandidates(null, lastRow.purlCoordinates(), lastRow.internal(), 1);
+        }
+
+        assertThat(rows).containsExactly(
+                new RepositoryMetaAnalysisCandidateRow("pkg:maven/acme/acme-lib-a@1.0.0", false),
+                new RepositoryMetaAnalysisCandidateRow("pkg:maven/acme/acme-lib-a@1.0.0", true),
+                new RepositoryMetaAnalysisCandidateRow("pkg:maven/acme/acme-lib-b@1.0.0", false),
+                new RepositoryMetaAnalysisCandidateRow("pkg:maven/acme/acme-lib-c@1.0.0", true));
+    }
+
+    @Test
+    public void testGetRepositoryMetaAnalysisCandidatesForProject() {
+        final var projectA = qm.createProject("acme-app-a", null, "1.0.0", null, null, null, true, false);
+        final var projectB = qm.createProject("acme-app-b", null, "1.0.0", null, null, null, true, false);
+
+        createComponent(projectA, "pkg:maven/acme/acme-lib-a@1.0.0", false);
+        createComponent(projectB, "pkg:maven/acme/acme-lib-b@1.0.0", false);
+
+        assertThat(componentMetaDao.getRepositoryMetaAnalysisCandidates(projectB.getId(), null, null, 10))
+                .containsExactly(new RepositoryMetaAnalysisCandidateRow("pkg:maven/acme/acme-lib-b@1.0.0", false));
+    }
+
+    @Test
+    public void testGetIntegrityMetaInitializationCandidatesKeysetPagination() {
+        final var project = qm.createProject("acme-app", null, "1.0.0", null, null, null, true, false);
+        createComponent(project, "pkg:maven/acme/acme-lib-a@1.0.0", false);
+        createComponent(project, "pkg:maven/acme/acme-lib-b@1.0.0", true);
+
+        final IntegrityMetaComponent metaA = createIntegrityMetaComponent("pkg:maven/acme/acme-lib-a@1.0.0", null, null);
+        final IntegrityMetaComponent metaB = createIntegrityMetaComponent("pkg:maven/acme/acme-lib-b@1.0.0",
+                FetchStatus.IN_PROGRESS, Instant.now().minus(3, ChronoUnit.HOURS));
+        createIntegrityMetaComponent("pkg:maven/acme/acme-lib-c@1.0.0",
+                FetchStatus.IN_PROGRESS, Instant.now());
+        final IntegrityMetaComponent metaD = createIntegrityMetaComponent("pkg:maven/acme/acme-lib-d@1.0.0", null, null);
+
+        final Instant fetchedBefore = Instant.now().minus(1, ChronoUnit.HOURS);
+        final var rows = new ArrayList<IntegrityMetaInitializationCandidateRow>();
+        List<IntegrityMetaInitializationCandidateRow> page = componentMetaDao.getIntegrityMetaInitializationCandidates(0, fetchedBefore, 2);
+        while (!page.isEmpty()) {
+            rows.addAll(page);
+            page = componentMetaDao.getIntegrityMetaInitializationCandidates(page.get(page.size() - 1).id(), fetchedBefore, 2);
+        }
+
+        assertThat(rows).containsExactly(
+                new IntegrityMetaInitializationCandidateRow(metaA.getId(), "pkg:maven/acme/acme-lib-a@1.0.0", false),
+                new IntegrityMetaInitializationCandidateRow(metaB.getId(), "pkg:maven/acme/acme-lib-b@1.0.0", true),
+                new IntegrityMetaInitializationCandidateRow(metaD.getId(), "pkg:maven/acme/acme-lib-d@1.0.0", null));
+
+        assertThat(componentMetaDao.markIntegrityMetaComponentsInProgress(List.of(metaA.getId(), metaD.getId()))).isEqualTo(2);
+        assertThat(componentMetaDao.getIntegrityMetaInitializationCandidates(0, fetchedBefore, 10))
+                .extracting(IntegrityMetaInitializationCandidateRow::id)
+                .containsExactly(metaB.getId());
+    }
+
+    private void createComponent(final Project project, final String purlCoordinates, final Boolean internal) {
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        component.setPurl(purlCoordinates);
+        component.setPurlCoordinates(purlCoordinates);
+        if (internal != null) {
+            component.setInternal(internal);
+        }
+        qm.persist(component);
+    }
+
+    private IntegrityMetaComponent createIntegrityMetaComponent(final String purl, final FetchStatus status, final Instant lastFetch) {
+        final var integrityMetaComponent = new IntegrityMetaComponent();
+        integrityMetaComponent.setPurl(purl);
+        integrityMetaComponent.setStatus(status);
+        integrityMetaComponent.setLastFetch(lastFetch != null ? Date.from(lastFetch) : null);
+        return qm.persist(integrityMetaComponent);
+    }
+
+}
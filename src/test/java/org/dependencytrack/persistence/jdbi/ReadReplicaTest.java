@@ -0,0 +1,92 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.ProjectMetrics;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withReadOnlyJdbiHandle;
+
+public class ReadReplicaTest extends PersistenceCapableTest {
+
+    @Test
+    public void testJdbiIfWithinMaxLag() throws Exception {
+        final var hikariCfg = new HikariConfig();
+        hikariCfg.setJdbcUrl(postgresContainer.getJdbcUrl());
+        hikariCfg.setUsername(postgresContainer.getUsername());
+        hikariCfg.setPassword(postgresContainer.getPassword());
+        hikariCfg.setMaximumPoolSize(1);
+        final var dataSource = new HikariDataSource(hikariCfg);
+
+        // A primary that is not in recovery mode is treated like a replica without lag.
+        final Jdbi jdbi = Jdbi.create(dataSource);
+        try (final var readReplica = new ReadReplica(jdbi, dataSource, Duration.ZERO, Duration.ofMinutes(1))) {
+            assertThat(readReplica.jdbiIfWithinMaxLag()).contains(jdbi);
+        }
+    }
+
+    @Test
+    public void testJdbiIfWithinMaxLagWhenUnreachable() throws Exception {
+        final var hikariCfg = new HikariConfig();
+        hikariCfg.setJdbcUrl("jdbc:postgresql://localhost:1/dtrack");
+        hikariCfg.setMaximumPoolSize(1);
+        hikariCfg.setConnectionTimeout(250);
+        hikariCfg.setInitializationFailTimeout(-1);
+        final var dataSource = new HikariDataSource(hikariCfg);
+
+        try (final var readReplica = new ReadReplica(Jdbi.create(dataSource), dataSource, Duration.ofSeconds(10), Duration.ofMinutes(1))) {
+            assertThat(readReplica.jdbiIfWithinMaxLag()).isEmpty();
+        }
+    }
+
+    @Test
+    public void testWithReadOnlyJdbiHandleWithoutReplica() {
+        final var project = qm.createProject("acme-app", null, "1.0.0", null, null, null, true, false);
+
+        final var metrics = new ProjectMetrics();
+        metrics.setProject(project);
+        metrics.setCritical(1);
+        metrics.setInheritedRiskScore(10.0);
+        metrics.setUnassigned(2);
+        metrics.setFirstOccurrence(new Date());
+        metrics.setLastOccurrence(new Date());
+        qm.persist(metrics);
+
+        final List<ProjectMetrics> metricsSince = withReadOnlyJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getProjectMetricsSince(project.getId(), Instant.now().minus(1, ChronoUnit.DAYS)));
+        assertThat(metricsSince).satisfiesExactly(projectMetrics -> {
+            assertThat(projectMetrics.getCritical()).isEqualTo(1);
+            assertThat(projectMetrics.getInheritedRiskScore()).isEqualTo(10.0);
+            assertThat(projectMetrics.getUnassigned()).isEqualTo(2);
+            assertThat(projectMetrics.getLastOccurrence()).isNotNull();
+        });
+    }
+
+}
@@ -70,6 +70,7 @@ import java.util.UUID;
 import static org.apache.commons.io.IOUtils.resourceToURL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.dependencytrack.persistence.DependencyGraphTestUtil.createDependencyEdges;
 
 public class CelPolicyEngineTest extends PersistenceCapableTest {
 
@@ -462,6 +463,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
 
         project.setDirectDependencies("[{\"uuid\":\"" + component.getUuid() + "\"}]");
         qm.persist(project);
+        createDependencyEdges(project);
 
         new CelPolicyEngine().evaluateProject(project.getUuid());
         assertThat(qm.getAllPolicyViolations(component)).hasSize(1);
@@ -933,6 +935,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         componentA.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentB).toJSON()));
         qm.persist(project);
         qm.persist(componentA);
+        createDependencyEdges(project);
 
         final var policyEngine = new CelPolicyEngine();
 
@@ -968,6 +971,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         componentA.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentB).toJSON()));
         qm.persist(project);
         qm.persist(componentA);
+        createDependencyEdges(project);
 
         final var policyEngine = new CelPolicyEngine();
 
@@ -1001,6 +1005,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         componentA.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentB).toJSON()));
         qm.persist(project);
         qm.persist(componentA);
+        createDependencyEdges(project);
 
         new CelPolicyEngine().evaluateProject(project.getUuid());
 
@@ -1033,6 +1038,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         componentA.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentB).toJSON()));
         qm.persist(project);
         qm.persist(componentA);
+        createDependencyEdges(project);
 
         new CelPolicyEngine().evaluateProject(project.getUuid());
 
@@ -1069,6 +1075,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         componentA.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentB).toJSON()));
         qm.persist(project);
         qm.persist(componentA);
+        createDependencyEdges(project);
 
         new CelPolicyEngine().evaluateProject(project.getUuid());
 
@@ -1114,6 +1121,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         qm.persist(project);
         qm.persist(componentA);
         qm.persist(componentB);
+        createDependencyEdges(project);
 
         final var policyEngine = new CelPolicyEngine();
         final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
@@ -1200,6 +1208,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         qm.persist(componentA);
         qm.persist(componentB);
         qm.persist(componentD);
+        createDependencyEdges(project);
 
         final var policyEngine = new CelPolicyEngine();
         final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
@@ -1286,6 +1295,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         qm.persist(componentA);
         qm.persist(componentB);
         qm.persist(componentC);
+        createDependencyEdges(project);
 
         final var policyEngine = new CelPolicyEngine();
         final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
@@ -1364,6 +1374,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         qm.persist(componentSpringBootStarter);
         qm.persist(componentSpringCore);
         qm.persist(componentJacksonDataformatYaml);
+        createDependencyEdges(project);
 
         final var policyEngine = new CelPolicyEngine();
         final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
@@ -1483,6 +1494,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         qm.persist(componentSpringAop);
         qm.persist(componentSpringBeans);
         qm.persist(componentSpringExpression);
+        createDependencyEdges(project);
 
         final var policyEngine = new CelPolicyEngine();
         final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
@@ -1619,6 +1631,7 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         componentA.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentB).toJSON()));
         qm.persist(project);
         qm.persist(componentA);
+        createDependencyEdges(project);
 
         final var policyEngine = new CelPolicyEngine();
         final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
@@ -1938,6 +1951,37 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
                 assertThat(violation.getPolicyCondition().getPolicy().getName()).isEqualTo("Policy A"));
     }
 
+    @Test
+    public void testEvaluateProjectRepeatedlyRetainsExistingViolations() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setGroup("org.acme");
+        component.setName("acme-lib");
+        component.setVersion("2.0.0");
+        qm.persist(component);
+
+        final Policy policy = qm.createPolicy("Policy A", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+        qm.createPolicyCondition(policy, PolicyCondition.Subject.COORDINATES, PolicyCondition.Operator.MATCHES, """
+                {"group": "*", name: "*", version: "*"}
+                """);
+
+        new CelPolicyEngine().evaluateProject(project.getUuid());
+        final List<PolicyViolation> violations = qm.getAllPolicyViolations(project);
+        assertThat(violations).hasSize(1);
+        final long violationId = violations.getFirst().getId();
+
+        // Violations that are reported again must neither be re-created, nor duplicated.
+        new CelPolicyEngine().evaluateProject(project.getUuid());
+        qm.getPersistenceManager().evictAll();
+        assertThat(qm.getAllPolicyViolations(project)).satisfiesExactly(violation ->
+                assertThat(violation.getId()).isEqualTo(violationId));
+    }
+
     @Test
     @Ignore  // Un-ignore for manual profiling purposes.
     public void testWithBloatedBom() throws Exception {
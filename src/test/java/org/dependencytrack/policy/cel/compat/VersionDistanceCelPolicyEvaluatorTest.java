@@ -37,6 +37,7 @@ import java.util.Collection;
 import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.DependencyGraphTestUtil.createDependencyEdges;
 
 @RunWith(Parameterized.class)
 public class VersionDistanceCelPolicyEvaluatorTest extends PersistenceCapableTest {
@@ -148,6 +149,7 @@ public class VersionDistanceCelPolicyEvaluatorTest extends PersistenceCapableTes
 
         project.setDirectDependencies("[{\"uuid\":\"" + component.getUuid() + "\"}]");
         qm.persist(project);
+        createDependencyEdges(project);
 
         new CelPolicyEngine().evaluateProject(project.getUuid());
         if (shouldViolate) {
@@ -162,6 +164,7 @@ public class VersionDistanceCelPolicyEvaluatorTest extends PersistenceCapableTes
         // https://github.com/DependencyTrack/dependency-track/issues/3295
         project.setDirectDependencies(null);
         qm.persist(project);
+        createDependencyEdges(project);
         new CelPolicyEngine().evaluateProject(project.getUuid());
         assertThat(qm.getAllPolicyViolations(component)).isEmpty();
     }
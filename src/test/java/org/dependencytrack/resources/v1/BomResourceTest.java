@@ -23,14 +23,17 @@ import alpine.model.IConfigProperty;
 import alpine.server.filters.ApiFilter;
 import alpine.server.filters.AuthenticationFilter;
 import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import net.javacrumbs.jsonunit.core.Option;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
@@ -39,6 +42,7 @@ import org.dependencytrack.JerseyTestRule;
 import org.dependencytrack.ResourceTest;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.kafka.KafkaTopics;
+import org.dependencytrack.filters.ContentEncodingReaderInterceptor;
 import org.dependencytrack.model.AnalysisResponse;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.AnalyzerIdentity;
@@ -70,6 +74,7 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -88,6 +93,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.json;
@@ -113,6 +119,7 @@ public class BomResourceTest extends ResourceTest {
                     .register(ApiFilter.class)
                     .register(AuthenticationFilter.class)
                     .register(MultiPartFeature.class)
+                    .register(ContentEncodingReaderInterceptor.class)
                     .register(JsonMappingExceptionMapper.class));
 
     @Before
@@ -1349,6 +1356,141 @@ public class BomResourceTest extends ResourceTest {
                 .containsExactlyInAnyOrder("tag1", "tag2");
     }
 
+    @Test
+    public void uploadBomWithGzipContentEncodingTest() throws Exception {
+        initializeWithPermissions(Permissions.BOM_UPLOAD);
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final String bomString = Base64.getEncoder().encodeToString(resourceToByteArray("/unit/bom-1.xml"));
+        final var request = new BomSubmitRequest(project.getUuid().toString(), null, null, null, false, false, bomString);
+
+        final var compressedRequest = new ByteArrayOutputStream();
+        try (final var gzipOutputStream = new GZIPOutputStream(compressedRequest)) {
+            gzipOutputStream.write(new ObjectMapper().writeValueAsBytes(request));
+        }
+
+        final Response response = jersey.target(V1_BOM).request()
+                .header(X_API_KEY, apiKey)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .put(Entity.entity(compressedRequest.toByteArray(), MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response)).isEqualTo("""
+                {
+                  "token": "${json-unit.any-string}"
+                }
+                """);
+    }
+
+    @Test
+    public void uploadBomWithZstdContentEncodingTest() throws Exception {
+        initializeWithPermissions(Permissions.BOM_UPLOAD);
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final String bomString = Base64.getEncoder().encodeToString(resourceToByteArray("/unit/bom-1.xml"));
+        final var request = new BomSubmitRequest(project.getUuid().toString(), null, null, null, false, false, bomString);
+
+        final var compressedRequest = new ByteArrayOutputStream();
+        try (final var zstdOutputStream = new ZstdCompressorOutputStream(compressedRequest)) {
+            zstdOutputStream.write(new ObjectMapper().writeValueAsBytes(request));
+        }
+
+        final Response response = jersey.target(V1_BOM).request()
+                .header(X_API_KEY, apiKey)
+                .header(HttpHeaders.CONTENT_ENCODING, "zstd")
+                .put(Entity.entity(compressedRequest.toByteArray(), MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response)).isEqualTo("""
+                {
+                  "token": "${json-unit.any-string}"
+                }
+                """);
+    }
+
+    @Test
+    public void uploadBomWithContentEncodingExceedingMaxDecodedLengthTest() throws Exception {
+        initializeWithPermissions(Permissions.BOM_UPLOAD);
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        // Whitespace compresses extremely well, and is not subject to Jackson's stream read constraints.
+        final var compressedRequest = new ByteArrayOutputStream();
+        try (final var gzipOutputStream = new GZIPOutputStream(compressedRequest)) {
+            gzipOutputStream.write("{\"project\": \"%s\",".formatted(project.getUuid()).getBytes(StandardCharsets.UTF_8));
+            final byte[] whitespace = " ".repeat(1024 * 1024).getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < 22; i++) {
+                gzipOutputStream.write(whitespace);
+            }
+            gzipOutputStream.write("\"bom\": \"Zm9v\"}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        final Response response = jersey.target(V1_BOM).request()
+                .header(X_API_KEY, apiKey)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .put(Entity.entity(compressedRequest.toByteArray(), MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    public void uploadBomMultipartWithContentEncodingExceedingMaxDecodedLengthTest() throws Exception {
+        initializeWithPermissions(Permissions.BOM_UPLOAD);
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        // The limit on decompressed request bodies only applies to JSON,
+        // so large BOMs can still be uploaded compressed via multipart.
+        final String boundary = "dtrack-" + UUID.randomUUID();
+        final var compressedRequest = new ByteArrayOutputStream();
+        try (final var gzipOutputStream = new GZIPOutputStream(compressedRequest)) {
+            gzipOutputStream.write("""
+                    --%1$s\r
+                    Content-Disposition: form-data; name="project"\r
+                    \r
+                    %2$s\r
+                    --%1$s\r
+                    Content-Disposition: form-data; name="bom"\r
+                    Content-Type: application/xml\r
+                    \r
+                    """.formatted(boundary, project.getUuid()).getBytes(StandardCharsets.UTF_8));
+            gzipOutputStream.write(resourceToByteArray("/unit/bom-1.xml"));
+            final byte[] whitespace = " ".repeat(1024 * 1024).getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < 22; i++) {
+                gzipOutputStream.write(whitespace);
+            }
+            gzipOutputStream.write("\r\n--%s--\r\n".formatted(boundary).getBytes(StandardCharsets.UTF_8));
+        }
+
+        // NB: The GrizzlyConnectorProvider doesn't work with MultiPart requests.
+        // https://github.com/eclipse-ee4j/jersey/issues/5094
+        final var client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new HttpUrlConnectorProvider()));
+
+        final Response response = client.target(jersey.target(V1_BOM).getUri()).request()
+                .header(X_API_KEY, apiKey)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .post(Entity.entity(compressedRequest.toByteArray(), "multipart/form-data; boundary=" + boundary));
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response)).isEqualTo("""
+                {
+                  "token": "${json-unit.any-string}"
+                }
+                """);
+    }
+
+    @Test
+    public void uploadBomWithUnsupportedContentEncodingTest() {
+        initializeWithPermissions(Permissions.BOM_UPLOAD);
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final Response response = jersey.target(V1_BOM).request()
+                .header(X_API_KEY, apiKey)
+                .header(HttpHeaders.CONTENT_ENCODING, "br")
+                .put(Entity.entity("""
+                        {
+                          "project": "%s",
+                          "bom": "Zm9v"
+                        }
+                        """.formatted(project.getUuid()), MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus()).isEqualTo(415);
+    }
+
     @Test
     public void validateCycloneDxBomWithMultipleNamespacesTest() throws Exception {
         byte[] bom = resourceToByteArray("/unit/bom-issue4008.xml");
@@ -45,6 +45,7 @@ import java.util.List;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.DependencyGraphTestUtil.createDependencyEdges;
 import static org.hamcrest.Matchers.equalTo;
 
 public class ComponentResourcePostgresTest extends ResourceTest {
@@ -264,6 +265,7 @@ public class ComponentResourcePostgresTest extends ResourceTest {
             }
         }
         project.setDirectDependencies("[" + String.join(",", directDepencencies.toArray(new String[0])) + "]");
+        createDependencyEdges(project);
         return project;
     }
 
@@ -61,6 +61,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.dependencytrack.model.IntegrityMatchStatus.HASH_MATCH_FAILED;
 import static org.dependencytrack.model.IntegrityMatchStatus.HASH_MATCH_PASSED;
 import static org.dependencytrack.model.IntegrityMatchStatus.HASH_MATCH_UNKNOWN;
+import static org.dependencytrack.persistence.DependencyGraphTestUtil.createDependencyEdges;
 
 public class ComponentResourceTest extends ResourceTest {
 
@@ -128,6 +129,7 @@ public class ComponentResourceTest extends ResourceTest {
             }
         }
         project.setDirectDependencies("[" + String.join(",", directDepencencies.toArray(new String[0])) + "]");
+        createDependencyEdges(project);
         return project;
     }
 
@@ -455,6 +457,7 @@ public class ComponentResourceTest extends ResourceTest {
         project.setDirectDependencies("[{\"uuid\":\"" + component1.getUuid() + "\"}]");
         component1.setDirectDependencies("[{\"uuid\":\"" + component1_1.getUuid() + "\"}]");
         component1_1.setDirectDependencies("[{\"uuid\":\"" + component1_1_1.getUuid() + "\"}]");
+        createDependencyEdges(project);
 
         Response response = jersey.target(V1_COMPONENT + "/project/" + project.getUuid() + "/dependencyGraph/" + component1_1_1.getUuid())
                 .request().header(X_API_KEY, apiKey).get();
@@ -612,6 +615,46 @@ public class ComponentResourceTest extends ResourceTest {
         Assert.assertEquals("ABC", json.getJsonObject(0).getString("name"));
     }
 
+    @Test
+    public void getComponentByHashWithAclTest() {
+        enablePortfolioAccessControl();
+
+        final var project = new Project();
+        project.setName("acme-app");
+        project.addAccessTeam(team);
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        component.setSha1("da39a3ee5e6b4b0d3255bfef95601890afd80709");
+        qm.persist(component);
+
+        // The second request is served from the lookup cache,
+        // but must still resolve the component with a fresh persistence manager.
+        for (int i = 0; i < 2; i++) {
+            final Response response = jersey.target(V1_COMPONENT + "/hash/" + component.getSha1())
+                    .request()
+                    .header(X_API_KEY, apiKey)
+                    .get();
+            assertThat(response.getStatus()).isEqualTo(200);
+            final JsonArray json = parseJsonArray(response);
+            assertThat(json).hasSize(1);
+            assertThat(json.getJsonObject(0).getString("name")).isEqualTo("acme-lib");
+        }
+
+        // Revoke access without going through the API, such that the cache is not invalidated.
+        project.setAccessTeams(new ArrayList<>());
+        qm.persist(project);
+
+        final Response response = jersey.target(V1_COMPONENT + "/hash/" + component.getSha1())
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(parseJsonArray(response)).isEmpty();
+    }
+
     @Test
     public void getComponentByInvalidHashTest() {
         Response response = jersey.target(V1_COMPONENT + "/hash/c5a8829aa3da800216b933e265dd0b97eb6f9341")
@@ -886,6 +929,7 @@ public class ComponentResourceTest extends ResourceTest {
         component2.setDirectDependencies("[{\"uuid\":\"" + component2_1.getUuid() + "\"}]");
         component2_1.setDirectDependencies("[{\"uuid\":\"" + component2_1_1.getUuid() + "\"}]");
         component2_1_1.setDirectDependencies("[{\"uuid\":\"" + component2_1_1_1.getUuid() + "\"}]");
+        createDependencyEdges(project);
 
         Response response = jersey.target(V1_COMPONENT + "/project/" + project.getUuid() + "/dependencyGraph/" + component1_1_1.getUuid())
                 .request().header(X_API_KEY, apiKey).get();
@@ -902,6 +946,49 @@ public class ComponentResourceTest extends ResourceTest {
         Assert.assertThrows(NullPointerException.class, () -> json.get(finalComponent2_1_1_1.getUuid().toString()).asJsonObject().asJsonObject());
     }
 
+    @Test
+    public void getDependencyGraphForMultipleComponentsTest() {
+        final Project project = qm.createProject("Acme Application", null, null, null, null, null, true, false);
+
+        Component componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("ComponentA");
+        componentA = qm.createComponent(componentA, false);
+
+        Component componentA1 = new Component();
+        componentA1.setProject(project);
+        componentA1.setName("ComponentA1");
+        componentA1 = qm.createComponent(componentA1, false);
+
+        Component componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("ComponentB");
+        componentB = qm.createComponent(componentB, false);
+
+        Component componentB1 = new Component();
+        componentB1.setProject(project);
+        componentB1.setName("ComponentB1");
+        componentB1 = qm.createComponent(componentB1, false);
+
+        project.setDirectDependencies("[{\"uuid\":\"" + componentA.getUuid() + "\"}, {\"uuid\":\"" + componentB.getUuid() + "\"}]");
+        componentA.setDirectDependencies("[{\"uuid\":\"" + componentA1.getUuid() + "\"}]");
+        componentB.setDirectDependencies("[{\"uuid\":\"" + componentB1.getUuid() + "\"}]");
+        createDependencyEdges(project);
+
+        // The endpoint does not operate in a transaction, so the graph must be loaded without one.
+        final Response response = jersey.target(V1_COMPONENT + "/project/" + project.getUuid() + "/dependencyGraph/"
+                        + componentA1.getUuid() + "|" + componentB1.getUuid())
+                .request().header(X_API_KEY, apiKey).get();
+        Assert.assertEquals(200, response.getStatus(), 0);
+
+        final JsonObject json = parseJsonObject(response);
+        Assert.assertEquals(4, json.size());
+        Assert.assertTrue(json.getJsonObject(componentA.getUuid().toString()).getBoolean("expandDependencyGraph"));
+        Assert.assertTrue(json.getJsonObject(componentB.getUuid().toString()).getBoolean("expandDependencyGraph"));
+        Assert.assertFalse(json.getJsonObject(componentA1.getUuid().toString()).getBoolean("expandDependencyGraph"));
+        Assert.assertFalse(json.getJsonObject(componentB1.getUuid().toString()).getBoolean("expandDependencyGraph"));
+    }
+
     @Test
     public void getDependencyGraphForComponentInvalidProjectUuidTest() {
         Project project = qm.createProject("Acme Application", null, null, null, null, null, true, false);
@@ -947,6 +1034,7 @@ public class ComponentResourceTest extends ResourceTest {
         component.setVersion("1.0");
         component = qm.createComponent(component, false);
         projectWithComponent.setDirectDependencies("[{\"uuid\":\"" + component.getUuid() + "\"}]");
+        createDependencyEdges(projectWithComponent);
         Project projectWithoutComponent = qm.createProject("Acme Library", null, null, null, null, null, true, false);
         Response responseWithComponent = jersey.target(V1_COMPONENT + "/project/" + projectWithComponent.getUuid() + "/dependencyGraph/" + component.getUuid())
                 .request().header(X_API_KEY, apiKey).get();
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1;
+
+import alpine.server.filters.ApiFilter;
+import alpine.server.filters.AuthenticationFilter;
+import alpine.server.filters.AuthorizationFilter;
+import jakarta.ws.rs.core.Response;
+import org.dependencytrack.JerseyTestRule;
+import org.dependencytrack.ResourceTest;
+import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.DependencyMetrics;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetrics;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsResourceTest extends ResourceTest {
+
+    @ClassRule
+    public static JerseyTestRule jersey = new JerseyTestRule(
+            new ResourceConfig(MetricsResource.class)
+                    .register(ApiFilter.class)
+                    .register(AuthenticationFilter.class)
+                    .register(AuthorizationFilter.class));
+
+    @Test
+    public void getProjectCurrentMetricsTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final Instant now = Instant.now();
+        createProjectMetrics(project, now.minus(Duration.ofDays(1)), 1);
+        createProjectMetrics(project, now, 2);
+
+        // NB: Resources do not wrap their queries in a JDO transaction.
+        final Response response = jersey.target(V1_METRICS + "/project/" + project.getUuid() + "/current")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response))
+                .node("vulnerabilities").isEqualTo(2);
+    }
+
+    @Test
+    public void getComponentCurrentMetricsTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        qm.persist(component);
+
+        final Instant now = Instant.now();
+        createDependencyMetrics(component, now.minus(Duration.ofDays(1)), 1);
+        createDependencyMetrics(component, now, 2);
+
+        final Response response = jersey.target(V1_METRICS + "/component/" + component.getUuid() + "/current")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response))
+                .node("vulnerabilities").isEqualTo(2);
+    }
+
+    private void createProjectMetrics(final Project project, final Instant lastOccurrence, final int vulnerabilities) {
+        final var metrics = new ProjectMetrics();
+        metrics.setProject(project);
+        metrics.setVulnerabilities(vulnerabilities);
+        metrics.setFirstOccurrence(Date.from(lastOccurrence));
+        metrics.setLastOccurrence(Date.from(lastOccurrence));
+        qm.persist(metrics);
+    }
+
+    private void createDependencyMetrics(final Component component, final Instant lastOccurrence, final int vulnerabilities) {
+        final var metrics = new DependencyMetrics();
+        metrics.setProject(component.getProject());
+        metrics.setComponent(component);
+        metrics.setVulnerabilities(vulnerabilities);
+        metrics.setFirstOccurrence(Date.from(lastOccurrence));
+        metrics.setLastOccurrence(Date.from(lastOccurrence));
+        qm.persist(metrics);
+    }
+
+}
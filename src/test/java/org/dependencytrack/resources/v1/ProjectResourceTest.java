@@ -1387,6 +1387,26 @@ public class ProjectResourceTest extends ResourceTest {
         assertThat(getPlainTextBody(response)).isEqualTo("Access to the specified project is forbidden");
     }
 
+    @Test
+    public void getProjectByUuidWithAclEnabledTest() {
+        enablePortfolioAccessControl();
+
+        final var project = new Project();
+        project.setName("acme-app");
+        project.addAccessTeam(team);
+        qm.persist(project);
+
+        // NB: The ACL snapshot of the principal is loaded outside of any JDO transaction.
+        final Response response = jersey.target(V1_PROJECT + "/" + project.getUuid())
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response))
+                .isObject()
+                .containsEntry("name", "acme-app");
+    }
+
     @Test
     public void getProjectByInvalidUuidTest() {
         qm.createProject("ABC", null, "1.0", null, null, null, true, false);
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
+import org.cyclonedx.model.License;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BomContentHasherTest {
+
+    @Test
+    public void testHashWithReorderedComponents() {
+        final Component componentA = createComponent("acme-lib-a", List.of(createLicense("MIT")));
+        final Component componentB = createComponent("acme-lib-b", List.of(createLicense("Apache-2.0")));
+
+        assertThat(hash(List.of(componentA, componentB))).isEqualTo(hash(List.of(componentB, componentA)));
+    }
+
+    @Test
+    public void testHashWithReorderedLicenseCandidates() {
+        final Component component = createComponent("acme-lib", List.of(createLicense("MIT"), createLicense("Apache-2.0")));
+        final Component reorderedComponent = createComponent("acme-lib", List.of(createLicense("Apache-2.0"), createLicense("MIT")));
+
+        // License resolution prefers candidates that appear first,
+        // so their order must be reflected in the hash.
+        assertThat(hash(List.of(component))).isNotEqualTo(hash(List.of(reorderedComponent)));
+    }
+
+    private static String hash(final List<Component> components) {
+        final var project = new Project();
+        project.setName("acme-app");
+
+        return BomContentHasher.hash(project, null, components, Collections.emptyList(),
+                new HashSetValuedHashMap<>(), Collections.emptyMap());
+    }
+
+    private static Component createComponent(final String name, final List<License> licenseCandidates) {
+        final var component = new Component();
+        component.setName(name);
+        component.setVersion("1.0.0");
+        component.setLicenseCandidates(licenseCandidates);
+        return component;
+    }
+
+    private static License createLicense(final String id) {
+        final var license = new License();
+        license.setId(id);
+        return license;
+    }
+
+}
@@ -18,11 +18,13 @@
  */
 package org.dependencytrack.tasks;
 
+import alpine.event.framework.EventService;
 import alpine.model.IConfigProperty.PropertyType;
 import com.github.packageurl.PackageURL;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.event.BomUploadEvent;
+import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.model.Bom;
@@ -50,6 +52,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -70,6 +73,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
 import static org.dependencytrack.model.WorkflowStatus.CANCELLED;
 import static org.dependencytrack.model.WorkflowStatus.COMPLETED;
 import static org.dependencytrack.model.WorkflowStatus.FAILED;
@@ -80,6 +84,7 @@ import static org.dependencytrack.model.WorkflowStep.BOM_PROCESSING;
 import static org.dependencytrack.model.WorkflowStep.METRICS_UPDATE;
 import static org.dependencytrack.model.WorkflowStep.POLICY_EVALUATION;
 import static org.dependencytrack.model.WorkflowStep.VULN_ANALYSIS;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.proto.notification.v1.Group.GROUP_BOM_PROCESSED;
 import static org.dependencytrack.proto.notification.v1.Group.GROUP_BOM_PROCESSING_FAILED;
 import static org.dependencytrack.proto.notification.v1.Level.LEVEL_ERROR;
@@ -598,6 +603,17 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
                 .count();
         assertThat(componentsWithoutDirectDependencies).isEqualTo(6378);
 
+        // The same graph must be reflected by the edges in the COMPONENT_DEPENDENCY table.
+        final long componentsWithDependencyEdges = withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(DISTINCT "PARENT_ID")
+                          FROM "COMPONENT_DEPENDENCY"
+                         WHERE "PROJECT_ID" = :projectId
+                        """)
+                .bind("projectId", project.getId())
+                .mapTo(Long.class)
+                .one());
+        assertThat(componentsWithDependencyEdges).isEqualTo(components.size() - 6378);
+
         // A VulnerabilityScan should've been initiated properly.
         final VulnerabilityScan vulnerabilityScan = qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier());
         assertThat(vulnerabilityScan).isNotNull();
@@ -625,10 +641,10 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
     public void informIssue2519Test() throws Exception {
         final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
 
-        // Upload the same BOM again a few times.
+        // Upload the same BOM again a few times, forcing it to be processed every time.
         // Ensure processing does not fail, and the number of components ingested doesn't change.
         for (int i = 0; i < 3; i++) {
-            var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("bom-issue2519.xml"));
+            var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("bom-issue2519.xml"), true);
             qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
             new BomUploadProcessingTask().inform(bomUploadEvent);
             assertBomProcessedNotification();
@@ -639,6 +655,208 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
         }
     }
 
+    @Test
+    public void informWithUnchangedBomTest() throws Exception {
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("bom-1.xml"));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+        kafkaMockProducer.clear();
+
+        // Upload the same BOM again. Its content is unchanged, so it must not be processed again.
+        bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("bom-1.xml"));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+        assertThat(kafkaMockProducer.history()).noneSatisfy(
+                record -> assertThat(record.topic()).isIn(
+                        KafkaTopics.VULN_ANALYSIS_COMMAND.name(),
+                        KafkaTopics.REPO_META_ANALYSIS_COMMAND.name()));
+        assertThat(qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier())).isNull();
+        qm.getPersistenceManager().refreshAll(qm.getAllWorkflowStatesForAToken(bomUploadEvent.getChainIdentifier()));
+        assertThat(qm.getWorkflowStateByTokenAndStep(bomUploadEvent.getChainIdentifier(), WorkflowStep.BOM_PROCESSING))
+                .satisfies(state -> assertThat(state.getStatus()).isEqualTo(COMPLETED));
+        assertThat(qm.getWorkflowStateByTokenAndStep(bomUploadEvent.getChainIdentifier(), WorkflowStep.VULN_ANALYSIS))
+                .satisfies(state -> assertThat(state.getStatus()).isEqualTo(NOT_APPLICABLE));
+        assertThat(qm.getAllBoms(project)).hasSize(2);
+        kafkaMockProducer.clear();
+
+        // Upload the same BOM again, but force it to be processed.
+        bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("bom-1.xml"), true);
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+        assertThat(kafkaMockProducer.history()).anySatisfy(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_COMMAND.name()));
+        assertThat(qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier())).isNotNull();
+    }
+
+    @Test
+    public void informWithRemovedComponentsOnlyTest() throws Exception {
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("""
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.4",
+                  "version": 1,
+                  "components": [
+                    {
+                      "type": "library",
+                      "name": "acme-lib-a",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0"
+                    },
+                    {
+                      "type": "library",
+                      "name": "acme-lib-b",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-b@1.0.0"
+                    }
+                  ]
+                }
+                """.getBytes()));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+        kafkaMockProducer.clear();
+
+        EventService.getInstance().subscribe(ProjectPolicyEvaluationEvent.class, PolicyEvaluationTask.class);
+        try {
+            // Remove acme-lib-b, leave acme-lib-a unchanged.
+            bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("""
+                    {
+                      "bomFormat": "CycloneDX",
+                      "specVersion": "1.4",
+                      "version": 1,
+                      "components": [
+                        {
+                          "type": "library",
+                          "name": "acme-lib-a",
+                          "version": "1.0.0",
+                          "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0"
+                        }
+                      ]
+                    }
+                    """.getBytes()));
+            qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+            new BomUploadProcessingTask().inform(bomUploadEvent);
+            assertBomProcessedNotification();
+
+            // Nothing to analyze, but policies must still be evaluated.
+            assertThat(kafkaMockProducer.history()).noneSatisfy(
+                    record -> assertThat(record.topic()).isIn(
+                            KafkaTopics.VULN_ANALYSIS_COMMAND.name(),
+                            KafkaTopics.REPO_META_ANALYSIS_COMMAND.name()));
+            assertThat(qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier())).isNull();
+            assertThat(qm.getAllComponents(project)).extracting(Component::getName).containsOnly("acme-lib-a");
+
+            final UUID token = bomUploadEvent.getChainIdentifier();
+            await("Policy evaluation")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> {
+                        qm.getPersistenceManager().refreshAll(qm.getAllWorkflowStatesForAToken(token));
+                        assertThat(qm.getWorkflowStateByTokenAndStep(token, POLICY_EVALUATION))
+                                .satisfies(state -> assertThat(state.getStatus()).isEqualTo(COMPLETED));
+                    });
+            assertThat(qm.getWorkflowStateByTokenAndStep(token, VULN_ANALYSIS))
+                    .satisfies(state -> assertThat(state.getStatus()).isEqualTo(NOT_APPLICABLE));
+            assertThat(qm.getWorkflowStateByTokenAndStep(token, BOM_PROCESSING))
+                    .satisfies(state -> assertThat(state.getDetails())
+                            .isEqualTo("0 component(s) added, 0 changed, 1 removed, 1 unchanged"));
+        } finally {
+            EventService.getInstance().unsubscribe(PolicyEvaluationTask.class);
+        }
+    }
+
+    @Test
+    public void informWithChangedBomTest() throws Exception {
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("""
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.4",
+                  "version": 1,
+                  "components": [
+                    {
+                      "type": "library",
+                      "name": "acme-lib-a",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0"
+                    },
+                    {
+                      "type": "library",
+                      "name": "acme-lib-b",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-b@1.0.0"
+                    },
+                    {
+                      "type": "library",
+                      "name": "acme-lib-c",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-c@1.0.0"
+                    }
+                  ]
+                }
+                """.getBytes()));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+        kafkaMockProducer.clear();
+
+        // Leave acme-lib-a unchanged, change acme-lib-b, remove acme-lib-c, and add acme-lib-d.
+        bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("""
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.4",
+                  "version": 1,
+                  "components": [
+                    {
+                      "type": "library",
+                      "name": "acme-lib-a",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0"
+                    },
+                    {
+                      "type": "library",
+                      "name": "acme-lib-b",
+                      "version": "1.0.0",
+                      "description": "Now with a description",
+                      "purl": "pkg:maven/com.acme/acme-lib-b@1.0.0"
+                    },
+                    {
+                      "type": "library",
+                      "name": "acme-lib-d",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-d@1.0.0"
+                    }
+                  ]
+                }
+                """.getBytes()));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        // Only the changed and added components must be sent for analysis.
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> KafkaTopics.VULN_ANALYSIS_COMMAND.name().equals(record.topic()))
+                .map(record -> deserializeValue(KafkaTopics.VULN_ANALYSIS_COMMAND, record).getComponent().getPurl())
+                .containsExactlyInAnyOrder(
+                        "pkg:maven/com.acme/acme-lib-b@1.0.0",
+                        "pkg:maven/com.acme/acme-lib-d@1.0.0");
+        assertThat(qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier()).getExpectedResults()).isEqualTo(2);
+        assertThat(qm.getAllComponents(project)).extracting(Component::getName)
+                .containsExactlyInAnyOrder("acme-lib-a", "acme-lib-b", "acme-lib-d");
+
+        qm.getPersistenceManager().refreshAll(qm.getAllWorkflowStatesForAToken(bomUploadEvent.getChainIdentifier()));
+        assertThat(qm.getWorkflowStateByTokenAndStep(bomUploadEvent.getChainIdentifier(), WorkflowStep.BOM_PROCESSING))
+                .satisfies(state -> assertThat(state.getDetails())
+                        .isEqualTo("1 component(s) added, 1 changed, 1 removed, 1 unchanged"));
+    }
+
     @Test // https://github.com/DependencyTrack/dependency-track/issues/2859
     public void informIssue2859Test() {
         final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
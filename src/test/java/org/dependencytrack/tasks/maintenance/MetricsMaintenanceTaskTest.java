@@ -25,16 +25,23 @@ import org.dependencytrack.model.DependencyMetrics;
 import org.dependencytrack.model.PortfolioMetrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetrics;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.junit.Test;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.List;
 import java.util.function.BiConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_METRICS_RETENTION_DAYS;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class MetricsMaintenanceTaskTest extends PersistenceCapableTest {
 
@@ -131,62 +138,72 @@ public class MetricsMaintenanceTaskTest extends PersistenceCapableTest {
         component.setName("acme-lib");
         qm.persist(component);
 
-        final BiConsumer<Instant, Integer> createComponentMetricsForLastOccurrence = (lastOccurrence, vulns) -> {
-            final var metrics = new DependencyMetrics();
-            metrics.setProject(project);
-            metrics.setComponent(component);
-            metrics.setVulnerabilities(vulns);
-            metrics.setFirstOccurrence(Date.from(lastOccurrence));
-            metrics.setLastOccurrence(Date.from(lastOccurrence));
-            qm.persist(metrics);
-        };
+        final Instant lastOccurrence = Instant.now().minus(91, ChronoUnit.DAYS);
 
-        final BiConsumer<Instant, Integer> createProjectMetricsForLastOccurrence = (lastOccurrence, vulns) -> {
-            final var metrics = new ProjectMetrics();
-            metrics.setProject(project);
-            metrics.setVulnerabilities(vulns);
-            metrics.setFirstOccurrence(Date.from(lastOccurrence));
-            metrics.setLastOccurrence(Date.from(lastOccurrence));
-            qm.persist(metrics);
-        };
+        final var componentMetrics = new DependencyMetrics();
+        componentMetrics.setProject(project);
+        componentMetrics.setComponent(component);
+        componentMetrics.setVulnerabilities(91);
+        componentMetrics.setFirstOccurrence(Date.from(lastOccurrence));
+        componentMetrics.setLastOccurrence(Date.from(lastOccurrence));
+        qm.persist(componentMetrics);
 
-        final BiConsumer<Instant, Integer> createPortfolioMetricsForLastOccurrence = (lastOccurrence, vulns) -> {
-            final var metrics = new PortfolioMetrics();
-            metrics.setVulnerabilities(vulns);
-            metrics.setFirstOccurrence(Date.from(lastOccurrence));
-            metrics.setLastOccurrence(Date.from(lastOccurrence));
-            qm.persist(metrics);
-        };
+        final var projectMetrics = new ProjectMetrics();
+        projectMetrics.setProject(project);
+        projectMetrics.setVulnerabilities(91);
+        projectMetrics.setFirstOccurrence(Date.from(lastOccurrence));
+        projectMetrics.setLastOccurrence(Date.from(lastOccurrence));
+        qm.persist(projectMetrics);
 
-        final Instant now = Instant.now();
+        final var task = new MetricsMaintenanceTask();
+        assertThatNoException().isThrownBy(() -> task.inform(new MetricsMaintenanceEvent()));
 
-        createComponentMetricsForLastOccurrence.accept(now.minus(91, ChronoUnit.DAYS), 91);
-        createComponentMetricsForLastOccurrence.accept(now.minus(90, ChronoUnit.DAYS), 90);
-        createComponentMetricsForLastOccurrence.accept(now.minus(89, ChronoUnit.DAYS), 89);
+        assertThat(qm.getDependencyMetrics(component).getList(DependencyMetrics.class)).isEmpty();
+        assertThat(qm.getProjectMetrics(project).getList(ProjectMetrics.class)).isEmpty();
 
-        createProjectMetricsForLastOccurrence.accept(now.minus(91, ChronoUnit.DAYS), 91);
-        createProjectMetricsForLastOccurrence.accept(now.minus(90, ChronoUnit.DAYS), 90);
-        createProjectMetricsForLastOccurrence.accept(now.minus(89, ChronoUnit.DAYS), 89);
+        // The most recent metrics remain available, even though they're beyond the retention duration.
+        assertThat(qm.getMostRecentDependencyMetrics(component).getVulnerabilities()).isEqualTo(91);
+        assertThat(qm.getMostRecentProjectMetrics(project).getVulnerabilities()).isEqualTo(91);
+    }
 
-        createPortfolioMetricsForLastOccurrence.accept(now.minus(91, ChronoUnit.DAYS), 91);
-        createPortfolioMetricsForLastOccurrence.accept(now.minus(90, ChronoUnit.DAYS), 90);
-        createPortfolioMetricsForLastOccurrence.accept(now.minus(89, ChronoUnit.DAYS), 89);
+    @Test
+    public void testPartitions() {
+        qm.createConfigProperty(
+                MAINTENANCE_METRICS_RETENTION_DAYS.getGroupName(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getPropertyName(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getDefaultPropertyValue(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getPropertyType(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getDescription()
+        );
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        final LocalDate expiredDay = today.minusDays(100);
+        useJdbiHandle(handle -> handle.attach(MetricsDao.class).createDailyPartition("PROJECTMETRICS", expiredDay));
+
+        final Instant lastOccurrence = expiredDay.atStartOfDay(ZoneOffset.UTC).plusHours(12).toInstant();
+        final var metrics = new ProjectMetrics();
+        metrics.setProject(project);
+        metrics.setVulnerabilities(100);
+        metrics.setFirstOccurrence(Date.from(lastOccurrence));
+        metrics.setLastOccurrence(Date.from(lastOccurrence));
+        qm.persist(metrics);
 
         final var task = new MetricsMaintenanceTask();
         assertThatNoException().isThrownBy(() -> task.inform(new MetricsMaintenanceEvent()));
 
-        assertThat(qm.getDependencyMetrics(component).getList(DependencyMetrics.class)).satisfiesExactlyInAnyOrder(
-                metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(89),
-                metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(90), // Retained b/c project is inactive.
-                metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(91)); // Retained b/c project is inactive.
-
-        assertThat(qm.getProjectMetrics(project).getList(ProjectMetrics.class)).satisfiesExactlyInAnyOrder(
-                metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(89),
-                metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(90), // Retained b/c project is inactive.
-                metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(91)); // Retained b/c project is inactive.
+        final List<String> partitionNames = withJdbiHandle(handle -> handle.attach(MetricsDao.class)
+                .getPartitionNames("PROJECTMETRICS"));
+        assertThat(partitionNames).doesNotContain("PROJECTMETRICS_" + expiredDay.format(DateTimeFormatter.BASIC_ISO_DATE));
+        for (int i = 0; i <= 7; i++) {
+            assertThat(partitionNames).contains("PROJECTMETRICS_" + today.plusDays(i).format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
 
-        assertThat(qm.getPortfolioMetrics().getList(PortfolioMetrics.class)).satisfiesExactlyInAnyOrder(
-                metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(89));
+        assertThat(qm.getProjectMetrics(project).getList(ProjectMetrics.class)).isEmpty();
+        assertThat(qm.getMostRecentProjectMetrics(project).getVulnerabilities()).isEqualTo(100);
     }
 
-}
\ No newline at end of file
+}
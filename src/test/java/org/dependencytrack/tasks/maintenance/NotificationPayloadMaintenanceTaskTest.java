@@ -0,0 +1,65 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.maintenance;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.maintenance.NotificationPayloadMaintenanceEvent;
+import org.dependencytrack.persistence.jdbi.NotificationPayloadDao;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class NotificationPayloadMaintenanceTaskTest extends PersistenceCapableTest {
+
+    @Test
+    public void test() {
+        useJdbiHandle(handle -> {
+            final var dao = handle.attach(NotificationPayloadDao.class);
+            dao.createOrRefresh("a", "foo".getBytes(StandardCharsets.UTF_8));
+            dao.createOrRefresh("b", "bar".getBytes(StandardCharsets.UTF_8));
+            dao.createOrRefresh("c", "baz".getBytes(StandardCharsets.UTF_8));
+
+            handle.createUpdate("""
+                            UPDATE "NOTIFICATION_PAYLOAD"
+                               SET "UPDATED_AT" = NOW() - INTERVAL '25 hours'
+                             WHERE "SHA256" IN ('b', 'c')
+                            """)
+                    .execute();
+        });
+
+        final var task = new NotificationPayloadMaintenanceTask(1, Duration.ofDays(1));
+        assertThatNoException().isThrownBy(() -> task.inform(new NotificationPayloadMaintenanceEvent()));
+
+        final long remainingPayloads = withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(*)
+                          FROM "NOTIFICATION_PAYLOAD"
+                        """)
+                .mapTo(Long.class)
+                .one());
+        assertThat(remainingPayloads).isEqualTo(1);
+        assertThat(withJdbiHandle(handle -> handle.attach(NotificationPayloadDao.class).getContent("a"))).isPresent();
+    }
+
+}
@@ -31,6 +31,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_VULNERABILITY_SCAN_RETENTION_HOURS;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class VulnerabilityScanMaintenanceTaskTest extends PersistenceCapableTest {
 
@@ -61,4 +62,33 @@ public class VulnerabilityScanMaintenanceTaskTest extends PersistenceCapableTest
         assertThat(qm.getVulnerabilityScan(tokenC)).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testWithMultipleBatches() {
+        qm.createConfigProperty(
+                MAINTENANCE_VULNERABILITY_SCAN_RETENTION_HOURS.getGroupName(),
+                MAINTENANCE_VULNERABILITY_SCAN_RETENTION_HOURS.getPropertyName(),
+                MAINTENANCE_VULNERABILITY_SCAN_RETENTION_HOURS.getDefaultPropertyValue(),
+                MAINTENANCE_VULNERABILITY_SCAN_RETENTION_HOURS.getPropertyType(),
+                MAINTENANCE_VULNERABILITY_SCAN_RETENTION_HOURS.getDescription());
+
+        final var tokenA = UUID.randomUUID();
+        qm.createVulnerabilityScan(VulnerabilityScan.TargetType.PROJECT, UUID.randomUUID(), tokenA, 1);
+
+        for (int i = 0; i < 5; i++) {
+            final var scan = qm.createVulnerabilityScan(VulnerabilityScan.TargetType.PROJECT, UUID.randomUUID(), UUID.randomUUID(), 1);
+            qm.runInTransaction(() -> scan.setUpdatedAt(Date.from(Instant.now().minus(25, ChronoUnit.HOURS))));
+        }
+
+        final var task = new VulnerabilityScanMaintenanceTask(/* batchSize */ 2);
+        assertThatNoException().isThrownBy(() -> task.inform(new VulnerabilityScanMaintenanceEvent()));
+
+        assertThat(qm.getVulnerabilityScan(tokenA)).isNotNull();
+        assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(*)
+                          FROM "VULNERABILITYSCAN"
+                        """)
+                .mapTo(Long.class)
+                .one())).isOne();
+    }
+
+}
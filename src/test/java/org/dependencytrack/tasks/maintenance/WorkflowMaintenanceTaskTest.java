@@ -28,6 +28,7 @@ import org.junit.Test;
 import javax.jdo.JDOObjectNotFoundException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.UUID;
 
@@ -36,6 +37,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_WORKFLOW_RETENTION_HOURS;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class WorkflowMaintenanceTaskTest extends PersistenceCapableTest {
 
@@ -227,4 +229,142 @@ public class WorkflowMaintenanceTaskTest extends PersistenceCapableTest {
         assertThatNoException().isThrownBy(() -> qm.getObjectById(WorkflowState.class, parentStateC.getId()));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testWithTransitionToTimedOutWithMultipleBatches() {
+        createConfigProperties(/* retentionHours */ 666, /* stepTimeoutMinutes */ 360);
+
+        final Instant timeoutCutoff = Instant.now().minus(6, ChronoUnit.HOURS);
+
+        final var staleStates = new ArrayList<WorkflowState>();
+        for (int i = 0; i < 5; i++) {
+            final var state = new WorkflowState();
+            state.setStep(WorkflowStep.BOM_CONSUMPTION);
+            state.setStatus(WorkflowStatus.PENDING);
+            state.setToken(UUID.randomUUID());
+            state.setUpdatedAt(Date.from(timeoutCutoff.minus(1, ChronoUnit.HOURS)));
+            qm.persist(state);
+            staleStates.add(state);
+        }
+
+        final var recentState = new WorkflowState();
+        recentState.setStep(WorkflowStep.BOM_CONSUMPTION);
+        recentState.setStatus(WorkflowStatus.PENDING);
+        recentState.setToken(UUID.randomUUID());
+        recentState.setUpdatedAt(Date.from(timeoutCutoff.plus(1, ChronoUnit.HOURS)));
+        qm.persist(recentState);
+
+        final var task = new WorkflowMaintenanceTask(/* batchSize */ 2);
+        assertThatNoException().isThrownBy(() -> task.inform(new WorkflowMaintenanceEvent()));
+
+        qm.getPersistenceManager().refreshAll(staleStates);
+        qm.getPersistenceManager().refresh(recentState);
+        assertThat(staleStates).extracting(WorkflowState::getStatus).containsOnly(WorkflowStatus.TIMED_OUT);
+        assertThat(recentState.getStatus()).isEqualTo(WorkflowStatus.PENDING);
+    }
+
+    @Test
+    public void testWithTransitionTimedOutToFailedWithMultipleBatches() {
+        createConfigProperties(/* retentionHours */ 666, /* stepTimeoutMinutes */ 360);
+
+        final Instant timeoutCutoff = Instant.now().minus(6, ChronoUnit.HOURS);
+
+        final var parentStates = new ArrayList<WorkflowState>();
+        final var childStates = new ArrayList<WorkflowState>();
+        for (int i = 0; i < 5; i++) {
+            final var token = UUID.randomUUID();
+            final var parentState = new WorkflowState();
+            parentState.setStep(WorkflowStep.BOM_CONSUMPTION);
+            parentState.setStatus(WorkflowStatus.TIMED_OUT);
+            parentState.setToken(token);
+            parentState.setUpdatedAt(Date.from(timeoutCutoff.minus(1, ChronoUnit.HOURS)));
+            qm.persist(parentState);
+            parentStates.add(parentState);
+
+            final var childState = new WorkflowState();
+            childState.setParent(parentState);
+            childState.setStep(WorkflowStep.BOM_PROCESSING);
+            childState.setStatus(WorkflowStatus.PENDING);
+            childState.setToken(token);
+            childState.setUpdatedAt(Date.from(timeoutCutoff.plus(1, ChronoUnit.HOURS)));
+            qm.persist(childState);
+            childStates.add(childState);
+        }
+
+        final var task = new WorkflowMaintenanceTask(/* batchSize */ 2);
+        assertThatNoException().isThrownBy(() -> task.inform(new WorkflowMaintenanceEvent()));
+
+        qm.getPersistenceManager().refreshAll(parentStates);
+        qm.getPersistenceManager().refreshAll(childStates);
+        assertThat(parentStates).allSatisfy(parentState -> {
+            assertThat(parentState.getStatus()).isEqualTo(WorkflowStatus.FAILED);
+            assertThat(parentState.getFailureReason()).isEqualTo("Timed out");
+        });
+        assertThat(childStates).allSatisfy(childState -> {
+            assertThat(childState.getStatus()).isEqualTo(WorkflowStatus.CANCELLED);
+            assertThat(childState.getFailureReason()).isNull();
+        });
+    }
+
+    @Test
+    public void testWithDeleteExpiredWithMultipleBatches() {
+        createConfigProperties(/* retentionHours */ 6, /* stepTimeoutMinutes */ 39960);
+
+        final Instant retentionCutoff = Instant.now().minus(6, ChronoUnit.HOURS);
+
+        // Create workflows with two steps each, such that every batch deletes
+        // more steps than the batch size, which is applied to workflow tokens.
+        for (int i = 0; i < 5; i++) {
+            final var token = UUID.randomUUID();
+            final var parentState = new WorkflowState();
+            parentState.setStep(WorkflowStep.BOM_CONSUMPTION);
+            parentState.setStatus(WorkflowStatus.COMPLETED);
+            parentState.setToken(token);
+            parentState.setUpdatedAt(Date.from(retentionCutoff.minus(1, ChronoUnit.HOURS)));
+            qm.persist(parentState);
+
+            final var childState = new WorkflowState();
+            childState.setParent(parentState);
+            childState.setStep(WorkflowStep.BOM_PROCESSING);
+            childState.setStatus(WorkflowStatus.COMPLETED);
+            childState.setToken(token);
+            childState.setUpdatedAt(Date.from(retentionCutoff.minus(1, ChronoUnit.HOURS)));
+            qm.persist(childState);
+        }
+
+        final var retainedState = new WorkflowState();
+        retainedState.setStep(WorkflowStep.BOM_CONSUMPTION);
+        retainedState.setStatus(WorkflowStatus.COMPLETED);
+        retainedState.setToken(UUID.randomUUID());
+        retainedState.setUpdatedAt(Date.from(retentionCutoff.plus(1, ChronoUnit.HOURS)));
+        qm.persist(retainedState);
+
+        final var task = new WorkflowMaintenanceTask(/* batchSize */ 2);
+        assertThatNoException().isThrownBy(() -> task.inform(new WorkflowMaintenanceEvent()));
+
+        assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT "ID"
+                          FROM "WORKFLOW_STATE"
+                        """)
+                .mapTo(Long.class)
+                .list())).containsOnly(retainedState.getId());
+    }
+
+    private void createConfigProperties(final int retentionHours, final int stepTimeoutMinutes) {
+        qm.createConfigProperty(
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getGroupName(),
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getPropertyName(),
+                String.valueOf(retentionHours),
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getPropertyType(),
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getDescription()
+        );
+
+        qm.createConfigProperty(
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getGroupName(),
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getPropertyName(),
+                String.valueOf(stepTimeoutMinutes),
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getPropertyType(),
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getDescription()
+        );
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class CoalescingExecutorTest {
+
+    @Test
+    public void testExecute() throws Exception {
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var executor = new CoalescingExecutor<String, Integer>("test", meterRegistry);
+
+        final var executions = new CopyOnWriteArrayList<List<Integer>>();
+        final var executionStartedLatch = new CountDownLatch(1);
+        final var releaseLatch = new CountDownLatch(1);
+
+        final CompletableFuture<CompletableFuture<Void>> firstFuture = CompletableFuture.supplyAsync(
+                () -> executor.execute("foo", 1, (key, requests) -> {
+                    executions.add(requests);
+                    executionStartedLatch.countDown();
+                    try {
+                        releaseLatch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(executionStartedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Requests arriving while the first execution is in progress must be coalesced.
+        final CompletableFuture<Void> secondCompletion = executor.execute("foo", 2, (key, requests) -> executions.add(requests));
+        final CompletableFuture<Void> thirdCompletion = executor.execute("foo", 3, (key, requests) -> executions.add(requests));
+        assertThat(secondCompletion).isNotDone();
+        assertThat(thirdCompletion).isNotDone();
+
+        // Requests for other keys must not be affected.
+        assertThat(executor.execute("bar", 4, (key, requests) -> executions.add(requests))).isDone();
+
+        releaseLatch.countDown();
+        assertThat(firstFuture.get(5, TimeUnit.SECONDS)).isCompleted();
+
+        // Coalesced requests are handled by exactly one follow-up execution,
+        // which has completed by the time the first execution returned.
+        assertThat(secondCompletion).isCompleted();
+        assertThat(thirdCompletion).isCompleted();
+        assertThat(executions).containsExactly(List.of(1), List.of(4), List.of(2, 3));
+        assertThat(meterRegistry.get("coalesced_requests").tag("executor", "test").counter().count()).isEqualTo(2);
+
+        // Once all executions completed, new requests are executed immediately again.
+        assertThat(executor.execute("foo", 5, (key, requests) -> executions.add(requests))).isCompleted();
+        assertThat(executions).last().isEqualTo(List.of(5));
+    }
+
+    @Test
+    public void testExecuteWithFailure() {
+        final var executor = new CoalescingExecutor<String, Integer>("test", new SimpleMeterRegistry());
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> executor.execute("foo", 1, (key, requests) -> {
+                    throw new IllegalStateException();
+                }));
+
+        // A failed execution must not prevent subsequent requests from being executed.
+        assertThat(executor.execute("foo", 2, (key, requests) -> {
+        })).isCompleted();
+    }
+
+    @Test
+    public void testExecuteWithFailedFollowUpExecution() throws Exception {
+        final var executor = new CoalescingExecutor<String, Integer>("test", new SimpleMeterRegistry());
+
+        final var executionStartedLatch = new CountDownLatch(1);
+        final var releaseLatch = new CountDownLatch(1);
+
+        final CompletableFuture<CompletableFuture<Void>> firstFuture = CompletableFuture.supplyAsync(
+                () -> executor.execute("foo", 1, (key, requests) -> {
+                    if (requests.contains(2)) {
+                        throw new IllegalStateException();
+                    }
+
+                    executionStartedLatch.countDown();
+                    try {
+                        releaseLatch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(executionStartedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final CompletableFuture<Void> secondCompletion = executor.execute("foo", 2, (key, requests) -> {
+        });
+        releaseLatch.countDown();
+
+        // The failure of the follow-up execution is reported to the waiting caller,
+        // not to the caller whose own request was executed successfully.
+        assertThat(firstFuture.get(5, TimeUnit.SECONDS)).isCompleted();
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> secondCompletion.get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+}
@@ -125,7 +125,7 @@ public class ComponentMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTes
 
         // Record initial project metrics
         new ComponentMetricsUpdateTask().inform(new ComponentMetricsUpdateEvent(component.getUuid()));
-        final DependencyMetrics metrics = qm.getMostRecentDependencyMetrics(component);
+        DependencyMetrics metrics = qm.getMostRecentDependencyMetrics(component);
         assertThat(metrics.getLastOccurrence()).isEqualTo(metrics.getFirstOccurrence());
 
         // Run the task a second time, without any metric being changed
@@ -133,7 +133,7 @@ public class ComponentMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTes
         new ComponentMetricsUpdateTask().inform(new ComponentMetricsUpdateEvent(component.getUuid()));
 
         // Ensure that the lastOccurrence timestamp was correctly updated
-        qm.getPersistenceManager().refresh(metrics);
+        metrics = qm.getMostRecentDependencyMetrics(component);
         assertThat(metrics.getLastOccurrence()).isNotEqualTo(metrics.getFirstOccurrence());
         assertThat(metrics.getLastOccurrence()).isAfterOrEqualTo(beforeSecondRun);
     }
@@ -34,18 +34,20 @@ import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.persistence.jdbi.TaskCheckpointDao;
 import org.dependencytrack.tasks.CallbackTask;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.dependencytrack.tasks.metrics.PortfolioMetricsUpdateTask.partition;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 @NotThreadSafe
 public class PortfolioMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest {
@@ -366,35 +368,32 @@ public class PortfolioMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTes
     }
 
     @Test
-    public void testPartitionWithNull() {
-        final List<Integer> list = null;
-        final List<List<Integer>> partitions = partition(list, 4);
-        assertThat(partitions).isEmpty();
-    }
+    public void testUpdateMetricsResumesFromCheckpoint() {
+        // Create risk score configproperties
+        createTestConfigProperties();
 
-    @Test
-    public void testPartitionWithEmptyList() {
-        final List<Integer> list = Collections.emptyList();
-        final List<List<Integer>> partitions = partition(list, 4);
-        assertThat(partitions).isEmpty();
-    }
+        var projectA = new Project();
+        projectA.setName("acme-app-a");
+        projectA = qm.createProject(projectA, List.of(), false);
 
-    @Test
-    public void testPartitionWithSmallList() {
-        final List<Integer> list = List.of(1, 2);
-        final List<List<Integer>> partitions = partition(list, 4);
-        assertThat(partitions).hasSize(2);
-    }
+        var projectB = new Project();
+        projectB.setName("acme-app-b");
+        projectB = qm.createProject(projectB, List.of(), false);
 
-    @Test
-    public void testPartitionWithUnevenSizeList() {
-        final List<Integer> list = List.of(1, 2, 3, 4, 5);
-        final List<List<Integer>> partitions = partition(list, 4);
-        assertThat(partitions).satisfiesExactlyInAnyOrder(
-                partition -> assertThat(partition).hasSize(2),
-                partition -> assertThat(partition).hasSize(1),
-                partition -> assertThat(partition).hasSize(1),
-                partition -> assertThat(partition).hasSize(1));
+        final long checkpointCursor = projectB.getId();
+
+        // Simulate a previous run having been interrupted after it refreshed project B.
+        useJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class)
+                .saveCursor(PortfolioMetricsUpdateTask.class.getSimpleName(), checkpointCursor));
+
+        new PortfolioMetricsUpdateTask().inform(new PortfolioMetricsUpdateEvent());
+
+        assertThat(qm.getMostRecentProjectMetrics(projectA)).isNotNull();
+        assertThat(qm.getMostRecentProjectMetrics(projectB)).isNull();
+
+        // The checkpoint must be removed once the refresh completed.
+        assertThat(withJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class)
+                .getCursor(PortfolioMetricsUpdateTask.class.getSimpleName(), Duration.ofHours(1)))).isEmpty();
     }
 
-}
\ No newline at end of file
+}
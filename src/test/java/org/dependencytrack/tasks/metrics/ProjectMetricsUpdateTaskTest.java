@@ -98,7 +98,7 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
 
         // Record initial project metrics
         new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.getUuid()));
-        final ProjectMetrics metrics = qm.getMostRecentProjectMetrics(project);
+        ProjectMetrics metrics = qm.getMostRecentProjectMetrics(project);
         assertThat(metrics.getLastOccurrence()).isEqualTo(metrics.getFirstOccurrence());
 
         // Run the task a second time, without any metric being changed
@@ -106,7 +106,7 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
         new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.getUuid()));
 
         // Ensure that the lastOccurrence timestamp was correctly updated
-        qm.getPersistenceManager().refresh(metrics);
+        metrics = qm.getMostRecentProjectMetrics(project);
         assertThat(metrics.getLastOccurrence()).isNotEqualTo(metrics.getFirstOccurrence());
         assertThat(metrics.getLastOccurrence()).isAfterOrEqualTo(beforeSecondRun);
     }